@@ -0,0 +1,60 @@
+// Load test for the client overview: the portal's page load either as one call to
+// /api/v1/clients/{id}/overview (MODE=overview) or as the three sequential calls it replaces
+// (MODE=sequential). Run it once against a server on platform threads and once on virtual threads.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'overview';
+const VUS = parseInt(__ENV.VUS || '2000');
+const DURATION = __ENV.DURATION || '2m';
+
+const pageLoad = new Trend('page_load', true);
+
+export const options = {
+  scenarios: {
+    portal: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: DURATION,
+      gracefulStop: '30s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  tags: { mode: MODE },
+};
+
+// Page loads are spread over the first clients of the database; seed it beforehand
+export function setup() {
+  const res = http.get(`${BASE_URL}/api/v1/clients?page=0&size=100`);
+  check(res, { 'clients listed': (r) => r.status === 200 });
+  const ids = res.json('content').map((client) => client.id);
+  if (ids.length === 0) {
+    throw new Error('No clients found; seed the database before running the load test');
+  }
+  return { ids };
+}
+
+export default function (data) {
+  const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+  const start = Date.now();
+  if (MODE === 'sequential') {
+    const client = http.get(`${BASE_URL}/api/v1/clients/${id}`, { tags: { name: 'client' } });
+    const contracts = http.get(`${BASE_URL}/api/v1/contracts/active?clientId=${id}`, {
+      tags: { name: 'active-contracts' },
+    });
+    const total = http.get(`${BASE_URL}/api/v1/contracts/active/total-cost?clientId=${id}`, {
+      tags: { name: 'total-cost' },
+    });
+    check(client, { 'client 200': (r) => r.status === 200 });
+    check(contracts, { 'contracts 200': (r) => r.status === 200 });
+    check(total, { 'total 200': (r) => r.status === 200 });
+  } else {
+    const overview = http.get(`${BASE_URL}/api/v1/clients/${id}/overview`, {
+      tags: { name: 'overview' },
+    });
+    check(overview, { 'overview 200': (r) => r.status === 200 });
+  }
+  pageLoad.add(Date.now() - start);
+}
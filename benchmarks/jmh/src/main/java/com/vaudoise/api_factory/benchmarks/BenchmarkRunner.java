@@ -0,0 +1,74 @@
+package com.vaudoise.api_factory.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Takes the usual JMH command line, but writes the results as
+ * JSON to {@code results/<commit>.json} unless {@code -rf} or {@code -rff} say otherwise, so runs
+ * at two commits can be compared.
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {}
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cli = new CommandLineOptions(args);
+    if (cli.shouldHelp()) {
+      cli.showHelp();
+      return;
+    }
+
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+    if (!cli.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!cli.getResult().hasValue()) {
+      Path result = Path.of("results", currentCommit() + ".json");
+      Files.createDirectories(result.getParent());
+      options.result(result.toString());
+    }
+
+    Runner runner = new Runner(options.build());
+    if (cli.shouldList()) {
+      runner.list();
+    } else {
+      runner.run();
+    }
+  }
+
+  /** The short hash of the checked-out commit, marked when the tree has changes. */
+  private static String currentCommit() {
+    String commit = git("rev-parse", "--short", "HEAD");
+    if (commit.isEmpty()) {
+      return "local";
+    }
+    return git("status", "--porcelain").isEmpty() ? commit : commit + "-dirty";
+  }
+
+  private static String git(String... args) {
+    String[] command = new String[args.length + 1];
+    command[0] = "git";
+    System.arraycopy(args, 0, command, 1, args.length);
+    try {
+      Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+      try (InputStream output = process.getInputStream()) {
+        String text = new String(output.readAllBytes(), StandardCharsets.UTF_8).strip();
+        return process.waitFor() == 0 ? text : "";
+      }
+    } catch (IOException e) {
+      return "";
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return "";
+    }
+  }
+}
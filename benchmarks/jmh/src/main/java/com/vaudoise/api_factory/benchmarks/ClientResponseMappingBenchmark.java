@@ -0,0 +1,66 @@
+package com.vaudoise.api_factory.benchmarks;
+
+import com.vaudoise.api_factory.application.dto.response.PersonResponse;
+import com.vaudoise.api_factory.domain.model.Person;
+import com.vaudoise.api_factory.infrastructure.web.controller.ClientController;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The person response built by {@code ClientController.mapToPersonResponse}, for clients with no
+ * contracts and with a typical portfolio. The method is private; a constant method handle lets the
+ * JIT inline the call like a direct one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientResponseMappingBenchmark {
+
+  private static final MethodHandle MAP_TO_PERSON_RESPONSE = findMapToPersonResponse();
+
+  @Param({"0", "10"})
+  public int contractCount;
+
+  // The mapping uses none of the controller's use cases
+  private final ClientController controller =
+      new ClientController(null, null, null, null, null, null, null, null);
+  private Person person;
+
+  @Setup
+  public void createPerson() {
+    person = Fixtures.person(contractCount);
+  }
+
+  @Benchmark
+  public PersonResponse mapToPersonResponse() throws Throwable {
+    return (PersonResponse) MAP_TO_PERSON_RESPONSE.invokeExact(controller, person);
+  }
+
+  private static MethodHandle findMapToPersonResponse() {
+    try {
+      return MethodHandles.privateLookupIn(ClientController.class, MethodHandles.lookup())
+          .findVirtual(
+              ClientController.class,
+              "mapToPersonResponse",
+              MethodType.methodType(PersonResponse.class, Person.class));
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+}
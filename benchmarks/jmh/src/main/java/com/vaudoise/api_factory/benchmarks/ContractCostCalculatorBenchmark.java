@@ -0,0 +1,51 @@
+package com.vaudoise.api_factory.benchmarks;
+
+import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.Person;
+import com.vaudoise.api_factory.domain.service.ContractCostCalculator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** In-memory summing of contract costs, from a handful of contracts to a large portfolio. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContractCostCalculatorBenchmark {
+
+  @Param({"10", "100", "1000", "10000", "100000"})
+  public int contractCount;
+
+  private final ContractCostCalculator calculator = new ContractCostCalculator();
+  private List<Contract> contracts;
+
+  @Setup
+  public void createContracts() {
+    Person client = Fixtures.person(0);
+    contracts = new ArrayList<>(contractCount);
+    for (int i = 0; i < contractCount; i++) {
+      // Distinct amounts with cents, as stored
+      contracts.add(Fixtures.contract(client, Money.chf(100 + i % 5000 + 0.05 * (i % 20))));
+    }
+  }
+
+  @Benchmark
+  public Money calculateTotalCost() {
+    return calculator.calculateTotalCost(contracts);
+  }
+}
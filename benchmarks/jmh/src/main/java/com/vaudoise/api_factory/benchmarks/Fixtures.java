@@ -0,0 +1,81 @@
+package com.vaudoise.api_factory.benchmarks;
+
+import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.Email;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.Person;
+import com.vaudoise.api_factory.domain.model.PhoneNumber;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ClientEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.CompanyEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.PersonEntity;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** Clients and contracts shaped like stored ones, shared by the benchmarks. */
+final class Fixtures {
+
+  private Fixtures() {}
+
+  static Person person(int contracts) {
+    Person person =
+        new Person(
+            "John Doe",
+            new Email("john.doe@example.com"),
+            new PhoneNumber("+41791234567"),
+            LocalDate.of(1980, 1, 1));
+    person.setId(UUID.randomUUID());
+    for (int i = 0; i < contracts; i++) {
+      person.addContract(contract(person, Money.chf(100 + i)));
+    }
+    return person;
+  }
+
+  /** An active contract of {@code client}, not added to its contracts. */
+  static Contract contract(Person client, Money cost) {
+    Contract contract =
+        new Contract(client, cost, LocalDate.now().minusMonths(1), LocalDate.now().plusYears(1));
+    contract.setId(UUID.randomUUID());
+    return contract;
+  }
+
+  static PersonEntity personEntity() {
+    PersonEntity entity = new PersonEntity();
+    entity.setId(UUID.randomUUID());
+    entity.setName("John Doe");
+    entity.setEmail("john.doe@example.com");
+    entity.setPhone("+41791234567");
+    entity.setBirthdate(LocalDate.of(1980, 1, 1));
+    entity.setCreatedAt(Instant.now());
+    entity.setUpdatedAt(Instant.now());
+    return entity;
+  }
+
+  static CompanyEntity companyEntity() {
+    CompanyEntity entity = new CompanyEntity();
+    entity.setId(UUID.randomUUID());
+    entity.setName("Vaudoise Assurances");
+    entity.setEmail("contact@vaudoise.ch");
+    entity.setPhone("+41213235111");
+    entity.setCompanyIdentifier("CHE-123.456.789");
+    entity.setCreatedAt(Instant.now());
+    entity.setUpdatedAt(Instant.now());
+    return entity;
+  }
+
+  static ContractEntity contractEntity(ClientEntity client) {
+    ContractEntity entity = new ContractEntity();
+    entity.setId(UUID.randomUUID());
+    entity.setClient(client);
+    entity.setStartDate(LocalDate.now().minusMonths(1));
+    entity.setEndDate(LocalDate.now().plusYears(1));
+    entity.setCostAmount(new BigDecimal("1250.50"));
+    entity.setCostCurrency("CHF");
+    entity.setCreatedAt(Instant.now());
+    entity.setUpdatedAt(Instant.now());
+    entity.setVersion(3L);
+    return entity;
+  }
+}
@@ -0,0 +1,61 @@
+package com.vaudoise.api_factory.benchmarks;
+
+import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.CompanyEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.PersonEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.mapper.ClientMapper;
+import com.vaudoise.api_factory.infrastructure.persistence.mapper.ContractMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Entity to domain mapping, run for every row a repository returns. Mapping a contract also maps
+ * its client, so {@link #contractToDomain} includes one {@link #personToDomain}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+  private final ClientMapper clientMapper = new ClientMapper();
+  private final ContractMapper contractMapper = new ContractMapper(clientMapper);
+  private PersonEntity person;
+  private CompanyEntity company;
+  private ContractEntity contract;
+
+  @Setup
+  public void createEntities() {
+    person = Fixtures.personEntity();
+    company = Fixtures.companyEntity();
+    contract = Fixtures.contractEntity(person);
+  }
+
+  @Benchmark
+  public Client personToDomain() {
+    return clientMapper.toDomain(person);
+  }
+
+  @Benchmark
+  public Client companyToDomain() {
+    return clientMapper.toDomain(company);
+  }
+
+  @Benchmark
+  public Contract contractToDomain() {
+    return contractMapper.toDomain(contract);
+  }
+}
@@ -0,0 +1,57 @@
+package com.vaudoise.api_factory.benchmarks;
+
+import com.vaudoise.api_factory.domain.model.CompanyIdentifier;
+import com.vaudoise.api_factory.domain.model.Email;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.PhoneNumber;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction of the self-validating value objects, which runs for every client and contract read
+ * from the database or a request. Inputs are written the way users type them, so normalisation has
+ * work to do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueObjectBenchmark {
+
+  // Fields rather than constants, so the JIT cannot fold the construction away
+  private String email = " John.Doe@Example.com ";
+  private String phoneNumber = "+41 79 123 45 67";
+  private String companyIdentifier = "che-123.456.789";
+  private BigDecimal amount = new BigDecimal("1250.5");
+
+  @Benchmark
+  public Email email() {
+    return new Email(email);
+  }
+
+  @Benchmark
+  public PhoneNumber phoneNumber() {
+    return new PhoneNumber(phoneNumber);
+  }
+
+  @Benchmark
+  public CompanyIdentifier companyIdentifier() {
+    return new CompanyIdentifier(companyIdentifier);
+  }
+
+  @Benchmark
+  public Money money() {
+    return Money.chf(amount);
+  }
+}
@@ -0,0 +1,59 @@
+// Load test for the read API: the same mix of client and contract reads against the servlet
+// application (port 8080) or the reactive-read-api module (port 8081), selected with BASE_URL.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '2000');
+const DURATION = __ENV.DURATION || '2m';
+// Simulated think time between requests, so each VU waits on the server like a burst of clients
+const PAUSE_MS = parseInt(__ENV.PAUSE_MS || '0');
+
+export const options = {
+  scenarios: {
+    reads: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: DURATION,
+      gracefulStop: '30s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// Reads are spread over the first clients of the database; seed it beforehand
+export function setup() {
+  const res = http.get(`${BASE_URL}/api/v1/clients?page=0&size=100`);
+  check(res, { 'clients listed': (r) => r.status === 200 });
+  const ids = res.json('content').map((client) => client.id);
+  if (ids.length === 0) {
+    throw new Error('No clients found; seed the database before running the load test');
+  }
+  return { ids };
+}
+
+export default function (data) {
+  const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+  const roll = Math.random();
+  let res;
+  if (roll < 0.3) {
+    res = http.get(`${BASE_URL}/api/v1/clients/${id}`, { tags: { name: 'client' } });
+  } else if (roll < 0.4) {
+    const page = Math.floor(Math.random() * 10);
+    res = http.get(`${BASE_URL}/api/v1/clients?page=${page}&size=10`, {
+      tags: { name: 'clients' },
+    });
+  } else if (roll < 0.7) {
+    res = http.get(`${BASE_URL}/api/v1/contracts/active?clientId=${id}`, {
+      tags: { name: 'active-contracts' },
+    });
+  } else {
+    res = http.get(`${BASE_URL}/api/v1/contracts/active/total-cost?clientId=${id}`, {
+      tags: { name: 'total-cost' },
+    });
+  }
+  check(res, { 'status 200': (r) => r.status === 200 });
+  if (PAUSE_MS > 0) {
+    sleep(PAUSE_MS / 1000);
+  }
+}
@@ -0,0 +1,65 @@
+-- Insert throughput and index size with random (v4) versus time-ordered (v7) UUID keys.
+--
+-- Two scratch tables shaped like contracts (uuid primary key plus an index on client_id) each
+-- receive :rows rows in ten equal batches, one key kind each. Run against a database migrated to
+-- V8, which provides uuid_generate_v7(); the scratch tables are dropped at the end.
+--
+--   docker compose exec -T db psql -U postgres -d vaudoise -v rows=10000000 \
+--     < benchmarks/uuid-keys/uuid-keys.sql
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 10000000
+\endif
+
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+DROP TABLE IF EXISTS bench_keys_v4, bench_keys_v7;
+CREATE TABLE bench_keys_v4 (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    client_id UUID NOT NULL,
+    cost_amount DECIMAL(19, 2) NOT NULL
+);
+CREATE INDEX bench_keys_v4_client_id ON bench_keys_v4(client_id);
+CREATE TABLE bench_keys_v7 (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
+    client_id UUID NOT NULL,
+    cost_amount DECIMAL(19, 2) NOT NULL
+);
+CREATE INDEX bench_keys_v7_client_id ON bench_keys_v7(client_id);
+
+-- Each batch's time is printed; with random keys it grows as the indexes outgrow shared_buffers.
+-- Client ids follow the same scheme as the contract ids, as they would for newly created clients.
+\timing on
+\echo '== v4: random keys'
+CHECKPOINT;
+SELECT pg_current_wal_lsn() AS start_lsn \gset
+SELECT format(
+         'INSERT INTO bench_keys_v4 (client_id, cost_amount) '
+         'SELECT gen_random_uuid(), 100 FROM generate_series(1, %s)', :rows / 10)
+  FROM generate_series(1, 10) \gexec
+SELECT pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), :'start_lsn')) AS v4_wal_written;
+
+\echo '== v7: time-ordered keys'
+CHECKPOINT;
+SELECT pg_current_wal_lsn() AS start_lsn \gset
+SELECT format(
+         'INSERT INTO bench_keys_v7 (client_id, cost_amount) '
+         'SELECT uuid_generate_v7(), 100 FROM generate_series(1, %s)', :rows / 10)
+  FROM generate_series(1, 10) \gexec
+SELECT pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), :'start_lsn')) AS v7_wal_written;
+\timing off
+
+-- Random inserts leave leaf pages about two-thirds full; appending ones fill them to the
+-- fillfactor (90%), so the same keys need fewer pages.
+SELECT i.indexrelid::regclass AS index,
+       pg_size_pretty(pg_relation_size(i.indexrelid)) AS size,
+       s.avg_leaf_density,
+       s.leaf_fragmentation
+  FROM pg_index i
+  CROSS JOIN LATERAL pgstatindex(i.indexrelid::regclass) s
+ WHERE i.indrelid IN ('bench_keys_v4'::regclass, 'bench_keys_v7'::regclass)
+ ORDER BY 1;
+
+DROP TABLE bench_keys_v4, bench_keys_v7;
@@ -0,0 +1,79 @@
+package com.vaudoise.api_factory.reactive.application;
+
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.reactive.infrastructure.persistence.ClientRow;
+import com.vaudoise.api_factory.reactive.infrastructure.persistence.ClientRowRepository;
+import com.vaudoise.api_factory.reactive.infrastructure.persistence.ContractRow;
+import com.vaudoise.api_factory.reactive.infrastructure.persistence.ContractRowRepository;
+import com.vaudoise.api_factory.reactive.infrastructure.persistence.ReadModelMapper;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/** Reactive counterpart of {@code GetClientUseCase} for the reads served by this module. */
+@Service
+public class ClientReadService {
+  private static final Sort CREATION_ORDER = Sort.by("createdAt", "id");
+
+  private final ClientRowRepository clientRepository;
+  private final ContractRowRepository contractRepository;
+  private final ReadModelMapper mapper;
+
+  public ClientReadService(
+      ClientRowRepository clientRepository,
+      ContractRowRepository contractRepository,
+      ReadModelMapper mapper) {
+    this.clientRepository = clientRepository;
+    this.contractRepository = contractRepository;
+    this.mapper = mapper;
+  }
+
+  /** The client with all its contracts; the two queries run concurrently. */
+  public Mono<Client> findWithContracts(UUID id) {
+    return Mono.zip(
+            clientRepository.findById(id), contractRepository.findByClientId(id).collectList())
+        .map(tuple -> withContracts(tuple.getT1(), tuple.getT2()))
+        .switchIfEmpty(
+            Mono.error(() -> new ClientNotFoundException("Client not found with id: " + id)));
+  }
+
+  /** A page of clients in creation order, each with all its contracts, in three queries. */
+  public Mono<Page<Client>> findAllWithContracts(Pageable pageable) {
+    Pageable ordered =
+        PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), CREATION_ORDER);
+    Mono<List<Client>> clients =
+        clientRepository.findAllBy(ordered).collectList().flatMap(this::withContracts);
+    return Mono.zip(clients, clientRepository.count())
+        .map(tuple -> new PageImpl<>(tuple.getT1(), ordered, tuple.getT2()));
+  }
+
+  /** Loads the contracts of all {@code rows} in one query, preserving the row order. */
+  private Mono<List<Client>> withContracts(List<ClientRow> rows) {
+    if (rows.isEmpty()) {
+      return Mono.just(List.of());
+    }
+    List<UUID> ids = rows.stream().map(ClientRow::id).toList();
+    return contractRepository
+        .findByClientIdIn(ids)
+        .collect(Collectors.groupingBy(ContractRow::clientId))
+        .map(
+            contracts ->
+                rows.stream()
+                    .map(row -> withContracts(row, contracts.getOrDefault(row.id(), List.of())))
+                    .toList());
+  }
+
+  private Client withContracts(ClientRow row, List<ContractRow> contracts) {
+    Client client = mapper.toDomain(row);
+    contracts.forEach(contract -> client.addContract(mapper.toDomain(contract, client)));
+    return client;
+  }
+}
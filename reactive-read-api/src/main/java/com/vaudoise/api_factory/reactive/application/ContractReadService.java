@@ -0,0 +1,116 @@
+package com.vaudoise.api_factory.reactive.application;
+
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ClientCostTotal;
+import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.reactive.infrastructure.persistence.ClientCostTotalRowRepository;
+import com.vaudoise.api_factory.reactive.infrastructure.persistence.ClientRowRepository;
+import com.vaudoise.api_factory.reactive.infrastructure.persistence.ContractRow;
+import com.vaudoise.api_factory.reactive.infrastructure.persistence.ContractRowRepository;
+import com.vaudoise.api_factory.reactive.infrastructure.persistence.ReadModelMapper;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@code GetActiveContractsUseCase} and {@code CalculateTotalCostUseCase}.
+ */
+@Service
+public class ContractReadService {
+
+  private final ContractRowRepository contractRepository;
+  private final ClientRowRepository clientRepository;
+  private final ClientCostTotalRowRepository clientCostTotalRepository;
+  private final ReadModelMapper mapper;
+
+  public ContractReadService(
+      ContractRowRepository contractRepository,
+      ClientRowRepository clientRepository,
+      ClientCostTotalRowRepository clientCostTotalRepository,
+      ReadModelMapper mapper) {
+    this.contractRepository = contractRepository;
+    this.clientRepository = clientRepository;
+    this.clientCostTotalRepository = clientCostTotalRepository;
+    this.mapper = mapper;
+  }
+
+  /** A page of the client's active contracts in creation order. */
+  public Mono<Page<Contract>> findActiveContracts(
+      UUID clientId, Instant updatedSince, Pageable pageable) {
+    LocalDate today = LocalDate.now();
+    Flux<ContractRow> rows;
+    Mono<Long> total;
+    if (updatedSince != null) {
+      rows =
+          contractRepository.findActiveByClientIdUpdatedSince(
+              clientId, today, updatedSince, pageable.getPageSize(), pageable.getOffset());
+      total = contractRepository.countActiveByClientIdUpdatedSince(clientId, today, updatedSince);
+    } else {
+      rows =
+          contractRepository.findActiveByClientId(
+              clientId, today, pageable.getPageSize(), pageable.getOffset());
+      total = contractRepository.countActiveByClientId(clientId, today);
+    }
+
+    // The client row doubles as the existence check and names the client in every contract
+    return clientRepository
+        .findById(clientId)
+        .map(mapper::toDomain)
+        .switchIfEmpty(
+            Mono.error(() -> new ClientNotFoundException("Client not found with id: " + clientId)))
+        .flatMap(client -> Mono.zip(contracts(rows, client), total))
+        .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
+  }
+
+  /** Returns the total cost of the client's active contracts, empty when there are none. */
+  public Mono<Optional<Money>> calculateTotalCost(UUID clientId) {
+    return clientCostTotalRepository
+        .findById(clientId)
+        .map(
+            row ->
+                new ClientCostTotal(
+                        clientId, row.totalAmount(), Currency.getInstance(row.currency()))
+                    .toMoney())
+        // No maintained row: the client never had a contract written, or does not exist
+        .switchIfEmpty(Mono.defer(() -> sumActiveContractCosts(clientId)));
+  }
+
+  private Mono<Optional<Money>> sumActiveContractCosts(UUID clientId) {
+    return clientRepository
+        .existsById(clientId)
+        .flatMap(
+            exists -> {
+              if (!exists) {
+                return Mono.error(
+                    new ClientNotFoundException("Client not found with id: " + clientId));
+              }
+              return contractRepository
+                  .sumActiveCostByClientId(clientId, LocalDate.now())
+                  .map(ContractReadService::toTotal);
+            });
+  }
+
+  private Mono<List<Contract>> contracts(Flux<ContractRow> rows, Client client) {
+    return rows.map(row -> mapper.toDomain(row, client)).collectList();
+  }
+
+  private static Optional<Money> toTotal(BigDecimal sum) {
+    // Money cannot represent zero, so "no active contract" is an empty total
+    if (sum == null || sum.signum() <= 0) {
+      return Optional.empty();
+    }
+    return Optional.of(new Money(sum, Currency.getInstance("CHF")));
+  }
+}
@@ -0,0 +1,13 @@
+package com.vaudoise.api_factory.reactive.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("client_cost_totals")
+public record ClientCostTotalRow(
+    @Id @Column("client_id") UUID clientId,
+    @Column("total_amount") BigDecimal totalAmount,
+    String currency) {}
@@ -0,0 +1,6 @@
+package com.vaudoise.api_factory.reactive.infrastructure.persistence;
+
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+public interface ClientCostTotalRowRepository extends R2dbcRepository<ClientCostTotalRow, UUID> {}
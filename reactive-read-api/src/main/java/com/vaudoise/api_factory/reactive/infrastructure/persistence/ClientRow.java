@@ -0,0 +1,20 @@
+package com.vaudoise.api_factory.reactive.infrastructure.persistence;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/** A row of the single-table {@code clients} hierarchy; the columns of the other type are null. */
+@Table("clients")
+public record ClientRow(
+    @Id UUID id,
+    @Column("client_type") String clientType,
+    String name,
+    String email,
+    String phone,
+    LocalDate birthdate,
+    @Column("company_identifier") String companyIdentifier,
+    @Column("created_at") Instant createdAt) {}
@@ -0,0 +1,11 @@
+package com.vaudoise.api_factory.reactive.infrastructure.persistence;
+
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+public interface ClientRowRepository extends R2dbcRepository<ClientRow, UUID> {
+
+  Flux<ClientRow> findAllBy(Pageable pageable);
+}
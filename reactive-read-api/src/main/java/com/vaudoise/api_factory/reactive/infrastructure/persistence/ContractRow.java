@@ -0,0 +1,22 @@
+package com.vaudoise.api_factory.reactive.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("contracts")
+public record ContractRow(
+    @Id UUID id,
+    @Column("client_id") UUID clientId,
+    @Column("start_date") LocalDate startDate,
+    @Column("end_date") LocalDate endDate,
+    @Column("cost_amount") BigDecimal costAmount,
+    @Column("cost_currency") String costCurrency,
+    @Column("created_at") Instant createdAt,
+    @Column("updated_at") Instant updatedAt,
+    boolean terminated,
+    Long version) {}
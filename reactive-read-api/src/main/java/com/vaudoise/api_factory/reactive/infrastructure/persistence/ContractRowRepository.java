@@ -0,0 +1,45 @@
+package com.vaudoise.api_factory.reactive.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The active-contract predicates match {@code JpaContractRepository}: the {@code terminated} flag
+ * keeps the scans in the active partition, the end date catches contracts not yet moved out.
+ */
+public interface ContractRowRepository extends R2dbcRepository<ContractRow, UUID> {
+
+  Flux<ContractRow> findByClientId(UUID clientId);
+
+  Flux<ContractRow> findByClientIdIn(Collection<UUID> clientIds);
+
+  @Query(
+      "SELECT * FROM contracts WHERE client_id = :clientId AND terminated = FALSE AND (end_date IS NULL OR end_date > :currentDate) ORDER BY created_at, id LIMIT :limit OFFSET :offset")
+  Flux<ContractRow> findActiveByClientId(
+      UUID clientId, LocalDate currentDate, int limit, long offset);
+
+  @Query(
+      "SELECT COUNT(*) FROM contracts WHERE client_id = :clientId AND terminated = FALSE AND (end_date IS NULL OR end_date > :currentDate)")
+  Mono<Long> countActiveByClientId(UUID clientId, LocalDate currentDate);
+
+  @Query(
+      "SELECT * FROM contracts WHERE client_id = :clientId AND terminated = FALSE AND (end_date IS NULL OR end_date > :currentDate) AND updated_at > :updatedSince ORDER BY created_at, id LIMIT :limit OFFSET :offset")
+  Flux<ContractRow> findActiveByClientIdUpdatedSince(
+      UUID clientId, LocalDate currentDate, Instant updatedSince, int limit, long offset);
+
+  @Query(
+      "SELECT COUNT(*) FROM contracts WHERE client_id = :clientId AND terminated = FALSE AND (end_date IS NULL OR end_date > :currentDate) AND updated_at > :updatedSince")
+  Mono<Long> countActiveByClientIdUpdatedSince(
+      UUID clientId, LocalDate currentDate, Instant updatedSince);
+
+  @Query(
+      "SELECT COALESCE(SUM(cost_amount), 0) FROM contracts WHERE client_id = :clientId AND terminated = FALSE AND (end_date IS NULL OR end_date > :currentDate)")
+  Mono<BigDecimal> sumActiveCostByClientId(UUID clientId, LocalDate currentDate);
+}
@@ -0,0 +1,51 @@
+package com.vaudoise.api_factory.reactive.infrastructure.persistence;
+
+import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ClientType;
+import com.vaudoise.api_factory.domain.model.Company;
+import com.vaudoise.api_factory.domain.model.CompanyIdentifier;
+import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.Email;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.Person;
+import com.vaudoise.api_factory.domain.model.PhoneNumber;
+import java.util.Currency;
+import org.springframework.stereotype.Component;
+
+/** Maps R2DBC rows onto the domain model the servlet application's mappers produce. */
+@Component
+public class ReadModelMapper {
+
+  public Client toDomain(ClientRow row) {
+    Client client =
+        switch (ClientType.valueOf(row.clientType())) {
+          case PERSON ->
+              new Person(
+                  row.name(),
+                  new Email(row.email()),
+                  new PhoneNumber(row.phone()),
+                  row.birthdate());
+          case COMPANY ->
+              new Company(
+                  row.name(),
+                  new Email(row.email()),
+                  new PhoneNumber(row.phone()),
+                  new CompanyIdentifier(row.companyIdentifier()));
+        };
+    client.setId(row.id());
+    if (row.createdAt() != null) {
+      client.setCreatedAt(row.createdAt());
+    }
+    return client;
+  }
+
+  public Contract toDomain(ContractRow row, Client client) {
+    Money cost = new Money(row.costAmount(), Currency.getInstance(row.costCurrency()));
+    Contract contract = new Contract(client, cost, row.startDate(), row.endDate());
+    contract.setId(row.id());
+    contract.setCreatedAt(row.createdAt());
+    contract.setUpdateDate(row.updatedAt());
+    contract.setVersion(row.version());
+    return contract;
+  }
+}
@@ -0,0 +1,38 @@
+package com.vaudoise.api_factory.reactive.infrastructure.web;
+
+import com.vaudoise.api_factory.application.dto.response.ClientResponse;
+import com.vaudoise.api_factory.application.dto.response.PaginationResponse;
+import com.vaudoise.api_factory.domain.repository.PageSize;
+import com.vaudoise.api_factory.reactive.application.ClientReadService;
+import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/** The client reads of {@code ClientController}, with the same paths, parameters and bodies. */
+@RestController
+@RequestMapping("/api/v1/clients")
+public class ReactiveClientController {
+  private final ClientReadService clientReadService;
+
+  public ReactiveClientController(ClientReadService clientReadService) {
+    this.clientReadService = clientReadService;
+  }
+
+  @GetMapping("/{id}")
+  public Mono<ClientResponse> getClient(@PathVariable UUID id) {
+    return clientReadService.findWithContracts(id).map(ResponseMapper::toClientResponse);
+  }
+
+  @GetMapping
+  public Mono<PaginationResponse<ClientResponse>> getAllClients(
+      @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
+    return Mono.fromCallable(() -> PageRequest.of(page, PageSize.validate(size)))
+        .flatMap(clientReadService::findAllWithContracts)
+        .map(clients -> PaginationResponse.of(clients.map(ResponseMapper::toClientResponse)));
+  }
+}
@@ -0,0 +1,43 @@
+package com.vaudoise.api_factory.reactive.infrastructure.web;
+
+import com.vaudoise.api_factory.application.dto.response.ContractResponse;
+import com.vaudoise.api_factory.application.dto.response.MoneyResponse;
+import com.vaudoise.api_factory.application.dto.response.PaginationResponse;
+import com.vaudoise.api_factory.domain.repository.PageSize;
+import com.vaudoise.api_factory.reactive.application.ContractReadService;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/** The active-contract reads of {@code ContractController}, with the same contract. */
+@RestController
+@RequestMapping("/api/v1/contracts")
+public class ReactiveContractController {
+  private final ContractReadService contractReadService;
+
+  public ReactiveContractController(ContractReadService contractReadService) {
+    this.contractReadService = contractReadService;
+  }
+
+  @GetMapping("/active")
+  public Mono<PaginationResponse<ContractResponse>> getActiveContracts(
+      @RequestParam UUID clientId,
+      @RequestParam(required = false) Instant updatedSince,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size) {
+    return Mono.fromCallable(() -> PageRequest.of(page, PageSize.validate(size)))
+        .flatMap(
+            pageable -> contractReadService.findActiveContracts(clientId, updatedSince, pageable))
+        .map(contracts -> PaginationResponse.of(contracts.map(ResponseMapper::toContractResponse)));
+  }
+
+  @GetMapping("/active/total-cost")
+  public Mono<MoneyResponse> calculateTotalCost(@RequestParam UUID clientId) {
+    return contractReadService.calculateTotalCost(clientId).map(ResponseMapper::toMoneyResponse);
+  }
+}
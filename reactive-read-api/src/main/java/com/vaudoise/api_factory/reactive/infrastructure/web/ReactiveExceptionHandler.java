@@ -0,0 +1,43 @@
+package com.vaudoise.api_factory.reactive.infrastructure.web;
+
+import com.vaudoise.api_factory.application.dto.response.ErrorResponse;
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import java.time.Instant;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/** Renders the domain exceptions of the read API as {@code GlobalExceptionHandler} does. */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+  @ExceptionHandler(ClientNotFoundException.class)
+  public ResponseEntity<ErrorResponse> handleClientNotFoundException(
+      ClientNotFoundException ex, ServerHttpRequest request) {
+    return error(HttpStatus.NOT_FOUND, "Not Found", ex, request);
+  }
+
+  @ExceptionHandler(InvalidBusinessRuleException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidBusinessRuleException(
+      InvalidBusinessRuleException ex, ServerHttpRequest request) {
+    return error(HttpStatus.BAD_REQUEST, "Bad Request", ex, request);
+  }
+
+  private ResponseEntity<ErrorResponse> error(
+      HttpStatus status, String title, RuntimeException ex, ServerHttpRequest request) {
+    ErrorResponse errorResponse =
+        new ErrorResponse(
+            "about:blank",
+            title,
+            ex.getMessage(),
+            status.value(),
+            // Same form as the servlet WebRequest#getDescription(false)
+            "uri=" + request.getPath().value(),
+            Instant.now(),
+            null);
+    return new ResponseEntity<>(errorResponse, status);
+  }
+}
@@ -0,0 +1,77 @@
+package com.vaudoise.api_factory.reactive.infrastructure.web;
+
+import com.vaudoise.api_factory.application.dto.response.ClientResponse;
+import com.vaudoise.api_factory.application.dto.response.CompanyResponse;
+import com.vaudoise.api_factory.application.dto.response.ContractResponse;
+import com.vaudoise.api_factory.application.dto.response.MoneyResponse;
+import com.vaudoise.api_factory.application.dto.response.PersonResponse;
+import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.Company;
+import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.Person;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/** Builds the same response records as the servlet controllers, field for field. */
+final class ResponseMapper {
+
+  private ResponseMapper() {}
+
+  static ClientResponse toClientResponse(Client client) {
+    if (client instanceof Person person) {
+      return new PersonResponse(
+          person.getId(),
+          person.getName(),
+          person.getEmail().value(),
+          person.getPhone().value(),
+          toContractSummaries(person),
+          person.getCreatedAt(),
+          person.getBirthDate(),
+          person.getAge(),
+          person.isMajor(),
+          person.getType());
+    } else if (client instanceof Company company) {
+      return new CompanyResponse(
+          company.getId(),
+          company.getName(),
+          company.getEmail().value(),
+          company.getPhone().value(),
+          toContractSummaries(company),
+          company.getCreatedAt(),
+          company.getCompanyIdentifier().value(),
+          company.getType());
+    }
+    throw new IllegalArgumentException("Unknown client type: " + client.getClass());
+  }
+
+  static ContractResponse toContractResponse(Contract contract) {
+    return new ContractResponse(
+        contract.getId(),
+        contract.getClient().getId(),
+        contract.getClient().getName(),
+        contract.getStartDate(),
+        contract.getEndDate().orElse(null),
+        contract.getCostAmount().amount(),
+        contract.getCostAmount().currency().getCurrencyCode(),
+        contract.isActive(),
+        contract.getCreatedAt(),
+        contract.getVersion());
+  }
+
+  static MoneyResponse toMoneyResponse(Optional<Money> total) {
+    return total
+        .map(money -> new MoneyResponse(money.amount(), money.currency().getCurrencyCode()))
+        .orElseGet(() -> new MoneyResponse(BigDecimal.ZERO.setScale(2), "CHF"));
+  }
+
+  private static List<ClientResponse.ContractSummary> toContractSummaries(Client client) {
+    return client.getContracts().stream()
+        .map(
+            contract ->
+                new ClientResponse.ContractSummary(
+                    contract.getId(), contract.getName(), contract.isActive()))
+        .toList();
+  }
+}
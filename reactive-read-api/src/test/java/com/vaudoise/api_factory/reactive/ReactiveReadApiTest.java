@@ -0,0 +1,262 @@
+package com.vaudoise.api_factory.reactive;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/** Runs the read API end to end against an in-memory H2 database through r2dbc-h2. */
+@SpringBootTest
+@AutoConfigureWebTestClient
+@DisplayName("Reactive Read API Tests")
+class ReactiveReadApiTest {
+
+  @Autowired private WebTestClient webTestClient;
+
+  @Autowired private DatabaseClient databaseClient;
+
+  private final UUID personId = UUID.randomUUID();
+  private final UUID companyId = UUID.randomUUID();
+  private final UUID activeContractId = UUID.randomUUID();
+  private final UUID otherActiveContractId = UUID.randomUUID();
+  private final UUID endedContractId = UUID.randomUUID();
+  private final Instant now = Instant.now();
+
+  @BeforeEach
+  void setUp() {
+    execute("DELETE FROM client_cost_totals");
+    execute("DELETE FROM contracts");
+    execute("DELETE FROM clients");
+
+    databaseClient
+        .sql(
+            "INSERT INTO clients (id, client_type, name, email, phone, birthdate, created_at,"
+                + " updated_at) VALUES (:id, 'PERSON', 'John Doe', 'john.doe@example.com',"
+                + " '+41791234567', :birthdate, :createdAt, :createdAt)")
+        .bind("id", personId)
+        .bind("birthdate", LocalDate.of(1990, 1, 1))
+        .bind("createdAt", now.minusSeconds(60))
+        .then()
+        .block();
+    databaseClient
+        .sql(
+            "INSERT INTO clients (id, client_type, name, email, phone, company_identifier,"
+                + " created_at, updated_at) VALUES (:id, 'COMPANY', 'Vaudoise', 'info@vaudoise.ch',"
+                + " '+41211234567', 'CHE-123.123.123', :createdAt, :createdAt)")
+        .bind("id", companyId)
+        .bind("createdAt", now)
+        .then()
+        .block();
+    insertContract(activeContractId, LocalDate.now().minusYears(1), null, "1000.00", false, 1);
+    insertContract(otherActiveContractId, LocalDate.now().minusMonths(1), null, "500.00", false, 2);
+    insertContract(
+        endedContractId,
+        LocalDate.now().minusYears(2),
+        LocalDate.now().minusYears(1),
+        "800.00",
+        true,
+        3);
+    databaseClient
+        .sql(
+            "INSERT INTO client_cost_totals (client_id, total_amount, currency, updated_at)"
+                + " VALUES (:clientId, :amount, 'CHF', :now)")
+        .bind("clientId", companyId)
+        .bind("amount", new BigDecimal("250.00"))
+        .bind("now", now)
+        .then()
+        .block();
+  }
+
+  @Test
+  @DisplayName("Get Client by ID - Should return the person with all its contracts")
+  void getClient_ShouldReturnClientWithContracts() {
+    webTestClient
+        .get()
+        .uri("/api/v1/clients/{id}", personId)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.id")
+        .isEqualTo(personId.toString())
+        .jsonPath("$.type")
+        .isEqualTo("PERSON")
+        .jsonPath("$.birthDate")
+        .isEqualTo("1990-01-01")
+        .jsonPath("$.contracts.length()")
+        .isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Get Client by ID - Should return 404 Not Found when client does not exist")
+  void getClient_ShouldReturn404_WhenClientDoesNotExist() {
+    UUID unknownId = UUID.randomUUID();
+
+    webTestClient
+        .get()
+        .uri("/api/v1/clients/{id}", unknownId)
+        .exchange()
+        .expectStatus()
+        .isNotFound()
+        .expectBody()
+        .jsonPath("$.detail")
+        .isEqualTo("Client not found with id: " + unknownId)
+        .jsonPath("$.status")
+        .isEqualTo(404);
+  }
+
+  @Test
+  @DisplayName("Get All Clients - Should page clients in creation order")
+  void getAllClients_ShouldReturnPaginatedList() {
+    webTestClient
+        .get()
+        .uri("/api/v1/clients?page=0&size=1")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.content.length()")
+        .isEqualTo(1)
+        .jsonPath("$.content[0].id")
+        .isEqualTo(personId.toString())
+        .jsonPath("$.content[0].contracts.length()")
+        .isEqualTo(3)
+        .jsonPath("$.totalElements")
+        .isEqualTo(2)
+        .jsonPath("$.totalPages")
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Get All Clients - Should return 400 Bad Request when page size is too large")
+  void getAllClients_ShouldReturn400_WhenPageSizeTooLarge() {
+    webTestClient.get().uri("/api/v1/clients?size=101").exchange().expectStatus().isBadRequest();
+  }
+
+  @Test
+  @DisplayName("Get Active Contracts - Should return only active contracts in creation order")
+  void getActiveContracts_ShouldReturnActiveContracts() {
+    webTestClient
+        .get()
+        .uri("/api/v1/contracts/active?clientId={id}", personId)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.content.length()")
+        .isEqualTo(2)
+        .jsonPath("$.content[0].id")
+        .isEqualTo(activeContractId.toString())
+        .jsonPath("$.content[0].clientName")
+        .isEqualTo("John Doe")
+        .jsonPath("$.content[1].id")
+        .isEqualTo(otherActiveContractId.toString())
+        .jsonPath("$.totalElements")
+        .isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Get Active Contracts - Should filter by update date")
+  void getActiveContracts_ShouldFilterByUpdatedSince() {
+    webTestClient
+        .get()
+        .uri(
+            "/api/v1/contracts/active?clientId={id}&updatedSince={since}",
+            personId,
+            now.minusSeconds(5))
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.content.length()")
+        .isEqualTo(1)
+        .jsonPath("$.content[0].id")
+        .isEqualTo(otherActiveContractId.toString());
+  }
+
+  @Test
+  @DisplayName("Get Active Contracts - Should return 404 Not Found when client does not exist")
+  void getActiveContracts_ShouldReturn404_WhenClientDoesNotExist() {
+    webTestClient
+        .get()
+        .uri("/api/v1/contracts/active?clientId={id}", UUID.randomUUID())
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+  }
+
+  @Test
+  @DisplayName("Calculate Total Cost - Should sum active contracts without a maintained total")
+  void calculateTotalCost_ShouldSumActiveContracts() {
+    webTestClient
+        .get()
+        .uri("/api/v1/contracts/active/total-cost?clientId={id}", personId)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.amount")
+        .isEqualTo(1500.00)
+        .jsonPath("$.currency")
+        .isEqualTo("CHF");
+  }
+
+  @Test
+  @DisplayName("Calculate Total Cost - Should read the maintained total when there is one")
+  void calculateTotalCost_ShouldReadMaintainedTotal() {
+    webTestClient
+        .get()
+        .uri("/api/v1/contracts/active/total-cost?clientId={id}", companyId)
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.amount")
+        .isEqualTo(250.00);
+  }
+
+  @Test
+  @DisplayName("Calculate Total Cost - Should return 404 Not Found when client does not exist")
+  void calculateTotalCost_ShouldReturn404_WhenClientDoesNotExist() {
+    webTestClient
+        .get()
+        .uri("/api/v1/contracts/active/total-cost?clientId={id}", UUID.randomUUID())
+        .exchange()
+        .expectStatus()
+        .isNotFound();
+  }
+
+  private void insertContract(
+      UUID id, LocalDate startDate, LocalDate endDate, String cost, boolean terminated, int order) {
+    databaseClient
+        .sql(
+            "INSERT INTO contracts (id, client_id, start_date, end_date, cost_amount,"
+                + " cost_currency, created_at, updated_at, terminated, version)"
+                + " VALUES (:id, :clientId, :startDate, :endDate, :cost, 'CHF', :createdAt,"
+                + " :updatedAt, :terminated, 0)")
+        .bind("id", id)
+        .bind("clientId", personId)
+        .bind("startDate", startDate)
+        .bind("endDate", Parameter.fromOrEmpty(endDate, LocalDate.class))
+        .bind("cost", new BigDecimal(cost))
+        .bind("createdAt", now.minusSeconds(30 - order))
+        // Only the second active contract counts as recently updated
+        .bind("updatedAt", order == 2 ? now : now.minusSeconds(3600))
+        .bind("terminated", terminated)
+        .then()
+        .block();
+  }
+
+  private void execute(String sql) {
+    databaseClient.sql(sql).then().block();
+  }
+}
@@ -0,0 +1,32 @@
+CREATE TABLE IF NOT EXISTS clients (
+    id UUID PRIMARY KEY,
+    client_type VARCHAR(31) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone VARCHAR(255) NOT NULL,
+    birthdate DATE,
+    company_identifier VARCHAR(255),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS contracts (
+    id UUID NOT NULL,
+    client_id UUID NOT NULL REFERENCES clients (id) ON DELETE CASCADE,
+    start_date DATE NOT NULL,
+    end_date DATE,
+    cost_amount NUMERIC(19, 2) NOT NULL,
+    cost_currency VARCHAR(3) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    terminated BOOLEAN NOT NULL DEFAULT FALSE,
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id, terminated)
+);
+
+CREATE TABLE IF NOT EXISTS client_cost_totals (
+    client_id UUID PRIMARY KEY REFERENCES clients (id) ON DELETE CASCADE,
+    total_amount NUMERIC(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,12 @@
+package com.vaudoise.api_factory.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record BatchDeleteClientsRequest(
+    @NotEmpty(message = "At least one client ID is required")
+        @Size(max = 10000, message = "At most 10000 clients can be deleted at once")
+        List<@NotNull(message = "Client ID cannot be null") UUID> clientIds) {}
@@ -0,0 +1,31 @@
+package com.vaudoise.api_factory.application.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.vaudoise.api_factory.infrastructure.web.validation.ValidIso8601Date;
+import com.vaudoise.api_factory.infrastructure.web.validation.ValidNumber;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record BulkCreateContractsRequest(
+    @NotEmpty(message = "At least one contract is required")
+        @Size(max = 5000, message = "At most 5000 contracts can be created at once")
+        List<@NotNull(message = "Contract cannot be null") @Valid ContractItem> contracts) {
+
+  public record ContractItem(
+      @NotNull(message = "Client ID is required") UUID clientId,
+      @NotNull(message = "Cost amount is required")
+          @Positive(message = "Cost amount must be positive")
+          @ValidNumber(max = 999999999.99)
+          String costAmount,
+      @ValidIso8601Date(message = "Start date must be a valid ISO-8601 date")
+          @JsonFormat(pattern = "yyyy-MM-dd")
+          String startDate,
+      @ValidIso8601Date(message = "End date must be a valid ISO-8601 date")
+          @JsonFormat(pattern = "yyyy-MM-dd")
+          String endDate) {}
+}
@@ -0,0 +1,28 @@
+package com.vaudoise.api_factory.application.dto.request;
+
+/**
+ * One raw row of a bulk client import, before validation. {@code type} is {@code PERSON} or {@code
+ * COMPANY}; {@code parseError} is set when the source line could not be read at all.
+ */
+public record ClientImportRow(
+    long line,
+    String type,
+    String name,
+    String email,
+    String phone,
+    String birthDate,
+    String companyIdentifier,
+    String parseError) {
+
+  public static ClientImportRow unparseable(long line, String parseError) {
+    return new ClientImportRow(line, null, null, null, null, null, null, parseError);
+  }
+
+  public CreatePersonRequest toPersonRequest() {
+    return new CreatePersonRequest(name, email, phone, birthDate);
+  }
+
+  public CreateCompanyRequest toCompanyRequest() {
+    return new CreateCompanyRequest(name, email, phone, companyIdentifier);
+  }
+}
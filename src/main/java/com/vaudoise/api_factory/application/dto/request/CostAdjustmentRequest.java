@@ -0,0 +1,22 @@
+package com.vaudoise.api_factory.application.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.vaudoise.api_factory.domain.model.ClientType;
+import com.vaudoise.api_factory.infrastructure.web.validation.ValidIso8601Date;
+import com.vaudoise.api_factory.infrastructure.web.validation.ValidNumber;
+import jakarta.validation.constraints.NotNull;
+
+public record CostAdjustmentRequest(
+    @NotNull(message = "Multiplier is required")
+        @ValidNumber(max = 10, message = "Multiplier must be greater than 0 and at most 10")
+        String multiplier,
+    ClientType clientType,
+    @ValidNumber(max = 999999999.99) String minCost,
+    @ValidNumber(max = 999999999.99) String maxCost,
+    @ValidIso8601Date(message = "Start date lower bound must be a valid ISO-8601 date")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        String startDateFrom,
+    @ValidIso8601Date(message = "Start date upper bound must be a valid ISO-8601 date")
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        String startDateTo,
+    boolean dryRun) {}
@@ -0,0 +1,6 @@
+package com.vaudoise.api_factory.application.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchDeleteClientsResponse(int deleted, List<UUID> notFoundClientIds) {}
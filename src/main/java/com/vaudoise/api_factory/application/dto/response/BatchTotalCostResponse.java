@@ -0,0 +1,9 @@
+package com.vaudoise.api_factory.application.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchTotalCostResponse(List<ClientTotalCost> totals, List<UUID> unknownClientIds) {
+
+  public record ClientTotalCost(UUID clientId, MoneyResponse totalCost) {}
+}
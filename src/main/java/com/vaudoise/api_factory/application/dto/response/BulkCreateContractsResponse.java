@@ -0,0 +1,12 @@
+package com.vaudoise.api_factory.application.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Ids of the created contracts, in the order of the request. */
+public record BulkCreateContractsResponse(int created, List<UUID> contractIds) {
+
+  public static BulkCreateContractsResponse of(List<UUID> contractIds) {
+    return new BulkCreateContractsResponse(contractIds.size(), contractIds);
+  }
+}
@@ -0,0 +1,13 @@
+package com.vaudoise.api_factory.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.Instant;
+import java.util.UUID;
+
+public record ChangeEventResponse(
+    long sequence,
+    String entityType,
+    String operation,
+    UUID entityId,
+    UUID clientId,
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "UTC") Instant occurredAt) {}
@@ -0,0 +1,10 @@
+package com.vaudoise.api_factory.application.dto.response;
+
+import java.util.List;
+
+/**
+ * A batch of the change feed. {@code nextCursor} is the sequence number to pass back as the next
+ * cursor, the request's own cursor when the batch is empty; {@code last} tells that the batch
+ * reached the end of the feed.
+ */
+public record ChangeFeedResponse(List<ChangeEventResponse> events, long nextCursor, boolean last) {}
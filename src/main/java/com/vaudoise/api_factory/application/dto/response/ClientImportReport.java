@@ -0,0 +1,34 @@
+package com.vaudoise.api_factory.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.UUID;
+
+public record ClientImportReport(int totalRows, int created, int rejected, List<RowResult> rows) {
+
+  public static ClientImportReport of(List<RowResult> rows) {
+    int created = (int) rows.stream().filter(r -> r.status() == Status.CREATED).count();
+    return new ClientImportReport(rows.size(), created, rows.size() - created, rows);
+  }
+
+  public enum Status {
+    CREATED,
+    REJECTED
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_EMPTY)
+  public record RowResult(long line, Status status, UUID clientId, List<String> errors) {
+
+    public static RowResult created(long line, UUID clientId) {
+      return new RowResult(line, Status.CREATED, clientId, List.of());
+    }
+
+    public static RowResult rejected(long line, List<String> errors) {
+      return new RowResult(line, Status.REJECTED, null, List.copyOf(errors));
+    }
+
+    public static RowResult rejected(long line, String error) {
+      return rejected(line, List.of(error));
+    }
+  }
+}
@@ -0,0 +1,6 @@
+package com.vaudoise.api_factory.application.dto.response;
+
+public record ClientOverviewResponse(
+    ClientResponse client,
+    PaginationResponse<ContractResponse> activeContracts,
+    MoneyResponse totalCost) {}
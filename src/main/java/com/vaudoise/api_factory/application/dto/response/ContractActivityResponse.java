@@ -0,0 +1,8 @@
+package com.vaudoise.api_factory.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record ContractActivityResponse(UUID clientId, List<UUID> contractIds) {}
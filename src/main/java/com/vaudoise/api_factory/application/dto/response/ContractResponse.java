@@ -17,4 +17,5 @@ public record ContractResponse(
     BigDecimal costAmount,
     String costCurrency,
     boolean active,
-    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "UTC") Instant createdAt) {}
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", timezone = "UTC") Instant createdAt,
+    Long version) {}
@@ -0,0 +1,23 @@
+package com.vaudoise.api_factory.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record ContractsAsOfResponse(
+    UUID clientId,
+    @JsonFormat(pattern = "yyyy-MM-dd") LocalDate date,
+    List<ContractAsOf> contracts,
+    MoneyResponse totalCost) {
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public record ContractAsOf(
+      UUID id,
+      @JsonFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+      @JsonFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+      BigDecimal costAmount,
+      String costCurrency) {}
+}
@@ -0,0 +1,9 @@
+package com.vaudoise.api_factory.application.dto.response;
+
+public record CostAdjustmentResponse(
+    boolean dryRun,
+    long matchedContracts,
+    long changedContracts,
+    long updatedContracts,
+    MoneyResponse totalBefore,
+    MoneyResponse totalAfter) {}
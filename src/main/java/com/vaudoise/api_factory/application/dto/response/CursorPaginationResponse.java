@@ -0,0 +1,17 @@
+package com.vaudoise.api_factory.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPaginationResponse<T>(
+    List<T> content, int pageSize, String nextCursor, boolean last) {
+  public static <T> CursorPaginationResponse<T> of(CursorPage<T> page, int pageSize) {
+    return new CursorPaginationResponse<>(
+        page.content(),
+        pageSize,
+        page.hasNext() ? page.nextCursor().encode() : null,
+        !page.hasNext());
+  }
+}
@@ -0,0 +1,65 @@
+package com.vaudoise.api_factory.application.usecase.change;
+
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.PageSize;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reads the change feed after a consumer's cursor. Given a wait, an empty read is repeated until
+ * events arrive or the wait runs out, so an idle consumer keeps one request open instead of polling
+ * in a loop. Each attempt is its own short read whose connection goes back to the pool when it
+ * ends, so a waiting consumer holds none between attempts.
+ */
+@Service
+public class GetChangesUseCase {
+
+  /** Longest wait served, below the idle timeouts of common proxies and load balancers. */
+  public static final int MAX_WAIT_SECONDS = 30;
+
+  private static final Duration MAX_WAIT = Duration.ofSeconds(MAX_WAIT_SECONDS);
+
+  static final Duration POLL_INTERVAL = Duration.ofMillis(250);
+
+  private final ChangeEventRepository changeEventRepository;
+
+  public GetChangesUseCase(ChangeEventRepository changeEventRepository) {
+    this.changeEventRepository = changeEventRepository;
+  }
+
+  /**
+   * Returns up to {@code limit} events numbered after {@code after}, waiting up to {@code wait} for
+   * the first one. An empty result means none arrived in time.
+   */
+  public List<ChangeEvent> execute(long after, int limit, Duration wait) {
+    if (after < 0) {
+      throw new InvalidBusinessRuleException("Cursor must not be negative");
+    }
+    PageSize.validate(limit);
+    if (wait.isNegative() || wait.compareTo(MAX_WAIT) > 0) {
+      throw new InvalidBusinessRuleException(
+          "Wait must be between 0 and " + MAX_WAIT_SECONDS + " seconds");
+    }
+
+    long deadline = System.nanoTime() + wait.toNanos();
+    List<ChangeEvent> events = changeEventRepository.findAfter(after, limit);
+    while (events.isEmpty()) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        break;
+      }
+      try {
+        Thread.sleep(Math.min(POLL_INTERVAL.toNanos(), remaining) / 1_000_000);
+      } catch (InterruptedException e) {
+        // The request is being aborted: answer with what we have, which is nothing yet
+        Thread.currentThread().interrupt();
+        return events;
+      }
+      events = changeEventRepository.findAfter(after, limit);
+    }
+    return events;
+  }
+}
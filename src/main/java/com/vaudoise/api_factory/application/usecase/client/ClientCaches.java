@@ -0,0 +1,19 @@
+package com.vaudoise.api_factory.application.usecase.client;
+
+/**
+ * Names of the caches holding client reads. Every cache is keyed by client id; client and contract
+ * writes evict the entries they make stale.
+ */
+public final class ClientCaches {
+
+  /** {@code Client} aggregates without their contracts. */
+  public static final String CLIENTS = "clients";
+
+  /** {@code Client} aggregates with their contracts, which contract writes change as well. */
+  public static final String CLIENTS_WITH_CONTRACTS = "clientsWithContracts";
+
+  /** Positive existence checks only; an unknown id is never cached. */
+  public static final String EXISTS = "clientExists";
+
+  private ClientCaches() {}
+}
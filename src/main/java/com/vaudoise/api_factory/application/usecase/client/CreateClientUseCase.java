@@ -1,33 +1,45 @@
 package com.vaudoise.api_factory.application.usecase.client;
 
-import com.vaudoise.api_factory.domain.exception.DuplicateEmailException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
 import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import jakarta.transaction.Transactional;
+import java.util.List;
 import org.springframework.stereotype.Service;
 
 @Service
 public class CreateClientUseCase {
 
   private final ClientRepository clientRepository;
+  private final ChangeEventRepository changeEventRepository;
 
-  public CreateClientUseCase(ClientRepository clientRepository) {
+  public CreateClientUseCase(
+      ClientRepository clientRepository, ChangeEventRepository changeEventRepository) {
     this.clientRepository = clientRepository;
+    this.changeEventRepository = changeEventRepository;
   }
 
+  /**
+   * Inserts the client directly; a taken email or company identifier is rejected by the unique
+   * constraints and reported as a {@link
+   * com.vaudoise.api_factory.domain.exception.DuplicateEmailException}, concurrent creates
+   * included.
+   */
+  @Transactional
   public Client execute(Client client) {
-    if (clientRepository.existsByEmail(client.getEmail().value())) {
-      throw new DuplicateEmailException("Email already exists: " + client.getEmail().value());
-    }
-
-    if (client.getType() == com.vaudoise.api_factory.domain.model.ClientType.COMPANY) {
-      com.vaudoise.api_factory.domain.model.Company company =
-          (com.vaudoise.api_factory.domain.model.Company) client;
-      if (clientRepository.existsByCompanyIdentifier(company.getCompanyIdentifier().value())) {
-        throw new DuplicateEmailException(
-            "Company identifier already exists: " + company.getCompanyIdentifier().value());
-      }
-    }
+    Client saved = clientRepository.save(client);
+    changeEventRepository.append(List.of(NewChangeEvent.client(Operation.CREATED, saved.getId())));
+    return saved;
+  }
 
-    return clientRepository.save(client);
+  /** Inserts the clients in one batched transaction; a taken key rejects all of them. */
+  @Transactional
+  public List<Client> execute(List<Client> clients) {
+    List<Client> saved = clientRepository.saveAll(clients);
+    changeEventRepository.append(
+        saved.stream().map(c -> NewChangeEvent.client(Operation.CREATED, c.getId())).toList());
+    return saved;
   }
 }
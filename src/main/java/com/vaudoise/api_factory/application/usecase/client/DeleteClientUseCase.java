@@ -1,23 +1,73 @@
 package com.vaudoise.api_factory.application.usecase.client;
 
-import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.event.ContractActivity.ClientDeleted;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 public class DeleteClientUseCase {
 
   private final ClientRepository clientRepository;
+  private final ClientCostTotalRepository clientCostTotalRepository;
+  private final ChangeEventRepository changeEventRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public DeleteClientUseCase(ClientRepository clientRepository) {
+  public DeleteClientUseCase(
+      ClientRepository clientRepository,
+      ClientCostTotalRepository clientCostTotalRepository,
+      ChangeEventRepository changeEventRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.clientRepository = clientRepository;
+    this.clientCostTotalRepository = clientCostTotalRepository;
+    this.changeEventRepository = changeEventRepository;
+    this.eventPublisher = eventPublisher;
   }
 
+  @Transactional
+  @Caching(
+      evict = {
+        @CacheEvict(cacheNames = ClientCaches.CLIENTS, key = "#id"),
+        @CacheEvict(cacheNames = ClientCaches.CLIENTS_WITH_CONTRACTS, key = "#id"),
+        @CacheEvict(cacheNames = ClientCaches.EXISTS, key = "#id")
+      })
   public void execute(UUID id) {
-    if (!clientRepository.findById(id).isPresent()) {
-      throw new ClientNotFoundException("Client not found with id: " + id);
-    }
+    // deleteById reports an unknown id itself, rolling the total deletion back with it
+    clientCostTotalRepository.deleteByClientIds(List.of(id));
     clientRepository.deleteById(id);
+    changeEventRepository.append(tombstones(List.of(id)));
+    eventPublisher.publishEvent(new ClientDeleted(id));
+  }
+
+  /** Deletes the existing clients among {@code ids} in one transaction and returns their ids. */
+  @Transactional
+  @CacheEvict(
+      cacheNames = {ClientCaches.CLIENTS, ClientCaches.CLIENTS_WITH_CONTRACTS, ClientCaches.EXISTS},
+      allEntries = true)
+  public Set<UUID> execute(Collection<UUID> ids) {
+    Set<UUID> existing = clientRepository.findExistingIds(ids);
+    if (!existing.isEmpty()) {
+      clientCostTotalRepository.deleteByClientIds(existing);
+      clientRepository.deleteAllById(existing);
+      changeEventRepository.append(tombstones(existing));
+      existing.forEach(id -> eventPublisher.publishEvent(new ClientDeleted(id)));
+    }
+    return existing;
+  }
+
+  /** One tombstone per client, which also stands for the contracts deleted with it. */
+  private static List<NewChangeEvent> tombstones(Collection<UUID> ids) {
+    return ids.stream().map(id -> NewChangeEvent.client(Operation.DELETED, id)).toList();
   }
 }
@@ -0,0 +1,36 @@
+package com.vaudoise.api_factory.application.usecase.client;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+/**
+ * Batch client deletion for purge runs. Ids are deleted in chunks, each in its own short
+ * transaction, so a large purge never holds locks on thousands of rows at once. A failure leaves
+ * the chunks before it deleted.
+ */
+@Service
+public class DeleteClientsUseCase {
+  static final int CHUNK_SIZE = 500;
+
+  private final DeleteClientUseCase deleteClientUseCase;
+
+  public DeleteClientsUseCase(DeleteClientUseCase deleteClientUseCase) {
+    this.deleteClientUseCase = deleteClientUseCase;
+  }
+
+  /** Returns the ids that did not match any client. */
+  public List<UUID> execute(List<UUID> ids) {
+    List<UUID> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+    List<UUID> notFound = new ArrayList<>();
+    for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+      List<UUID> chunk = distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size()));
+      Set<UUID> deleted = deleteClientUseCase.execute(chunk);
+      chunk.stream().filter(id -> !deleted.contains(id)).forEach(notFound::add);
+    }
+    return notFound;
+  }
+}
@@ -0,0 +1,29 @@
+package com.vaudoise.api_factory.application.usecase.client;
+
+import com.vaudoise.api_factory.domain.model.ClientExportRow;
+import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ExportClientsUseCase {
+
+  private final ClientRepository clientRepository;
+
+  public ExportClientsUseCase(ClientRepository clientRepository) {
+    this.clientRepository = clientRepository;
+  }
+
+  /**
+   * Hands every client to {@code sink} in id order while the database cursor stays open, so memory
+   * use does not depend on the number of clients.
+   */
+  @Transactional(readOnly = true)
+  public void export(Consumer<ClientExportRow> sink) {
+    try (Stream<ClientExportRow> rows = clientRepository.streamAll()) {
+      rows.forEach(sink);
+    }
+  }
+}
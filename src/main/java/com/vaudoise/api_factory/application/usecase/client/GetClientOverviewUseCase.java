@@ -0,0 +1,76 @@
+package com.vaudoise.api_factory.application.usecase.client;
+
+import com.vaudoise.api_factory.application.usecase.contract.CalculateTotalCostUseCase;
+import com.vaudoise.api_factory.application.usecase.contract.GetActiveContractsUseCase;
+import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ClientOverview;
+import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.Money;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Loads a client, a page of its active contracts and their total cost in parallel, each on its own
+ * virtual thread and in its own read-only transaction. The reads are scoped to the call: when one
+ * fails its exception is rethrown and the ones still running are interrupted rather than left to
+ * finish unobserved.
+ */
+@Service
+public class GetClientOverviewUseCase {
+
+  private final GetClientUseCase getClientUseCase;
+  private final GetActiveContractsUseCase getActiveContractsUseCase;
+  private final CalculateTotalCostUseCase calculateTotalCostUseCase;
+  private final SimpleAsyncTaskExecutor executor;
+
+  public GetClientOverviewUseCase(
+      GetClientUseCase getClientUseCase,
+      GetActiveContractsUseCase getActiveContractsUseCase,
+      CalculateTotalCostUseCase calculateTotalCostUseCase,
+      TaskDecorator taskDecorator) {
+    this.getClientUseCase = getClientUseCase;
+    this.getActiveContractsUseCase = getActiveContractsUseCase;
+    this.calculateTotalCostUseCase = calculateTotalCostUseCase;
+    this.executor = new SimpleAsyncTaskExecutor("client-overview-");
+    this.executor.setVirtualThreads(true);
+    this.executor.setTaskDecorator(taskDecorator);
+  }
+
+  public ClientOverview execute(UUID clientId, Pageable pageable) {
+    // Not with its contracts, which would load all of them; the page below has the active ones
+    Future<Client> client = executor.submit(() -> getClientUseCase.execute(clientId));
+    Future<Page<Contract>> contracts =
+        executor.submit(() -> getActiveContractsUseCase.execute(clientId, null, pageable));
+    Future<Optional<Money>> totalCost =
+        executor.submit(() -> calculateTotalCostUseCase.execute(clientId));
+
+    try {
+      return new ClientOverview(join(client), join(contracts), join(totalCost));
+    } finally {
+      // No-op for finished subtasks; interrupts the rest when one of them failed
+      List.of(client, contracts, totalCost).forEach(subtask -> subtask.cancel(true));
+    }
+  }
+
+  private static <T> T join(Future<T> subtask) {
+    try {
+      return subtask.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while loading the client overview", e);
+    }
+  }
+}
@@ -2,13 +2,20 @@ package com.vaudoise.api_factory.application.usecase.client;
 
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
 import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ContentStamp;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import com.vaudoise.api_factory.domain.repository.Cursor;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
+import com.vaudoise.api_factory.domain.repository.PageSize;
 import java.util.UUID;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional(readOnly = true)
 public class GetClientUseCase {
   private final ClientRepository clientRepository;
 
@@ -20,12 +27,14 @@ public class GetClientUseCase {
     return clientRepository.findAll(pageable);
   }
 
+  @Cacheable(cacheNames = ClientCaches.CLIENTS, key = "#id")
   public Client execute(UUID id) {
     return clientRepository
         .findById(id)
         .orElseThrow(() -> new ClientNotFoundException("Client not found with id: " + id));
   }
 
+  @Cacheable(cacheNames = ClientCaches.CLIENTS_WITH_CONTRACTS, key = "#id")
   public Client executeWithContracts(UUID id) {
     System.out.println("Fetching client with ID: {}" + id);
     return clientRepository
@@ -33,7 +42,24 @@ public class GetClientUseCase {
         .orElseThrow(() -> new ClientNotFoundException("Client not found with id: " + id));
   }
 
+  /** Probe for conditional reads of the client: its stamp, without loading it. */
+  public ContentStamp contentStamp(UUID id) {
+    return clientRepository
+        .findContentStampById(id)
+        .orElseThrow(() -> new ClientNotFoundException("Client not found with id: " + id));
+  }
+
+  /** Probe for conditional reads of the client pages. */
+  public ContentStamp contentStampOfAll() {
+    return clientRepository.findContentStampOfAll();
+  }
+
   public Page<Client> executeWithContracts(Pageable pageable) {
     return clientRepository.findAllWithContracts(pageable);
   }
+
+  public CursorPage<Client> executeWithContracts(Cursor after, int size) {
+    PageSize.validate(size);
+    return clientRepository.findAllWithContracts(after, size);
+  }
 }
@@ -0,0 +1,190 @@
+package com.vaudoise.api_factory.application.usecase.client;
+
+import com.vaudoise.api_factory.application.dto.request.ClientImportRow;
+import com.vaudoise.api_factory.application.dto.response.ClientImportReport;
+import com.vaudoise.api_factory.application.dto.response.ClientImportReport.RowResult;
+import com.vaudoise.api_factory.domain.exception.DuplicateEmailException;
+import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ClientType;
+import com.vaudoise.api_factory.domain.model.Company;
+import com.vaudoise.api_factory.domain.model.CompanyIdentifier;
+import com.vaudoise.api_factory.domain.model.Email;
+import com.vaudoise.api_factory.domain.model.Person;
+import com.vaudoise.api_factory.domain.model.PhoneNumber;
+import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bulk client import. Rows are validated as they stream in and written in chunks: each chunk checks
+ * uniqueness with one {@code IN} query per key and is inserted in a single batched transaction, so
+ * a failing chunk never undoes the chunks before it.
+ */
+@Service
+public class ImportClientsUseCase {
+  static final int CHUNK_SIZE = 500;
+
+  private final ClientRepository clientRepository;
+  private final CreateClientUseCase createClientUseCase;
+  private final Validator validator;
+
+  public ImportClientsUseCase(
+      ClientRepository clientRepository,
+      CreateClientUseCase createClientUseCase,
+      Validator validator) {
+    this.clientRepository = clientRepository;
+    this.createClientUseCase = createClientUseCase;
+    this.validator = validator;
+  }
+
+  public ClientImportReport execute(Stream<ClientImportRow> rows) {
+    List<RowResult> results = new ArrayList<>();
+    Set<String> importedEmails = new HashSet<>();
+    Set<String> importedIdentifiers = new HashSet<>();
+    List<Candidate> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    Iterator<ClientImportRow> iterator = rows.iterator();
+    while (iterator.hasNext()) {
+      ClientImportRow row = iterator.next();
+      List<String> errors = new ArrayList<>();
+      Client client = toClient(row, errors);
+      if (client == null) {
+        results.add(RowResult.rejected(row.line(), errors));
+        continue;
+      }
+      chunk.add(new Candidate(row.line(), client));
+      if (chunk.size() == CHUNK_SIZE) {
+        results.addAll(importChunk(chunk, importedEmails, importedIdentifiers));
+        chunk.clear();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      results.addAll(importChunk(chunk, importedEmails, importedIdentifiers));
+    }
+
+    results.sort(Comparator.comparingLong(RowResult::line));
+    return ClientImportReport.of(results);
+  }
+
+  private List<RowResult> importChunk(
+      List<Candidate> chunk, Set<String> importedEmails, Set<String> importedIdentifiers) {
+    Set<String> existingEmails =
+        clientRepository.findExistingEmails(
+            chunk.stream().map(c -> c.client().getEmail().value()).toList());
+    Set<String> existingIdentifiers =
+        clientRepository.findExistingCompanyIdentifiers(
+            chunk.stream()
+                .map(Candidate::client)
+                .filter(Company.class::isInstance)
+                .map(c -> ((Company) c).getCompanyIdentifier().value())
+                .toList());
+
+    List<RowResult> results = new ArrayList<>();
+    List<Candidate> accepted = new ArrayList<>();
+    for (Candidate candidate : chunk) {
+      String email = candidate.client().getEmail().value();
+      String identifier =
+          candidate.client() instanceof Company company
+              ? company.getCompanyIdentifier().value()
+              : null;
+      if (existingEmails.contains(email)) {
+        results.add(RowResult.rejected(candidate.line(), "Email already exists: " + email));
+      } else if (!importedEmails.add(email)) {
+        results.add(RowResult.rejected(candidate.line(), "Duplicate email in import: " + email));
+      } else if (identifier != null && existingIdentifiers.contains(identifier)) {
+        importedEmails.remove(email);
+        results.add(
+            RowResult.rejected(
+                candidate.line(), "Company identifier already exists: " + identifier));
+      } else if (identifier != null && !importedIdentifiers.add(identifier)) {
+        importedEmails.remove(email);
+        results.add(
+            RowResult.rejected(
+                candidate.line(), "Duplicate company identifier in import: " + identifier));
+      } else {
+        accepted.add(candidate);
+      }
+    }
+    if (accepted.isEmpty()) {
+      return results;
+    }
+
+    try {
+      List<Client> saved =
+          createClientUseCase.execute(accepted.stream().map(Candidate::client).toList());
+      for (int i = 0; i < accepted.size(); i++) {
+        results.add(RowResult.created(accepted.get(i).line(), saved.get(i).getId()));
+      }
+    } catch (DuplicateEmailException e) {
+      // A concurrent writer took one of the keys after our check; the whole chunk was rolled back
+      accepted.forEach(
+          c -> results.add(RowResult.rejected(c.line(), "Chunk rejected: " + e.getMessage())));
+    }
+    return results;
+  }
+
+  private Client toClient(ClientImportRow row, List<String> errors) {
+    if (row.parseError() != null) {
+      errors.add(row.parseError());
+      return null;
+    }
+    ClientType type = parseType(row.type());
+    if (type == null) {
+      errors.add("Type must be PERSON or COMPANY");
+      return null;
+    }
+
+    Set<? extends ConstraintViolation<?>> violations =
+        type == ClientType.PERSON
+            ? validator.validate(row.toPersonRequest())
+            : validator.validate(row.toCompanyRequest());
+    if (!violations.isEmpty()) {
+      violations.stream()
+          .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+          .sorted()
+          .forEach(errors::add);
+      return null;
+    }
+
+    try {
+      if (type == ClientType.PERSON) {
+        return new Person(
+            row.name(),
+            new Email(row.email()),
+            new PhoneNumber(row.phone()),
+            LocalDate.parse(row.birthDate()));
+      }
+      return new Company(
+          row.name(),
+          new Email(row.email()),
+          new PhoneNumber(row.phone()),
+          new CompanyIdentifier(row.companyIdentifier()));
+    } catch (RuntimeException e) {
+      errors.add(e.getMessage());
+      return null;
+    }
+  }
+
+  private static ClientType parseType(String type) {
+    if (type == null) {
+      return null;
+    }
+    try {
+      return ClientType.valueOf(type.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private record Candidate(long line, Client client) {}
+}
@@ -1,38 +1,48 @@
 package com.vaudoise.api_factory.application.usecase.client;
 
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
-import com.vaudoise.api_factory.domain.exception.DuplicateEmailException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
 import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import jakarta.transaction.Transactional;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 @Service
 public class UpdateClientUseCase {
 
   private final ClientRepository clientRepository;
+  private final ChangeEventRepository changeEventRepository;
 
-  public UpdateClientUseCase(ClientRepository clientRepository) {
+  public UpdateClientUseCase(
+      ClientRepository clientRepository, ChangeEventRepository changeEventRepository) {
     this.clientRepository = clientRepository;
+    this.changeEventRepository = changeEventRepository;
   }
 
+  @Transactional
+  @Caching(
+      evict = {
+        @CacheEvict(cacheNames = ClientCaches.CLIENTS, key = "#id"),
+        @CacheEvict(cacheNames = ClientCaches.CLIENTS_WITH_CONTRACTS, key = "#id")
+      })
   public Client execute(UUID id, Client updatedClient) {
     Client existingClient =
         clientRepository
             .findById(id)
             .orElseThrow(() -> new ClientNotFoundException("Client not found with id: " + id));
 
-    // Check if email is being changed and if the new email already exists
-    if (!existingClient.getEmail().value().equals(updatedClient.getEmail().value())
-        && clientRepository.existsByEmail(updatedClient.getEmail().value())) {
-      throw new DuplicateEmailException(
-          "Email already exists: " + updatedClient.getEmail().value());
-    }
-
-    // Update the client info
+    // Update the client info; a taken email is rejected by the unique constraint on save
     existingClient.updateInfo(
         updatedClient.getName(), updatedClient.getEmail(), updatedClient.getPhone());
 
-    return clientRepository.save(existingClient);
+    Client saved = clientRepository.save(existingClient);
+    changeEventRepository.append(List.of(NewChangeEvent.client(Operation.UPDATED, id)));
+    return saved;
   }
 }
@@ -0,0 +1,73 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import com.vaudoise.api_factory.domain.model.CostAdjustmentPreview;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.repository.ContractFilter;
+import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+/**
+ * Premium indexation: multiplies the cost of every active contract matching a filter. The update
+ * runs in chunks of contract ids, each chunk a single UPDATE in its own transaction, so a large
+ * indexation never locks the whole contracts table at once.
+ */
+@Service
+public class AdjustContractCostsUseCase {
+  static final int CHUNK_SIZE = 1000;
+
+  private final ContractRepository contractRepository;
+  private final UpdateContractCostUseCase updateContractCostUseCase;
+
+  public AdjustContractCostsUseCase(
+      ContractRepository contractRepository, UpdateContractCostUseCase updateContractCostUseCase) {
+    this.contractRepository = contractRepository;
+    this.updateContractCostUseCase = updateContractCostUseCase;
+  }
+
+  public Result execute(ContractFilter filter, BigDecimal multiplier, boolean dryRun) {
+    if (multiplier.signum() <= 0) {
+      throw new InvalidBusinessRuleException("Multiplier must be positive: " + multiplier);
+    }
+    CostAdjustmentPreview preview = contractRepository.previewCostAdjustment(filter, multiplier);
+    requireValidCosts(preview);
+    if (dryRun) {
+      return new Result(preview, 0);
+    }
+
+    long updated = 0;
+    UUID after = null;
+    List<UUID> chunk;
+    do {
+      chunk = contractRepository.findActiveContractIds(filter, after, CHUNK_SIZE);
+      if (!chunk.isEmpty()) {
+        updated += updateContractCostUseCase.execute(chunk, multiplier);
+        after = chunk.get(chunk.size() - 1);
+      }
+    } while (chunk.size() == CHUNK_SIZE);
+    return new Result(preview, updated);
+  }
+
+  private static void requireValidCosts(CostAdjustmentPreview preview) {
+    if (preview.matchedContracts() == 0) {
+      return;
+    }
+    try {
+      // Adjusted costs must still be valid Money, exactly as a single cost update would require
+      Money.chf(preview.minAdjustedCost());
+      Money.chf(preview.maxAdjustedCost());
+    } catch (IllegalArgumentException e) {
+      throw new InvalidBusinessRuleException(
+          "Adjustment would produce an invalid cost: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Outcome of an adjustment. The preview is computed before writing; {@code updatedContracts} is
+   * what the chunks actually changed, which can differ under concurrent writes.
+   */
+  public record Result(CostAdjustmentPreview preview, long updatedContracts) {}
+}
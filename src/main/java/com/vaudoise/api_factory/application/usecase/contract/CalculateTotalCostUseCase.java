@@ -1,38 +1,52 @@
 package com.vaudoise.api_factory.application.usecase.contract;
 
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
-import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.ClientCostTotal;
 import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
 import com.vaudoise.api_factory.domain.repository.ContractRepository;
-import com.vaudoise.api_factory.domain.service.ContractCostCalculator;
-import java.util.List;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional(readOnly = true)
 public class CalculateTotalCostUseCase {
 
   private final ContractRepository contractRepository;
   private final ClientRepository clientRepository;
-  private final ContractCostCalculator contractCostCalculator;
+  private final ClientCostTotalRepository clientCostTotalRepository;
 
   public CalculateTotalCostUseCase(
       ContractRepository contractRepository,
       ClientRepository clientRepository,
-      ContractCostCalculator contractCostCalculator) {
+      ClientCostTotalRepository clientCostTotalRepository) {
     this.contractRepository = contractRepository;
     this.clientRepository = clientRepository;
-    this.contractCostCalculator = contractCostCalculator;
+    this.clientCostTotalRepository = clientCostTotalRepository;
   }
 
-  public Money execute(UUID clientId) {
-    if (!clientRepository.findById(clientId).isPresent()) {
-      throw new ClientNotFoundException("Client not found with id: " + clientId);
+  /** Returns the total cost of the client's active contracts, empty when there are none. */
+  public Optional<Money> execute(UUID clientId) {
+    Optional<ClientCostTotal> maintained = clientCostTotalRepository.findByClientId(clientId);
+    if (maintained.isPresent()) {
+      return maintained.get().toMoney();
     }
 
-    List<Contract> activeContracts = contractRepository.findAllActiveContractsForClient(clientId);
+    // No maintained row: the client never had a contract written, or does not exist
+    if (!clientRepository.existsById(clientId)) {
+      throw new ClientNotFoundException("Client not found with id: " + clientId);
+    }
+    return contractRepository.getActiveContractsCostSum(clientId);
+  }
 
-    return contractCostCalculator.calculateTotalCost(activeContracts);
+  /** Returns the totals of all known clients among {@code clientIds}; unknown ids are absent. */
+  public Map<UUID, Optional<Money>> executeBatch(Collection<UUID> clientIds) {
+    return contractRepository.getActiveContractsCostSums(new LinkedHashSet<>(clientIds));
   }
 }
@@ -1,13 +1,24 @@
 package com.vaudoise.api_factory.application.usecase.contract;
 
+import com.vaudoise.api_factory.application.usecase.client.ClientCaches;
+import com.vaudoise.api_factory.domain.event.ContractActivity.ContractsCreated;
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
-import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
 import com.vaudoise.api_factory.domain.model.Contract;
 import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.domain.model.NewContract;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import com.vaudoise.api_factory.domain.repository.ContractCostHistoryRepository;
 import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import jakarta.transaction.Transactional;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,27 +26,43 @@ public class CreateContractUseCase {
 
   private final ContractRepository contractRepository;
   private final ClientRepository clientRepository;
+  private final ClientCostTotalRepository clientCostTotalRepository;
+  private final ContractCostHistoryRepository contractCostHistoryRepository;
+  private final ChangeEventRepository changeEventRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   public CreateContractUseCase(
-      ContractRepository contractRepository, ClientRepository clientRepository) {
+      ContractRepository contractRepository,
+      ClientRepository clientRepository,
+      ClientCostTotalRepository clientCostTotalRepository,
+      ContractCostHistoryRepository contractCostHistoryRepository,
+      ChangeEventRepository changeEventRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.contractRepository = contractRepository;
     this.clientRepository = clientRepository;
+    this.clientCostTotalRepository = clientCostTotalRepository;
+    this.contractCostHistoryRepository = contractCostHistoryRepository;
+    this.changeEventRepository = changeEventRepository;
+    this.eventPublisher = eventPublisher;
   }
 
+  @Transactional
+  @CacheEvict(cacheNames = ClientCaches.CLIENTS_WITH_CONTRACTS, key = "#clientId")
   public Contract execute(UUID clientId, Money costAmount, LocalDate startDate, LocalDate endDate) {
-    Client client =
-        clientRepository
-            .findById(clientId)
-            .orElseThrow(
-                () -> new ClientNotFoundException("Client not found with id: " + clientId));
-
-    Contract contract;
-    if (startDate != null || endDate != null) {
-      contract = new Contract(client, costAmount, startDate, endDate);
-    } else {
-      contract = new Contract(client, costAmount);
+    // Cached, unlike the client itself, which the insert links by id like the bulk path does
+    if (!clientRepository.existsById(clientId)) {
+      throw new ClientNotFoundException("Client not found with id: " + clientId);
     }
 
-    return contractRepository.save(contract);
+    Contract saved =
+        contractRepository.insert(new NewContract(clientId, costAmount, startDate, endDate));
+    contractCostHistoryRepository.recordCurrentCosts(List.of(saved.getId()));
+    if (saved.isActive()) {
+      clientCostTotalRepository.add(clientId, saved.getCostAmount().amount());
+    }
+    changeEventRepository.append(
+        List.of(NewChangeEvent.contract(Operation.CREATED, saved.getId(), clientId)));
+    eventPublisher.publishEvent(new ContractsCreated(clientId, List.of(saved.getId())));
+    return saved;
   }
 }
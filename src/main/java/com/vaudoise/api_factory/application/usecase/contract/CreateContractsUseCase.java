@@ -0,0 +1,104 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import com.vaudoise.api_factory.application.usecase.client.ClientCaches;
+import com.vaudoise.api_factory.domain.event.ContractActivity;
+import com.vaudoise.api_factory.domain.event.ContractActivity.ContractsCreated;
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.domain.model.NewContract;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
+import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import com.vaudoise.api_factory.domain.repository.ContractCostHistoryRepository;
+import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bulk contract creation. Contracts are inserted in chunks; each chunk checks that its clients
+ * exist with a single query and links the contracts to them by id only. The whole request is one
+ * transaction, so an unknown client rolls back every chunk.
+ */
+@Service
+public class CreateContractsUseCase {
+  static final int CHUNK_SIZE = 500;
+
+  private final ContractRepository contractRepository;
+  private final ClientRepository clientRepository;
+  private final ClientCostTotalRepository clientCostTotalRepository;
+  private final ContractCostHistoryRepository contractCostHistoryRepository;
+  private final ChangeEventRepository changeEventRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public CreateContractsUseCase(
+      ContractRepository contractRepository,
+      ClientRepository clientRepository,
+      ClientCostTotalRepository clientCostTotalRepository,
+      ContractCostHistoryRepository contractCostHistoryRepository,
+      ChangeEventRepository changeEventRepository,
+      ApplicationEventPublisher eventPublisher) {
+    this.contractRepository = contractRepository;
+    this.clientRepository = clientRepository;
+    this.clientCostTotalRepository = clientCostTotalRepository;
+    this.contractCostHistoryRepository = contractCostHistoryRepository;
+    this.changeEventRepository = changeEventRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Transactional
+  @CacheEvict(cacheNames = ClientCaches.CLIENTS_WITH_CONTRACTS, allEntries = true)
+  public List<UUID> execute(List<NewContract> contracts) {
+    List<UUID> ids = new ArrayList<>(contracts.size());
+    for (int from = 0; from < contracts.size(); from += CHUNK_SIZE) {
+      List<NewContract> chunk =
+          contracts.subList(from, Math.min(from + CHUNK_SIZE, contracts.size()));
+      requireClientsExist(chunk);
+      List<UUID> chunkIds = contractRepository.insertAll(chunk);
+      contractCostHistoryRepository.recordCurrentCosts(chunkIds);
+      ids.addAll(chunkIds);
+    }
+
+    // One delta per client, applied in id order so concurrent bulk requests lock totals alike
+    Map<UUID, BigDecimal> deltas = new TreeMap<>();
+    contracts.stream()
+        .filter(NewContract::isActive)
+        .forEach(c -> deltas.merge(c.clientId(), c.costAmount().amount(), BigDecimal::add));
+    deltas.forEach(clientCostTotalRepository::add);
+
+    // insertAll returns ids in input order
+    List<NewChangeEvent> events = new ArrayList<>(ids.size());
+    Map<UUID, UUID> clientIds = new LinkedHashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      events.add(
+          NewChangeEvent.contract(Operation.CREATED, ids.get(i), contracts.get(i).clientId()));
+      clientIds.put(ids.get(i), contracts.get(i).clientId());
+    }
+    changeEventRepository.append(events);
+    ContractActivity.contractsByClient(clientIds)
+        .forEach(
+            (clientId, created) ->
+                eventPublisher.publishEvent(new ContractsCreated(clientId, created)));
+    return ids;
+  }
+
+  private void requireClientsExist(List<NewContract> chunk) {
+    Set<UUID> missing = new LinkedHashSet<>();
+    chunk.forEach(contract -> missing.add(contract.clientId()));
+    missing.removeAll(clientRepository.findExistingIds(Set.copyOf(missing)));
+    if (!missing.isEmpty()) {
+      throw new ClientNotFoundException("Clients not found with ids: " + missing);
+    }
+  }
+}
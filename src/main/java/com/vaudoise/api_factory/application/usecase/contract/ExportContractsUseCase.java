@@ -0,0 +1,29 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import com.vaudoise.api_factory.domain.model.ContractExportRow;
+import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ExportContractsUseCase {
+
+  private final ContractRepository contractRepository;
+
+  public ExportContractsUseCase(ContractRepository contractRepository) {
+    this.contractRepository = contractRepository;
+  }
+
+  /**
+   * Hands every contract to {@code sink} in id order while the database cursor stays open, so
+   * memory use does not depend on the number of contracts.
+   */
+  @Transactional(readOnly = true)
+  public void export(Consumer<ContractExportRow> sink) {
+    try (Stream<ContractExportRow> rows = contractRepository.streamAll()) {
+      rows.forEach(sink);
+    }
+  }
+}
@@ -1,16 +1,22 @@
 package com.vaudoise.api_factory.application.usecase.contract;
 
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.model.ContentStamp;
 import com.vaudoise.api_factory.domain.model.Contract;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
 import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import com.vaudoise.api_factory.domain.repository.Cursor;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
+import com.vaudoise.api_factory.domain.repository.PageSize;
 import java.time.Instant;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional(readOnly = true)
 public class GetActiveContractsUseCase {
 
   private final ContractRepository contractRepository;
@@ -23,10 +29,29 @@ public class GetActiveContractsUseCase {
   }
 
   public Page<Contract> execute(UUID clientId, Instant updatedSince, Pageable pageable) {
-    if (!clientRepository.findById(clientId).isPresent()) {
+    if (!clientRepository.existsById(clientId)) {
       throw new ClientNotFoundException("Client not found with id: " + clientId);
     }
 
     return contractRepository.findActiveContractsForClient(clientId, updatedSince, pageable);
   }
+
+  public CursorPage<Contract> execute(UUID clientId, Instant updatedSince, Cursor after, int size) {
+    PageSize.validate(size);
+    if (!clientRepository.existsById(clientId)) {
+      throw new ClientNotFoundException("Client not found with id: " + clientId);
+    }
+
+    return contractRepository.findActiveContractsForClient(clientId, updatedSince, after, size);
+  }
+
+  /**
+   * Probe for conditional reads of the client's active contracts: the stamp of the client and all
+   * its contracts, which also covers the client name each contract carries.
+   */
+  public ContentStamp contentStamp(UUID clientId) {
+    return clientRepository
+        .findContentStampById(clientId)
+        .orElseThrow(() -> new ClientNotFoundException("Client not found with id: " + clientId));
+  }
 }
@@ -0,0 +1,38 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import com.vaudoise.api_factory.domain.model.ClientCostsAsOf;
+import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import com.vaudoise.api_factory.domain.repository.ContractCostHistoryRepository;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** What a client was paying on a past date, read from the contract cost history. */
+@Service
+@Transactional(readOnly = true)
+public class GetContractsAsOfUseCase {
+
+  private final ClientRepository clientRepository;
+  private final ContractCostHistoryRepository contractCostHistoryRepository;
+
+  public GetContractsAsOfUseCase(
+      ClientRepository clientRepository,
+      ContractCostHistoryRepository contractCostHistoryRepository) {
+    this.clientRepository = clientRepository;
+    this.contractCostHistoryRepository = contractCostHistoryRepository;
+  }
+
+  public ClientCostsAsOf execute(UUID clientId, LocalDate date) {
+    if (date.isAfter(LocalDate.now())) {
+      throw new InvalidBusinessRuleException("As-of date cannot be in the future: " + date);
+    }
+    if (!clientRepository.existsById(clientId)) {
+      throw new ClientNotFoundException("Client not found with id: " + clientId);
+    }
+    return new ClientCostsAsOf(
+        clientId, date, contractCostHistoryRepository.findActiveContractCostsAsOf(clientId, date));
+  }
+}
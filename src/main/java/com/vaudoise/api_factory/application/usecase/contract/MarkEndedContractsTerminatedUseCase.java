@@ -0,0 +1,25 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import java.time.LocalDate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Marks contracts that reached their end date without being written as terminated. Contracts ended
+ * through the API are marked when they are saved; this catches the ones that simply ran out, so
+ * that active-contract reads stop scanning them.
+ */
+@Service
+public class MarkEndedContractsTerminatedUseCase {
+
+  private final ContractRepository contractRepository;
+
+  public MarkEndedContractsTerminatedUseCase(ContractRepository contractRepository) {
+    this.contractRepository = contractRepository;
+  }
+
+  /** Marks the contracts that ended on or before {@code today} and returns how many there were. */
+  public int execute(LocalDate today) {
+    return contractRepository.markEndedContractsTerminated(today);
+  }
+}
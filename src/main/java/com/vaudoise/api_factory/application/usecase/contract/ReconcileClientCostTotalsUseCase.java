@@ -0,0 +1,41 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import com.vaudoise.api_factory.domain.model.CostTotalDrift;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/** Keeps the maintained per-client cost totals in line with the contracts table. */
+@Service
+public class ReconcileClientCostTotalsUseCase {
+
+  private final ClientCostTotalRepository clientCostTotalRepository;
+
+  public ReconcileClientCostTotalsUseCase(ClientCostTotalRepository clientCostTotalRepository) {
+    this.clientCostTotalRepository = clientCostTotalRepository;
+  }
+
+  /**
+   * Drops contracts that stopped being active from their client's total. Every client with a
+   * contract ending in the last {@code lookbackDays} days is recomputed, so a missed run is caught
+   * up by the next one.
+   *
+   * @return the number of clients recomputed
+   */
+  public int expireEndedContracts(LocalDate today, int lookbackDays) {
+    return clientCostTotalRepository.recomputeForContractsEndedBetween(
+        today.minusDays(lookbackDays), today);
+  }
+
+  public List<CostTotalDrift> findDrift() {
+    return clientCostTotalRepository.findDrift();
+  }
+
+  /** Recomputes every drifting client and returns what was found before the repair. */
+  public List<CostTotalDrift> repairDrift() {
+    List<CostTotalDrift> drift = clientCostTotalRepository.findDrift();
+    drift.forEach(d -> clientCostTotalRepository.recompute(d.clientId()));
+    return drift;
+  }
+}
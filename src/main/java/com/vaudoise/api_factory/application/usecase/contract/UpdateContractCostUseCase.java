@@ -1,29 +1,125 @@
 package com.vaudoise.api_factory.application.usecase.contract;
 
+import com.vaudoise.api_factory.application.usecase.client.ClientCaches;
+import com.vaudoise.api_factory.domain.event.ContractActivity;
+import com.vaudoise.api_factory.domain.event.ContractActivity.ContractCostsUpdated;
+import com.vaudoise.api_factory.domain.exception.ContractModifiedException;
 import com.vaudoise.api_factory.domain.exception.ContractNotFoundException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
 import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.ContractCostChange;
 import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
+import com.vaudoise.api_factory.domain.repository.ContractCostHistoryRepository;
 import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
 public class UpdateContractCostUseCase {
 
   private final ContractRepository contractRepository;
+  private final ClientCostTotalRepository clientCostTotalRepository;
+  private final ContractCostHistoryRepository contractCostHistoryRepository;
+  private final ChangeEventRepository changeEventRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public UpdateContractCostUseCase(ContractRepository contractRepository) {
+  public UpdateContractCostUseCase(
+      ContractRepository contractRepository,
+      ClientCostTotalRepository clientCostTotalRepository,
+      ContractCostHistoryRepository contractCostHistoryRepository,
+      ChangeEventRepository changeEventRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.contractRepository = contractRepository;
+    this.clientCostTotalRepository = clientCostTotalRepository;
+    this.contractCostHistoryRepository = contractCostHistoryRepository;
+    this.changeEventRepository = changeEventRepository;
+    this.eventPublisher = eventPublisher;
   }
 
-  public Contract execute(UUID contractId, Money newCost) {
+  /**
+   * Sets the contract's cost. The contract is read once, usually from the second-level cache, and
+   * written with a single UPDATE conditional on its version.
+   *
+   * @param expectedVersion version the caller based the change on, or {@code null} to accept any
+   * @throws ContractModifiedException if the contract is not, or no longer, at the expected version
+   */
+  @Transactional
+  @CacheEvict(
+      cacheNames = ClientCaches.CLIENTS_WITH_CONTRACTS,
+      key = "#result.contract().client.id")
+  public ContractCostChange execute(UUID contractId, Money newCost, Long expectedVersion) {
     Contract contract =
         contractRepository
             .findById(contractId)
             .orElseThrow(
                 () -> new ContractNotFoundException("Contract not found with id: " + contractId));
+    if (expectedVersion != null && !expectedVersion.equals(contract.getVersion())) {
+      throw new ContractModifiedException(
+          "Contract "
+              + contractId
+              + " is at version "
+              + contract.getVersion()
+              + ", not "
+              + expectedVersion);
+    }
 
+    Instant previousUpdateDate = contract.getUpdateDate();
+    BigDecimal previousAmount = contract.getCostAmount().amount();
     contract.updateCost(newCost);
-    return contractRepository.save(contract);
+    Contract saved = contractRepository.save(contract);
+
+    BigDecimal delta = newCost.amount().subtract(previousAmount);
+    if (delta.signum() != 0) {
+      contractCostHistoryRepository.recordCurrentCosts(List.of(contractId));
+      if (saved.isActive()) {
+        clientCostTotalRepository.add(saved.getClient().getId(), delta);
+      }
+    }
+    // The save moved the version on even when the cost stayed the same
+    UUID clientId = saved.getClient().getId();
+    changeEventRepository.append(
+        List.of(NewChangeEvent.contract(Operation.UPDATED, contractId, clientId)));
+    eventPublisher.publishEvent(new ContractCostsUpdated(clientId, List.of(contractId)));
+    return new ContractCostChange(saved, previousUpdateDate);
+  }
+
+  /**
+   * Multiplies the cost of the given contracts that are still active and refreshes their clients'
+   * totals, all in one transaction.
+   *
+   * @return the number of contracts whose cost changed
+   */
+  @Transactional
+  @CacheEvict(cacheNames = ClientCaches.CLIENTS_WITH_CONTRACTS, allEntries = true)
+  public int execute(Collection<UUID> contractIds, BigDecimal multiplier) {
+    int updated = contractRepository.multiplyCosts(contractIds, multiplier);
+    if (updated > 0) {
+      // A contract the multiplier left unchanged may get a row repeating its cost, which no as-of
+      // answer can tell apart from the row before it
+      contractCostHistoryRepository.recordCurrentCosts(contractIds);
+      clientCostTotalRepository.recomputeForContracts(contractIds);
+      // Every given contract is announced, changed or not: an event only asks to re-read it
+      Map<UUID, UUID> clientIds = contractRepository.findClientIds(contractIds);
+      changeEventRepository.append(
+          clientIds.entrySet().stream()
+              .map(c -> NewChangeEvent.contract(Operation.UPDATED, c.getKey(), c.getValue()))
+              .toList());
+      ContractActivity.contractsByClient(clientIds)
+          .forEach(
+              (clientId, adjusted) ->
+                  eventPublisher.publishEvent(new ContractCostsUpdated(clientId, adjusted)));
+    }
+    return updated;
   }
 }
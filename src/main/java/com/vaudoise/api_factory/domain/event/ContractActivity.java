@@ -0,0 +1,49 @@
+package com.vaudoise.api_factory.domain.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A change to one client's contracts, published in-process by the use case making it. The change is
+ * only final once its transaction commits, so listeners should react after the commit.
+ */
+public sealed interface ContractActivity {
+
+  UUID clientId();
+
+  /** Contracts created for the client. */
+  record ContractsCreated(UUID clientId, List<UUID> contractIds) implements ContractActivity {
+    public ContractsCreated {
+      Objects.requireNonNull(clientId, "Client id cannot be null");
+      contractIds = List.copyOf(contractIds);
+    }
+  }
+
+  /** Contracts of the client whose cost was set or adjusted. */
+  record ContractCostsUpdated(UUID clientId, List<UUID> contractIds) implements ContractActivity {
+    public ContractCostsUpdated {
+      Objects.requireNonNull(clientId, "Client id cannot be null");
+      contractIds = List.copyOf(contractIds);
+    }
+  }
+
+  /** The client was deleted, and its contracts with it. */
+  record ClientDeleted(UUID clientId) implements ContractActivity {
+    public ClientDeleted {
+      Objects.requireNonNull(clientId, "Client id cannot be null");
+    }
+  }
+
+  /** Groups contract ids by their client, in the iteration order of {@code clientIds}. */
+  static Map<UUID, List<UUID>> contractsByClient(Map<UUID, UUID> clientIds) {
+    Map<UUID, List<UUID>> byClient = new LinkedHashMap<>();
+    clientIds.forEach(
+        (contractId, clientId) ->
+            byClient.computeIfAbsent(clientId, id -> new ArrayList<>()).add(contractId));
+    return byClient;
+  }
+}
@@ -0,0 +1,8 @@
+package com.vaudoise.api_factory.domain.exception;
+
+/** Thrown when a contract changed since the version a write was based on. */
+public class ContractModifiedException extends RuntimeException {
+  public ContractModifiedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,30 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A committed change to a client or contract, as served by the change feed. Events name what
+ * changed rather than carry its state: a consumer re-reads the client or contract, or drops it on a
+ * {@link Operation#DELETED} tombstone. A client tombstone also stands for the client's contracts,
+ * which are deleted with it.
+ */
+public record ChangeEvent(
+    long sequence,
+    EntityType entityType,
+    Operation operation,
+    UUID entityId,
+    UUID clientId,
+    Instant occurredAt) {
+
+  public enum EntityType {
+    CLIENT,
+    CONTRACT
+  }
+
+  public enum Operation {
+    CREATED,
+    UPDATED,
+    DELETED
+  }
+}
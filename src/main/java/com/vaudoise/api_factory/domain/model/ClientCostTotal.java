@@ -0,0 +1,22 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/** Maintained sum of a client's active contract costs. The amount may be zero. */
+public record ClientCostTotal(UUID clientId, BigDecimal amount, Currency currency) {
+
+  public ClientCostTotal {
+    Objects.requireNonNull(clientId, "Client id cannot be null");
+    Objects.requireNonNull(amount, "Amount cannot be null");
+    Objects.requireNonNull(currency, "Currency cannot be null");
+  }
+
+  /** Returns the total as {@link Money}, empty when the client has no active contract. */
+  public Optional<Money> toMoney() {
+    return amount.signum() > 0 ? Optional.of(new Money(amount, currency)) : Optional.empty();
+  }
+}
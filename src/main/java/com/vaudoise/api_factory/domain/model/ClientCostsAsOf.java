@@ -0,0 +1,15 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/** The contracts a client had active on {@code date}, priced as they were on that day. */
+public record ClientCostsAsOf(UUID clientId, LocalDate date, List<ContractCostAsOf> contracts) {
+
+  /** Total cost on {@code date}; empty when the client had no active contract. */
+  public Optional<Money> totalCost() {
+    return contracts.stream().map(ContractCostAsOf::cost).reduce(Money::add);
+  }
+}
@@ -0,0 +1,19 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Flat, read-only view of a client as written by the export endpoints. {@code birthDate} is only
+ * set for persons and {@code companyIdentifier} only for companies.
+ */
+public record ClientExportRow(
+    UUID id,
+    ClientType type,
+    String name,
+    String email,
+    String phone,
+    LocalDate birthDate,
+    String companyIdentifier,
+    Instant createdAt) {}
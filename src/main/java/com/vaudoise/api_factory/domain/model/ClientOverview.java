@@ -0,0 +1,8 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+
+/** A client with a page of its active contracts and the total cost of all of them. */
+public record ClientOverview(
+    Client client, Page<Contract> activeContracts, Optional<Money> totalCost) {}
@@ -0,0 +1,22 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * When the rows behind a representation last changed, plus a mark that moves whenever one of them
+ * is deleted: deleting a row leaves the newest {@code updated_at} of the others as it was. The mark
+ * is a row count where counting is cheap and a deletion counter where it is not.
+ */
+public record ContentStamp(Instant lastModified, long deletionMark) {
+
+  public ContentStamp {
+    Objects.requireNonNull(lastModified, "Last modification cannot be null");
+  }
+
+  /** Stamp of rows whose newest update times are {@code a} and {@code b}, either possibly null. */
+  public static ContentStamp of(Instant a, Instant b, long deletionMark) {
+    Instant newest = a == null ? b : b == null || a.isAfter(b) ? a : b;
+    return new ContentStamp(newest != null ? newest : Instant.EPOCH, deletionMark);
+  }
+}
@@ -18,6 +18,7 @@ public class Contract {
   private Instant updateDate;
   private Instant createdAt;
   private String name;
+  private Long version;
 
   public Contract() {
     this.createdAt = Instant.now();
@@ -128,6 +129,15 @@ public class Contract {
     this.updateDate = updateDate;
   }
 
+  /** Optimistic-lock version of the stored contract; {@code null} until it is first saved. */
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
   public String getName() {
     return name;
   }
@@ -0,0 +1,8 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** A contract as it stood on a past date, with the cost it had then. */
+public record ContractCostAsOf(
+    UUID contractId, LocalDate startDate, LocalDate endDate, Money cost) {}
@@ -0,0 +1,11 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.time.Instant;
+
+/** A contract after a cost update, with the update date it had before. */
+public record ContractCostChange(Contract contract, Instant previousUpdateDate) {
+
+  public boolean updateDateChanged() {
+    return !previousUpdateDate.equals(contract.getUpdateDate());
+  }
+}
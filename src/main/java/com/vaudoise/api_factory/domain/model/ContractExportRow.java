@@ -0,0 +1,17 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** Flat, read-only view of a contract as written by the export endpoints. */
+public record ContractExportRow(
+    UUID id,
+    UUID clientId,
+    LocalDate startDate,
+    LocalDate endDate,
+    BigDecimal costAmount,
+    String costCurrency,
+    Instant createdAt,
+    Instant updatedAt) {}
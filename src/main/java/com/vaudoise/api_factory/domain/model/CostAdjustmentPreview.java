@@ -0,0 +1,16 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregate effect of multiplying the cost of a set of contracts. {@code changedContracts} counts
+ * the contracts whose rounded cost actually differs; the adjusted bounds are {@code null} when
+ * nothing matches.
+ */
+public record CostAdjustmentPreview(
+    long matchedContracts,
+    long changedContracts,
+    BigDecimal totalBefore,
+    BigDecimal totalAfter,
+    BigDecimal minAdjustedCost,
+    BigDecimal maxAdjustedCost) {}
@@ -0,0 +1,7 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/** A client whose maintained cost total differs from the sum of its active contracts. */
+public record CostTotalDrift(UUID clientId, BigDecimal storedTotal, BigDecimal actualTotal) {}
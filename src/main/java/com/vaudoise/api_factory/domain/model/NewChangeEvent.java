@@ -0,0 +1,26 @@
+package com.vaudoise.api_factory.domain.model;
+
+import com.vaudoise.api_factory.domain.model.ChangeEvent.EntityType;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
+import java.util.Objects;
+import java.util.UUID;
+
+/** A change event to be appended to the feed, which numbers it on append. */
+public record NewChangeEvent(
+    EntityType entityType, Operation operation, UUID entityId, UUID clientId) {
+
+  public NewChangeEvent {
+    Objects.requireNonNull(entityType, "Entity type cannot be null");
+    Objects.requireNonNull(operation, "Operation cannot be null");
+    Objects.requireNonNull(entityId, "Entity id cannot be null");
+    Objects.requireNonNull(clientId, "Client id cannot be null");
+  }
+
+  public static NewChangeEvent client(Operation operation, UUID clientId) {
+    return new NewChangeEvent(EntityType.CLIENT, operation, clientId, clientId);
+  }
+
+  public static NewChangeEvent contract(Operation operation, UUID contractId, UUID clientId) {
+    return new NewChangeEvent(EntityType.CONTRACT, operation, contractId, clientId);
+  }
+}
@@ -0,0 +1,26 @@
+package com.vaudoise.api_factory.domain.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A contract to be inserted for a client known only by id. Used by bulk writes, which link the
+ * contract to its client by reference instead of loading the client.
+ */
+public record NewContract(UUID clientId, Money costAmount, LocalDate startDate, LocalDate endDate) {
+
+  public NewContract {
+    Objects.requireNonNull(clientId, "Client id cannot be null");
+    Objects.requireNonNull(costAmount, "Cost amount cannot be null");
+    startDate = startDate != null ? startDate : LocalDate.now();
+    if (endDate != null && endDate.isBefore(startDate)) {
+      throw new IllegalArgumentException(
+          "End date cannot be before start date: start=" + startDate + ", end=" + endDate);
+    }
+  }
+
+  public boolean isActive() {
+    return endDate == null || endDate.isAfter(LocalDate.now());
+  }
+}
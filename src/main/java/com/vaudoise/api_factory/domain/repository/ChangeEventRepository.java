@@ -0,0 +1,23 @@
+package com.vaudoise.api_factory.domain.repository;
+
+import com.vaudoise.api_factory.domain.model.ChangeEvent;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import java.util.List;
+
+/**
+ * Transactional outbox of client and contract changes. Writers append in the same transaction as
+ * the change itself, so an event becomes visible exactly when its change is committed.
+ */
+public interface ChangeEventRepository {
+
+  /**
+   * Appends the events under the next sequence numbers. Numbering locks the feed until the
+   * transaction ends, so events commit in sequence order and without gaps: a reader that has seen a
+   * sequence number has seen every number below it. Writers append as their last statement to keep
+   * that lock short.
+   */
+  void append(List<NewChangeEvent> events);
+
+  /** Returns up to {@code limit} events numbered after {@code after}, in sequence order. */
+  List<ChangeEvent> findAfter(long after, int limit);
+}
@@ -0,0 +1,43 @@
+package com.vaudoise.api_factory.domain.repository;
+
+import com.vaudoise.api_factory.domain.model.ClientCostTotal;
+import com.vaudoise.api_factory.domain.model.CostTotalDrift;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read model holding one active-cost total per client. Writers keep it current in the same
+ * transaction as the contract change; contracts that expire are removed by a nightly recompute.
+ */
+public interface ClientCostTotalRepository {
+  Optional<ClientCostTotal> findByClientId(UUID clientId);
+
+  /** Atomically adds {@code delta} (which may be negative) to the client's total. */
+  void add(UUID clientId, BigDecimal delta);
+
+  /** Replaces the client's total with the sum of its currently active contracts. */
+  void recompute(UUID clientId);
+
+  /**
+   * Recomputes every client with a contract whose end date lies in {@code (from, to]}.
+   *
+   * @return the number of clients recomputed
+   */
+  int recomputeForContractsEndedBetween(LocalDate from, LocalDate to);
+
+  /**
+   * Recomputes, with a constant number of statements, the totals of every client owning one of
+   * {@code contractIds}. Used after set-based contract updates.
+   */
+  void recomputeForContracts(Collection<UUID> contractIds);
+
+  /** Removes the totals of the given clients with a single statement. */
+  void deleteByClientIds(Collection<UUID> clientIds);
+
+  /** Compares every stored total against the live contracts table. */
+  List<CostTotalDrift> findDrift();
+}
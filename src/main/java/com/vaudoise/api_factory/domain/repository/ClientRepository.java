@@ -1,27 +1,85 @@
 package com.vaudoise.api_factory.domain.repository;
 
 import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ClientExportRow;
+import com.vaudoise.api_factory.domain.model.ContentStamp;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface ClientRepository {
   Optional<Client> findById(UUID id);
 
+  boolean existsById(UUID id);
+
+  /** Returns the subset of {@code ids} that belong to existing clients, in one query. */
+  Set<UUID> findExistingIds(Collection<UUID> ids);
+
+  /**
+   * Inserts or updates the client without checking for duplicates first.
+   *
+   * @throws com.vaudoise.api_factory.domain.exception.DuplicateEmailException if the email or
+   *     company identifier belongs to another client
+   */
   Client save(Client client);
 
+  /** Inserts all clients in one transaction using JDBC batching; the result keeps input order. */
+  List<Client> saveAll(List<Client> clients);
+
+  /**
+   * Deletes the client with one statement; its contracts go with it through the foreign key.
+   *
+   * @throws com.vaudoise.api_factory.domain.exception.ClientNotFoundException if it does not exist
+   */
   void deleteById(UUID id);
 
+  /**
+   * Set-based variant of {@link #deleteById}: deletes all given clients with one statement, and the
+   * foreign key's {@code ON DELETE CASCADE} removes their contracts. Unknown ids are ignored. Since
+   * Hibernate does not see the cascaded rows, the cached contracts are evicted afterwards.
+   *
+   * @return the number of clients deleted
+   */
+  int deleteAllById(Collection<UUID> ids);
+
   Optional<Client> findByIdWithContracts(UUID id);
 
   Page<Client> findAllWithContracts(Pageable pageable);
 
+  CursorPage<Client> findAllWithContracts(Cursor after, int limit);
+
   Page<Client> findAll(Pageable pageable);
 
+  /**
+   * Returns the newest update of the client and its contracts with the number of contracts, in one
+   * query that loads neither; empty when the client does not exist.
+   */
+  Optional<ContentStamp> findContentStampById(UUID id);
+
+  /**
+   * Returns the newest update across all clients and contracts with the number of clients deleted
+   * so far, which a deletion changes without any remaining row being updated.
+   */
+  ContentStamp findContentStampOfAll();
+
   Optional<Client> findByEmail(String email);
 
   boolean existsByEmail(String email);
 
   boolean existsByCompanyIdentifier(String identifier);
+
+  Set<String> findExistingEmails(Collection<String> emails);
+
+  Set<String> findExistingCompanyIdentifiers(Collection<String> identifiers);
+
+  /**
+   * Streams every client ordered by id without holding them in memory. The stream must be closed
+   * and consumed inside the transaction that opened it.
+   */
+  Stream<ClientExportRow> streamAll();
 }
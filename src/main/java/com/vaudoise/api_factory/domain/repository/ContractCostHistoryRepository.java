@@ -0,0 +1,26 @@
+package com.vaudoise.api_factory.domain.repository;
+
+import com.vaudoise.api_factory.domain.model.ContractCostAsOf;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Append-only history of contract costs. Writers record a contract's cost in the same transaction
+ * as every change to it, so the history answers what was paid on any past day.
+ */
+public interface ContractCostHistoryRepository {
+
+  /**
+   * Records the current cost of each contract as valid from its last update. Must run after the
+   * contracts were written; recording the same state twice adds nothing.
+   */
+  void recordCurrentCosts(Collection<UUID> contractIds);
+
+  /**
+   * Returns the client's contracts that were active on {@code date}, each with the cost it had at
+   * the end of that day, using a single query.
+   */
+  List<ContractCostAsOf> findActiveContractCostsAsOf(UUID clientId, LocalDate date);
+}
@@ -0,0 +1,32 @@
+package com.vaudoise.api_factory.domain.repository;
+
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import com.vaudoise.api_factory.domain.model.ClientType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Criteria selecting active contracts for set-based operations. Every criterion is optional; cost
+ * and start-date bounds are inclusive.
+ */
+public record ContractFilter(
+    ClientType clientType,
+    BigDecimal minCost,
+    BigDecimal maxCost,
+    LocalDate startDateFrom,
+    LocalDate startDateTo) {
+
+  /** Matches every active contract. */
+  public static final ContractFilter ALL = new ContractFilter(null, null, null, null, null);
+
+  public ContractFilter {
+    if (minCost != null && maxCost != null && minCost.compareTo(maxCost) > 0) {
+      throw new InvalidBusinessRuleException(
+          "Minimum cost cannot exceed maximum cost: min=" + minCost + ", max=" + maxCost);
+    }
+    if (startDateFrom != null && startDateTo != null && startDateFrom.isAfter(startDateTo)) {
+      throw new InvalidBusinessRuleException(
+          "Start date window is empty: from=" + startDateFrom + ", to=" + startDateTo);
+    }
+  }
+}
@@ -1,25 +1,96 @@
 package com.vaudoise.api_factory.domain.repository;
 
 import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.ContractExportRow;
+import com.vaudoise.api_factory.domain.model.CostAdjustmentPreview;
 import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.NewContract;
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface ContractRepository {
+  /**
+   * Inserts the contract, or updates it if the stored row still has the contract's version. The
+   * result carries the new version and the stored update date.
+   *
+   * @throws com.vaudoise.api_factory.domain.exception.ContractModifiedException if the contract was
+   *     changed since its version was read
+   */
   Contract save(Contract contract);
 
+  /**
+   * Inserts one contract without loading its client, which must exist. The result carries the
+   * generated id and version.
+   */
+  Contract insert(NewContract contract);
+
+  /**
+   * Inserts the contracts in JDBC batches without loading their clients, which must exist. Returns
+   * the generated ids in input order.
+   */
+  List<UUID> insertAll(List<NewContract> contracts);
+
   Optional<Contract> findById(UUID id);
 
   Page<Contract> findActiveContractsForClient(
       UUID clientId, Instant updatedSince, Pageable pageable);
 
+  CursorPage<Contract> findActiveContractsForClient(
+      UUID clientId, Instant updatedSince, Cursor after, int limit);
+
   List<Contract> findAllActiveContractsForClient(UUID clientId);
 
   Page<Contract> findAllContractsForClient(UUID clientId, Pageable pageable);
 
-  Money getActiveContractsCostSum(UUID clientId);
+  /** Sums the active contract costs of a client; empty when the client has no active contract. */
+  Optional<Money> getActiveContractsCostSum(UUID clientId);
+
+  /**
+   * Sums the active contract costs of several clients in a single query. Unknown clients are absent
+   * from the result; known clients without active contracts map to an empty total.
+   */
+  Map<UUID, Optional<Money>> getActiveContractsCostSums(Collection<UUID> clientIds);
+
+  /**
+   * Computes, without writing, what multiplying the cost of every active contract matching {@code
+   * filter} by {@code multiplier} would do. Adjusted costs are rounded like {@link Money}.
+   */
+  CostAdjustmentPreview previewCostAdjustment(ContractFilter filter, BigDecimal multiplier);
+
+  /** Returns up to {@code limit} ids of matching active contracts after {@code after}, by id. */
+  List<UUID> findActiveContractIds(ContractFilter filter, UUID after, int limit);
+
+  /**
+   * Multiplies the cost of the given contracts that are still active in one statement, rounding
+   * like {@link Money}. Contracts whose rounded cost would not change are left untouched.
+   *
+   * @return the number of contracts changed
+   */
+  int multiplyCosts(Collection<UUID> contractIds, BigDecimal multiplier);
+
+  /** Returns the client id of each of the given contracts that exists, keyed by contract id. */
+  Map<UUID, UUID> findClientIds(Collection<UUID> contractIds);
+
+  /**
+   * Marks contracts whose end date is on or before {@code today} as terminated, which moves them
+   * out of the storage that active-contract queries read.
+   *
+   * @return the number of contracts marked
+   */
+  int markEndedContractsTerminated(LocalDate today);
+
+  /**
+   * Streams every contract ordered by id without holding them in memory. The stream must be closed
+   * and consumed inside the transaction that opened it.
+   */
+  Stream<ContractExportRow> streamAll();
 }
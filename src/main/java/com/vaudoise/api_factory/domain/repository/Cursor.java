@@ -0,0 +1,54 @@
+package com.vaudoise.api_factory.domain.repository;
+
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keyset (seek) pagination position: the {@code (created_at, id)} pair of the last row returned.
+ * Exposed to API consumers as an opaque URL-safe token.
+ */
+public record Cursor(Instant createdAt, UUID id) {
+
+  /** Position before the first row, used to fetch the first page. */
+  public static final Cursor FIRST = new Cursor(Instant.EPOCH, new UUID(0L, 0L));
+
+  private static final String SEPARATOR = "|";
+
+  public Cursor {
+    Objects.requireNonNull(createdAt, "Cursor timestamp cannot be null");
+    Objects.requireNonNull(id, "Cursor id cannot be null");
+    // The database stores timestamps with microsecond precision
+    createdAt = createdAt.truncatedTo(ChronoUnit.MICROS);
+  }
+
+  public String encode() {
+    String raw = createdAt + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static Cursor decode(String token) {
+    if (token == null || token.isBlank()) {
+      throw new InvalidBusinessRuleException("Pagination cursor cannot be empty");
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new InvalidBusinessRuleException("Invalid pagination cursor: " + token);
+      }
+      return new Cursor(
+          Instant.parse(raw.substring(0, separator)),
+          UUID.fromString(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidBusinessRuleException("Invalid pagination cursor: " + token, e);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.vaudoise.api_factory.domain.repository;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page fetched with keyset pagination. {@code nextCursor} is {@code null} on the last page.
+ *
+ * @param <T> the element type
+ */
+public record CursorPage<T>(List<T> content, Cursor nextCursor) {
+
+  public CursorPage {
+    content = List.copyOf(content);
+  }
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+
+  public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+    return new CursorPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+  }
+}
@@ -0,0 +1,22 @@
+package com.vaudoise.api_factory.domain.repository;
+
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+
+/** Bounds on the number of rows a client may request in one page. */
+public final class PageSize {
+
+  /** Largest page served; bigger result sets go through the export endpoints instead. */
+  public static final int MAX = 100;
+
+  private PageSize() {}
+
+  public static int validate(int size) {
+    if (size < 1) {
+      throw new InvalidBusinessRuleException("Page size must be at least 1");
+    }
+    if (size > MAX) {
+      throw new InvalidBusinessRuleException("Page size must be at most " + MAX);
+    }
+    return size;
+  }
+}
@@ -0,0 +1,43 @@
+package com.vaudoise.api_factory.infrastructure.actuator;
+
+import com.vaudoise.api_factory.application.usecase.contract.ReconcileClientCostTotalsUseCase;
+import com.vaudoise.api_factory.domain.model.CostTotalDrift;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consistency checker for the maintained cost totals, exposed at {@code /actuator/costtotals}. A
+ * GET compares every stored total with the live contracts table; a POST recomputes the drifting
+ * clients.
+ */
+@Component
+@Endpoint(id = "costtotals")
+public class ClientCostTotalsEndpoint {
+
+  private final ReconcileClientCostTotalsUseCase reconcileClientCostTotalsUseCase;
+
+  public ClientCostTotalsEndpoint(
+      ReconcileClientCostTotalsUseCase reconcileClientCostTotalsUseCase) {
+    this.reconcileClientCostTotalsUseCase = reconcileClientCostTotalsUseCase;
+  }
+
+  @ReadOperation
+  public ConsistencyReport check() {
+    return ConsistencyReport.of(reconcileClientCostTotalsUseCase.findDrift(), false);
+  }
+
+  @WriteOperation
+  public ConsistencyReport repair() {
+    return ConsistencyReport.of(reconcileClientCostTotalsUseCase.repairDrift(), true);
+  }
+
+  public record ConsistencyReport(
+      boolean consistent, int driftCount, boolean repaired, List<CostTotalDrift> drift) {
+    static ConsistencyReport of(List<CostTotalDrift> drift, boolean repaired) {
+      return new ConsistencyReport(drift.isEmpty(), drift.size(), repaired, drift);
+    }
+  }
+}
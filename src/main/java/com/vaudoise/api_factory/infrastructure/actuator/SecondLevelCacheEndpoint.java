@@ -0,0 +1,59 @@
+package com.vaudoise.api_factory.infrastructure.actuator;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate second-level cache counters per region, exposed at {@code /actuator/l2cache}. A GET
+ * reports hits, misses and puts since startup; a POST empties every region.
+ */
+@Component
+@Endpoint(id = "l2cache")
+public class SecondLevelCacheEndpoint {
+
+  private final SessionFactory sessionFactory;
+
+  public SecondLevelCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+  }
+
+  @ReadOperation
+  public CacheReport regions() {
+    Statistics statistics = sessionFactory.getStatistics();
+    List<RegionReport> regions =
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+            .sorted()
+            .map(name -> RegionReport.of(name, statistics.getDomainDataRegionStatistics(name)))
+            .toList();
+    return new CacheReport(statistics.isStatisticsEnabled(), regions);
+  }
+
+  @WriteOperation
+  public CacheReport evictAll() {
+    sessionFactory.getCache().evictAllRegions();
+    return regions();
+  }
+
+  public record CacheReport(boolean statisticsEnabled, List<RegionReport> regions) {}
+
+  public record RegionReport(
+      String region, long hitCount, long missCount, long putCount, double hitRatio) {
+    static RegionReport of(String region, CacheRegionStatistics statistics) {
+      long lookups = statistics.getHitCount() + statistics.getMissCount();
+      return new RegionReport(
+          region,
+          statistics.getHitCount(),
+          statistics.getMissCount(),
+          statistics.getPutCount(),
+          lookups == 0 ? 0 : (double) statistics.getHitCount() / lookups);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.vaudoise.api_factory.infrastructure.config;
+
+import com.vaudoise.api_factory.application.usecase.client.ClientCaches;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bounded in-memory caches for client reads, sized and expired through {@code app.cache.spec}
+ * (Caffeine specification syntax). Evictions requested inside a transaction are applied after it
+ * commits, so a concurrent read cannot cache the pre-commit state once the entry is gone.
+ *
+ * <p>The caches are created up front so Micrometer binds their statistics as {@code cache.gets},
+ * {@code cache.puts} and {@code cache.evictions}; the specification must include {@code
+ * recordStats}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  @Bean
+  public CacheManager cacheManager(
+      @Value("${app.cache.spec:maximumSize=10000,expireAfterWrite=60s,recordStats}") String spec) {
+    CaffeineCacheManager caffeine =
+        new CaffeineCacheManager(
+            ClientCaches.CLIENTS, ClientCaches.CLIENTS_WITH_CONTRACTS, ClientCaches.EXISTS);
+    caffeine.setCacheSpecification(spec);
+    caffeine.setAllowNullValues(false);
+    return new TransactionAwareCacheManagerProxy(caffeine);
+  }
+}
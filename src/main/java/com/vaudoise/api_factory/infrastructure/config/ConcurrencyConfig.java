@@ -0,0 +1,19 @@
+package com.vaudoise.api_factory.infrastructure.config;
+
+import com.vaudoise.api_factory.infrastructure.persistence.routing.PrimaryReadContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the per-request {@link PrimaryReadContext} pin over to tasks forked onto other threads,
+ * both by the application task executor and by use cases that fan out their reads.
+ */
+@Configuration
+public class ConcurrencyConfig {
+
+  @Bean
+  public TaskDecorator primaryReadContextPropagator() {
+    return PrimaryReadContext::propagate;
+  }
+}
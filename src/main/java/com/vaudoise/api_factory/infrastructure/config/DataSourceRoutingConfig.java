@@ -0,0 +1,63 @@
+package com.vaudoise.api_factory.infrastructure.config;
+
+import com.vaudoise.api_factory.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the single {@code spring.datasource} pool with a primary pool plus one read-only pool
+ * per configured replica. Enable with {@code app.datasource.routing.enabled=true}. Routing relies
+ * on {@link JpaConfig} releasing the connection after each transaction.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+  @Bean
+  public ReplicaRoutingDataSource replicaRoutingDataSource(
+      DataSourceProperties primaryProperties, DataSourceRoutingProperties routing) {
+    HikariDataSource primary =
+        primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    primary.setPoolName("primary");
+
+    List<HikariDataSource> replicas = new ArrayList<>();
+    for (DataSourceRoutingProperties.Replica replica : routing.replicas()) {
+      HikariDataSource pool =
+          DataSourceBuilder.create()
+              .type(HikariDataSource.class)
+              .driverClassName(primaryProperties.determineDriverClassName())
+              .url(replica.url())
+              .username(
+                  replica.username() != null
+                      ? replica.username()
+                      : primaryProperties.determineUsername())
+              .password(
+                  replica.password() != null
+                      ? replica.password()
+                      : primaryProperties.determinePassword())
+              .build();
+      pool.setPoolName("replica-" + replicas.size());
+      pool.setReadOnly(true);
+      replicas.add(pool);
+    }
+    return new ReplicaRoutingDataSource(primary, replicas);
+  }
+
+  /** Defers the routing decision until the transaction's first statement. */
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+  }
+}
@@ -0,0 +1,24 @@
+package com.vaudoise.api_factory.infrastructure.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replicas used for read-only transactions, bound from {@code app.datasource.routing}. A
+ * replica without credentials reuses those of the primary {@code spring.datasource}.
+ *
+ * @param stickyWindow how long after a write a client presenting its consistency token keeps
+ *     reading from the primary; should exceed the usual replication lag
+ */
+@ConfigurationProperties("app.datasource.routing")
+public record DataSourceRoutingProperties(
+    boolean enabled, Duration stickyWindow, List<Replica> replicas) {
+
+  public DataSourceRoutingProperties {
+    stickyWindow = stickyWindow != null ? stickyWindow : Duration.ofSeconds(5);
+    replicas = replicas != null ? List.copyOf(replicas) : List.of();
+  }
+
+  public record Replica(String url, String username, String password) {}
+}
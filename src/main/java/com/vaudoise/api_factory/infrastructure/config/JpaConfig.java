@@ -0,0 +1,25 @@
+package com.vaudoise.api_factory.infrastructure.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Returns the connection to the pool after every transaction. The session stays open for the whole
+ * request (open session in view), and by default it would keep its first connection until the
+ * response is written: a long-polling change feed consumer would hold one for the entire wait, and
+ * with replica routing a later transaction would reuse whichever pool the first one chose.
+ */
+@Configuration
+public class JpaConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+    return properties ->
+        properties.put(
+            AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+  }
+}
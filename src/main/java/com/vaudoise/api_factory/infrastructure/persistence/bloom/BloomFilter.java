@@ -0,0 +1,94 @@
+package com.vaudoise.api_factory.infrastructure.persistence.bloom;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings. {@link #mightContain} never answers {@code false} for a
+ * key that was {@link #put}; it answers {@code true} for an absent key with a probability that
+ * grows as bits fill up, see {@link #expectedFalsePositiveRate()}.
+ */
+public final class BloomFilter {
+
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final long SEED_1 = 0xcbf29ce484222325L;
+  private static final long SEED_2 = 0x9e3779b97f4a7c15L;
+
+  private final AtomicLongArray words;
+  private final long bitSize;
+  private final int hashCount;
+  private final AtomicLong bitCount = new AtomicLong();
+
+  /** Sizes the filter for {@code expectedInsertions} keys at {@code falsePositiveRate}. */
+  public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions < 1) {
+      throw new IllegalArgumentException("Expected insertions must be at least 1");
+    }
+    if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+      throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+    }
+    double ln2 = Math.log(2);
+    long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+    this.words = new AtomicLongArray(Math.toIntExact((bits + 63) / 64));
+    this.bitSize = words.length() * 64L;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+  }
+
+  public void put(String key) {
+    long h1 = hash(key, SEED_1);
+    long h2 = hash(key, SEED_2);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitSize);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+      if ((words.get(word) & mask) == 0
+          && (words.getAndAccumulate(word, mask, (a, b) -> a | b) & mask) == 0) {
+        bitCount.incrementAndGet();
+      }
+    }
+  }
+
+  public boolean mightContain(String key) {
+    long h1 = hash(key, SEED_1);
+    long h2 = hash(key, SEED_2);
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitSize);
+      if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Probability that an absent key is reported present, given the share of bits set so far. */
+  public double expectedFalsePositiveRate() {
+    return Math.pow((double) bitCount.get() / bitSize, hashCount);
+  }
+
+  public long memoryBytes() {
+    return words.length() * (long) Long.BYTES;
+  }
+
+  public long bitSize() {
+    return bitSize;
+  }
+
+  public int hashCount() {
+    return hashCount;
+  }
+
+  /** Seeded FNV-1a over the UTF-16 chars, finished with the MurmurHash3 64-bit mixer. */
+  private static long hash(String key, long seed) {
+    long h = seed;
+    for (int i = 0; i < key.length(); i++) {
+      h ^= key.charAt(i);
+      h *= FNV_PRIME;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,173 @@
+package com.vaudoise.api_factory.infrastructure.persistence.bloom;
+
+import com.vaudoise.api_factory.infrastructure.persistence.repository.JpaClientRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bloom filters of the stored emails and company identifiers, letting uniqueness checks skip the
+ * database when a key was definitely never written. The filters are loaded once the application is
+ * ready and fed by every save; until loaded, every check goes to the database.
+ *
+ * <p>Keys are never removed, so a deleted client only costs a false positive. Writes this instance
+ * cannot see (other instances) can yield a wrong negative, which the unique constraints catch on
+ * insert.
+ */
+@Component
+public class ClientKeyFilter implements MeterBinder {
+
+  private static final Logger log = LoggerFactory.getLogger(ClientKeyFilter.class);
+
+  private final JpaClientRepository springRepo;
+  private final Keys emails;
+  private final Keys companyIdentifiers;
+  private volatile boolean loaded;
+
+  public ClientKeyFilter(
+      JpaClientRepository springRepo,
+      @Value("${app.clients.key-filter.expected-insertions:1000000}") long expectedInsertions,
+      @Value("${app.clients.key-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+    this.springRepo = springRepo;
+    this.emails = new Keys("email", new BloomFilter(expectedInsertions, falsePositiveRate));
+    this.companyIdentifiers =
+        new Keys("company_identifier", new BloomFilter(expectedInsertions, falsePositiveRate));
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void load() {
+    try (Stream<String> stored = springRepo.streamAllEmails()) {
+      stored.forEach(emails.filter::put);
+    }
+    try (Stream<String> stored = springRepo.streamAllCompanyIdentifiers()) {
+      stored.forEach(companyIdentifiers.filter::put);
+    }
+    loaded = true;
+    log.info(
+        "Loaded the client key filters, {} bytes each, email false-positive rate {}",
+        emails.filter.memoryBytes(),
+        emails.filter.expectedFalsePositiveRate());
+  }
+
+  /** Whether {@code email} is stored, asking {@code probe} unless the filter rules it out. */
+  public boolean emailExists(String email, Predicate<String> probe) {
+    return emails.exists(email, probe);
+  }
+
+  /** Same as {@link #emailExists} for company identifiers. */
+  public boolean companyIdentifierExists(String identifier, Predicate<String> probe) {
+    return companyIdentifiers.exists(identifier, probe);
+  }
+
+  /** The stored subset of {@code emails}, asking {@code probe} only about possible matches. */
+  public Set<String> existingEmails(
+      Collection<String> emails, Function<Collection<String>, List<String>> probe) {
+    return this.emails.existing(emails, probe);
+  }
+
+  /** Same as {@link #existingEmails} for company identifiers. */
+  public Set<String> existingCompanyIdentifiers(
+      Collection<String> identifiers, Function<Collection<String>, List<String>> probe) {
+    return companyIdentifiers.existing(identifiers, probe);
+  }
+
+  public void addEmail(String email) {
+    emails.filter.put(email);
+  }
+
+  public void addCompanyIdentifier(String identifier) {
+    companyIdentifiers.filter.put(identifier);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    emails.bindTo(registry);
+    companyIdentifiers.bindTo(registry);
+  }
+
+  private final class Keys {
+    private final String name;
+    private final BloomFilter filter;
+    private final AtomicLong negatives = new AtomicLong();
+    private final AtomicLong positives = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    private Keys(String name, BloomFilter filter) {
+      this.name = name;
+      this.filter = filter;
+    }
+
+    private boolean exists(String key, Predicate<String> probe) {
+      if (!loaded) {
+        return probe.test(key);
+      }
+      if (!filter.mightContain(key)) {
+        negatives.incrementAndGet();
+        return false;
+      }
+      boolean exists = probe.test(key);
+      (exists ? positives : falsePositives).incrementAndGet();
+      return exists;
+    }
+
+    private Set<String> existing(
+        Collection<String> keys, Function<Collection<String>, List<String>> probe) {
+      if (!loaded) {
+        return new HashSet<>(probe.apply(keys));
+      }
+      List<String> distinct = keys.stream().distinct().toList();
+      List<String> candidates = distinct.stream().filter(filter::mightContain).toList();
+      negatives.addAndGet(distinct.size() - candidates.size());
+      if (candidates.isEmpty()) {
+        return Set.of();
+      }
+      Set<String> found = new HashSet<>(probe.apply(candidates));
+      positives.addAndGet(found.size());
+      falsePositives.addAndGet(candidates.size() - found.size());
+      return found;
+    }
+
+    private void bindTo(MeterRegistry registry) {
+      Gauge.builder(
+              "clients.key.filter.false.positive.rate",
+              filter,
+              BloomFilter::expectedFalsePositiveRate)
+          .description("False-positive rate expected from the share of bits set")
+          .tag("key", name)
+          .register(registry);
+      Gauge.builder("clients.key.filter.memory", filter, BloomFilter::memoryBytes)
+          .baseUnit(BaseUnits.BYTES)
+          .tag("key", name)
+          .register(registry);
+      check(registry, "negative", negatives);
+      check(registry, "positive", positives);
+      check(registry, "false_positive", falsePositives);
+    }
+
+    private void check(MeterRegistry registry, String result, AtomicLong count) {
+      FunctionCounter.builder("clients.key.filter.checks", count, AtomicLong::get)
+          .description("Uniqueness checks by filter outcome; negatives skip the database")
+          .tag("key", name)
+          .tag("result", result)
+          .register(registry);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.vaudoise.api_factory.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+
+/** One row of the change feed outbox, numbered from {@link ChangeFeedHeadEntity}. */
+@Entity
+@Table(name = "change_events")
+public class ChangeEventEntity {
+
+  @Id
+  @Column(name = "sequence_number")
+  private Long sequence;
+
+  @Column(name = "entity_type", nullable = false, length = 16)
+  private String entityType;
+
+  @Column(nullable = false, length = 16)
+  private String operation;
+
+  @Column(name = "entity_id", nullable = false, columnDefinition = "uuid")
+  private UUID entityId;
+
+  @Column(name = "client_id", nullable = false, columnDefinition = "uuid")
+  private UUID clientId;
+
+  @Column(name = "occurred_at", nullable = false)
+  private Instant occurredAt;
+
+  public Long getSequence() {
+    return sequence;
+  }
+
+  public void setSequence(Long sequence) {
+    this.sequence = sequence;
+  }
+
+  public String getEntityType() {
+    return entityType;
+  }
+
+  public void setEntityType(String entityType) {
+    this.entityType = entityType;
+  }
+
+  public String getOperation() {
+    return operation;
+  }
+
+  public void setOperation(String operation) {
+    this.operation = operation;
+  }
+
+  public UUID getEntityId() {
+    return entityId;
+  }
+
+  public void setEntityId(UUID entityId) {
+    this.entityId = entityId;
+  }
+
+  public UUID getClientId() {
+    return clientId;
+  }
+
+  public void setClientId(UUID clientId) {
+    this.clientId = clientId;
+  }
+
+  public Instant getOccurredAt() {
+    return occurredAt;
+  }
+
+  public void setOccurredAt(Instant occurredAt) {
+    this.occurredAt = occurredAt;
+  }
+}
@@ -0,0 +1,32 @@
+package com.vaudoise.api_factory.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+
+/** The single row holding the last sequence number handed out to a change event. */
+@Entity
+@Table(name = "change_feed_head")
+public class ChangeFeedHeadEntity {
+
+  public static final short ID = 1;
+
+  @Id private Short id;
+
+  @Column(name = "last_sequence", nullable = false)
+  private long lastSequence;
+
+  public Short getId() {
+    return id;
+  }
+
+  public void setId(Short id) {
+    this.id = id;
+  }
+
+  public long getLastSequence() {
+    return lastSequence;
+  }
+
+  public void setLastSequence(long lastSequence) {
+    this.lastSequence = lastSequence;
+  }
+}
@@ -0,0 +1,56 @@
+package com.vaudoise.api_factory.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "client_cost_totals")
+public class ClientCostTotalEntity {
+
+  @Id
+  @Column(name = "client_id", columnDefinition = "uuid")
+  private UUID clientId;
+
+  @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+  private BigDecimal totalAmount;
+
+  @Column(nullable = false, length = 3)
+  private String currency;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+
+  public UUID getClientId() {
+    return clientId;
+  }
+
+  public void setClientId(UUID clientId) {
+    this.clientId = clientId;
+  }
+
+  public BigDecimal getTotalAmount() {
+    return totalAmount;
+  }
+
+  public void setTotalAmount(BigDecimal totalAmount) {
+    this.totalAmount = totalAmount;
+  }
+
+  public String getCurrency() {
+    return currency;
+  }
+
+  public void setCurrency(String currency) {
+    this.currency = currency;
+  }
+
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(Instant updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
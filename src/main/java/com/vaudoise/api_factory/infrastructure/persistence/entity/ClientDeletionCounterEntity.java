@@ -0,0 +1,32 @@
+package com.vaudoise.api_factory.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+
+/** The single row counting the clients deleted so far, the list's deletion watermark. */
+@Entity
+@Table(name = "client_deletion_counter")
+public class ClientDeletionCounterEntity {
+
+  public static final short ID = 1;
+
+  @Id private Short id;
+
+  @Column(name = "deleted_clients", nullable = false)
+  private long deletedClients;
+
+  public Short getId() {
+    return id;
+  }
+
+  public void setId(Short id) {
+    this.id = id;
+  }
+
+  public long getDeletedClients() {
+    return deletedClients;
+  }
+
+  public void setDeletedClients(long deletedClients) {
+    this.deletedClients = deletedClients;
+  }
+}
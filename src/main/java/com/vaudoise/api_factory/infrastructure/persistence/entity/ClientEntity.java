@@ -1,26 +1,37 @@
 package com.vaudoise.api_factory.infrastructure.persistence.entity;
 
+import com.vaudoise.api_factory.infrastructure.persistence.id.UuidV7;
 import jakarta.persistence.*;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "clients")
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "client_type", discriminatorType = DiscriminatorType.STRING)
-@Table(name = "clients")
+@Table(
+    name = "clients",
+    uniqueConstraints = {
+      @UniqueConstraint(name = "uk_clients_email", columnNames = "email"),
+      @UniqueConstraint(name = "uk_clients_company_identifier", columnNames = "company_identifier")
+    })
 public abstract class ClientEntity {
 
   @Id
   @Column(columnDefinition = "uuid")
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @UuidV7
   private UUID id;
 
   @Column(nullable = false)
   private String name;
 
-  @Column(nullable = false, unique = true)
+  @Column(nullable = false)
   private String email;
 
   @Column(nullable = false)
@@ -31,6 +42,7 @@ public abstract class ClientEntity {
       cascade = CascadeType.ALL,
       orphanRemoval = true,
       fetch = FetchType.LAZY)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "client-contracts")
   private List<ContractEntity> contracts = new ArrayList<>();
 
   @Column(name = "created_at", nullable = false, updatable = false)
@@ -97,7 +109,8 @@ public abstract class ClientEntity {
 
   @PrePersist
   protected void onCreate() {
-    createdAt = Instant.now();
+    // Stored with microsecond precision; keep the managed copy identical so keyset cursors match.
+    createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
     updatedAt = Instant.now();
   }
 
@@ -0,0 +1,85 @@
+package com.vaudoise.api_factory.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/** One cost of a contract, in force from {@code validFrom} until the contract's next row. */
+@Entity
+@IdClass(ContractCostHistoryEntity.Key.class)
+@Table(name = "contract_cost_history")
+public class ContractCostHistoryEntity {
+
+  @Id
+  @Column(name = "contract_id", columnDefinition = "uuid")
+  private UUID contractId;
+
+  @Id
+  @Column(name = "valid_from")
+  private Instant validFrom;
+
+  @Column(name = "cost_amount", nullable = false, precision = 19, scale = 2)
+  private BigDecimal costAmount;
+
+  @Column(name = "cost_currency", nullable = false, length = 3)
+  private String costCurrency;
+
+  public UUID getContractId() {
+    return contractId;
+  }
+
+  public void setContractId(UUID contractId) {
+    this.contractId = contractId;
+  }
+
+  public Instant getValidFrom() {
+    return validFrom;
+  }
+
+  public void setValidFrom(Instant validFrom) {
+    this.validFrom = validFrom;
+  }
+
+  public BigDecimal getCostAmount() {
+    return costAmount;
+  }
+
+  public void setCostAmount(BigDecimal costAmount) {
+    this.costAmount = costAmount;
+  }
+
+  public String getCostCurrency() {
+    return costCurrency;
+  }
+
+  public void setCostCurrency(String costCurrency) {
+    this.costCurrency = costCurrency;
+  }
+
+  public static class Key implements Serializable {
+    private UUID contractId;
+    private Instant validFrom;
+
+    public Key() {}
+
+    public Key(UUID contractId, Instant validFrom) {
+      this.contractId = contractId;
+      this.validFrom = validFrom;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Key other
+          && Objects.equals(contractId, other.contractId)
+          && Objects.equals(validFrom, other.validFrom);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(contractId, validFrom);
+    }
+  }
+}
@@ -1,22 +1,38 @@
 package com.vaudoise.api_factory.infrastructure.persistence.entity;
 
+import com.vaudoise.api_factory.infrastructure.persistence.id.UuidV7;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
+// Cached with the clients' contracts collection, which only holds ids; uncached elements would be
+// reloaded one row at a time
 @Entity
-@Table(name = "contracts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "contracts")
+@Table(
+    name = "contracts",
+    indexes =
+        @Index(
+            name = "idx_contracts_client_end_date_updated_at",
+            columnList = "client_id, end_date, updated_at"))
 public class ContractEntity {
 
   @Id
   @Column(columnDefinition = "uuid")
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @UuidV7
   private UUID id;
 
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "client_id", nullable = false)
+  @OnDelete(action = OnDeleteAction.CASCADE)
   private ClientEntity client;
 
   @Column(name = "start_date", nullable = false)
@@ -37,6 +53,18 @@ public class ContractEntity {
   @Column(name = "updated_at", nullable = false)
   private Instant updatedAt;
 
+  // Partition key (V9): active-contract queries filter on it so that only the active partition is
+  // scanned. Derived from the end date on every write; see ContractPartitionMaintenanceJob for
+  // contracts that end without being written.
+  @Column(name = "terminated", nullable = false)
+  private boolean terminated;
+
+  // Every UPDATE is conditional on the version read, so a concurrent write fails instead of being
+  // silently overwritten
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
+
   public UUID getId() {
     return id;
   }
@@ -101,14 +129,38 @@ public class ContractEntity {
     this.updatedAt = updatedAt;
   }
 
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
+  public boolean isTerminated() {
+    return terminated;
+  }
+
+  public void setTerminated(boolean terminated) {
+    this.terminated = terminated;
+  }
+
   @PrePersist
   protected void onCreate() {
-    createdAt = Instant.now();
-    updatedAt = Instant.now();
+    // Stored with microsecond precision; keep the managed copy identical so keyset cursors match.
+    createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    terminated = hasEnded();
   }
 
   @PreUpdate
   protected void onUpdate() {
-    updatedAt = Instant.now();
+    // The database keeps an updated_at the statement sets itself (V7), so this is what gets stored
+    updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    terminated = hasEnded();
+  }
+
+  private boolean hasEnded() {
+    return endDate != null && !endDate.isAfter(LocalDate.now());
   }
 }
@@ -61,6 +61,9 @@ public class ClientMapper {
             new PhoneNumber(entity.getPhone()),
             entity.getBirthdate());
     person.setId(entity.getId());
+    if (entity.getCreatedAt() != null) {
+      person.setCreatedAt(entity.getCreatedAt());
+    }
 
     return person;
   }
@@ -73,7 +76,35 @@ public class ClientMapper {
             new PhoneNumber(entity.getPhone()),
             new CompanyIdentifier(entity.getCompanyIdentifier()));
     company.setId(entity.getId());
+    if (entity.getCreatedAt() != null) {
+      company.setCreatedAt(entity.getCreatedAt());
+    }
 
     return company;
   }
+
+  public ClientExportRow toExportRow(ClientEntity entity) {
+    if (entity instanceof PersonEntity person) {
+      return new ClientExportRow(
+          person.getId(),
+          ClientType.PERSON,
+          person.getName(),
+          person.getEmail(),
+          person.getPhone(),
+          person.getBirthdate(),
+          null,
+          person.getCreatedAt());
+    } else if (entity instanceof CompanyEntity company) {
+      return new ClientExportRow(
+          company.getId(),
+          ClientType.COMPANY,
+          company.getName(),
+          company.getEmail(),
+          company.getPhone(),
+          null,
+          company.getCompanyIdentifier(),
+          company.getCreatedAt());
+    }
+    throw new IllegalArgumentException("Unknown JPA entity type: " + entity.getClass());
+  }
 }
@@ -3,6 +3,7 @@ package com.vaudoise.api_factory.infrastructure.persistence.mapper;
 import com.vaudoise.api_factory.domain.model.Client;
 import com.vaudoise.api_factory.domain.model.Contract;
 import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.NewContract;
 import com.vaudoise.api_factory.infrastructure.persistence.entity.ClientEntity;
 import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractEntity;
 import org.hibernate.Hibernate;
@@ -16,20 +17,36 @@ public class ContractMapper {
     this.clientMapper = clientMapper;
   }
 
-  public ContractEntity to(Contract contract) {
+  /**
+   * Maps a contract onto a new entity linked to {@code client}, which is expected to be a reference
+   * obtained by id so that writing the contract never touches the client row.
+   */
+  public ContractEntity to(Contract contract, ClientEntity client) {
     if (contract == null) {
       return null;
     }
     ContractEntity entity = new ContractEntity();
     entity.setId(contract.getId());
-    ClientEntity clientEntity = clientMapper.to(contract.getClient());
-    entity.setClient(clientEntity);
+    entity.setClient(client);
     entity.setStartDate(contract.getStartDate());
     entity.setEndDate(contract.getEndDate().orElse(null));
     entity.setCostAmount(contract.getCostAmount().amount());
     entity.setCostCurrency(contract.getCostAmount().currency().getCurrencyCode());
     entity.setCreatedAt(contract.getCreatedAt());
     entity.setUpdatedAt(contract.getUpdateDate());
+    entity.setVersion(contract.getVersion());
+    // Matches the stored flag unless the contract has ended, so merging it never dirties the row
+    entity.setTerminated(!contract.isActive());
+    return entity;
+  }
+
+  public ContractEntity to(NewContract contract, ClientEntity client) {
+    ContractEntity entity = new ContractEntity();
+    entity.setClient(client);
+    entity.setStartDate(contract.startDate());
+    entity.setEndDate(contract.endDate());
+    entity.setCostAmount(contract.costAmount().amount());
+    entity.setCostCurrency(contract.costAmount().currency().getCurrencyCode());
     return entity;
   }
 
@@ -47,6 +64,7 @@ public class ContractMapper {
     contract.setId(entity.getId());
     contract.setCreatedAt(entity.getCreatedAt());
     contract.setUpdateDate(entity.getUpdatedAt());
+    contract.setVersion(entity.getVersion());
     return contract;
   }
 }
@@ -0,0 +1,74 @@
+package com.vaudoise.api_factory.infrastructure.persistence.repository;
+
+import com.vaudoise.api_factory.domain.model.ChangeEvent;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ChangeEventEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ChangeFeedHeadEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ChangeEventRepositoryImpl implements ChangeEventRepository {
+
+  private final JpaChangeEventRepository springRepo;
+  private final EntityManager entityManager;
+
+  public ChangeEventRepositoryImpl(
+      JpaChangeEventRepository springRepo, EntityManager entityManager) {
+    this.springRepo = springRepo;
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  @Transactional
+  public void append(List<NewChangeEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    // Locked until commit: the next writer numbers its events only once ours are visible
+    ChangeFeedHeadEntity head =
+        entityManager.find(
+            ChangeFeedHeadEntity.class, ChangeFeedHeadEntity.ID, LockModeType.PESSIMISTIC_WRITE);
+    long sequence = head.getLastSequence();
+    Instant now = Instant.now();
+    for (NewChangeEvent event : events) {
+      // Persisted rather than saved: the assigned id would make save() merge, selecting first
+      entityManager.persist(toEntity(++sequence, event, now));
+    }
+    head.setLastSequence(sequence);
+  }
+
+  @Override
+  public List<ChangeEvent> findAfter(long after, int limit) {
+    return springRepo.findAfter(after, PageRequest.ofSize(limit)).stream()
+        .map(ChangeEventRepositoryImpl::toDomain)
+        .toList();
+  }
+
+  private static ChangeEventEntity toEntity(long sequence, NewChangeEvent event, Instant now) {
+    ChangeEventEntity entity = new ChangeEventEntity();
+    entity.setSequence(sequence);
+    entity.setEntityType(event.entityType().name());
+    entity.setOperation(event.operation().name());
+    entity.setEntityId(event.entityId());
+    entity.setClientId(event.clientId());
+    entity.setOccurredAt(now);
+    return entity;
+  }
+
+  private static ChangeEvent toDomain(ChangeEventEntity entity) {
+    return new ChangeEvent(
+        entity.getSequence(),
+        ChangeEvent.EntityType.valueOf(entity.getEntityType()),
+        ChangeEvent.Operation.valueOf(entity.getOperation()),
+        entity.getEntityId(),
+        entity.getClientId(),
+        entity.getOccurredAt());
+  }
+}
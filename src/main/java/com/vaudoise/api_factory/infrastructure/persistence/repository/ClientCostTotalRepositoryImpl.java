@@ -0,0 +1,129 @@
+package com.vaudoise.api_factory.infrastructure.persistence.repository;
+
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.model.ClientCostTotal;
+import com.vaudoise.api_factory.domain.model.CostTotalDrift;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ClientCostTotalEntity;
+import jakarta.transaction.Transactional;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ClientCostTotalRepositoryImpl implements ClientCostTotalRepository {
+  private static final String DEFAULT_CURRENCY = "CHF";
+
+  private final JpaClientCostTotalRepository springRepo;
+  private final JpaClientRepository clientRepo;
+  private final JpaContractRepository contractRepo;
+
+  public ClientCostTotalRepositoryImpl(
+      JpaClientCostTotalRepository springRepo,
+      JpaClientRepository clientRepo,
+      JpaContractRepository contractRepo) {
+    this.springRepo = springRepo;
+    this.clientRepo = clientRepo;
+    this.contractRepo = contractRepo;
+  }
+
+  @Override
+  public Optional<ClientCostTotal> findByClientId(UUID clientId) {
+    return springRepo
+        .findById(clientId)
+        .map(
+            entity ->
+                new ClientCostTotal(
+                    entity.getClientId(),
+                    entity.getTotalAmount(),
+                    Currency.getInstance(entity.getCurrency())));
+  }
+
+  @Override
+  @Transactional
+  public void add(UUID clientId, BigDecimal delta) {
+    if (springRepo.addToTotal(clientId, delta, Instant.now()) == 0) {
+      // No row yet (client created after the backfill): seed it from the contracts table
+      recompute(clientId);
+    }
+  }
+
+  @Override
+  @Transactional
+  public void recompute(UUID clientId) {
+    // Lock the total before summing so a concurrent delta is either included or applied after us
+    ClientCostTotalEntity total =
+        springRepo.findByIdForUpdate(clientId).orElseGet(() -> newTotal(clientId));
+    BigDecimal sum = contractRepo.findActiveContractsCostSumByClientId(clientId, LocalDate.now());
+    total.setTotalAmount(sum != null ? sum : BigDecimal.ZERO);
+    total.setUpdatedAt(Instant.now());
+    springRepo.save(total);
+  }
+
+  @Override
+  @Transactional
+  public int recomputeForContractsEndedBetween(LocalDate from, LocalDate to) {
+    List<UUID> clientIds = contractRepo.findClientIdsWithContractsEndedBetween(from, to);
+    clientIds.forEach(this::recompute);
+    return clientIds.size();
+  }
+
+  @Override
+  @Transactional
+  public void recomputeForContracts(Collection<UUID> contractIds) {
+    if (contractIds.isEmpty()) {
+      return;
+    }
+    List<UUID> clientIds = contractRepo.findClientIdsByContractIds(contractIds);
+    if (clientIds.isEmpty()) {
+      return;
+    }
+    // Same lock-then-sum order as recompute(), taken in client-id order for all rows at once
+    springRepo.findAllByIdForUpdate(clientIds);
+    springRepo.recomputeTotals(clientIds, LocalDate.now(), Instant.now());
+  }
+
+  @Override
+  @Transactional
+  public void deleteByClientIds(Collection<UUID> clientIds) {
+    if (!clientIds.isEmpty()) {
+      springRepo.deleteByClientIds(clientIds);
+    }
+  }
+
+  @Override
+  public List<CostTotalDrift> findDrift() {
+    return springRepo.findDrift(LocalDate.now()).stream()
+        .map(
+            row ->
+                new CostTotalDrift(
+                    row.getClientId(), orZero(row.getStoredTotal()), orZero(row.getActualTotal())))
+        .toList();
+  }
+
+  private ClientCostTotalEntity newTotal(UUID clientId) {
+    // Serialise the first write for a client on its row, then re-check for a concurrent insert
+    clientRepo
+        .findByIdForUpdate(clientId)
+        .orElseThrow(() -> new ClientNotFoundException("Client not found with id: " + clientId));
+    return springRepo
+        .findByIdForUpdate(clientId)
+        .orElseGet(
+            () -> {
+              ClientCostTotalEntity entity = new ClientCostTotalEntity();
+              entity.setClientId(clientId);
+              entity.setCurrency(DEFAULT_CURRENCY);
+              return entity;
+            });
+  }
+
+  private static BigDecimal orZero(BigDecimal amount) {
+    return amount != null ? amount : BigDecimal.ZERO;
+  }
+}
@@ -1,38 +1,60 @@
 package com.vaudoise.api_factory.infrastructure.persistence.repository;
 
+import com.vaudoise.api_factory.application.usecase.client.ClientCaches;
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
 import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ClientExportRow;
+import com.vaudoise.api_factory.domain.model.ContentStamp;
 import com.vaudoise.api_factory.domain.model.Contract;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import com.vaudoise.api_factory.domain.repository.Cursor;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
+import com.vaudoise.api_factory.infrastructure.persistence.bloom.ClientKeyFilter;
 import com.vaudoise.api_factory.infrastructure.persistence.entity.ClientEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.CompanyEntity;
 import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractEntity;
 import com.vaudoise.api_factory.infrastructure.persistence.mapper.ClientMapper;
 import com.vaudoise.api_factory.infrastructure.persistence.mapper.ContractMapper;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
-import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class ClientRepositoryImpl implements ClientRepository {
   private final JpaClientRepository springRepo;
-  private final JpaContractRepository contractRepo;
   private final ClientMapper mapper;
   private final ContractMapper contractMapper;
+  private final EntityManager entityManager;
+  private final ClientKeyFilter keyFilter;
 
   public ClientRepositoryImpl(
       JpaClientRepository springRepo,
-      JpaContractRepository contractRepo,
       ClientMapper mapper,
-      ContractMapper contractMapper) {
+      ContractMapper contractMapper,
+      EntityManager entityManager,
+      ClientKeyFilter keyFilter) {
     this.springRepo = springRepo;
-    this.contractRepo = contractRepo;
     this.mapper = mapper;
     this.contractMapper = contractMapper;
+    this.entityManager = entityManager;
+    this.keyFilter = keyFilter;
   }
 
   @Override
@@ -40,28 +62,74 @@ public class ClientRepositoryImpl implements ClientRepository {
     return springRepo.findById(id).map(mapper::toDomain);
   }
 
+  /** Only positive answers are cached; deleting a client evicts its entry. */
+  @Override
+  @Cacheable(cacheNames = ClientCaches.EXISTS, key = "#id", unless = "!#result")
+  public boolean existsById(UUID id) {
+    return springRepo.existsById(id);
+  }
+
+  @Override
+  public Set<UUID> findExistingIds(Collection<UUID> ids) {
+    return ids.isEmpty() ? Set.of() : new HashSet<>(springRepo.findIdsIn(ids));
+  }
+
   @Override
   @Transactional
   public Client save(Client client) {
     ClientEntity entity = mapper.to(client);
-    ClientEntity savedEntity = springRepo.save(entity);
-    return mapper.toDomain(savedEntity);
+    try {
+      // Flush so a taken email or identifier surfaces here, as a domain error, not at commit
+      ClientEntity savedEntity = springRepo.saveAndFlush(entity);
+      addKeys(savedEntity);
+      return mapper.toDomain(savedEntity);
+    } catch (DataIntegrityViolationException e) {
+      throw ClientUniqueKey.violatedBy(e).map(key -> key.duplicate(entity, e)).orElseThrow(() -> e);
+    }
+  }
+
+  @Override
+  @Transactional
+  public List<Client> saveAll(List<Client> clients) {
+    List<ClientEntity> entities = clients.stream().map(mapper::to).toList();
+    try {
+      // Flush here so a unique-key race surfaces as a domain error instead of at commit
+      List<ClientEntity> saved = springRepo.saveAllAndFlush(entities);
+      saved.forEach(this::addKeys);
+      return saved.stream().map(mapper::toDomain).toList();
+    } catch (DataIntegrityViolationException e) {
+      throw ClientUniqueKey.violatedBy(e).map(key -> key.duplicate(e)).orElseThrow(() -> e);
+    }
+  }
+
+  private void addKeys(ClientEntity entity) {
+    keyFilter.addEmail(entity.getEmail());
+    if (entity instanceof CompanyEntity company) {
+      keyFilter.addCompanyIdentifier(company.getCompanyIdentifier());
+    }
   }
 
   @Override
   @Transactional
   public void deleteById(UUID id) {
-    if (!springRepo.existsById(id)) {
+    if (deleteAllById(List.of(id)) == 0) {
       throw new ClientNotFoundException("Client not found with id: " + id);
     }
-    List<ContractEntity> activeContracts =
-        contractRepo.findAllActiveContractsForClient(id, LocalDate.now());
-    activeContracts.forEach(
-        contract -> {
-          contract.setEndDate(LocalDate.now());
-        });
-    contractRepo.saveAll(activeContracts);
-    springRepo.deleteById(id);
+  }
+
+  @Override
+  @Transactional
+  public int deleteAllById(Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return 0;
+    }
+    int deleted = springRepo.deleteByIds(ids);
+    if (deleted > 0) {
+      springRepo.countDeletedClients(deleted);
+    }
+    // Their contracts go through the foreign key, unseen by Hibernate: drop any cached copies
+    entityManager.getEntityManagerFactory().getCache().evict(ContractEntity.class);
+    return deleted;
   }
 
   @Override
@@ -70,24 +138,24 @@ public class ClientRepositoryImpl implements ClientRepository {
     return entityPage.map(mapper::toDomain);
   }
 
+  @Override
+  public Optional<ContentStamp> findContentStampById(UUID id) {
+    return springRepo.findContentStampById(id).map(ClientRepositoryImpl::toContentStamp);
+  }
+
+  @Override
+  public ContentStamp findContentStampOfAll() {
+    return toContentStamp(springRepo.findContentStampOfAll());
+  }
+
+  private static ContentStamp toContentStamp(JpaClientRepository.ContentStampRow row) {
+    return ContentStamp.of(
+        row.getClientsLastModified(), row.getContractsLastModified(), row.getDeletionMark());
+  }
+
   @Override
   public Optional<Client> findByIdWithContracts(UUID id) {
-    return springRepo
-        .findByIdWithContracts(id)
-        .map(
-            entity -> {
-              Client client = mapper.toDomain(entity);
-              if (entity.getContracts() != null) {
-                entity
-                    .getContracts()
-                    .forEach(
-                        contractEntity -> {
-                          Contract contract = contractMapper.toDomain(contractEntity);
-                          client.addContract(contract);
-                        });
-              }
-              return client;
-            });
+    return springRepo.findByIdWithContracts(id).map(this::toDomainWithContracts);
   }
 
   @Override
@@ -97,30 +165,89 @@ public class ClientRepositoryImpl implements ClientRepository {
 
   @Override
   public boolean existsByEmail(String email) {
-    return springRepo.existsByEmail(email);
+    return keyFilter.emailExists(email, springRepo::existsByEmail);
   }
 
   @Override
   public boolean existsByCompanyIdentifier(String identifier) {
-    return springRepo.existsByCompanyIdentifier(identifier);
+    return keyFilter.companyIdentifierExists(identifier, springRepo::existsByCompanyIdentifier);
+  }
+
+  @Override
+  public Set<String> findExistingEmails(Collection<String> emails) {
+    return emails.isEmpty() ? Set.of() : keyFilter.existingEmails(emails, springRepo::findEmailsIn);
+  }
+
+  @Override
+  public Set<String> findExistingCompanyIdentifiers(Collection<String> identifiers) {
+    return identifiers.isEmpty()
+        ? Set.of()
+        : keyFilter.existingCompanyIdentifiers(identifiers, springRepo::findCompanyIdentifiersIn);
   }
 
   @Override
   public Page<Client> findAllWithContracts(Pageable pageable) {
-    Page<ClientEntity> entityPage = springRepo.findAllWithContracts(pageable);
-    return entityPage.map(
-        entity -> {
-          Client client = mapper.toDomain(entity);
-          if (entity.getContracts() != null) {
-            entity
-                .getContracts()
-                .forEach(
-                    contractEntity -> {
-                      Contract contract = contractMapper.toDomain(contractEntity);
-                      client.addContract(contract);
-                    });
-          }
-          return client;
-        });
+    // Page the ids in SQL first: fetch-joining a collection under a Pageable makes Hibernate
+    // load every client and contract and paginate in memory
+    Page<UUID> idPage = springRepo.findPageOfIds(pageable);
+    if (idPage.isEmpty()) {
+      return new PageImpl<>(List.of(), pageable, idPage.getTotalElements());
+    }
+    return new PageImpl<>(
+        findAllWithContractsInOrder(idPage.getContent()), pageable, idPage.getTotalElements());
+  }
+
+  @Override
+  public CursorPage<Client> findAllWithContracts(Cursor after, int limit) {
+    Cursor position = after != null ? after : Cursor.FIRST;
+    CursorPage<ClientEntity> page =
+        KeysetPages.of(
+            springRepo.findAllAfter(
+                position.createdAt(), position.id(), PageRequest.ofSize(limit + 1)),
+            limit,
+            entity -> new Cursor(entity.getCreatedAt(), entity.getId()));
+    if (page.content().isEmpty()) {
+      return new CursorPage<>(List.of(), null);
+    }
+    List<UUID> ids = page.content().stream().map(ClientEntity::getId).toList();
+    return new CursorPage<>(findAllWithContractsInOrder(ids), page.nextCursor());
+  }
+
+  /** Loads the given clients and all their contracts in one query, preserving the id order. */
+  private List<Client> findAllWithContractsInOrder(List<UUID> ids) {
+    Map<UUID, ClientEntity> withContracts =
+        springRepo.findAllWithContractsByIdIn(ids).stream()
+            .collect(Collectors.toMap(ClientEntity::getId, Function.identity(), (a, b) -> a));
+    return ids.stream()
+        .map(withContracts::get)
+        .filter(Objects::nonNull)
+        .map(this::toDomainWithContracts)
+        .toList();
+  }
+
+  private Client toDomainWithContracts(ClientEntity entity) {
+    Client client = mapper.toDomain(entity);
+    if (entity.getContracts() != null) {
+      entity
+          .getContracts()
+          .forEach(
+              contractEntity -> {
+                Contract contract = contractMapper.toDomain(contractEntity);
+                client.addContract(contract);
+              });
+    }
+    return client;
+  }
+
+  @Override
+  public Stream<ClientExportRow> streamAll() {
+    return springRepo
+        .streamAllOrderById()
+        .map(
+            entity -> {
+              ClientExportRow row = mapper.toExportRow(entity);
+              entityManager.detach(entity);
+              return row;
+            });
   }
 }
@@ -0,0 +1,71 @@
+package com.vaudoise.api_factory.infrastructure.persistence.repository;
+
+import com.vaudoise.api_factory.domain.exception.DuplicateEmailException;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ClientEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.CompanyEntity;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * The unique keys of the {@code clients} table, recognised from the constraint a failed write
+ * reports. Client writes insert or update directly and rely on these constraints instead of
+ * checking for duplicates first.
+ */
+public enum ClientUniqueKey {
+  EMAIL("uk_clients_email", "Email already exists", ClientEntity::getEmail),
+  COMPANY_IDENTIFIER(
+      "uk_clients_company_identifier",
+      "Company identifier already exists",
+      entity -> entity instanceof CompanyEntity company ? company.getCompanyIdentifier() : null);
+
+  private final String constraintName;
+  private final String message;
+  private final Function<ClientEntity, String> value;
+
+  ClientUniqueKey(String constraintName, String message, Function<ClientEntity, String> value) {
+    this.constraintName = constraintName;
+    this.message = message;
+    this.value = value;
+  }
+
+  /** The client key {@code e} violates, if it is a client unique-key violation at all. */
+  public static Optional<ClientUniqueKey> violatedBy(DataIntegrityViolationException e) {
+    // Postgres reports the constraint itself, H2 the index derived from it
+    String violated = violatedConstraint(e).toLowerCase(Locale.ROOT);
+    return Arrays.stream(values()).filter(key -> violated.contains(key.constraintName)).findFirst();
+  }
+
+  /** Describes the violation without the offending value, e.g. "Email already exists". */
+  public String message() {
+    return message;
+  }
+
+  /** A domain error naming the key, without the offending value. */
+  public DuplicateEmailException duplicate(DataIntegrityViolationException cause) {
+    return new DuplicateEmailException(message, cause);
+  }
+
+  /** A domain error naming the key and the value {@code entity} tried to store. */
+  public DuplicateEmailException duplicate(
+      ClientEntity entity, DataIntegrityViolationException cause) {
+    String duplicate = value.apply(entity);
+    return duplicate != null
+        ? new DuplicateEmailException(message + ": " + duplicate, cause)
+        : duplicate(cause);
+  }
+
+  private static String violatedConstraint(DataIntegrityViolationException e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException violation
+          && violation.getConstraintName() != null) {
+        return violation.getConstraintName();
+      }
+    }
+    String message = e.getMostSpecificCause().getMessage();
+    return message != null ? message : "";
+  }
+}
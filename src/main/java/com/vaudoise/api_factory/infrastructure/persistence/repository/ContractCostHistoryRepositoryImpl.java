@@ -0,0 +1,47 @@
+package com.vaudoise.api_factory.infrastructure.persistence.repository;
+
+import com.vaudoise.api_factory.domain.model.ContractCostAsOf;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.repository.ContractCostHistoryRepository;
+import jakarta.transaction.Transactional;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ContractCostHistoryRepositoryImpl implements ContractCostHistoryRepository {
+
+  private final JpaContractCostHistoryRepository springRepo;
+
+  public ContractCostHistoryRepositoryImpl(JpaContractCostHistoryRepository springRepo) {
+    this.springRepo = springRepo;
+  }
+
+  @Override
+  @Transactional
+  public void recordCurrentCosts(Collection<UUID> contractIds) {
+    if (!contractIds.isEmpty()) {
+      springRepo.recordCurrentCosts(contractIds);
+    }
+  }
+
+  @Override
+  public List<ContractCostAsOf> findActiveContractCostsAsOf(UUID clientId, LocalDate date) {
+    // Contract dates are in the system zone (see Contract.isActive), so the day ends there too
+    Instant until = date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+    return springRepo.findActiveContractCostsAsOf(clientId, date, until).stream()
+        .map(
+            row ->
+                new ContractCostAsOf(
+                    row.getContractId(),
+                    row.getStartDate(),
+                    row.getEndDate(),
+                    new Money(row.getCostAmount(), Currency.getInstance(row.getCostCurrency()))))
+        .toList();
+  }
+}
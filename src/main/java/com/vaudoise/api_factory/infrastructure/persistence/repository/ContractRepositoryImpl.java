@@ -1,18 +1,35 @@
 package com.vaudoise.api_factory.infrastructure.persistence.repository;
 
+import com.vaudoise.api_factory.domain.exception.ContractModifiedException;
+import com.vaudoise.api_factory.domain.model.ClientType;
 import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.ContractExportRow;
+import com.vaudoise.api_factory.domain.model.CostAdjustmentPreview;
 import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.NewContract;
+import com.vaudoise.api_factory.domain.repository.ContractFilter;
+import com.vaudoise.api_factory.domain.repository.Cursor;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
 import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractEntity;
 import com.vaudoise.api_factory.infrastructure.persistence.mapper.ContractMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Currency;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -20,19 +37,57 @@ import org.springframework.stereotype.Repository;
 public class ContractRepositoryImpl
     implements com.vaudoise.api_factory.domain.repository.ContractRepository {
 
+  // Cast, or dialects that type parameters from the column (H2) would round the multiplier
+  private static final String ADJUSTED_COST =
+      "ROUND(c.costAmount * CAST(:multiplier AS BigDecimal(19, 10)), 2)";
+
   private final JpaContractRepository springRepo;
+  private final JpaClientRepository clientRepo;
   private final ContractMapper mapper;
+  private final EntityManager entityManager;
 
-  public ContractRepositoryImpl(JpaContractRepository springRepo, ContractMapper mapper) {
+  public ContractRepositoryImpl(
+      JpaContractRepository springRepo,
+      JpaClientRepository clientRepo,
+      ContractMapper mapper,
+      EntityManager entityManager) {
     this.springRepo = springRepo;
+    this.clientRepo = clientRepo;
     this.mapper = mapper;
+    this.entityManager = entityManager;
   }
 
   @Override
   public Contract save(Contract contract) {
-    ContractEntity entity = mapper.to(contract);
-    ContractEntity savedEntity = springRepo.save(entity);
-    return mapper.toDomain(savedEntity);
+    // Link by reference: the insert only needs the client's id, not a merged copy of the client
+    ContractEntity entity =
+        mapper.to(contract, clientRepo.getReferenceById(contract.getClient().getId()));
+    try {
+      // Flushed here so a stale version surfaces as a domain error, not at commit time
+      ContractEntity savedEntity = springRepo.saveAndFlush(entity);
+      return mapper.toDomain(savedEntity);
+    } catch (OptimisticLockingFailureException e) {
+      throw new ContractModifiedException(
+          "Contract " + contract.getId() + " was modified by another request");
+    }
+  }
+
+  @Override
+  @Transactional
+  public Contract insert(NewContract contract) {
+    ContractEntity entity = mapper.to(contract, clientRepo.getReferenceById(contract.clientId()));
+    // Only mapping the result reads the client, which the second-level cache usually holds
+    return mapper.toDomain(springRepo.saveAndFlush(entity));
+  }
+
+  @Override
+  @Transactional
+  public List<UUID> insertAll(List<NewContract> contracts) {
+    List<ContractEntity> entities =
+        contracts.stream()
+            .map(contract -> mapper.to(contract, clientRepo.getReferenceById(contract.clientId())))
+            .toList();
+    return springRepo.saveAllAndFlush(entities).stream().map(ContractEntity::getId).toList();
   }
 
   @Override
@@ -47,17 +102,37 @@ public class ContractRepositoryImpl
 
     if (updatedSince != null) {
       entityPage =
-          springRepo.findByClientIdAndEndDateIsNullOrEndDateGreaterThanAndUpdatedAtAfter(
+          springRepo.findActiveContractsForClientUpdatedSince(
               clientId, LocalDate.now(), updatedSince, pageable);
     } else {
-      entityPage =
-          springRepo.findByClientIdAndEndDateIsNullOrEndDateGreaterThan(
-              clientId, LocalDate.now(), pageable);
+      entityPage = springRepo.findActiveContractsForClient(clientId, LocalDate.now(), pageable);
     }
 
     return entityPage.map(mapper::toDomain);
   }
 
+  @Override
+  public CursorPage<Contract> findActiveContractsForClient(
+      UUID clientId, Instant updatedSince, Cursor after, int limit) {
+    Cursor position = after != null ? after : Cursor.FIRST;
+    Pageable window = PageRequest.ofSize(limit + 1);
+    List<ContractEntity> entities;
+
+    if (updatedSince != null) {
+      entities =
+          springRepo.findActiveContractsForClientUpdatedSinceAfter(
+              clientId, LocalDate.now(), updatedSince, position.createdAt(), position.id(), window);
+    } else {
+      entities =
+          springRepo.findActiveContractsForClientAfter(
+              clientId, LocalDate.now(), position.createdAt(), position.id(), window);
+    }
+
+    return KeysetPages.of(
+            entities, limit, entity -> new Cursor(entity.getCreatedAt(), entity.getId()))
+        .map(mapper::toDomain);
+  }
+
   @Override
   public List<Contract> findAllActiveContractsForClient(UUID clientId) {
     List<ContractEntity> entities =
@@ -73,14 +148,134 @@ public class ContractRepositoryImpl
   }
 
   @Override
-  public Money getActiveContractsCostSum(UUID clientId) {
-    BigDecimal sum = springRepo.findActiveContractsCostSumByClientId(clientId, LocalDate.now());
-    if (sum == null) {
-      sum = BigDecimal.ZERO;
+  public Optional<Money> getActiveContractsCostSum(UUID clientId) {
+    return toTotal(springRepo.findActiveContractsCostSumByClientId(clientId, LocalDate.now()));
+  }
+
+  @Override
+  public Map<UUID, Optional<Money>> getActiveContractsCostSums(Collection<UUID> clientIds) {
+    if (clientIds.isEmpty()) {
+      return Map.of();
+    }
+    return springRepo.findActiveContractsCostSumsByClientIds(clientIds, LocalDate.now()).stream()
+        .collect(
+            Collectors.toMap(
+                JpaContractRepository.ClientCostSum::getClientId, sum -> toTotal(sum.getTotal())));
+  }
+
+  @Override
+  public CostAdjustmentPreview previewCostAdjustment(ContractFilter filter, BigDecimal multiplier) {
+    Map<String, Object> params = new HashMap<>();
+    params.put("multiplier", multiplier);
+    String jpql =
+        "SELECT COUNT(c), SUM(CASE WHEN "
+            + ADJUSTED_COST
+            + " <> c.costAmount THEN 1 ELSE 0 END), SUM(c.costAmount), SUM("
+            + ADJUSTED_COST
+            + "), MIN("
+            + ADJUSTED_COST
+            + "), MAX("
+            + ADJUSTED_COST
+            + ") FROM ContractEntity c JOIN c.client cl"
+            + where(filter, params);
+    Object[] row = (Object[]) bind(entityManager.createQuery(jpql), params).getSingleResult();
+
+    return new CostAdjustmentPreview(
+        ((Number) row[0]).longValue(),
+        row[1] != null ? ((Number) row[1]).longValue() : 0,
+        row[2] != null ? (BigDecimal) row[2] : BigDecimal.ZERO,
+        row[3] != null ? (BigDecimal) row[3] : BigDecimal.ZERO,
+        (BigDecimal) row[4],
+        (BigDecimal) row[5]);
+  }
+
+  @Override
+  public List<UUID> findActiveContractIds(ContractFilter filter, UUID after, int limit) {
+    Map<String, Object> params = new HashMap<>();
+    String where = where(filter, params);
+    if (after != null) {
+      where += " AND c.id > :after";
+      params.put("after", after);
     }
-    if (sum.compareTo(BigDecimal.ZERO) <= 0) {
-      return new Money(BigDecimal.ZERO, Currency.getInstance("CHF"));
+    String jpql = "SELECT c.id FROM ContractEntity c JOIN c.client cl" + where + " ORDER BY c.id";
+    return bind(entityManager.createQuery(jpql, UUID.class), params)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  @Override
+  @Transactional
+  public int multiplyCosts(Collection<UUID> contractIds, BigDecimal multiplier) {
+    if (contractIds.isEmpty()) {
+      return 0;
+    }
+    return springRepo.multiplyActiveContractCosts(
+        contractIds, multiplier, LocalDate.now(), Instant.now());
+  }
+
+  @Override
+  public Map<UUID, UUID> findClientIds(Collection<UUID> contractIds) {
+    if (contractIds.isEmpty()) {
+      return Map.of();
     }
-    return new Money(sum, Currency.getInstance("CHF"));
+    return springRepo.findClientIdsByIds(contractIds).stream()
+        .collect(
+            Collectors.toMap(
+                JpaContractRepository.ContractClientId::getContractId,
+                JpaContractRepository.ContractClientId::getClientId));
+  }
+
+  @Override
+  @Transactional
+  public int markEndedContractsTerminated(LocalDate today) {
+    return springRepo.markEndedContractsTerminated(today, Instant.now());
+  }
+
+  /** Builds the WHERE clause for {@code filter}, always restricted to active contracts. */
+  private static String where(ContractFilter filter, Map<String, Object> params) {
+    StringBuilder where =
+        new StringBuilder(
+            " WHERE c.terminated = false AND (c.endDate IS NULL OR c.endDate > :today)");
+    params.put("today", LocalDate.now());
+    if (filter.clientType() != null) {
+      where
+          .append(" AND TYPE(cl) = ")
+          .append(filter.clientType() == ClientType.PERSON ? "PersonEntity" : "CompanyEntity");
+    }
+    if (filter.minCost() != null) {
+      where.append(" AND c.costAmount >= :minCost");
+      params.put("minCost", filter.minCost());
+    }
+    if (filter.maxCost() != null) {
+      where.append(" AND c.costAmount <= :maxCost");
+      params.put("maxCost", filter.maxCost());
+    }
+    if (filter.startDateFrom() != null) {
+      where.append(" AND c.startDate >= :startDateFrom");
+      params.put("startDateFrom", filter.startDateFrom());
+    }
+    if (filter.startDateTo() != null) {
+      where.append(" AND c.startDate <= :startDateTo");
+      params.put("startDateTo", filter.startDateTo());
+    }
+    return where.toString();
+  }
+
+  private static <Q extends Query> Q bind(Q query, Map<String, Object> params) {
+    params.forEach(query::setParameter);
+    return query;
+  }
+
+  private Optional<Money> toTotal(BigDecimal sum) {
+    // Money cannot represent zero, so "no active contract" is an empty total
+    if (sum == null || sum.signum() <= 0) {
+      return Optional.empty();
+    }
+    return Optional.of(new Money(sum, Currency.getInstance("CHF")));
+  }
+
+  @Override
+  public Stream<ContractExportRow> streamAll() {
+    return springRepo.streamAllForExport();
   }
 }
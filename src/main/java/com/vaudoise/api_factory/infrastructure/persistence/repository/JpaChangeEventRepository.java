@@ -0,0 +1,17 @@
+package com.vaudoise.api_factory.infrastructure.persistence.repository;
+
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ChangeEventEntity;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaChangeEventRepository extends JpaRepository<ChangeEventEntity, Long> {
+
+  /** A range scan of the primary key from {@code after}, as large as the window. */
+  @Query("SELECT e FROM ChangeEventEntity e WHERE e.sequence > :after ORDER BY e.sequence")
+  List<ChangeEventEntity> findAfter(@Param("after") long after, Pageable window);
+}
@@ -0,0 +1,63 @@
+package com.vaudoise.api_factory.infrastructure.persistence.repository;
+
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ClientCostTotalEntity;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaClientCostTotalRepository extends JpaRepository<ClientCostTotalEntity, UUID> {
+
+  @Modifying
+  @Query(
+      "UPDATE ClientCostTotalEntity t SET t.totalAmount = t.totalAmount + :delta, t.updatedAt = :now WHERE t.clientId = :clientId")
+  int addToTotal(
+      @Param("clientId") UUID clientId,
+      @Param("delta") BigDecimal delta,
+      @Param("now") Instant now);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT t FROM ClientCostTotalEntity t WHERE t.clientId IN :clientIds ORDER BY t.clientId")
+  List<ClientCostTotalEntity> findAllByIdForUpdate(@Param("clientIds") Collection<UUID> clientIds);
+
+  /** Replaces the stored totals of the given clients with their live active-contract sums. */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "UPDATE ClientCostTotalEntity t SET t.totalAmount = COALESCE((SELECT SUM(c.costAmount) FROM ContractEntity c WHERE c.client.id = t.clientId AND c.terminated = false AND (c.endDate IS NULL OR c.endDate > :currentDate)), 0), t.updatedAt = :now WHERE t.clientId IN :clientIds")
+  int recomputeTotals(
+      @Param("clientIds") Collection<UUID> clientIds,
+      @Param("currentDate") LocalDate currentDate,
+      @Param("now") Instant now);
+
+  @Modifying
+  @Query("DELETE FROM ClientCostTotalEntity t WHERE t.clientId IN :clientIds")
+  int deleteByClientIds(@Param("clientIds") Collection<UUID> clientIds);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT t FROM ClientCostTotalEntity t WHERE t.clientId = :clientId")
+  Optional<ClientCostTotalEntity> findByIdForUpdate(@Param("clientId") UUID clientId);
+
+  @Query(
+      "SELECT cl.id AS clientId, t.totalAmount AS storedTotal, SUM(c.costAmount) AS actualTotal FROM ClientEntity cl LEFT JOIN ClientCostTotalEntity t ON t.clientId = cl.id LEFT JOIN cl.contracts c ON c.terminated = false AND (c.endDate IS NULL OR c.endDate > :currentDate) GROUP BY cl.id, t.totalAmount HAVING COALESCE(t.totalAmount, 0) <> COALESCE(SUM(c.costAmount), 0)")
+  List<CostTotalComparison> findDrift(@Param("currentDate") LocalDate currentDate);
+
+  /** Stored and live totals of one client; either may be {@code null}. */
+  interface CostTotalComparison {
+    UUID getClientId();
+
+    BigDecimal getStoredTotal();
+
+    BigDecimal getActualTotal();
+  }
+}
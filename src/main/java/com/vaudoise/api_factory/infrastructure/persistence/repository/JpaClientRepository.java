@@ -1,12 +1,22 @@
 package com.vaudoise.api_factory.infrastructure.persistence.repository;
 
 import com.vaudoise.api_factory.infrastructure.persistence.entity.ClientEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -20,13 +30,93 @@ public interface JpaClientRepository extends JpaRepository<ClientEntity, UUID> {
 
   boolean existsByEmail(String email);
 
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT c FROM ClientEntity c WHERE c.id = :id")
+  Optional<ClientEntity> findByIdForUpdate(@Param("id") UUID id);
+
   @Query("SELECT c FROM ClientEntity c LEFT JOIN FETCH c.contracts WHERE c.id = :id")
   Optional<ClientEntity> findByIdWithContracts(@Param("id") UUID id);
 
-  @Query("SELECT c FROM ClientEntity c LEFT JOIN FETCH c.contracts")
-  Page<ClientEntity> findAllWithContracts(Pageable pageable);
+  @Query(
+      value = "SELECT c.id FROM ClientEntity c ORDER BY c.createdAt, c.id",
+      countQuery = "SELECT COUNT(c) FROM ClientEntity c")
+  Page<UUID> findPageOfIds(Pageable pageable);
+
+  @Query(
+      "SELECT c FROM ClientEntity c WHERE c.createdAt >= :createdAt AND (c.createdAt > :createdAt OR c.id > :id) ORDER BY c.createdAt, c.id")
+  List<ClientEntity> findAllAfter(
+      @Param("createdAt") Instant createdAt, @Param("id") UUID id, Pageable pageable);
+
+  @Query("SELECT c FROM ClientEntity c LEFT JOIN FETCH c.contracts WHERE c.id IN :ids")
+  List<ClientEntity> findAllWithContractsByIdIn(@Param("ids") Collection<UUID> ids);
+
+  @Query("SELECT c.id FROM ClientEntity c WHERE c.id IN :ids")
+  List<UUID> findIdsIn(@Param("ids") Collection<UUID> ids);
+
+  @Query("SELECT c.email FROM ClientEntity c WHERE c.email IN :emails")
+  List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+  @Query(
+      "SELECT c.companyIdentifier FROM CompanyEntity c WHERE c.companyIdentifier IN :identifiers")
+  List<String> findCompanyIdentifiersIn(@Param("identifiers") Collection<String> identifiers);
 
   @Query(
       "SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM CompanyEntity c WHERE c.companyIdentifier = :identifier")
   boolean existsByCompanyIdentifier(@Param("identifier") String identifier);
+
+  /**
+   * Deletes the clients in one statement. Their contracts go with them through the {@code ON DELETE
+   * CASCADE} foreign key, not through JPA cascading.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM ClientEntity c WHERE c.id IN :ids")
+  int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+  /** Moves the deletion watermark read by {@link #findContentStampOfAll} past deleted clients. */
+  @Modifying
+  @Query(
+      "UPDATE ClientDeletionCounterEntity d SET d.deletedClients = d.deletedClients + :deleted WHERE d.id = 1")
+  void countDeletedClients(@Param("deleted") long deleted);
+
+  /**
+   * Streams every client by id through a server-side cursor, fetching {@code 500} rows per round
+   * trip. Entities are loaded read-only; callers must consume the stream inside a transaction and
+   * detach each entity once mapped so the persistence context does not grow.
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT c FROM ClientEntity c ORDER BY c.id")
+  Stream<ClientEntity> streamAllOrderById();
+
+  /** Streams every stored email, {@code 500} rows per round trip, for the key filter. */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query("SELECT c.email FROM ClientEntity c")
+  Stream<String> streamAllEmails();
+
+  /** Streams every stored company identifier, {@code 500} rows per round trip. */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query("SELECT c.companyIdentifier FROM CompanyEntity c")
+  Stream<String> streamAllCompanyIdentifiers();
+
+  @Query(
+      "SELECT c.updatedAt AS clientsLastModified, MAX(k.updatedAt) AS contractsLastModified, COUNT(k) AS deletionMark FROM ClientEntity c LEFT JOIN c.contracts k WHERE c.id = :id GROUP BY c.id, c.updatedAt")
+  Optional<ContentStampRow> findContentStampById(@Param("id") UUID id);
+
+  /**
+   * Deleting clients is the only way contracts disappear, so the clients' deletion watermark is
+   * enough. Counting the clients instead would scan the whole table on every probe.
+   */
+  @Query(
+      "SELECT MAX(c.updatedAt) AS clientsLastModified, (SELECT MAX(k.updatedAt) FROM ContractEntity k) AS contractsLastModified, (SELECT d.deletedClients FROM ClientDeletionCounterEntity d) AS deletionMark FROM ClientEntity c")
+  ContentStampRow findContentStampOfAll();
+
+  interface ContentStampRow {
+    Instant getClientsLastModified();
+
+    Instant getContractsLastModified();
+
+    Long getDeletionMark();
+  }
 }
@@ -0,0 +1,53 @@
+package com.vaudoise.api_factory.infrastructure.persistence.repository;
+
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractCostHistoryEntity;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaContractCostHistoryRepository
+    extends JpaRepository<ContractCostHistoryEntity, ContractCostHistoryEntity.Key> {
+
+  /**
+   * Appends the current cost of each given contract, valid from its last update, in a single
+   * statement. Contracts that already have a row for that instant are skipped, so repeating the
+   * call is harmless.
+   */
+  @Modifying
+  @Query(
+      "INSERT INTO ContractCostHistoryEntity (contractId, validFrom, costAmount, costCurrency) SELECT c.id, c.updatedAt, c.costAmount, c.costCurrency FROM ContractEntity c WHERE c.id IN :ids AND NOT EXISTS (SELECT 1 FROM ContractCostHistoryEntity h WHERE h.contractId = c.id AND h.validFrom = c.updatedAt)")
+  int recordCurrentCosts(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * Contracts of the client that were active on {@code date}, each with the cost in force before
+   * {@code until}: one seek on the history key per contract, no replay of older rows. Contracts
+   * created after {@code until} have no such row and drop out of the join.
+   */
+  @Query(
+      "SELECT c.id AS contractId, c.startDate AS startDate, c.endDate AS endDate, h.costAmount AS costAmount, h.costCurrency AS costCurrency FROM ContractEntity c JOIN ContractCostHistoryEntity h ON h.contractId = c.id WHERE c.client.id = :clientId AND (c.endDate IS NULL OR c.endDate > :date) AND h.validFrom = (SELECT MAX(p.validFrom) FROM ContractCostHistoryEntity p WHERE p.contractId = c.id AND p.validFrom < :until) ORDER BY c.startDate, c.id")
+  List<ContractCostRow> findActiveContractCostsAsOf(
+      @Param("clientId") UUID clientId,
+      @Param("date") LocalDate date,
+      @Param("until") Instant until);
+
+  interface ContractCostRow {
+    UUID getContractId();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    BigDecimal getCostAmount();
+
+    String getCostCurrency();
+  }
+}
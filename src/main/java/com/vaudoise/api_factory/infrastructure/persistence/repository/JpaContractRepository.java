@@ -1,35 +1,127 @@
 package com.vaudoise.api_factory.infrastructure.persistence.repository;
 
+import com.vaudoise.api_factory.domain.model.ContractExportRow;
 import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractEntity;
+import jakarta.persistence.QueryHint;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface JpaContractRepository extends JpaRepository<ContractEntity, UUID> {
-  Page<ContractEntity> findByClientIdAndEndDateIsNullOrEndDateGreaterThanAndUpdatedAtAfter(
-      UUID clientId, LocalDate currentDate, Instant updatedSince, Pageable pageable);
+  @Query(
+      "SELECT c FROM ContractEntity c WHERE c.client.id = :clientId AND c.terminated = false AND (c.endDate IS NULL OR c.endDate > :currentDate)")
+  Page<ContractEntity> findActiveContractsForClient(
+      @Param("clientId") UUID clientId,
+      @Param("currentDate") LocalDate currentDate,
+      Pageable pageable);
 
-  Page<ContractEntity> findByClientIdAndEndDateIsNullOrEndDateGreaterThan(
-      UUID clientId, LocalDate currentDate, Pageable pageable);
+  @Query(
+      "SELECT c FROM ContractEntity c WHERE c.client.id = :clientId AND c.terminated = false AND (c.endDate IS NULL OR c.endDate > :currentDate) AND c.updatedAt > :updatedSince")
+  Page<ContractEntity> findActiveContractsForClientUpdatedSince(
+      @Param("clientId") UUID clientId,
+      @Param("currentDate") LocalDate currentDate,
+      @Param("updatedSince") Instant updatedSince,
+      Pageable pageable);
 
   Page<ContractEntity> findByClientId(UUID clientId, Pageable pageable);
 
   @Query(
-      "SELECT c FROM ContractEntity c WHERE c.client.id = :clientId AND (c.endDate IS NULL OR c.endDate > :currentDate)")
+      "SELECT c FROM ContractEntity c WHERE c.client.id = :clientId AND c.terminated = false AND (c.endDate IS NULL OR c.endDate > :currentDate) AND c.createdAt >= :createdAt AND (c.createdAt > :createdAt OR c.id > :id) ORDER BY c.createdAt, c.id")
+  List<ContractEntity> findActiveContractsForClientAfter(
+      @Param("clientId") UUID clientId,
+      @Param("currentDate") LocalDate currentDate,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  @Query(
+      "SELECT c FROM ContractEntity c WHERE c.client.id = :clientId AND c.terminated = false AND (c.endDate IS NULL OR c.endDate > :currentDate) AND c.updatedAt > :updatedSince AND c.createdAt >= :createdAt AND (c.createdAt > :createdAt OR c.id > :id) ORDER BY c.createdAt, c.id")
+  List<ContractEntity> findActiveContractsForClientUpdatedSinceAfter(
+      @Param("clientId") UUID clientId,
+      @Param("currentDate") LocalDate currentDate,
+      @Param("updatedSince") Instant updatedSince,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  @Query(
+      "SELECT c FROM ContractEntity c WHERE c.client.id = :clientId AND c.terminated = false AND (c.endDate IS NULL OR c.endDate > :currentDate)")
   List<ContractEntity> findAllActiveContractsForClient(
       @Param("clientId") UUID clientId, @Param("currentDate") LocalDate currentDate);
 
   @Query(
-      "SELECT SUM(c.costAmount) FROM ContractEntity c WHERE c.client.id = :clientId AND (c.endDate IS NULL OR c.endDate > :currentDate)")
+      "SELECT SUM(c.costAmount) FROM ContractEntity c WHERE c.client.id = :clientId AND c.terminated = false AND (c.endDate IS NULL OR c.endDate > :currentDate)")
   BigDecimal findActiveContractsCostSumByClientId(
       @Param("clientId") UUID clientId, @Param("currentDate") LocalDate currentDate);
+
+  @Query(
+      "SELECT DISTINCT c.client.id FROM ContractEntity c WHERE c.endDate > :from AND c.endDate <= :to")
+  List<UUID> findClientIdsWithContractsEndedBetween(
+      @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  @Query(
+      "SELECT cl.id AS clientId, SUM(c.costAmount) AS total FROM ClientEntity cl LEFT JOIN cl.contracts c ON c.terminated = false AND (c.endDate IS NULL OR c.endDate > :currentDate) WHERE cl.id IN :clientIds GROUP BY cl.id")
+  List<ClientCostSum> findActiveContractsCostSumsByClientIds(
+      @Param("clientIds") Collection<UUID> clientIds, @Param("currentDate") LocalDate currentDate);
+
+  @Query(
+      "SELECT c.id AS contractId, c.client.id AS clientId FROM ContractEntity c WHERE c.id IN :ids")
+  List<ContractClientId> findClientIdsByIds(@Param("ids") Collection<UUID> ids);
+
+  interface ContractClientId {
+    UUID getContractId();
+
+    UUID getClientId();
+  }
+
+  /** Per-client total; {@code total} is {@code null} when the client has no active contract. */
+  interface ClientCostSum {
+    UUID getClientId();
+
+    BigDecimal getTotal();
+  }
+
+  @Query("SELECT DISTINCT c.client.id FROM ContractEntity c WHERE c.id IN :ids")
+  List<UUID> findClientIdsByContractIds(@Param("ids") Collection<UUID> ids);
+
+  /** Multiplies the cost of the given active contracts, skipping those that would not change. */
+  @Modifying
+  @Query(
+      "UPDATE ContractEntity c SET c.costAmount = ROUND(c.costAmount * CAST(:multiplier AS BigDecimal(19, 10)), 2), c.updatedAt = :now, c.version = c.version + 1 WHERE c.id IN :ids AND c.terminated = false AND (c.endDate IS NULL OR c.endDate > :today) AND ROUND(c.costAmount * CAST(:multiplier AS BigDecimal(19, 10)), 2) <> c.costAmount")
+  int multiplyActiveContractCosts(
+      @Param("ids") Collection<UUID> ids,
+      @Param("multiplier") BigDecimal multiplier,
+      @Param("today") LocalDate today,
+      @Param("now") Instant now);
+
+  /** Moves contracts whose end date has come to the terminated partition. */
+  @Modifying
+  @Query(
+      "UPDATE ContractEntity c SET c.terminated = true, c.updatedAt = :now WHERE c.terminated = false AND c.endDate <= :today")
+  int markEndedContractsTerminated(@Param("today") LocalDate today, @Param("now") Instant now);
+
+  /**
+   * Streams every contract by id through a server-side cursor, fetching {@code 500} rows per round
+   * trip. Rows are projected straight into {@link ContractExportRow}, so nothing is attached to the
+   * persistence context and the client id is read from the foreign key without a join. Must be
+   * consumed inside a transaction.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query(
+      "SELECT new com.vaudoise.api_factory.domain.model.ContractExportRow(c.id, c.client.id, c.startDate, c.endDate, c.costAmount, c.costCurrency, c.createdAt, c.updatedAt) FROM ContractEntity c ORDER BY c.id")
+  Stream<ContractExportRow> streamAllForExport();
 }
@@ -0,0 +1,23 @@
+package com.vaudoise.api_factory.infrastructure.persistence.repository;
+
+import com.vaudoise.api_factory.domain.repository.Cursor;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builds {@link CursorPage}s from keyset queries that fetch one row more than the requested limit,
+ * so the presence of a next page is known without a COUNT query.
+ */
+final class KeysetPages {
+
+  private KeysetPages() {}
+
+  static <E> CursorPage<E> of(List<E> rows, int limit, Function<E, Cursor> positionOf) {
+    if (rows.size() <= limit) {
+      return new CursorPage<>(rows, null);
+    }
+    List<E> content = rows.subList(0, limit);
+    return new CursorPage<>(content, positionOf.apply(content.get(limit - 1)));
+  }
+}
@@ -0,0 +1,41 @@
+package com.vaudoise.api_factory.infrastructure.persistence.routing;
+
+/**
+ * Pins the read-only transactions of the current thread to the primary database, for callers that
+ * must see their own recent writes before the replicas have caught up.
+ */
+public final class PrimaryReadContext {
+  private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+  private PrimaryReadContext() {}
+
+  public static void pin() {
+    PINNED.set(Boolean.TRUE);
+  }
+
+  public static void unpin() {
+    PINNED.remove();
+  }
+
+  public static boolean isPinned() {
+    return PINNED.get() != null;
+  }
+
+  /**
+   * Wraps {@code task} so that it runs pinned when the submitting thread is pinned, letting work a
+   * request hands to another thread keep reading its own writes.
+   */
+  public static Runnable propagate(Runnable task) {
+    if (!isPinned()) {
+      return task;
+    }
+    return () -> {
+      pin();
+      try {
+        task.run();
+      } finally {
+        unpin();
+      }
+    };
+  }
+}
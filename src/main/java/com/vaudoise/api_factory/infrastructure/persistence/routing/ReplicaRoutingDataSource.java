@@ -0,0 +1,61 @@
+package com.vaudoise.api_factory.infrastructure.persistence.routing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to the replicas, in turn, and every other connection
+ * to the primary. Reads pinned through {@link PrimaryReadContext} also go to the primary.
+ *
+ * <p>The route is chosen when a connection is requested, so this must sit behind a {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager asks
+ * for its connection before the transaction's read-only flag is published.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+  static final String PRIMARY = "primary";
+
+  private final List<DataSource> targets = new ArrayList<>();
+  private final List<String> replicaKeys = new ArrayList<>();
+  private final AtomicInteger next = new AtomicInteger();
+
+  public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas) {
+    Map<Object, Object> routes = new HashMap<>();
+    routes.put(PRIMARY, primary);
+    targets.add(primary);
+    for (int i = 0; i < replicas.size(); i++) {
+      String key = "replica-" + i;
+      routes.put(key, replicas.get(i));
+      replicaKeys.add(key);
+      targets.add(replicas.get(i));
+    }
+    setTargetDataSources(routes);
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (replicaKeys.isEmpty()
+        || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+        || PrimaryReadContext.isPinned()) {
+      return PRIMARY;
+    }
+    return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+  }
+
+  @Override
+  public void close() throws Exception {
+    for (DataSource target : targets) {
+      if (target instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+}
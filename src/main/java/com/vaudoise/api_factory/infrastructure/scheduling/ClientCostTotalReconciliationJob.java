@@ -0,0 +1,32 @@
+package com.vaudoise.api_factory.infrastructure.scheduling;
+
+import com.vaudoise.api_factory.application.usecase.contract.ReconcileClientCostTotalsUseCase;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Nightly removal of expired contracts from the maintained per-client cost totals. */
+@Component
+public class ClientCostTotalReconciliationJob {
+  private static final Logger log = LoggerFactory.getLogger(ClientCostTotalReconciliationJob.class);
+
+  private final ReconcileClientCostTotalsUseCase reconcileClientCostTotalsUseCase;
+  private final int lookbackDays;
+
+  public ClientCostTotalReconciliationJob(
+      ReconcileClientCostTotalsUseCase reconcileClientCostTotalsUseCase,
+      @Value("${app.cost-totals.lookback-days:7}") int lookbackDays) {
+    this.reconcileClientCostTotalsUseCase = reconcileClientCostTotalsUseCase;
+    this.lookbackDays = lookbackDays;
+  }
+
+  @Scheduled(cron = "${app.cost-totals.reconciliation-cron:0 5 0 * * *}")
+  public void expireEndedContracts() {
+    int recomputed =
+        reconcileClientCostTotalsUseCase.expireEndedContracts(LocalDate.now(), lookbackDays);
+    log.info("Recomputed cost totals of {} clients with recently ended contracts", recomputed);
+  }
+}
@@ -0,0 +1,30 @@
+package com.vaudoise.api_factory.infrastructure.scheduling;
+
+import com.vaudoise.api_factory.application.usecase.contract.MarkEndedContractsTerminatedUseCase;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nightly move of contracts whose end date has come from the active to the terminated partition of
+ * the contracts table.
+ */
+@Component
+public class ContractPartitionMaintenanceJob {
+  private static final Logger log = LoggerFactory.getLogger(ContractPartitionMaintenanceJob.class);
+
+  private final MarkEndedContractsTerminatedUseCase markEndedContractsTerminatedUseCase;
+
+  public ContractPartitionMaintenanceJob(
+      MarkEndedContractsTerminatedUseCase markEndedContractsTerminatedUseCase) {
+    this.markEndedContractsTerminatedUseCase = markEndedContractsTerminatedUseCase;
+  }
+
+  @Scheduled(cron = "${app.contracts.partition-maintenance-cron:0 0 0 * * *}")
+  public void moveEndedContracts() {
+    int moved = markEndedContractsTerminatedUseCase.execute(LocalDate.now());
+    log.info("Moved {} ended contracts to the terminated partition", moved);
+  }
+}
@@ -0,0 +1,37 @@
+package com.vaudoise.api_factory.infrastructure.web.consistency;
+
+import com.vaudoise.api_factory.infrastructure.persistence.routing.PrimaryReadContext;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Read-your-writes token returned by write endpoints in the {@value #HEADER} header. It carries the
+ * time of the write; a client that echoes it on later requests reads from the primary until the
+ * replicas are expected to have caught up.
+ */
+public final class ConsistencyToken {
+  public static final String HEADER = "X-Consistency-Token";
+
+  private ConsistencyToken() {}
+
+  /**
+   * Issues a token for a write that has just been committed. The remaining reads of the current
+   * request are pinned to the primary as well, until {@link ConsistencyTokenFilter} releases them.
+   */
+  public static String issue() {
+    PrimaryReadContext.pin();
+    return Long.toString(Instant.now().toEpochMilli());
+  }
+
+  /** Returns the write time carried by {@code token}, or empty when it is missing or malformed. */
+  public static Optional<Instant> parse(String token) {
+    if (token == null || token.isBlank()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(Instant.ofEpochMilli(Long.parseLong(token.trim())));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.vaudoise.api_factory.infrastructure.web.consistency;
+
+import com.vaudoise.api_factory.infrastructure.persistence.routing.PrimaryReadContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Pins the reads of a request to the primary when it carries a {@link ConsistencyToken} issued
+ * within the sticky window. Older and malformed tokens are ignored, as are tokens dated further in
+ * the future than the window, which leaves room for clock skew between instances.
+ */
+@Component
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+  private final Duration stickyWindow;
+
+  public ConsistencyTokenFilter(
+      @Value("${app.datasource.routing.sticky-window:5s}") Duration stickyWindow) {
+    this.stickyWindow = stickyWindow;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    if (isFresh(request.getHeader(ConsistencyToken.HEADER))) {
+      PrimaryReadContext.pin();
+    }
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      PrimaryReadContext.unpin();
+    }
+  }
+
+  private boolean isFresh(String token) {
+    Instant now = Instant.now();
+    return ConsistencyToken.parse(token)
+        .filter(writtenAt -> writtenAt.isBefore(now.plus(stickyWindow)))
+        .filter(writtenAt -> writtenAt.plus(stickyWindow).isAfter(now))
+        .isPresent();
+  }
+}
@@ -0,0 +1,43 @@
+package com.vaudoise.api_factory.infrastructure.web.consistency;
+
+import com.vaudoise.api_factory.domain.model.ContentStamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET of read models from a {@link ContentStamp}. Whether a contract is active and how
+ * old a person is follow from today's date, so a representation can change at midnight without any
+ * row changing: the weak entity tag includes the date, and {@code Last-Modified} is never earlier
+ * than the start of the day.
+ */
+public final class ContentTag {
+
+  private ContentTag() {}
+
+  /**
+   * Sets {@code ETag} and {@code Last-Modified} and returns whether {@code If-None-Match} or, in
+   * its absence, {@code If-Modified-Since} shows the client's copy is current. The response status
+   * is then 304 and the handler should return without loading the representation.
+   */
+  public static boolean notModified(WebRequest request, ContentStamp stamp) {
+    LocalDate today = LocalDate.now();
+    Instant startOfDay = today.atStartOfDay(ZoneId.systemDefault()).toInstant();
+    Instant lastModified =
+        stamp.lastModified().isAfter(startOfDay) ? stamp.lastModified() : startOfDay;
+    return request.checkNotModified(of(stamp, today), lastModified.toEpochMilli());
+  }
+
+  static String of(ContentStamp stamp, LocalDate today) {
+    long micros = ChronoUnit.MICROS.between(Instant.EPOCH, stamp.lastModified());
+    return "W/\""
+        + Long.toString(micros, 36)
+        + "-"
+        + stamp.deletionMark()
+        + "-"
+        + today.toEpochDay()
+        + "\"";
+  }
+}
@@ -0,0 +1,38 @@
+package com.vaudoise.api_factory.infrastructure.web.consistency;
+
+/**
+ * Strong entity tag of a versioned resource: its version in quotes. Write endpoints return it in
+ * {@code ETag}; clients echo it in {@code If-Match} so that a write based on a stale copy is
+ * rejected instead of silently overwriting a newer one.
+ */
+public final class VersionTag {
+  /** Version required by an {@code If-Match} header that names no valid tag; it never matches. */
+  public static final long UNMATCHABLE = -1;
+
+  private VersionTag() {}
+
+  public static String of(long version) {
+    return "\"" + version + "\"";
+  }
+
+  /**
+   * Returns the version an {@code If-Match} header requires, or {@code null} when any version will
+   * do because the header is absent or {@code *}. Anything other than a single strong version tag
+   * requires {@link #UNMATCHABLE}: weak tags never match under the strong comparison If-Match uses.
+   */
+  public static Long requiredVersion(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+      return null;
+    }
+    String tag = ifMatch.trim();
+    if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+      return UNMATCHABLE;
+    }
+    try {
+      long version = Long.parseLong(tag.substring(1, tag.length() - 1));
+      return version >= 0 ? version : UNMATCHABLE;
+    } catch (NumberFormatException e) {
+      return UNMATCHABLE;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.vaudoise.api_factory.infrastructure.web.controller;
+
+import com.vaudoise.api_factory.application.dto.response.ChangeEventResponse;
+import com.vaudoise.api_factory.application.dto.response.ChangeFeedResponse;
+import com.vaudoise.api_factory.application.dto.response.ErrorResponse;
+import com.vaudoise.api_factory.application.usecase.change.GetChangesUseCase;
+import com.vaudoise.api_factory.domain.model.ChangeEvent;
+import com.vaudoise.api_factory.domain.repository.PageSize;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/changes")
+@Tag(name = "Changes", description = "Feed of client and contract changes for incremental sync")
+public class ChangeFeedController {
+
+  private final GetChangesUseCase getChangesUseCase;
+
+  public ChangeFeedController(GetChangesUseCase getChangesUseCase) {
+    this.getChangesUseCase = getChangesUseCase;
+  }
+
+  @GetMapping
+  @Operation(
+      summary = "Get client and contract changes after a cursor",
+      description =
+          "Returns committed changes in commit order, numbered without gaps. Events name the"
+              + " client or contract that was created, updated or deleted; a client deletion also"
+              + " deletes its contracts. Pass nextCursor back as the cursor to continue, and a"
+              + " wait to hold the request open until new events arrive.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Events after the cursor, possibly none when the wait ran out",
+            content = @Content(schema = @Schema(implementation = ChangeFeedResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor, size or wait",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<ChangeFeedResponse> getChanges(
+      @Parameter(description = "Sequence number of the last event processed, 0 for the start")
+          @RequestParam(defaultValue = "0")
+          long cursor,
+      @Parameter(description = "Maximum number of events, at most " + PageSize.MAX)
+          @RequestParam(defaultValue = "100")
+          int size,
+      @Parameter(
+              description =
+                  "Seconds to wait for a first event, at most "
+                      + GetChangesUseCase.MAX_WAIT_SECONDS)
+          @RequestParam(defaultValue = "0")
+          int wait) {
+
+    List<ChangeEvent> events = getChangesUseCase.execute(cursor, size, Duration.ofSeconds(wait));
+    long nextCursor = events.isEmpty() ? cursor : events.getLast().sequence();
+    ChangeFeedResponse response =
+        new ChangeFeedResponse(
+            events.stream().map(this::mapToChangeEventResponse).toList(),
+            nextCursor,
+            events.size() < size);
+    return ResponseEntity.ok(response);
+  }
+
+  private ChangeEventResponse mapToChangeEventResponse(ChangeEvent event) {
+    return new ChangeEventResponse(
+        event.sequence(),
+        event.entityType().name(),
+        event.operation().name(),
+        event.entityId(),
+        event.clientId(),
+        event.occurredAt());
+  }
+}
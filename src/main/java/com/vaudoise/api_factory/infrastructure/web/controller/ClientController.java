@@ -1,18 +1,37 @@
 package com.vaudoise.api_factory.infrastructure.web.controller;
 
+import com.vaudoise.api_factory.application.dto.request.BatchDeleteClientsRequest;
+import com.vaudoise.api_factory.application.dto.request.ClientImportRow;
 import com.vaudoise.api_factory.application.dto.request.CreateCompanyRequest;
 import com.vaudoise.api_factory.application.dto.request.CreatePersonRequest;
 import com.vaudoise.api_factory.application.dto.request.UpdateClientRequest;
+import com.vaudoise.api_factory.application.dto.response.BatchDeleteClientsResponse;
+import com.vaudoise.api_factory.application.dto.response.ClientImportReport;
+import com.vaudoise.api_factory.application.dto.response.ClientOverviewResponse;
 import com.vaudoise.api_factory.application.dto.response.ClientResponse;
 import com.vaudoise.api_factory.application.dto.response.CompanyResponse;
+import com.vaudoise.api_factory.application.dto.response.ContractResponse;
+import com.vaudoise.api_factory.application.dto.response.CursorPaginationResponse;
 import com.vaudoise.api_factory.application.dto.response.ErrorResponse;
+import com.vaudoise.api_factory.application.dto.response.MoneyResponse;
 import com.vaudoise.api_factory.application.dto.response.PaginationResponse;
 import com.vaudoise.api_factory.application.dto.response.PersonResponse;
 import com.vaudoise.api_factory.application.usecase.client.CreateClientUseCase;
 import com.vaudoise.api_factory.application.usecase.client.DeleteClientUseCase;
+import com.vaudoise.api_factory.application.usecase.client.DeleteClientsUseCase;
+import com.vaudoise.api_factory.application.usecase.client.ExportClientsUseCase;
+import com.vaudoise.api_factory.application.usecase.client.GetClientOverviewUseCase;
 import com.vaudoise.api_factory.application.usecase.client.GetClientUseCase;
+import com.vaudoise.api_factory.application.usecase.client.ImportClientsUseCase;
 import com.vaudoise.api_factory.application.usecase.client.UpdateClientUseCase;
 import com.vaudoise.api_factory.domain.model.*;
+import com.vaudoise.api_factory.domain.repository.Cursor;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
+import com.vaudoise.api_factory.domain.repository.PageSize;
+import com.vaudoise.api_factory.infrastructure.web.consistency.ConsistencyToken;
+import com.vaudoise.api_factory.infrastructure.web.consistency.ContentTag;
+import com.vaudoise.api_factory.infrastructure.web.exporter.RowExporter;
+import com.vaudoise.api_factory.infrastructure.web.importer.ClientImportParser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,37 +40,69 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 @RequestMapping("/api/v1/clients")
 @Tag(name = "Clients", description = "Operations for managing clients (Person and Company)")
 public class ClientController {
+  private static final RowExporter<ClientExportRow> EXPORTER =
+      RowExporter.of(
+          RowExporter.column("id", ClientExportRow::id),
+          RowExporter.column("type", ClientExportRow::type),
+          RowExporter.column("name", ClientExportRow::name),
+          RowExporter.column("email", ClientExportRow::email),
+          RowExporter.column("phone", ClientExportRow::phone),
+          RowExporter.column("birthDate", ClientExportRow::birthDate),
+          RowExporter.column("companyIdentifier", ClientExportRow::companyIdentifier),
+          RowExporter.column("createdAt", ClientExportRow::createdAt));
+
   private final CreateClientUseCase createClientUseCase;
   private final GetClientUseCase getClientUseCase;
   private final UpdateClientUseCase updateClientUseCase;
   private final DeleteClientUseCase deleteClientUseCase;
+  private final DeleteClientsUseCase deleteClientsUseCase;
+  private final ImportClientsUseCase importClientsUseCase;
+  private final ExportClientsUseCase exportClientsUseCase;
+  private final GetClientOverviewUseCase getClientOverviewUseCase;
 
   public ClientController(
       CreateClientUseCase createClientUseCase,
       GetClientUseCase getClientUseCase,
       UpdateClientUseCase updateClientUseCase,
-      DeleteClientUseCase deleteClientUseCase) {
+      DeleteClientUseCase deleteClientUseCase,
+      DeleteClientsUseCase deleteClientsUseCase,
+      ImportClientsUseCase importClientsUseCase,
+      ExportClientsUseCase exportClientsUseCase,
+      GetClientOverviewUseCase getClientOverviewUseCase) {
     this.createClientUseCase = createClientUseCase;
     this.getClientUseCase = getClientUseCase;
     this.updateClientUseCase = updateClientUseCase;
     this.deleteClientUseCase = deleteClientUseCase;
+    this.deleteClientsUseCase = deleteClientsUseCase;
+    this.importClientsUseCase = importClientsUseCase;
+    this.exportClientsUseCase = exportClientsUseCase;
+    this.getClientOverviewUseCase = getClientOverviewUseCase;
   }
 
   @PostMapping("/persons")
@@ -86,7 +137,9 @@ public class ClientController {
             .path("/api/v1/clients/persons/{id}")
             .buildAndExpand(createdPerson.getId())
             .toUri();
-    return ResponseEntity.created(location).body(response);
+    return ResponseEntity.created(location)
+        .header(ConsistencyToken.HEADER, ConsistencyToken.issue())
+        .body(response);
   }
 
   @PostMapping("/companies")
@@ -121,7 +174,58 @@ public class ClientController {
             .path("/api/v1/clients/companies/{id}")
             .buildAndExpand(createdCompany.getId())
             .toUri();
-    return ResponseEntity.created(location).body(response);
+    return ResponseEntity.created(location)
+        .header(ConsistencyToken.HEADER, ConsistencyToken.issue())
+        .body(response);
+  }
+
+  @PostMapping(
+      value = "/import",
+      consumes = {ClientImportParser.NDJSON_VALUE, ClientImportParser.CSV_VALUE})
+  @Operation(
+      summary = "Bulk import persons and companies",
+      description =
+          "Accepts NDJSON (one client object per line) or CSV with a header row, using the"
+              + " columns type, name, email, phone, birthDate and companyIdentifier. Valid rows are"
+              + " inserted in batches; the report gives the outcome of every row.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import processed; see the per-row report",
+            content = @Content(schema = @Schema(implementation = ClientImportReport.class))),
+        @ApiResponse(responseCode = "415", description = "Unsupported content type")
+      })
+  public ResponseEntity<ClientImportReport> importClients(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) {
+    try (Stream<ClientImportRow> rows = ClientImportParser.parse(body, contentType)) {
+      ClientImportReport report = importClientsUseCase.execute(rows);
+      return ResponseEntity.ok()
+          .header(ConsistencyToken.HEADER, ConsistencyToken.issue())
+          .body(report);
+    }
+  }
+
+  @GetMapping(
+      value = "/export",
+      produces = {RowExporter.NDJSON_VALUE, RowExporter.CSV_VALUE})
+  @Operation(
+      summary = "Export all clients",
+      description =
+          "Streams every client ordered by id as NDJSON or, when preferred in the Accept header,"
+              + " as CSV with a header row, using the import columns plus id and createdAt. Rows"
+              + " are read through a database cursor and written as they arrive.")
+  @ApiResponse(responseCode = "200", description = "Clients streamed")
+  public ResponseEntity<StreamingResponseBody> exportClients(
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+    MediaType format = RowExporter.negotiate(accept);
+    String filename = format.equals(RowExporter.CSV) ? "clients.csv" : "clients.ndjson";
+    return ResponseEntity.ok()
+        .contentType(format)
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString())
+        .body(EXPORTER.stream(format, exportClientsUseCase::export));
   }
 
   @GetMapping("/{id}")
@@ -133,18 +237,63 @@ public class ClientController {
             description = "Client found",
             content =
                 @Content(schema = @Schema(oneOf = {PersonResponse.class, CompanyResponse.class}))),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Unchanged since the If-None-Match tag or If-Modified-Since date"),
         @ApiResponse(
             responseCode = "404",
             description = "Client not found",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
       })
   public ResponseEntity<ClientResponse> getClient(
-      @Parameter(description = "Client ID") @PathVariable UUID id) {
+      @Parameter(description = "Client ID") @PathVariable UUID id, WebRequest request) {
+    if (ContentTag.notModified(request, getClientUseCase.contentStamp(id))) {
+      return null;
+    }
     Client client = getClientUseCase.executeWithContracts(id);
     ClientResponse response = mapToClientResponse(client);
     return ResponseEntity.ok(response);
   }
 
+  @GetMapping("/{id}/overview")
+  @Operation(
+      summary = "Get a client with its active contracts and their total cost",
+      description =
+          "Combines the client, a page of its active contracts and the total cost of all of them,"
+              + " loaded in parallel, in place of three separate requests.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Client overview found",
+            content = @Content(schema = @Schema(implementation = ClientOverviewResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid page size",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Client not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<ClientOverviewResponse> getClientOverview(
+      @Parameter(description = "Client ID") @PathVariable UUID id,
+      @Parameter(description = "Page number of the active contracts (0-based)")
+          @RequestParam(defaultValue = "0")
+          int page,
+      @Parameter(description = "Page size of the active contracts, at most " + PageSize.MAX)
+          @RequestParam(defaultValue = "10")
+          int size) {
+    Pageable pageable = PageRequest.of(page, PageSize.validate(size));
+    ClientOverview overview = getClientOverviewUseCase.execute(id, pageable);
+    ClientOverviewResponse response =
+        new ClientOverviewResponse(
+            mapToClientResponse(overview.client()),
+            PaginationResponse.of(overview.activeContracts().map(this::mapToContractResponse)),
+            mapToMoneyResponse(overview.totalCost()));
+    return ResponseEntity.ok(response);
+  }
+
   @GetMapping
   @Operation(summary = "Get all clients with pagination")
   @ApiResponses(
@@ -152,18 +301,61 @@ public class ClientController {
         @ApiResponse(
             responseCode = "200",
             description = "Clients retrieved successfully",
-            content = @Content(schema = @Schema(implementation = PaginationResponse.class)))
+            content = @Content(schema = @Schema(implementation = PaginationResponse.class))),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Unchanged since the If-None-Match tag or If-Modified-Since date"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid page size",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
       })
   public ResponseEntity<PaginationResponse<ClientResponse>> getAllClients(
       @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-      @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
-    Pageable pageable = PageRequest.of(page, size);
+      @Parameter(description = "Page size, at most " + PageSize.MAX)
+          @RequestParam(defaultValue = "10")
+          int size,
+      WebRequest request) {
+    Pageable pageable = PageRequest.of(page, PageSize.validate(size));
+    if (ContentTag.notModified(request, getClientUseCase.contentStampOfAll())) {
+      return null;
+    }
     Page<Client> clientPage = getClientUseCase.executeWithContracts(pageable);
     Page<ClientResponse> clientResponsePage = clientPage.map(this::mapToClientResponse);
     PaginationResponse<ClientResponse> response = PaginationResponse.of(clientResponsePage);
     return ResponseEntity.ok(response);
   }
 
+  @GetMapping("/scroll")
+  @Operation(
+      summary = "Get all clients with keyset (cursor) pagination",
+      description =
+          "Pages through clients ordered by creation date. Pass the returned nextCursor as"
+              + " 'after' to fetch the following page; every page costs the same as the first.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Clients retrieved successfully",
+            content = @Content(schema = @Schema(implementation = CursorPaginationResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<CursorPaginationResponse<ClientResponse>> scrollClients(
+      @Parameter(description = "Cursor from the previous page") @RequestParam(required = false)
+          String after,
+      @Parameter(description = "Page size, at most " + PageSize.MAX)
+          @RequestParam(defaultValue = "10")
+          int size) {
+    Cursor cursor = after != null ? Cursor.decode(after) : null;
+    CursorPage<Client> clientPage = getClientUseCase.executeWithContracts(cursor, size);
+    CursorPaginationResponse<ClientResponse> response =
+        CursorPaginationResponse.of(clientPage.map(this::mapToClientResponse), size);
+    return ResponseEntity.ok(response);
+  }
+
   @PutMapping("/{id}")
   @Operation(summary = "Update a client")
   @ApiResponses(
@@ -212,7 +404,9 @@ public class ClientController {
     }
     Client savedClient = updateClientUseCase.execute(id, updatedClient);
     ClientResponse response = mapToClientResponse(savedClient);
-    return ResponseEntity.ok(response);
+    return ResponseEntity.ok()
+        .header(ConsistencyToken.HEADER, ConsistencyToken.issue())
+        .body(response);
   }
 
   @DeleteMapping("/{id}")
@@ -229,7 +423,36 @@ public class ClientController {
   public ResponseEntity<Void> deleteClient(
       @Parameter(description = "Client ID") @PathVariable UUID id) {
     deleteClientUseCase.execute(id);
-    return ResponseEntity.noContent().build();
+    return ResponseEntity.noContent()
+        .header(ConsistencyToken.HEADER, ConsistencyToken.issue())
+        .build();
+  }
+
+  @DeleteMapping
+  @Operation(
+      summary = "Delete several clients",
+      description =
+          "Deletes the clients in chunks, each in its own transaction. IDs that match no client"
+              + " are listed in notFoundClientIds instead of failing the request.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Clients deleted",
+            content =
+                @Content(schema = @Schema(implementation = BatchDeleteClientsResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<BatchDeleteClientsResponse> deleteClients(
+      @Valid @RequestBody BatchDeleteClientsRequest request) {
+    List<UUID> notFound = deleteClientsUseCase.execute(request.clientIds());
+    int requested = (int) request.clientIds().stream().distinct().count();
+    return ResponseEntity.ok()
+        .header(ConsistencyToken.HEADER, ConsistencyToken.issue())
+        .body(new BatchDeleteClientsResponse(requested - notFound.size(), notFound));
   }
 
   private ClientResponse mapToClientResponse(Client client) {
@@ -280,4 +503,24 @@ public class ClientController {
         company.getCompanyIdentifier().value(),
         company.getType());
   }
+
+  private ContractResponse mapToContractResponse(Contract contract) {
+    return new ContractResponse(
+        contract.getId(),
+        contract.getClient().getId(),
+        contract.getClient().getName(),
+        contract.getStartDate(),
+        contract.getEndDate().orElse(null),
+        contract.getCostAmount().amount(),
+        contract.getCostAmount().currency().getCurrencyCode(),
+        contract.isActive(),
+        contract.getCreatedAt(),
+        contract.getVersion());
+  }
+
+  private MoneyResponse mapToMoneyResponse(Optional<Money> total) {
+    return total
+        .map(money -> new MoneyResponse(money.amount(), money.currency().getCurrencyCode()))
+        .orElseGet(() -> new MoneyResponse(BigDecimal.ZERO.setScale(2), "CHF"));
+  }
 }
@@ -1,16 +1,36 @@
 package com.vaudoise.api_factory.infrastructure.web.controller;
 
+import com.vaudoise.api_factory.application.dto.request.BatchTotalCostRequest;
+import com.vaudoise.api_factory.application.dto.request.BulkCreateContractsRequest;
+import com.vaudoise.api_factory.application.dto.request.CostAdjustmentRequest;
 import com.vaudoise.api_factory.application.dto.request.CreateContractRequest;
 import com.vaudoise.api_factory.application.dto.request.UpdateContractCostRequest;
+import com.vaudoise.api_factory.application.dto.response.BatchTotalCostResponse;
+import com.vaudoise.api_factory.application.dto.response.BulkCreateContractsResponse;
 import com.vaudoise.api_factory.application.dto.response.ContractResponse;
+import com.vaudoise.api_factory.application.dto.response.ContractsAsOfResponse;
+import com.vaudoise.api_factory.application.dto.response.CostAdjustmentResponse;
+import com.vaudoise.api_factory.application.dto.response.CursorPaginationResponse;
 import com.vaudoise.api_factory.application.dto.response.ErrorResponse;
 import com.vaudoise.api_factory.application.dto.response.MoneyResponse;
 import com.vaudoise.api_factory.application.dto.response.PaginationResponse;
 import com.vaudoise.api_factory.application.usecase.contract.*;
-import com.vaudoise.api_factory.domain.exception.ContractNotFoundException;
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import com.vaudoise.api_factory.domain.model.ClientCostsAsOf;
 import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.ContractCostChange;
+import com.vaudoise.api_factory.domain.model.ContractExportRow;
+import com.vaudoise.api_factory.domain.model.CostAdjustmentPreview;
 import com.vaudoise.api_factory.domain.model.Money;
-import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import com.vaudoise.api_factory.domain.model.NewContract;
+import com.vaudoise.api_factory.domain.repository.ContractFilter;
+import com.vaudoise.api_factory.domain.repository.Cursor;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
+import com.vaudoise.api_factory.domain.repository.PageSize;
+import com.vaudoise.api_factory.infrastructure.web.consistency.ConsistencyToken;
+import com.vaudoise.api_factory.infrastructure.web.consistency.ContentTag;
+import com.vaudoise.api_factory.infrastructure.web.consistency.VersionTag;
+import com.vaudoise.api_factory.infrastructure.web.exporter.RowExporter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,14 +43,24 @@ import java.math.BigDecimal;
 import java.net.URI;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
@@ -38,23 +68,43 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 @Tag(name = "Contracts", description = "Operations for managing insurance contracts")
 public class ContractController {
 
+  private static final RowExporter<ContractExportRow> EXPORTER =
+      RowExporter.of(
+          RowExporter.column("id", ContractExportRow::id),
+          RowExporter.column("clientId", ContractExportRow::clientId),
+          RowExporter.column("startDate", ContractExportRow::startDate),
+          RowExporter.column("endDate", ContractExportRow::endDate),
+          RowExporter.column("costAmount", ContractExportRow::costAmount),
+          RowExporter.column("costCurrency", ContractExportRow::costCurrency),
+          RowExporter.column("createdAt", ContractExportRow::createdAt),
+          RowExporter.column("updatedAt", ContractExportRow::updatedAt));
+
   private final CreateContractUseCase createContractUseCase;
+  private final CreateContractsUseCase createContractsUseCase;
   private final GetActiveContractsUseCase getActiveContractsUseCase;
   private final UpdateContractCostUseCase updateContractCostUseCase;
   private final CalculateTotalCostUseCase calculateTotalCostUseCase;
-  private final ContractRepository contractRepository;
+  private final AdjustContractCostsUseCase adjustContractCostsUseCase;
+  private final ExportContractsUseCase exportContractsUseCase;
+  private final GetContractsAsOfUseCase getContractsAsOfUseCase;
 
   public ContractController(
       CreateContractUseCase createContractUseCase,
+      CreateContractsUseCase createContractsUseCase,
       GetActiveContractsUseCase getActiveContractsUseCase,
       UpdateContractCostUseCase updateContractCostUseCase,
       CalculateTotalCostUseCase calculateTotalCostUseCase,
-      ContractRepository contractRepository) {
+      AdjustContractCostsUseCase adjustContractCostsUseCase,
+      ExportContractsUseCase exportContractsUseCase,
+      GetContractsAsOfUseCase getContractsAsOfUseCase) {
     this.createContractUseCase = createContractUseCase;
+    this.createContractsUseCase = createContractsUseCase;
     this.getActiveContractsUseCase = getActiveContractsUseCase;
     this.updateContractCostUseCase = updateContractCostUseCase;
     this.calculateTotalCostUseCase = calculateTotalCostUseCase;
-    this.contractRepository = contractRepository;
+    this.adjustContractCostsUseCase = adjustContractCostsUseCase;
+    this.exportContractsUseCase = exportContractsUseCase;
+    this.getContractsAsOfUseCase = getContractsAsOfUseCase;
   }
 
   @PostMapping
@@ -92,7 +142,57 @@ public class ContractController {
             .buildAndExpand(contract.getId())
             .toUri();
 
-    return ResponseEntity.created(location).body(response);
+    return ResponseEntity.created(location)
+        .header(ConsistencyToken.HEADER, ConsistencyToken.issue())
+        .eTag(VersionTag.of(contract.getVersion()))
+        .body(response);
+  }
+
+  @PostMapping("/bulk")
+  @Operation(
+      summary = "Create several contracts at once",
+      description =
+          "Inserts all contracts in one transaction. If any referenced client does not exist,"
+              + " nothing is created.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Contracts created successfully",
+            content =
+                @Content(schema = @Schema(implementation = BulkCreateContractsResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Client not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<BulkCreateContractsResponse> createContracts(
+      @Valid @RequestBody BulkCreateContractsRequest request) {
+
+    List<NewContract> contracts = new ArrayList<>(request.contracts().size());
+    for (int i = 0; i < request.contracts().size(); i++) {
+      BulkCreateContractsRequest.ContractItem item = request.contracts().get(i);
+      try {
+        contracts.add(
+            new NewContract(
+                item.clientId(),
+                Money.chf(new BigDecimal(item.costAmount())),
+                item.startDate() != null ? LocalDate.parse(item.startDate()) : null,
+                item.endDate() != null ? LocalDate.parse(item.endDate()) : null));
+      } catch (IllegalArgumentException e) {
+        throw new InvalidBusinessRuleException("contracts[" + i + "]: " + e.getMessage(), e);
+      }
+    }
+
+    List<UUID> ids = createContractsUseCase.execute(contracts);
+
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .header(ConsistencyToken.HEADER, ConsistencyToken.issue())
+        .body(BulkCreateContractsResponse.of(ids));
   }
 
   @GetMapping("/active")
@@ -103,6 +203,13 @@ public class ContractController {
             responseCode = "200",
             description = "Active contracts retrieved successfully",
             content = @Content(schema = @Schema(implementation = PaginationResponse.class))),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Unchanged since the If-None-Match tag or If-Modified-Since date"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid page size",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(
             responseCode = "404",
             description = "Client not found",
@@ -113,9 +220,15 @@ public class ContractController {
       @Parameter(description = "Updated since timestamp") @RequestParam(required = false)
           Instant updatedSince,
       @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-      @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+      @Parameter(description = "Page size, at most " + PageSize.MAX)
+          @RequestParam(defaultValue = "10")
+          int size,
+      WebRequest request) {
 
-    Pageable pageable = PageRequest.of(page, size);
+    Pageable pageable = PageRequest.of(page, PageSize.validate(size));
+    if (ContentTag.notModified(request, getActiveContractsUseCase.contentStamp(clientId))) {
+      return null;
+    }
     Page<Contract> contractPage =
         getActiveContractsUseCase.execute(clientId, updatedSince, pageable);
 
@@ -125,6 +238,69 @@ public class ContractController {
     return ResponseEntity.ok(response);
   }
 
+  @GetMapping("/active/scroll")
+  @Operation(
+      summary = "Get active contracts for a client with keyset (cursor) pagination",
+      description =
+          "Pages through active contracts ordered by creation date. Pass the returned nextCursor"
+              + " as 'after' to fetch the following page.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Active contracts retrieved successfully",
+            content = @Content(schema = @Schema(implementation = CursorPaginationResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor or page size",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Client not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<CursorPaginationResponse<ContractResponse>> scrollActiveContracts(
+      @Parameter(description = "Client ID") @RequestParam UUID clientId,
+      @Parameter(description = "Updated since timestamp") @RequestParam(required = false)
+          Instant updatedSince,
+      @Parameter(description = "Cursor from the previous page") @RequestParam(required = false)
+          String after,
+      @Parameter(description = "Page size, at most " + PageSize.MAX)
+          @RequestParam(defaultValue = "10")
+          int size) {
+
+    Cursor cursor = after != null ? Cursor.decode(after) : null;
+    CursorPage<Contract> contractPage =
+        getActiveContractsUseCase.execute(clientId, updatedSince, cursor, size);
+
+    CursorPaginationResponse<ContractResponse> response =
+        CursorPaginationResponse.of(contractPage.map(this::mapToContractResponse), size);
+
+    return ResponseEntity.ok(response);
+  }
+
+  @GetMapping(
+      value = "/export",
+      produces = {RowExporter.NDJSON_VALUE, RowExporter.CSV_VALUE})
+  @Operation(
+      summary = "Export all contracts",
+      description =
+          "Streams every contract ordered by id as NDJSON or, when preferred in the Accept header,"
+              + " as CSV with a header row. Rows are read through a database cursor and written as"
+              + " they arrive, so the export has no size limit.")
+  @ApiResponse(responseCode = "200", description = "Contracts streamed")
+  public ResponseEntity<StreamingResponseBody> exportContracts(
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+    MediaType format = RowExporter.negotiate(accept);
+    String filename = format.equals(RowExporter.CSV) ? "contracts.csv" : "contracts.ndjson";
+    return ResponseEntity.ok()
+        .contentType(format)
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString())
+        .body(EXPORTER.stream(format, exportContractsUseCase::export));
+  }
+
   @PutMapping("/{id}/cost")
   @Operation(summary = "Update contract cost")
   @ApiResponses(
@@ -140,33 +316,83 @@ public class ContractController {
         @ApiResponse(
             responseCode = "404",
             description = "Contract not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(
+            responseCode = "412",
+            description = "Contract changed since the version given in If-Match",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
       })
   public ResponseEntity<ContractResponse> updateContractCost(
       @Parameter(description = "Contract ID") @PathVariable UUID id,
+      @Parameter(description = "ETag of the contract version the new cost is based on")
+          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+          String ifMatch,
       @Valid @RequestBody UpdateContractCostRequest request) {
 
-    Contract contractBefore =
-        contractRepository
-            .findById(id)
-            .orElseThrow(() -> new ContractNotFoundException("Contract not found with id: " + id));
-    Instant updateDateBefore = contractBefore.getUpdateDate();
-
     Money newCost = Money.chf(new BigDecimal(request.costAmount()));
-    Contract contract = updateContractCostUseCase.execute(id, newCost);
+    ContractCostChange change =
+        updateContractCostUseCase.execute(id, newCost, VersionTag.requiredVersion(ifMatch));
+    Contract contract = change.contract();
 
-    Contract contractAfter = contractRepository.findById(id).get();
-    Instant updateDateAfter = contractAfter.getUpdateDate();
+    HttpHeaders headers = new HttpHeaders();
+    headers.add(ConsistencyToken.HEADER, ConsistencyToken.issue());
+    headers.setETag(VersionTag.of(contract.getVersion()));
+    headers.add("X-Update-Date-Before", change.previousUpdateDate().toString());
+    headers.add("X-Update-Date-After", contract.getUpdateDate().toString());
+    headers.add("X-Update-Date-Changed", Boolean.toString(change.updateDateChanged()));
 
-    ContractResponse response = mapToContractResponse(contract);
+    return new ResponseEntity<>(mapToContractResponse(contract), headers, HttpStatus.OK);
+  }
 
-    HttpHeaders headers = new HttpHeaders();
-    headers.add("X-Update-Date-Before", updateDateBefore.toString());
-    headers.add("X-Update-Date-After", updateDateAfter.toString());
-    headers.add(
-        "X-Update-Date-Changed", updateDateAfter.isAfter(updateDateBefore) ? "true" : "false");
+  @PostMapping("/active/cost-adjustments")
+  @Operation(
+      summary = "Multiply the cost of all active contracts matching a filter",
+      description =
+          "Applies the multiplier with the same HALF_UP rounding to cents as a single cost update."
+              + " The update runs as set-based statements in chunks. With dryRun=true nothing is"
+              + " written and only the aggregate effect is returned.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Adjustment applied or previewed",
+            content = @Content(schema = @Schema(implementation = CostAdjustmentResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input or an adjusted cost would be out of range",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<CostAdjustmentResponse> adjustCosts(
+      @Valid @RequestBody CostAdjustmentRequest request) {
 
-    return new ResponseEntity<>(response, headers, HttpStatus.OK);
+    ContractFilter filter =
+        new ContractFilter(
+            request.clientType(),
+            request.minCost() != null ? new BigDecimal(request.minCost()) : null,
+            request.maxCost() != null ? new BigDecimal(request.maxCost()) : null,
+            request.startDateFrom() != null ? LocalDate.parse(request.startDateFrom()) : null,
+            request.startDateTo() != null ? LocalDate.parse(request.startDateTo()) : null);
+
+    AdjustContractCostsUseCase.Result result =
+        adjustContractCostsUseCase.execute(
+            filter, new BigDecimal(request.multiplier()), request.dryRun());
+
+    CostAdjustmentPreview preview = result.preview();
+    CostAdjustmentResponse response =
+        new CostAdjustmentResponse(
+            request.dryRun(),
+            preview.matchedContracts(),
+            preview.changedContracts(),
+            result.updatedContracts(),
+            new MoneyResponse(preview.totalBefore().setScale(2), "CHF"),
+            new MoneyResponse(preview.totalAfter().setScale(2), "CHF"));
+
+    if (request.dryRun()) {
+      return ResponseEntity.ok(response);
+    }
+    return ResponseEntity.ok()
+        .header(ConsistencyToken.HEADER, ConsistencyToken.issue())
+        .body(response);
   }
 
   @GetMapping("/active/total-cost")
@@ -185,13 +411,100 @@ public class ContractController {
   public ResponseEntity<MoneyResponse> calculateTotalCost(
       @Parameter(description = "Client ID") @RequestParam UUID clientId) {
 
-    Money totalCost = calculateTotalCostUseCase.execute(clientId);
-    MoneyResponse response =
-        new MoneyResponse(totalCost.amount(), totalCost.currency().getCurrencyCode());
+    Optional<Money> totalCost = calculateTotalCostUseCase.execute(clientId);
+    MoneyResponse response = mapToMoneyResponse(totalCost);
 
     return ResponseEntity.ok(response);
   }
 
+  @GetMapping("/active/as-of")
+  @Operation(
+      summary = "List a client's active contracts and total cost as of a past date",
+      description =
+          "Contracts active on the given date, each priced with the cost it had at the end of that"
+              + " day according to the contract cost history.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Contracts and total cost as of the date",
+            content = @Content(schema = @Schema(implementation = ContractsAsOfResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Date missing, malformed or in the future",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Client not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<ContractsAsOfResponse> getContractsAsOf(
+      @Parameter(description = "Client ID") @RequestParam UUID clientId,
+      @Parameter(description = "Date (yyyy-MM-dd)")
+          @RequestParam
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate date) {
+
+    ClientCostsAsOf asOf = getContractsAsOfUseCase.execute(clientId, date);
+    List<ContractsAsOfResponse.ContractAsOf> contracts =
+        asOf.contracts().stream()
+            .map(
+                c ->
+                    new ContractsAsOfResponse.ContractAsOf(
+                        c.contractId(),
+                        c.startDate(),
+                        c.endDate(),
+                        c.cost().amount(),
+                        c.cost().currency().getCurrencyCode()))
+            .toList();
+
+    return ResponseEntity.ok(
+        new ContractsAsOfResponse(clientId, date, contracts, mapToMoneyResponse(asOf.totalCost())));
+  }
+
+  @PostMapping("/active/total-cost/batch")
+  @Operation(
+      summary = "Calculate total cost of active contracts for several clients",
+      description =
+          "Computes all totals in a single query. Client IDs that do not exist are listed in"
+              + " unknownClientIds instead of failing the whole request.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Total costs calculated successfully",
+            content = @Content(schema = @Schema(implementation = BatchTotalCostResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<BatchTotalCostResponse> calculateTotalCosts(
+      @Valid @RequestBody BatchTotalCostRequest request) {
+
+    Map<UUID, Optional<Money>> totals = calculateTotalCostUseCase.executeBatch(request.clientIds());
+
+    List<BatchTotalCostResponse.ClientTotalCost> found = new ArrayList<>();
+    List<UUID> unknown = new ArrayList<>();
+    for (UUID clientId : new LinkedHashSet<>(request.clientIds())) {
+      if (totals.containsKey(clientId)) {
+        found.add(
+            new BatchTotalCostResponse.ClientTotalCost(
+                clientId, mapToMoneyResponse(totals.get(clientId))));
+      } else {
+        unknown.add(clientId);
+      }
+    }
+
+    return ResponseEntity.ok(new BatchTotalCostResponse(found, unknown));
+  }
+
+  private MoneyResponse mapToMoneyResponse(Optional<Money> total) {
+    return total
+        .map(money -> new MoneyResponse(money.amount(), money.currency().getCurrencyCode()))
+        .orElseGet(() -> new MoneyResponse(BigDecimal.ZERO.setScale(2), "CHF"));
+  }
+
   private ContractResponse mapToContractResponse(Contract contract) {
     return new ContractResponse(
         contract.getId(),
@@ -202,6 +515,7 @@ public class ContractController {
         contract.getCostAmount().amount(),
         contract.getCostAmount().currency().getCurrencyCode(),
         contract.isActive(),
-        contract.getCreatedAt());
+        contract.getCreatedAt(),
+        contract.getVersion());
   }
 }
@@ -0,0 +1,72 @@
+package com.vaudoise.api_factory.infrastructure.web.controller;
+
+import com.vaudoise.api_factory.application.dto.response.ErrorResponse;
+import com.vaudoise.api_factory.infrastructure.web.stream.ContractActivityStreams;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1")
+@Tag(name = "Contract streams", description = "Live contract activity as server-sent events")
+public class ContractStreamController {
+
+  private final ContractActivityStreams contractActivityStreams;
+
+  public ContractStreamController(ContractActivityStreams contractActivityStreams) {
+    this.contractActivityStreams = contractActivityStreams;
+  }
+
+  @GetMapping("/contracts/stream")
+  @Operation(
+      summary = "Stream a client's contract activity",
+      description =
+          "Sends the client's total cost of active contracts, then contracts-created and"
+              + " contract-costs-updated events, each followed by the new total-cost. Ends with"
+              + " client-deleted when the client is deleted, or with evicted when the reader falls"
+              + " too far behind; reconnect to resume. Events missed while disconnected are not"
+              + " replayed, use /api/v1/changes for that.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Event stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Client not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public SseEmitter streamClientContracts(
+      @Parameter(description = "Client ID") @RequestParam UUID clientId) {
+    return contractActivityStreams.subscribe(clientId, new SseEmitter());
+  }
+
+  @GetMapping("/admin/contracts/stream")
+  @Operation(
+      summary = "Stream the contract activity of every client",
+      description =
+          "Firehose for administration: the events of /api/v1/contracts/stream for all clients,"
+              + " without the opening total.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Event stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE))
+      })
+  public SseEmitter streamAllContracts() {
+    return contractActivityStreams.subscribeAll(new SseEmitter());
+  }
+}
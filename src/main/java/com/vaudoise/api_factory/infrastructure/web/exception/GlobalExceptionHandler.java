@@ -2,13 +2,16 @@ package com.vaudoise.api_factory.infrastructure.web.exception;
 
 import com.vaudoise.api_factory.application.dto.response.ErrorResponse;
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.exception.ContractModifiedException;
 import com.vaudoise.api_factory.domain.exception.ContractNotFoundException;
 import com.vaudoise.api_factory.domain.exception.DuplicateEmailException;
 import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import com.vaudoise.api_factory.infrastructure.persistence.repository.ClientUniqueKey;
 import com.vaudoise.api_factory.infrastructure.web.ApiSchemas;
 import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -34,6 +37,29 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
   }
 
+  /**
+   * Constraint violations that reach the web layer, e.g. raised at commit. Client unique keys read
+   * like {@link DuplicateEmailException}; anything else is a conflict without the SQL details.
+   */
+  @ExceptionHandler(DataIntegrityViolationException.class)
+  public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(
+      DataIntegrityViolationException ex, WebRequest request) {
+    String detail =
+        ClientUniqueKey.violatedBy(ex)
+            .map(ClientUniqueKey::message)
+            .orElse("The request conflicts with stored data");
+    ErrorResponse errorResponse =
+        new ErrorResponse(
+            "about:blank",
+            "Conflict",
+            detail,
+            HttpStatus.CONFLICT.value(),
+            request.getDescription(false),
+            Instant.now(),
+            null);
+    return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+  }
+
   @ExceptionHandler(ClientNotFoundException.class)
   public ResponseEntity<ErrorResponse> handleClientNotFoundException(
       ClientNotFoundException ex, WebRequest request) {
@@ -106,4 +132,21 @@ public class GlobalExceptionHandler {
 
     return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
   }
+
+  @ExceptionHandler(ContractModifiedException.class)
+  public ResponseEntity<ErrorResponse> handleContractModifiedException(
+      ContractModifiedException ex, WebRequest request) {
+
+    ErrorResponse errorResponse =
+        new ErrorResponse(
+            "https://httpstatuses.com/412",
+            "Precondition Failed",
+            ex.getMessage(),
+            HttpStatus.PRECONDITION_FAILED.value(),
+            request.getDescription(false).replace("uri=", ""),
+            Instant.now(),
+            null);
+
+    return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+  }
 }
@@ -0,0 +1,176 @@
+package com.vaudoise.api_factory.infrastructure.web.exporter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes rows as NDJSON or CSV straight to a response stream, one row at a time, so an export never
+ * holds more than a write buffer in memory. The columns are fixed up front; {@code null} values
+ * become JSON nulls or empty CSV fields.
+ */
+public final class RowExporter<T> {
+  public static final String NDJSON_VALUE = "application/x-ndjson";
+  public static final String CSV_VALUE = "text/csv";
+  public static final MediaType NDJSON = MediaType.parseMediaType(NDJSON_VALUE);
+  public static final MediaType CSV = MediaType.parseMediaType(CSV_VALUE);
+
+  private static final JsonFactory JSON =
+      JsonFactory.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final List<Column<T>> columns;
+
+  private RowExporter(List<Column<T>> columns) {
+    this.columns = columns;
+  }
+
+  @SafeVarargs
+  public static <T> RowExporter<T> of(Column<T>... columns) {
+    return new RowExporter<>(List.of(columns));
+  }
+
+  public static <T> Column<T> column(String name, Function<T, ?> value) {
+    return new Column<>(name, value);
+  }
+
+  /**
+   * Picks the export format from an {@code Accept} header: CSV when it is the preferred of the two
+   * supported types, NDJSON otherwise.
+   */
+  public static MediaType negotiate(String accept) {
+    if (accept == null || accept.isBlank()) {
+      return NDJSON;
+    }
+    return MediaType.parseMediaTypes(accept).stream()
+        .filter(type -> type.equalsTypeAndSubtype(CSV) || type.equalsTypeAndSubtype(NDJSON))
+        .max(Comparator.comparingDouble(MediaType::getQualityValue))
+        .map(type -> type.equalsTypeAndSubtype(CSV) ? CSV : NDJSON)
+        .orElse(NDJSON);
+  }
+
+  /**
+   * Returns a response body that, once the container starts writing it, hands a row sink to {@code
+   * source} and writes whatever it receives in {@code format}.
+   */
+  public StreamingResponseBody stream(MediaType format, Consumer<Consumer<T>> source) {
+    return out -> {
+      try (Sink sink = open(out, format)) {
+        source.accept(sink);
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    };
+  }
+
+  private Sink open(OutputStream out, MediaType format) throws IOException {
+    Writer writer =
+        new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    return format.equalsTypeAndSubtype(CSV) ? new CsvSink(writer) : new NdjsonSink(writer);
+  }
+
+  public record Column<T>(String name, Function<T, ?> value) {}
+
+  abstract class Sink implements Consumer<T>, Closeable {
+
+    @Override
+    public void accept(T row) {
+      try {
+        write(row);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    abstract void write(T row) throws IOException;
+  }
+
+  private final class CsvSink extends Sink {
+    private final Writer writer;
+
+    private CsvSink(Writer writer) throws IOException {
+      this.writer = writer;
+      writeLine(columns.stream().map(Column::name).toList());
+    }
+
+    @Override
+    void write(T row) throws IOException {
+      writeLine(columns.stream().map(column -> column.value().apply(row)).toList());
+    }
+
+    private void writeLine(List<?> values) throws IOException {
+      for (int i = 0; i < values.size(); i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        Object value = values.get(i);
+        if (value != null) {
+          writer.write(escape(value.toString()));
+        }
+      }
+      writer.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+      writer.flush();
+    }
+  }
+
+  private final class NdjsonSink extends Sink {
+    private final JsonGenerator generator;
+
+    private NdjsonSink(Writer writer) throws IOException {
+      this.generator = JSON.createGenerator(writer);
+      generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    void write(T row) throws IOException {
+      generator.writeStartObject();
+      for (Column<T> column : columns) {
+        generator.writeFieldName(column.name());
+        Object value = column.value().apply(row);
+        if (value == null) {
+          generator.writeNull();
+        } else if (value instanceof BigDecimal number) {
+          generator.writeNumber(number);
+        } else {
+          generator.writeString(value.toString());
+        }
+      }
+      generator.writeEndObject();
+      generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+      generator.close();
+    }
+  }
+
+  private static String escape(String value) {
+    if (value.indexOf(',') < 0
+        && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
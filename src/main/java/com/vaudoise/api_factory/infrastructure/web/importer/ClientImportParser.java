@@ -0,0 +1,147 @@
+package com.vaudoise.api_factory.infrastructure.web.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaudoise.api_factory.application.dto.request.ClientImportRow;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.springframework.http.MediaType;
+
+/**
+ * Lazily turns an NDJSON or CSV upload into {@link ClientImportRow}s, one per non-blank line, so an
+ * import never holds the whole file in memory. A line that cannot be read yields a row carrying a
+ * parse error instead of aborting the import.
+ *
+ * <p>NDJSON lines are objects with the fields {@code type, name, email, phone, birthDate,
+ * companyIdentifier}. CSV files start with a header naming the same columns, in any order; fields
+ * may be double-quoted.
+ */
+public final class ClientImportParser {
+  public static final String NDJSON_VALUE = "application/x-ndjson";
+  public static final String CSV_VALUE = "text/csv";
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+  private static final List<String> COLUMNS =
+      List.of("type", "name", "email", "phone", "birthDate", "companyIdentifier");
+
+  private ClientImportParser() {}
+
+  public static Stream<ClientImportRow> parse(InputStream body, MediaType contentType) {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    AtomicLong lineNumber = new AtomicLong();
+    Stream<NumberedLine> lines =
+        reader
+            .lines()
+            .map(text -> new NumberedLine(lineNumber.incrementAndGet(), text))
+            .filter(line -> !line.text().isBlank());
+    if (MediaType.parseMediaType(CSV_VALUE).isCompatibleWith(contentType)) {
+      return parseCsv(lines);
+    }
+    return lines.map(ClientImportParser::parseJsonLine);
+  }
+
+  private static ClientImportRow parseJsonLine(NumberedLine line) {
+    try {
+      JsonNode node = JSON.readTree(line.text());
+      if (!node.isObject()) {
+        return ClientImportRow.unparseable(line.number(), "Line is not a JSON object");
+      }
+      return new ClientImportRow(
+          line.number(),
+          text(node, "type"),
+          text(node, "name"),
+          text(node, "email"),
+          text(node, "phone"),
+          text(node, "birthDate"),
+          text(node, "companyIdentifier"),
+          null);
+    } catch (JsonProcessingException e) {
+      return ClientImportRow.unparseable(line.number(), "Invalid JSON: " + e.getOriginalMessage());
+    }
+  }
+
+  private static String text(JsonNode node, String field) {
+    JsonNode value = node.get(field);
+    return value == null || value.isNull() ? null : value.asText();
+  }
+
+  private static Stream<ClientImportRow> parseCsv(Stream<NumberedLine> lines) {
+    AtomicBoolean headerRead = new AtomicBoolean();
+    Map<String, Integer> header = new HashMap<>();
+    return lines
+        .map(
+            line -> {
+              if (headerRead.compareAndSet(false, true)) {
+                List<String> names = splitCsv(line.text());
+                for (int i = 0; names != null && i < names.size(); i++) {
+                  header.put(names.get(i).toLowerCase(Locale.ROOT), i);
+                }
+                return null;
+              }
+              return toRow(line, splitCsv(line.text()), header);
+            })
+        .filter(Objects::nonNull);
+  }
+
+  private static ClientImportRow toRow(
+      NumberedLine line, List<String> fields, Map<String, Integer> header) {
+    if (fields == null) {
+      return ClientImportRow.unparseable(line.number(), "Unterminated quoted field");
+    }
+    String[] values = new String[COLUMNS.size()];
+    for (int i = 0; i < COLUMNS.size(); i++) {
+      Integer index = header.get(COLUMNS.get(i).toLowerCase(Locale.ROOT));
+      if (index != null && index < fields.size() && !fields.get(index).isEmpty()) {
+        values[i] = fields.get(index);
+      }
+    }
+    return new ClientImportRow(
+        line.number(), values[0], values[1], values[2], values[3], values[4], values[5], null);
+  }
+
+  /** Splits one CSV record; returns {@code null} when a quoted field is not closed. */
+  static List<String> splitCsv(String text) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString().trim());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    if (quoted) {
+      return null;
+    }
+    fields.add(field.toString().trim());
+    return fields;
+  }
+
+  private record NumberedLine(long number, String text) {}
+}
@@ -0,0 +1,246 @@
+package com.vaudoise.api_factory.infrastructure.web.stream;
+
+import com.vaudoise.api_factory.application.dto.response.BatchTotalCostResponse.ClientTotalCost;
+import com.vaudoise.api_factory.application.dto.response.ContractActivityResponse;
+import com.vaudoise.api_factory.application.dto.response.MoneyResponse;
+import com.vaudoise.api_factory.application.usecase.contract.CalculateTotalCostUseCase;
+import com.vaudoise.api_factory.domain.event.ContractActivity;
+import com.vaudoise.api_factory.domain.event.ContractActivity.ClientDeleted;
+import com.vaudoise.api_factory.domain.event.ContractActivity.ContractCostsUpdated;
+import com.vaudoise.api_factory.domain.event.ContractActivity.ContractsCreated;
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.infrastructure.persistence.routing.PrimaryReadContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes committed {@link ContractActivity} to open event streams, each followed by the client's
+ * new active-cost total. A stream follows one client, or every client for the firehose.
+ *
+ * <p>Each stream buffers at most {@code app.contract-streams.buffer-size} events. A stream whose
+ * buffer is full is evicted: its backlog is dropped, it is told so with an {@code evicted} event
+ * and closed, and its reader reconnects and re-reads the total.
+ *
+ * <p>Publishing only queues, so the committing thread waits for neither readers nor the database.
+ * Each stream reads the new total on its own thread when it gets to the change, on the primary and
+ * in a transaction of its own. Its reads run in order, so it never receives an older total after a
+ * newer one, and changes queued behind each other share one read.
+ */
+@Component
+public class ContractActivityStreams implements MeterBinder {
+
+  private static final Logger log = LoggerFactory.getLogger(ContractActivityStreams.class);
+
+  static final String CONTRACTS_CREATED = "contracts-created";
+  static final String CONTRACT_COSTS_UPDATED = "contract-costs-updated";
+  static final String CLIENT_DELETED = "client-deleted";
+  static final String TOTAL_COST = "total-cost";
+  static final String EVICTED = "evicted";
+
+  private static final int LOCK_STRIPES = 64;
+
+  private final CalculateTotalCostUseCase calculateTotalCostUseCase;
+  private final TransactionTemplate readTransaction;
+  private final int bufferSize;
+  private final Map<UUID, Set<StreamSubscriber>> byClient = new ConcurrentHashMap<>();
+  private final Set<StreamSubscriber> firehose = ConcurrentHashMap.newKeySet();
+  private final Set<StreamSubscriber> all = ConcurrentHashMap.newKeySet();
+  private final Object[] locks = new Object[LOCK_STRIPES];
+  private final AtomicLong evictions = new AtomicLong();
+
+  public ContractActivityStreams(
+      CalculateTotalCostUseCase calculateTotalCostUseCase,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.contract-streams.buffer-size:256}") int bufferSize) {
+    this.calculateTotalCostUseCase = calculateTotalCostUseCase;
+    // Listeners run after the commit, when joining the finished transaction would read stale state
+    this.readTransaction = new TransactionTemplate(transactionManager);
+    this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.readTransaction.setReadOnly(true);
+    this.bufferSize = bufferSize;
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      locks[i] = new Object();
+    }
+  }
+
+  /**
+   * Opens {@code emitter} as a stream of the client's activity, starting with its current total.
+   *
+   * @throws ClientNotFoundException if the client does not exist; nothing is registered then
+   */
+  public SseEmitter subscribe(UUID clientId, SseEmitter emitter) {
+    // Only checks the client exists: a total read before registering could miss a change
+    readTotal(clientId);
+    StreamSubscriber subscriber = new StreamSubscriber(emitter, bufferSize, this::totalEvent);
+    synchronized (lockFor(clientId)) {
+      byClient.computeIfAbsent(clientId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+      all.add(subscriber);
+      subscriber.start(() -> remove(clientId, subscriber));
+      subscriber.offerTotal(clientId);
+    }
+    return emitter;
+  }
+
+  /** Opens {@code emitter} as a stream of every client's activity. */
+  public SseEmitter subscribeAll(SseEmitter emitter) {
+    StreamSubscriber subscriber = new StreamSubscriber(emitter, bufferSize, this::totalEvent);
+    firehose.add(subscriber);
+    all.add(subscriber);
+    subscriber.start(
+        () -> {
+          firehose.remove(subscriber);
+          all.remove(subscriber);
+        });
+    return emitter;
+  }
+
+  @TransactionalEventListener
+  public void on(ContractActivity activity) {
+    UUID clientId = activity.clientId();
+    if (!byClient.containsKey(clientId) && firehose.isEmpty()) {
+      return;
+    }
+
+    synchronized (lockFor(clientId)) {
+      StreamEvent event;
+      switch (activity) {
+        case ContractsCreated created ->
+            event = event(CONTRACTS_CREATED, clientId, created.contractIds());
+        case ContractCostsUpdated updated ->
+            event = event(CONTRACT_COSTS_UPDATED, clientId, updated.contractIds());
+        case ClientDeleted deleted -> {
+          StreamEvent tombstone = event(CLIENT_DELETED, clientId, List.of());
+          // The client's own streams have nothing left to follow
+          List.copyOf(byClient.getOrDefault(clientId, Set.of()))
+              .forEach(subscriber -> subscriber.finish(tombstone));
+          publish(List.copyOf(firehose), tombstone);
+          return;
+        }
+      }
+
+      for (StreamSubscriber subscriber : subscribersOf(clientId)) {
+        if (!subscriber.offer(event) || !subscriber.offerTotal(clientId)) {
+          evict(subscriber);
+        }
+      }
+    }
+  }
+
+  /** Keeps idle connections from being closed by proxies, and finds the dead ones. */
+  @Scheduled(fixedRateString = "${app.contract-streams.heartbeat-interval:PT15S}")
+  public void heartbeat() {
+    publish(List.copyOf(all), StreamEvent.HEARTBEAT);
+  }
+
+  int subscriberCount() {
+    return all.size();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("contract.streams.subscribers", all, Set::size)
+        .description("Open contract activity streams, including the firehose")
+        .register(registry);
+    FunctionCounter.builder("contract.streams.evictions", evictions, AtomicLong::get)
+        .description("Streams closed because their reader fell a full buffer behind")
+        .register(registry);
+  }
+
+  private void publish(List<StreamSubscriber> subscribers, StreamEvent event) {
+    for (StreamSubscriber subscriber : subscribers) {
+      if (!subscriber.offer(event)) {
+        evict(subscriber);
+      }
+    }
+  }
+
+  private void evict(StreamSubscriber subscriber) {
+    if (subscriber.finish(new StreamEvent(EVICTED, "Fell too far behind; reconnect to resume"))) {
+      evictions.incrementAndGet();
+      log.debug("Evicted an event stream that fell {} events behind", bufferSize);
+    }
+  }
+
+  private List<StreamSubscriber> subscribersOf(UUID clientId) {
+    Set<StreamSubscriber> own = byClient.getOrDefault(clientId, Set.of());
+    return Stream.concat(own.stream(), firehose.stream()).toList();
+  }
+
+  private void remove(UUID clientId, StreamSubscriber subscriber) {
+    all.remove(subscriber);
+    synchronized (lockFor(clientId)) {
+      byClient.computeIfPresent(
+          clientId,
+          (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+          });
+    }
+  }
+
+  /** The client's total as an event; run by a stream's own thread, which has nobody to fail. */
+  private Optional<StreamEvent> totalEvent(UUID clientId) {
+    try {
+      return Optional.of(new StreamEvent(TOTAL_COST, readTotal(clientId)));
+    } catch (ClientNotFoundException e) {
+      // Deleted since; its own event follows
+      return Optional.empty();
+    } catch (RuntimeException e) {
+      log.warn("Could not read the total cost of client {} for its streams", clientId, e);
+      return Optional.empty();
+    }
+  }
+
+  private ClientTotalCost readTotal(UUID clientId) {
+    // Replicas may not have the commit that triggered this read yet
+    boolean pinned = PrimaryReadContext.isPinned();
+    if (!pinned) {
+      PrimaryReadContext.pin();
+    }
+    try {
+      Optional<Money> total =
+          readTransaction.execute(status -> calculateTotalCostUseCase.execute(clientId));
+      return new ClientTotalCost(clientId, mapToMoneyResponse(total));
+    } finally {
+      if (!pinned) {
+        PrimaryReadContext.unpin();
+      }
+    }
+  }
+
+  private Object lockFor(UUID clientId) {
+    return locks[Math.floorMod(clientId.hashCode(), LOCK_STRIPES)];
+  }
+
+  private static StreamEvent event(String name, UUID clientId, List<UUID> contractIds) {
+    return new StreamEvent(name, new ContractActivityResponse(clientId, contractIds));
+  }
+
+  private static MoneyResponse mapToMoneyResponse(Optional<Money> total) {
+    return total
+        .map(money -> new MoneyResponse(money.amount(), money.currency().getCurrencyCode()))
+        .orElseGet(() -> new MoneyResponse(BigDecimal.ZERO.setScale(2), "CHF"));
+  }
+}
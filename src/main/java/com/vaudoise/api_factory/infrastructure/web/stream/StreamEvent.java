@@ -0,0 +1,18 @@
+package com.vaudoise.api_factory.infrastructure.web.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/** A server-sent event waiting in a subscriber's buffer; without a name it is a comment line. */
+record StreamEvent(String name, Object data) {
+
+  static final StreamEvent HEARTBEAT = new StreamEvent(null, "heartbeat");
+
+  /** A fresh builder per send: a built {@link SseEventBuilder} cannot be sent twice. */
+  SseEventBuilder toSse() {
+    if (name == null) {
+      return SseEmitter.event().comment(data.toString());
+    }
+    return SseEmitter.event().name(name).data(data);
+  }
+}
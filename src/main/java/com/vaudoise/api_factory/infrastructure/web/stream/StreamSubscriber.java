@@ -0,0 +1,109 @@
+package com.vaudoise.api_factory.infrastructure.web.stream;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * One open event stream. Publishers only queue into a bounded buffer, which a virtual thread of its
+ * own drains into the connection, so a slow reader never blocks the thread that published. Totals
+ * are queued as reads and run by that thread when it reaches them, so publishing never waits for
+ * the database either.
+ */
+final class StreamSubscriber {
+  private static final StreamEvent END = new StreamEvent(null, "end");
+
+  private final SseEmitter emitter;
+  private final BlockingQueue<StreamEvent> buffer;
+  private final Function<UUID, Optional<StreamEvent>> totals;
+  private final AtomicBoolean closed = new AtomicBoolean();
+  private Runnable onClose = () -> {};
+  private Thread drainer;
+
+  /** {@code totals} reads a client's total as an event, empty when there is nothing to send. */
+  StreamSubscriber(
+      SseEmitter emitter, int bufferSize, Function<UUID, Optional<StreamEvent>> totals) {
+    this.emitter = emitter;
+    this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    this.totals = totals;
+  }
+
+  /** Starts draining; {@code onClose} runs once, whichever side ends the stream. */
+  void start(Runnable onClose) {
+    this.onClose = onClose;
+    emitter.onCompletion(this::close);
+    emitter.onTimeout(this::close);
+    emitter.onError(e -> close());
+    drainer = Thread.ofVirtual().name("event-stream").start(this::drain);
+  }
+
+  /** Queues {@code event}, or returns false when the buffer is full. Closed streams drop it. */
+  boolean offer(StreamEvent event) {
+    return closed.get() || buffer.offer(event);
+  }
+
+  /**
+   * Queues a read of the client's total, like {@link #offer}. The read runs once the stream gets to
+   * it, and is skipped when another read of the same total is queued behind it.
+   */
+  boolean offerTotal(UUID clientId) {
+    return offer(new StreamEvent(null, new TotalOf(clientId)));
+  }
+
+  /**
+   * Sends what is buffered, then {@code last}, and ends the stream. When the buffer has no room for
+   * them, the backlog is dropped instead.
+   *
+   * @return false if the stream had already ended
+   */
+  boolean finish(StreamEvent last) {
+    if (!closed.compareAndSet(false, true)) {
+      return false;
+    }
+    onClose.run();
+    if (!buffer.offer(last) || !buffer.offer(END)) {
+      buffer.clear();
+      buffer.offer(last);
+      buffer.offer(END);
+    }
+    return true;
+  }
+
+  /** Stops at once, for a stream the client closed or that failed. */
+  void close() {
+    if (closed.compareAndSet(false, true)) {
+      onClose.run();
+    }
+    if (drainer != null) {
+      drainer.interrupt();
+    }
+  }
+
+  private void drain() {
+    try {
+      for (StreamEvent event = buffer.take(); event != END; event = buffer.take()) {
+        if (!(event.data() instanceof TotalOf total)) {
+          emitter.send(event.toSse());
+        } else if (!buffer.contains(event)) {
+          Optional<StreamEvent> read = totals.apply(total.clientId());
+          if (read.isPresent()) {
+            emitter.send(read.get().toSse());
+          }
+        }
+      }
+      emitter.complete();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException | IllegalStateException e) {
+      // The container completes a response whose write failed; only stop queuing for it
+      close();
+    }
+  }
+
+  private record TotalOf(UUID clientId) {}
+}
@@ -0,0 +1,2 @@
+INSERT INTO change_feed_head (id, last_sequence) VALUES (1, 0);
+INSERT INTO client_deletion_counter (id, deleted_clients) VALUES (1, 0);
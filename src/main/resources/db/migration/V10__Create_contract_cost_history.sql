@@ -0,0 +1,17 @@
+-- Append-only record of every cost a contract has had. A row holds the cost in force from
+-- valid_from until the next row of the same contract, so the cost on a given day is the row with
+-- the latest valid_from before the end of that day. The primary key is the index that lookup seeks
+-- on. There is no foreign key: since V9 the contracts key is (id, terminated).
+CREATE TABLE contract_cost_history (
+                                       contract_id UUID NOT NULL,
+                                       valid_from TIMESTAMP WITH TIME ZONE NOT NULL,
+                                       cost_amount DECIMAL(19, 2) NOT NULL,
+                                       cost_currency VARCHAR(3) NOT NULL,
+                                       PRIMARY KEY (contract_id, valid_from)
+);
+
+-- Earlier cost changes were never recorded: take each contract's current cost as its cost since
+-- creation
+INSERT INTO contract_cost_history (contract_id, valid_from, cost_amount, cost_currency)
+SELECT id, created_at, cost_amount, cost_currency
+FROM contracts;
@@ -0,0 +1,5 @@
+-- The conditional-GET probe of the client list reads MAX(updated_at) of both tables. These
+-- indexes answer it from their last entry (one per partition for contracts) instead of a scan.
+-- The per-client probe is served by idx_contracts_client_end_date_updated_at.
+CREATE INDEX idx_clients_updated_at ON clients(updated_at);
+CREATE INDEX idx_contracts_updated_at ON contracts(updated_at);
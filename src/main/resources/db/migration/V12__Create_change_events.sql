@@ -0,0 +1,21 @@
+-- Transactional outbox behind GET /api/v1/changes. Client and contract writers append one row per
+-- change in the same transaction, numbered from change_feed_head. The head row stays locked from
+-- the append until commit, so events commit in sequence order and without gaps: a consumer that
+-- has read up to a number can never miss an event committed later under a smaller one.
+CREATE TABLE change_feed_head (
+                                  id SMALLINT PRIMARY KEY CHECK (id = 1),
+                                  last_sequence BIGINT NOT NULL
+);
+
+INSERT INTO change_feed_head (id, last_sequence)
+VALUES (1, 0);
+
+-- No foreign keys: tombstones outlive the clients and contracts they name
+CREATE TABLE change_events (
+                               sequence_number BIGINT PRIMARY KEY,
+                               entity_type VARCHAR(16) NOT NULL,
+                               operation VARCHAR(16) NOT NULL,
+                               entity_id UUID NOT NULL,
+                               client_id UUID NOT NULL,
+                               occurred_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
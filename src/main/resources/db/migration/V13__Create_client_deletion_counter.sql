@@ -0,0 +1,11 @@
+-- Deletion watermark for the conditional-GET probe of the client list. Deleting a client leaves
+-- MAX(updated_at) of the remaining rows unchanged, so every delete statement also adds the number
+-- of clients it removed here. The probe reads this row next to the two MAX(updated_at) of V11,
+-- which keeps it at three index or single-row lookups instead of counting the clients table.
+CREATE TABLE client_deletion_counter (
+                                         id SMALLINT PRIMARY KEY CHECK (id = 1),
+                                         deleted_clients BIGINT NOT NULL
+);
+
+INSERT INTO client_deletion_counter (id, deleted_clients)
+VALUES (1, 0);
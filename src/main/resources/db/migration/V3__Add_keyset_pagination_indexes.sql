@@ -0,0 +1,4 @@
+-- Keyset (seek) pagination orders by (created_at, id); these indexes let every page
+-- start with an index range scan instead of an OFFSET scan.
+CREATE INDEX idx_clients_created_at_id ON clients(created_at, id);
+CREATE INDEX idx_contracts_client_created_at_id ON contracts(client_id, created_at, id);
@@ -0,0 +1,6 @@
+-- Active-contract lookups filter on client_id, then end_date, and optionally updated_at.
+-- The composite index serves all of them and supersedes the single-column client index.
+CREATE INDEX idx_contracts_client_end_date_updated_at
+    ON contracts(client_id, end_date, updated_at);
+
+DROP INDEX IF EXISTS idx_contracts_client_id;
@@ -0,0 +1,21 @@
+-- Maintained read model: one active-contract cost total per client, kept current by the
+-- contract write paths and a nightly recompute of contracts whose end_date has passed.
+CREATE TABLE client_cost_totals (
+                                    client_id UUID PRIMARY KEY,
+                                    total_amount DECIMAL(19, 2) NOT NULL DEFAULT 0,
+                                    currency VARCHAR(3) NOT NULL DEFAULT 'CHF',
+                                    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                    CONSTRAINT fk_client_cost_total_client
+                                        FOREIGN KEY(client_id)
+                                            REFERENCES clients(id)
+                                            ON DELETE CASCADE
+);
+
+-- Backfill from the live contracts table
+INSERT INTO client_cost_totals (client_id, total_amount)
+SELECT cl.id, COALESCE(SUM(c.cost_amount), 0)
+FROM clients cl
+         LEFT JOIN contracts c
+                   ON c.client_id = cl.id
+                       AND (c.end_date IS NULL OR c.end_date > CURRENT_DATE)
+GROUP BY cl.id;
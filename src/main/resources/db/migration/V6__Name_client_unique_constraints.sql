@@ -0,0 +1,4 @@
+-- Give the client unique keys stable names: the application recognises a duplicate email or
+-- company identifier from the constraint a failed insert reports (see ClientUniqueKey).
+ALTER TABLE clients RENAME CONSTRAINT clients_email_key TO uk_clients_email;
+ALTER TABLE clients RENAME CONSTRAINT clients_company_identifier_key TO uk_clients_company_identifier;
@@ -0,0 +1,14 @@
+-- Optimistic locking for contracts: every write is an UPDATE ... WHERE id = ? AND version = ?,
+-- and the version doubles as the ETag that clients send back in If-Match.
+ALTER TABLE contracts ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Keep an updated_at the statement sets itself, so the writer already knows the stored value
+-- and does not have to read the row back; statements that leave it untouched still get stamped.
+CREATE OR REPLACE FUNCTION trigger_set_timestamp()
+RETURNS TRIGGER AS $$ BEGIN
+  IF NEW.updated_at IS NOT DISTINCT FROM OLD.updated_at THEN
+    NEW.updated_at = CURRENT_TIMESTAMP;
+  END IF;
+RETURN NEW;
+END;
+ $$ LANGUAGE plpgsql;
@@ -0,0 +1,29 @@
+-- Time-ordered UUIDv7 keys (RFC 9562) for rows inserted without an id, matching the ids the
+-- application now generates (UuidV7Generator). PostgreSQL 16 has no built-in uuidv7(): take a
+-- random v4 UUID, overwrite its first 48 bits with the Unix time in milliseconds and turn the
+-- version nibble from 4 into 7; the variant bits are already right.
+CREATE OR REPLACE FUNCTION uuid_generate_v7()
+RETURNS UUID AS $$
+  SELECT encode(
+           set_bit(
+             set_bit(
+               overlay(uuid_send(gen_random_uuid())
+                       PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                       FROM 1 FOR 6),
+               52, 1),
+             53, 1),
+           'hex')::UUID;
+$$ LANGUAGE sql VOLATILE;
+
+ALTER TABLE clients ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE contracts ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+
+-- Existing rows keep their random v4 ids. They are exposed in URLs, ETags and exports and
+-- referenced by contracts.client_id and client_cost_totals, so rewriting them would break every
+-- outside reference for a one-off gain. New keys start with the current timestamp, so they all
+-- fall into one narrow, increasing slice of the key space: inserts keep hitting the same few leaf
+-- pages of the primary-key and client_id indexes instead of random ones. The pages already split
+-- by random inserts can be compacted later without blocking writes:
+--   REINDEX INDEX CONCURRENTLY clients_pkey;
+--   REINDEX INDEX CONCURRENTLY contracts_pkey;
+--   REINDEX INDEX CONCURRENTLY idx_contracts_client_end_date_updated_at;
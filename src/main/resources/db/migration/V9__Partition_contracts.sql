@@ -0,0 +1,49 @@
+-- List-partition contracts on a terminated flag so that active-contract queries, which all carry
+-- "terminated = false", only ever scan the active partition while ended contracts accumulate in
+-- the other one. The flag is set when a contract is written with an end date that has passed,
+-- and nightly for contracts whose end date has come since (ContractPartitionMaintenanceJob).
+-- Setting it moves the row to contracts_terminated.
+--
+-- A partitioned table's primary key must contain the partition key, so uniqueness is enforced on
+-- (id, terminated); ids come from a UUIDv7 generator, which never issues the same id twice.
+ALTER TABLE contracts RENAME TO contracts_unpartitioned;
+
+CREATE TABLE contracts (
+                           id UUID NOT NULL DEFAULT uuid_generate_v7(),
+                           client_id UUID NOT NULL,
+                           start_date DATE NOT NULL,
+                           end_date DATE, -- NULL means the contract is still active
+                           cost_amount DECIMAL(19, 2) NOT NULL,
+                           cost_currency VARCHAR(3) NOT NULL DEFAULT 'CHF',
+                           created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                           updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                           version BIGINT NOT NULL DEFAULT 0,
+                           terminated BOOLEAN NOT NULL DEFAULT FALSE
+) PARTITION BY LIST (terminated);
+
+CREATE TABLE contracts_active PARTITION OF contracts FOR VALUES IN (FALSE);
+CREATE TABLE contracts_terminated PARTITION OF contracts FOR VALUES IN (TRUE);
+
+INSERT INTO contracts (id, client_id, start_date, end_date, cost_amount, cost_currency,
+                       created_at, updated_at, version, terminated)
+SELECT id, client_id, start_date, end_date, cost_amount, cost_currency,
+       created_at, updated_at, version, end_date IS NOT NULL AND end_date <= CURRENT_DATE
+FROM contracts_unpartitioned;
+
+-- Takes the old table's indexes, foreign key and trigger with it; they are recreated below
+DROP TABLE contracts_unpartitioned;
+
+ALTER TABLE contracts ADD CONSTRAINT contracts_pkey PRIMARY KEY (id, terminated);
+ALTER TABLE contracts ADD CONSTRAINT fk_contract_client
+    FOREIGN KEY (client_id) REFERENCES clients(id) ON DELETE CASCADE;
+
+-- Created on the parent, so every partition gets its own copy
+CREATE INDEX idx_contracts_dates ON contracts(start_date, end_date);
+CREATE INDEX idx_contracts_client_created_at_id ON contracts(client_id, created_at, id);
+CREATE INDEX idx_contracts_client_end_date_updated_at
+    ON contracts(client_id, end_date, updated_at);
+
+CREATE TRIGGER set_contracts_timestamp
+    BEFORE UPDATE ON contracts
+    FOR EACH ROW
+    EXECUTE FUNCTION trigger_set_timestamp();
@@ -1,10 +1,17 @@
 package com.vaudoise.api_factory;
 
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import com.vaudoise.api_factory.domain.repository.ContractCostHistoryRepository;
 import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import com.vaudoise.api_factory.infrastructure.persistence.bloom.ClientKeyFilter;
 import com.vaudoise.api_factory.infrastructure.persistence.mapper.ClientMapper;
 import com.vaudoise.api_factory.infrastructure.persistence.mapper.ContractMapper;
+import com.vaudoise.api_factory.infrastructure.persistence.repository.ChangeEventRepositoryImpl;
+import com.vaudoise.api_factory.infrastructure.persistence.repository.ClientCostTotalRepositoryImpl;
 import com.vaudoise.api_factory.infrastructure.persistence.repository.ClientRepositoryImpl;
+import com.vaudoise.api_factory.infrastructure.persistence.repository.ContractCostHistoryRepositoryImpl;
 import com.vaudoise.api_factory.infrastructure.persistence.repository.ContractRepositoryImpl;
 import com.vaudoise.api_factory.infrastructure.persistence.repository.JpaClientRepository;
 import com.vaudoise.api_factory.infrastructure.persistence.repository.JpaContractRepository;
@@ -18,10 +25,14 @@ import org.springframework.test.context.ActiveProfiles;
 @DataJpaTest
 @ActiveProfiles("test")
 @Import({
+  ChangeEventRepositoryImpl.class,
   ClientRepositoryImpl.class,
+  ClientCostTotalRepositoryImpl.class,
+  ContractCostHistoryRepositoryImpl.class,
   ContractRepositoryImpl.class,
   ClientMapper.class,
-  ContractMapper.class
+  ContractMapper.class,
+  ClientKeyFilter.class
 })
 public abstract class AbstractIntegrationTest {
 
@@ -35,6 +46,12 @@ public abstract class AbstractIntegrationTest {
 
   @Autowired protected ContractRepository contractRepository;
 
+  @Autowired protected ClientCostTotalRepository clientCostTotalRepository;
+
+  @Autowired protected ContractCostHistoryRepository contractCostHistoryRepository;
+
+  @Autowired protected ChangeEventRepository changeEventRepository;
+
   @BeforeEach
   void setUp() {}
 }
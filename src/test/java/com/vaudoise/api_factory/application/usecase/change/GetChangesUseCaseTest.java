@@ -0,0 +1,88 @@
+package com.vaudoise.api_factory.application.usecase.change;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.EntityType;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetChangesUseCaseTest {
+
+  @Mock private ChangeEventRepository changeEventRepository;
+
+  private GetChangesUseCase getChangesUseCase;
+
+  @BeforeEach
+  void setUp() {
+    getChangesUseCase = new GetChangesUseCase(changeEventRepository);
+  }
+
+  @Test
+  void shouldReturnPendingEventsWithoutWaiting() {
+    List<ChangeEvent> events = List.of(event(8));
+    when(changeEventRepository.findAfter(7, 10)).thenReturn(events);
+
+    assertEquals(events, getChangesUseCase.execute(7, 10, Duration.ofSeconds(30)));
+    verify(changeEventRepository, times(1)).findAfter(7, 10);
+  }
+
+  @Test
+  void shouldReadAgainUntilEventsArrive() {
+    List<ChangeEvent> events = List.of(event(1));
+    when(changeEventRepository.findAfter(0, 10)).thenReturn(List.of(), List.of(), events);
+
+    assertEquals(events, getChangesUseCase.execute(0, 10, Duration.ofSeconds(5)));
+    verify(changeEventRepository, times(3)).findAfter(0, 10);
+  }
+
+  @Test
+  void shouldReturnNothingWhenWaitRunsOut() {
+    when(changeEventRepository.findAfter(0, 10)).thenReturn(List.of());
+    Duration wait = GetChangesUseCase.POLL_INTERVAL.multipliedBy(2);
+
+    long start = System.nanoTime();
+    List<ChangeEvent> events = getChangesUseCase.execute(0, 10, wait);
+
+    assertTrue(events.isEmpty());
+    assertTrue(System.nanoTime() - start >= wait.toNanos());
+  }
+
+  @Test
+  void shouldReadOnceWithoutWait() {
+    when(changeEventRepository.findAfter(0, 10)).thenReturn(List.of());
+
+    assertTrue(getChangesUseCase.execute(0, 10, Duration.ZERO).isEmpty());
+    verify(changeEventRepository, times(1)).findAfter(0, 10);
+  }
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    assertThrows(
+        InvalidBusinessRuleException.class, () -> getChangesUseCase.execute(-1, 10, Duration.ZERO));
+    assertThrows(
+        InvalidBusinessRuleException.class, () -> getChangesUseCase.execute(0, 0, Duration.ZERO));
+    assertThrows(
+        InvalidBusinessRuleException.class,
+        () -> getChangesUseCase.execute(0, 10, Duration.ofSeconds(31)));
+    verifyNoInteractions(changeEventRepository);
+  }
+
+  private static ChangeEvent event(long sequence) {
+    UUID clientId = UUID.randomUUID();
+    return new ChangeEvent(
+        sequence, EntityType.CLIENT, Operation.CREATED, clientId, clientId, Instant.now());
+  }
+}
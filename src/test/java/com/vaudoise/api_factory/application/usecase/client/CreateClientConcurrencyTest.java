@@ -0,0 +1,92 @@
+package com.vaudoise.api_factory.application.usecase.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vaudoise.api_factory.domain.exception.DuplicateEmailException;
+import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.Email;
+import com.vaudoise.api_factory.domain.model.Person;
+import com.vaudoise.api_factory.domain.model.PhoneNumber;
+import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Fires parallel creates with colliding emails against the real database: exactly one create per
+ * email must win and every other must fail as a duplicate, never as a raw constraint error.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CreateClientConcurrencyTest {
+
+  private static final int EMAILS = 20;
+  private static final int ATTEMPTS_PER_EMAIL = 15;
+
+  @Autowired private CreateClientUseCase createClientUseCase;
+
+  @Autowired private ClientRepository clientRepository;
+
+  private final Set<UUID> created = ConcurrentHashMap.newKeySet();
+
+  @AfterEach
+  void deleteCreatedClients() {
+    clientRepository.deleteAllById(created);
+  }
+
+  @Test
+  void shouldLetExactlyOneConcurrentCreatePerEmailWin() throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    Map<String, Integer> wins = new ConcurrentHashMap<>();
+    List<Future<?>> attempts = new ArrayList<>();
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+      for (int attempt = 0; attempt < EMAILS * ATTEMPTS_PER_EMAIL; attempt++) {
+        String email = "stress" + (attempt % EMAILS) + "@example.com";
+        attempts.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  try {
+                    Client client = createClientUseCase.execute(person(email));
+                    created.add(client.getId());
+                    wins.merge(email, 1, Integer::sum);
+                  } catch (DuplicateEmailException expected) {
+                    // lost the race for this email
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> attempt : attempts) {
+        // any other exception, e.g. an untranslated constraint error, fails the test here
+        attempt.get(30, TimeUnit.SECONDS);
+      }
+    }
+
+    assertThat(wins).hasSize(EMAILS).allSatisfy((email, count) -> assertThat(count).isOne());
+    assertThat(created).hasSize(EMAILS);
+    for (int i = 0; i < EMAILS; i++) {
+      assertThat(clientRepository.findByEmail("stress" + i + "@example.com")).isPresent();
+    }
+  }
+
+  private static Person person(String email) {
+    return new Person(
+        "Stress Test", new Email(email), new PhoneNumber("+41791234567"), LocalDate.of(1990, 1, 1));
+  }
+}
@@ -1,18 +1,19 @@
 package com.vaudoise.api_factory.application.usecase.client;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 import com.vaudoise.api_factory.domain.exception.DuplicateEmailException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent;
 import com.vaudoise.api_factory.domain.model.Client;
-import com.vaudoise.api_factory.domain.model.ClientType;
 import com.vaudoise.api_factory.domain.model.Company;
-import com.vaudoise.api_factory.domain.model.CompanyIdentifier;
-import com.vaudoise.api_factory.domain.model.Email;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
 import com.vaudoise.api_factory.domain.model.Person;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,88 +25,86 @@ class CreateClientUseCaseTest {
 
   @Mock private ClientRepository clientRepository;
 
-  @Mock private Email email;
-
-  @Mock private CompanyIdentifier companyIdentifier;
+  @Mock private ChangeEventRepository changeEventRepository;
 
   private CreateClientUseCase createClientUseCase;
 
   @BeforeEach
   void setUp() {
-    createClientUseCase = new CreateClientUseCase(clientRepository);
+    createClientUseCase = new CreateClientUseCase(clientRepository, changeEventRepository);
   }
 
   @Test
-  void shouldCreatePersonClientWhenEmailDoesNotExist() {
+  void shouldInsertPersonClientWithoutCheckingEmailFirst() {
     // Given
     Person client = mock(Person.class);
-    when(client.getEmail()).thenReturn(email);
-    when(email.value()).thenReturn("test@example.com");
-    when(clientRepository.existsByEmail(anyString())).thenReturn(false);
-    when(clientRepository.save(any(Client.class))).thenReturn(client);
+    when(client.getId()).thenReturn(UUID.randomUUID());
+    when(clientRepository.save(client)).thenReturn(client);
 
     // When
     Client result = createClientUseCase.execute(client);
 
     // Then
     assertNotNull(result);
-    verify(clientRepository).existsByEmail("test@example.com");
     verify(clientRepository).save(client);
+    verify(clientRepository, never()).existsByEmail(anyString());
   }
 
   @Test
-  void shouldCreateCompanyClientWhenEmailAndCompanyIdentifierDoNotExist() {
+  void shouldInsertCompanyClientWithoutCheckingKeysFirst() {
     // Given
     Company company = mock(Company.class);
-    when(company.getEmail()).thenReturn(email);
-    when(email.value()).thenReturn("company@example.com");
-    when(company.getCompanyIdentifier()).thenReturn(companyIdentifier);
-    when(companyIdentifier.value()).thenReturn("COMP123");
-    when(company.getType()).thenReturn(ClientType.COMPANY);
-    when(clientRepository.existsByEmail(anyString())).thenReturn(false);
-    when(clientRepository.existsByCompanyIdentifier(anyString())).thenReturn(false);
-    when(clientRepository.save(any(Client.class))).thenReturn(company);
+    when(company.getId()).thenReturn(UUID.randomUUID());
+    when(clientRepository.save(company)).thenReturn(company);
 
     // When
     Client result = createClientUseCase.execute(company);
 
     // Then
     assertNotNull(result);
-    verify(clientRepository).existsByEmail("company@example.com");
-    verify(clientRepository).existsByCompanyIdentifier("COMP123");
     verify(clientRepository).save(company);
+    verify(clientRepository, never()).existsByEmail(anyString());
+    verify(clientRepository, never()).existsByCompanyIdentifier(anyString());
+  }
+
+  @Test
+  void shouldAppendCreatedEventForSavedClient() {
+    // Given
+    UUID clientId = UUID.randomUUID();
+    Person client = mock(Person.class);
+    when(client.getId()).thenReturn(clientId);
+    when(clientRepository.save(client)).thenReturn(client);
+
+    // When
+    createClientUseCase.execute(client);
+
+    // Then
+    verify(changeEventRepository)
+        .append(List.of(NewChangeEvent.client(ChangeEvent.Operation.CREATED, clientId)));
   }
 
   @Test
-  void shouldThrowDuplicateEmailExceptionWhenEmailAlreadyExists() {
+  void shouldPropagateDuplicateEmailExceptionRaisedOnInsert() {
     // Given
     Client client = mock(Client.class);
-    when(client.getEmail()).thenReturn(email);
-    when(email.value()).thenReturn("existing@example.com");
-    when(clientRepository.existsByEmail(anyString())).thenReturn(true);
+    when(clientRepository.save(client))
+        .thenThrow(new DuplicateEmailException("Email already exists: existing@example.com"));
 
     // When & Then
-    assertThrows(DuplicateEmailException.class, () -> createClientUseCase.execute(client));
-    verify(clientRepository).existsByEmail("existing@example.com");
-    verify(clientRepository, never()).save(any(Client.class));
+    DuplicateEmailException thrown =
+        assertThrows(DuplicateEmailException.class, () -> createClientUseCase.execute(client));
+    assertEquals("Email already exists: existing@example.com", thrown.getMessage());
+    verifyNoInteractions(changeEventRepository);
   }
 
   @Test
-  void shouldThrowDuplicateEmailExceptionWhenCompanyIdentifierAlreadyExists() {
+  void shouldPropagateDuplicateEmailExceptionForTakenCompanyIdentifier() {
     // Given
     Company company = mock(Company.class);
-    when(company.getEmail()).thenReturn(email);
-    when(email.value()).thenReturn("company@example.com");
-    when(company.getCompanyIdentifier()).thenReturn(companyIdentifier);
-    when(companyIdentifier.value()).thenReturn("COMP123");
-    when(company.getType()).thenReturn(ClientType.COMPANY);
-    when(clientRepository.existsByEmail(anyString())).thenReturn(false);
-    when(clientRepository.existsByCompanyIdentifier(anyString())).thenReturn(true);
+    when(clientRepository.save(company))
+        .thenThrow(new DuplicateEmailException("Company identifier already exists: COMP123"));
 
     // When & Then
     assertThrows(DuplicateEmailException.class, () -> createClientUseCase.execute(company));
-    verify(clientRepository).existsByEmail("company@example.com");
-    verify(clientRepository).existsByCompanyIdentifier("COMP123");
-    verify(clientRepository, never()).save(any(Client.class));
   }
 }
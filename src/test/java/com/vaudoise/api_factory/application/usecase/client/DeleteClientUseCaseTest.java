@@ -1,62 +1,96 @@
 package com.vaudoise.api_factory.application.usecase.client;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
+import com.vaudoise.api_factory.domain.event.ContractActivity.ClientDeleted;
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
-import com.vaudoise.api_factory.domain.model.Client;
-import com.vaudoise.api_factory.domain.model.ClientType;
+import com.vaudoise.api_factory.domain.model.ChangeEvent;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
-import java.util.Optional;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class DeleteClientUseCaseTest {
 
   @Mock private ClientRepository clientRepository;
 
+  @Mock private ClientCostTotalRepository clientCostTotalRepository;
+
+  @Mock private ChangeEventRepository changeEventRepository;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   private DeleteClientUseCase deleteClientUseCase;
 
   @BeforeEach
   void setUp() {
-    deleteClientUseCase = new DeleteClientUseCase(clientRepository);
+    deleteClientUseCase =
+        new DeleteClientUseCase(
+            clientRepository, clientCostTotalRepository, changeEventRepository, eventPublisher);
   }
 
   @Test
-  void shouldDeleteClientWhenClientExists() {
+  void shouldDeleteClientWithoutLoadingIt() {
     UUID clientId = UUID.randomUUID();
-    Client client =
-        new Client() {
-          @Override
-          public ClientType getType() {
-            return null;
-          }
-
-          @Override
-          public String getDisplayInfo() {
-            return "";
-          }
-        };
-    when(clientRepository.findById(clientId)).thenReturn(Optional.of(client));
 
     deleteClientUseCase.execute(clientId);
 
-    verify(clientRepository).findById(clientId);
+    verify(clientCostTotalRepository).deleteByClientIds(List.of(clientId));
     verify(clientRepository).deleteById(clientId);
+    verify(clientRepository, never()).findById(any(UUID.class));
+    verify(changeEventRepository)
+        .append(List.of(NewChangeEvent.client(ChangeEvent.Operation.DELETED, clientId)));
+    verify(eventPublisher).publishEvent(new ClientDeleted(clientId));
   }
 
   @Test
   void shouldThrowClientNotFoundExceptionWhenClientDoesNotExist() {
     UUID clientId = UUID.randomUUID();
-    when(clientRepository.findById(clientId)).thenReturn(Optional.empty());
+    doThrow(new ClientNotFoundException("Client not found with id: " + clientId))
+        .when(clientRepository)
+        .deleteById(clientId);
 
     assertThrows(ClientNotFoundException.class, () -> deleteClientUseCase.execute(clientId));
-    verify(clientRepository).findById(clientId);
-    verify(clientRepository, never()).deleteById(any(UUID.class));
+    verifyNoInteractions(changeEventRepository, eventPublisher);
+  }
+
+  @Test
+  void shouldDeleteOnlyExistingClientsOfBatch() {
+    UUID existing = UUID.randomUUID();
+    UUID unknown = UUID.randomUUID();
+    when(clientRepository.findExistingIds(List.of(existing, unknown))).thenReturn(Set.of(existing));
+
+    Set<UUID> deleted = deleteClientUseCase.execute(List.of(existing, unknown));
+
+    assertEquals(Set.of(existing), deleted);
+    verify(clientCostTotalRepository).deleteByClientIds(Set.of(existing));
+    verify(clientRepository).deleteAllById(Set.of(existing));
+    verify(changeEventRepository)
+        .append(List.of(NewChangeEvent.client(ChangeEvent.Operation.DELETED, existing)));
+    verify(eventPublisher).publishEvent(new ClientDeleted(existing));
+  }
+
+  @Test
+  void shouldSkipDeletesWhenNoClientOfBatchExists() {
+    when(clientRepository.findExistingIds(anyCollection())).thenReturn(Set.of());
+
+    Set<UUID> deleted = deleteClientUseCase.execute(List.of(UUID.randomUUID()));
+
+    assertTrue(deleted.isEmpty());
+    verify(clientRepository, never()).deleteAllById(anyCollection());
+    verifyNoInteractions(clientCostTotalRepository, changeEventRepository, eventPublisher);
   }
 }
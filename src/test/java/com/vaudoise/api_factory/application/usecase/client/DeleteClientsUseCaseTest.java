@@ -0,0 +1,61 @@
+package com.vaudoise.api_factory.application.usecase.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteClientsUseCaseTest {
+
+  @Mock private DeleteClientUseCase deleteClientUseCase;
+
+  private DeleteClientsUseCase deleteClientsUseCase;
+
+  @BeforeEach
+  void setUp() {
+    deleteClientsUseCase = new DeleteClientsUseCase(deleteClientUseCase);
+  }
+
+  @Test
+  void shouldDeleteInChunksAndReportUnknownIds() {
+    List<UUID> ids =
+        IntStream.range(0, DeleteClientsUseCase.CHUNK_SIZE + 2)
+            .mapToObj(i -> UUID.randomUUID())
+            .toList();
+    UUID unknown = ids.get(ids.size() - 1);
+    when(deleteClientUseCase.execute(anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Set<UUID> chunk = new HashSet<>(invocation.<Collection<UUID>>getArgument(0));
+              chunk.remove(unknown);
+              return chunk;
+            });
+
+    List<UUID> notFound = deleteClientsUseCase.execute(ids);
+
+    assertEquals(List.of(unknown), notFound);
+    verify(deleteClientUseCase, times(2)).execute(anyCollection());
+  }
+
+  @Test
+  void shouldDeleteRepeatedIdsOnce() {
+    UUID clientId = UUID.randomUUID();
+    when(deleteClientUseCase.execute(List.of(clientId))).thenReturn(Set.of(clientId));
+
+    List<UUID> notFound = deleteClientsUseCase.execute(List.of(clientId, clientId));
+
+    assertTrue(notFound.isEmpty());
+  }
+}
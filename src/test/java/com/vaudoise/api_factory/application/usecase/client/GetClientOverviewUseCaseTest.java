@@ -0,0 +1,125 @@
+package com.vaudoise.api_factory.application.usecase.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.vaudoise.api_factory.application.usecase.contract.CalculateTotalCostUseCase;
+import com.vaudoise.api_factory.application.usecase.contract.GetActiveContractsUseCase;
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ClientOverview;
+import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.Email;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.Person;
+import com.vaudoise.api_factory.domain.model.PhoneNumber;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class GetClientOverviewUseCaseTest {
+
+  @Mock private GetClientUseCase getClientUseCase;
+
+  @Mock private GetActiveContractsUseCase getActiveContractsUseCase;
+
+  @Mock private CalculateTotalCostUseCase calculateTotalCostUseCase;
+
+  private GetClientOverviewUseCase getClientOverviewUseCase;
+
+  private final UUID clientId = UUID.randomUUID();
+  private final Pageable pageable = PageRequest.of(0, 10);
+
+  @BeforeEach
+  void setUp() {
+    getClientOverviewUseCase =
+        new GetClientOverviewUseCase(
+            getClientUseCase, getActiveContractsUseCase, calculateTotalCostUseCase, task -> task);
+  }
+
+  @Test
+  void shouldCombineClientContractsAndTotalLoadedOnVirtualThreads() {
+    Client client =
+        new Person(
+            "John Doe",
+            new Email("john.doe@example.com"),
+            new PhoneNumber("+41791234567"),
+            LocalDate.of(1990, 1, 1));
+    Page<Contract> contracts = new PageImpl<>(List.of(new Contract()));
+
+    when(getClientUseCase.execute(clientId)).thenAnswer(invocation -> onVirtualThread(client));
+    when(getActiveContractsUseCase.execute(clientId, null, pageable))
+        .thenAnswer(invocation -> onVirtualThread(contracts));
+    when(calculateTotalCostUseCase.execute(clientId))
+        .thenAnswer(invocation -> onVirtualThread(Optional.of(Money.chf(1500))));
+
+    ClientOverview overview = getClientOverviewUseCase.execute(clientId, pageable);
+
+    assertSame(client, overview.client());
+    assertSame(contracts, overview.activeContracts());
+    assertEquals(Optional.of(Money.chf(1500)), overview.totalCost());
+  }
+
+  @Test
+  void shouldRethrowFailureOfASubtask() {
+    when(getClientUseCase.execute(clientId))
+        .thenThrow(new ClientNotFoundException("Client not found with id: " + clientId));
+    lenient()
+        .when(getActiveContractsUseCase.execute(clientId, null, pageable))
+        .thenThrow(new ClientNotFoundException("Client not found with id: " + clientId));
+    lenient()
+        .when(calculateTotalCostUseCase.execute(clientId))
+        .thenThrow(new ClientNotFoundException("Client not found with id: " + clientId));
+
+    assertThrows(
+        ClientNotFoundException.class, () -> getClientOverviewUseCase.execute(clientId, pageable));
+  }
+
+  @Test
+  void shouldInterruptRemainingSubtasksWhenOneFails() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch interrupted = new CountDownLatch(2);
+    when(getClientUseCase.execute(clientId))
+        .thenAnswer(
+            invocation -> {
+              started.await();
+              throw new ClientNotFoundException("Client not found with id: " + clientId);
+            });
+    when(getActiveContractsUseCase.execute(clientId, null, pageable))
+        .thenAnswer(invocation -> blockUntilInterrupted(started, interrupted));
+    when(calculateTotalCostUseCase.execute(clientId))
+        .thenAnswer(invocation -> blockUntilInterrupted(started, interrupted));
+
+    assertThrows(
+        ClientNotFoundException.class, () -> getClientOverviewUseCase.execute(clientId, pageable));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  private static <T> T onVirtualThread(T result) {
+    assertTrue(Thread.currentThread().isVirtual());
+    return result;
+  }
+
+  private static Object blockUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) {
+    started.countDown();
+    try {
+      Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+    }
+    return null;
+  }
+}
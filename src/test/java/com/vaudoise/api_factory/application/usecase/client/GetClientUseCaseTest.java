@@ -4,9 +4,15 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
 import com.vaudoise.api_factory.domain.model.Client;
 import com.vaudoise.api_factory.domain.model.ClientType;
+import com.vaudoise.api_factory.domain.model.ContentStamp;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import com.vaudoise.api_factory.domain.repository.Cursor;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -64,4 +70,48 @@ class GetClientUseCaseTest {
     assertThrows(ClientNotFoundException.class, () -> getClientUseCase.execute(clientId));
     verify(clientRepository).findById(clientId);
   }
+
+  @Test
+  void shouldReturnContentStampWhenIdExists() {
+    // Given
+    UUID clientId = UUID.randomUUID();
+    ContentStamp stamp = new ContentStamp(Instant.now(), 3);
+    when(clientRepository.findContentStampById(clientId)).thenReturn(Optional.of(stamp));
+
+    // When & Then
+    assertEquals(stamp, getClientUseCase.contentStamp(clientId));
+  }
+
+  @Test
+  void shouldThrowClientNotFoundExceptionWhenStampedIdDoesNotExist() {
+    // Given
+    UUID clientId = UUID.randomUUID();
+    when(clientRepository.findContentStampById(clientId)).thenReturn(Optional.empty());
+
+    // When & Then
+    assertThrows(ClientNotFoundException.class, () -> getClientUseCase.contentStamp(clientId));
+  }
+
+  @Test
+  void shouldDelegateCursorPaginationToRepository() {
+    // Given
+    Cursor after = new Cursor(Instant.now(), UUID.randomUUID());
+    CursorPage<Client> page = new CursorPage<>(List.of(), null);
+    when(clientRepository.findAllWithContracts(after, 20)).thenReturn(page);
+
+    // When
+    CursorPage<Client> result = getClientUseCase.executeWithContracts(after, 20);
+
+    // Then
+    assertEquals(page, result);
+    verify(clientRepository).findAllWithContracts(after, 20);
+  }
+
+  @Test
+  void shouldRejectNonPositiveCursorPageSize() {
+    // When & Then
+    assertThrows(
+        InvalidBusinessRuleException.class, () -> getClientUseCase.executeWithContracts(null, 0));
+    verifyNoInteractions(clientRepository);
+  }
 }
@@ -0,0 +1,150 @@
+package com.vaudoise.api_factory.application.usecase.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.vaudoise.api_factory.application.dto.request.ClientImportRow;
+import com.vaudoise.api_factory.application.dto.response.ClientImportReport;
+import com.vaudoise.api_factory.application.dto.response.ClientImportReport.Status;
+import com.vaudoise.api_factory.domain.exception.DuplicateEmailException;
+import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImportClientsUseCaseTest {
+
+  private static final Validator VALIDATOR =
+      Validation.buildDefaultValidatorFactory().getValidator();
+
+  @Mock private ClientRepository clientRepository;
+
+  @Mock private ChangeEventRepository changeEventRepository;
+
+  private ImportClientsUseCase importClientsUseCase;
+
+  @BeforeEach
+  void setUp() {
+    importClientsUseCase =
+        new ImportClientsUseCase(
+            clientRepository,
+            new CreateClientUseCase(clientRepository, changeEventRepository),
+            VALIDATOR);
+  }
+
+  @Test
+  void shouldCreateValidRowsAndReportInvalidOnes() {
+    when(clientRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+    when(clientRepository.findExistingCompanyIdentifiers(anyCollection())).thenReturn(Set.of());
+    when(clientRepository.saveAll(anyList()))
+        .thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+    ClientImportReport report =
+        importClientsUseCase.execute(
+            Stream.of(
+                person(1, "john@example.com"),
+                new ClientImportRow(2, "PERSON", "", "bad", "+41791234567", null, null, null),
+                company(3, "info@acme.ch", "CHE-123.456.789"),
+                new ClientImportRow(4, "ROBOT", "R2", "r2@example.com", "+41", null, null, null),
+                ClientImportRow.unparseable(5, "Invalid JSON: boom")));
+
+    assertEquals(5, report.totalRows());
+    assertEquals(2, report.created());
+    assertEquals(3, report.rejected());
+    assertEquals(Status.CREATED, report.rows().get(0).status());
+    assertNotNull(report.rows().get(0).clientId());
+    assertEquals(Status.REJECTED, report.rows().get(1).status());
+    assertTrue(report.rows().get(1).errors().size() >= 2);
+    assertEquals(List.of("Type must be PERSON or COMPANY"), report.rows().get(3).errors());
+    assertEquals(List.of("Invalid JSON: boom"), report.rows().get(4).errors());
+    verify(clientRepository, times(1)).saveAll(anyList());
+  }
+
+  @Test
+  void shouldRejectExistingAndRepeatedKeys() {
+    when(clientRepository.findExistingEmails(anyCollection()))
+        .thenReturn(Set.of("taken@example.com"));
+    when(clientRepository.findExistingCompanyIdentifiers(anyCollection()))
+        .thenReturn(Set.of("CHE-999.999.999"));
+    when(clientRepository.saveAll(anyList()))
+        .thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+    ClientImportReport report =
+        importClientsUseCase.execute(
+            Stream.of(
+                person(1, "taken@example.com"),
+                person(2, "john@example.com"),
+                person(3, "john@example.com"),
+                company(4, "info@acme.ch", "CHE-999.999.999")));
+
+    assertEquals(1, report.created());
+    assertEquals(List.of("Email already exists: taken@example.com"), report.rows().get(0).errors());
+    assertEquals(Status.CREATED, report.rows().get(1).status());
+    assertEquals(
+        List.of("Duplicate email in import: john@example.com"), report.rows().get(2).errors());
+    assertEquals(
+        List.of("Company identifier already exists: CHE-999.999.999"),
+        report.rows().get(3).errors());
+  }
+
+  @Test
+  void shouldWriteOneBatchPerChunk() {
+    when(clientRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+    when(clientRepository.findExistingCompanyIdentifiers(anyCollection())).thenReturn(Set.of());
+    when(clientRepository.saveAll(anyList()))
+        .thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+    int rows = ImportClientsUseCase.CHUNK_SIZE + 1;
+
+    ClientImportReport report =
+        importClientsUseCase.execute(
+            IntStream.rangeClosed(1, rows).mapToObj(i -> person(i, "client" + i + "@example.com")));
+
+    assertEquals(rows, report.created());
+    verify(clientRepository, times(2)).findExistingEmails(anyCollection());
+    verify(clientRepository, times(2)).saveAll(anyList());
+    verify(changeEventRepository, times(2)).append(anyList());
+  }
+
+  @Test
+  void shouldRejectWholeChunkWhenConcurrentWriteWins() {
+    when(clientRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+    when(clientRepository.findExistingCompanyIdentifiers(anyCollection())).thenReturn(Set.of());
+    when(clientRepository.saveAll(anyList()))
+        .thenThrow(new DuplicateEmailException("Email or company identifier already exists"));
+
+    ClientImportReport report =
+        importClientsUseCase.execute(Stream.of(person(1, "john@example.com")));
+
+    assertEquals(0, report.created());
+    assertEquals(Status.REJECTED, report.rows().get(0).status());
+  }
+
+  private static ClientImportRow person(long line, String email) {
+    return new ClientImportRow(
+        line, "PERSON", "John Doe", email, "+41791234567", "1990-01-01", null, null);
+  }
+
+  private static ClientImportRow company(long line, String email, String identifier) {
+    return new ClientImportRow(
+        line, "COMPANY", "Acme SA", email, "+41211234567", null, identifier, null);
+  }
+
+  private static List<Client> withIds(List<Client> clients) {
+    clients.forEach(client -> client.setId(UUID.randomUUID()));
+    return clients;
+  }
+}
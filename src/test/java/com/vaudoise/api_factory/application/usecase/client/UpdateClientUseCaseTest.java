@@ -2,14 +2,19 @@ package com.vaudoise.api_factory.application.usecase.client;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
 import com.vaudoise.api_factory.domain.exception.DuplicateEmailException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent;
 import com.vaudoise.api_factory.domain.model.Client;
 import com.vaudoise.api_factory.domain.model.Email;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
 import com.vaudoise.api_factory.domain.model.PhoneNumber;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,7 +28,7 @@ class UpdateClientUseCaseTest {
 
   @Mock private ClientRepository clientRepository;
 
-  @Mock private Email oldEmail;
+  @Mock private ChangeEventRepository changeEventRepository;
 
   @Mock private Email newEmail;
 
@@ -33,31 +38,28 @@ class UpdateClientUseCaseTest {
 
   @BeforeEach
   void setUp() {
-    updateClientUseCase = new UpdateClientUseCase(clientRepository);
+    updateClientUseCase = new UpdateClientUseCase(clientRepository, changeEventRepository);
   }
 
   @Test
-  void shouldUpdateClientWhenClientExistsAndEmailIsNotDuplicate() {
+  void shouldUpdateClientWithoutCheckingEmailFirst() {
     UUID clientId = UUID.randomUUID();
     Client existingClient = mock(Client.class);
     Client updatedClient = mock(Client.class);
 
     when(clientRepository.findById(clientId)).thenReturn(Optional.of(existingClient));
-    when(existingClient.getEmail()).thenReturn(oldEmail);
-    when(updatedClient.getEmail()).thenReturn(newEmail);
-    when(oldEmail.value()).thenReturn("old@example.com");
-    when(newEmail.value()).thenReturn("new@example.com");
-    when(clientRepository.existsByEmail("new@example.com")).thenReturn(false);
     when(clientRepository.save(existingClient)).thenReturn(existingClient);
 
     Client result = updateClientUseCase.execute(clientId, updatedClient);
 
     assertNotNull(result);
     verify(clientRepository).findById(clientId);
-    verify(clientRepository).existsByEmail("new@example.com");
+    verify(clientRepository, never()).existsByEmail(anyString());
     verify(existingClient)
         .updateInfo(updatedClient.getName(), updatedClient.getEmail(), updatedClient.getPhone());
     verify(clientRepository).save(existingClient);
+    verify(changeEventRepository)
+        .append(List.of(NewChangeEvent.client(ChangeEvent.Operation.UPDATED, clientId)));
   }
 
   @Test
@@ -67,9 +69,7 @@ class UpdateClientUseCaseTest {
     Client updatedClient = mock(Client.class);
 
     when(clientRepository.findById(clientId)).thenReturn(Optional.of(existingClient));
-    when(existingClient.getEmail()).thenReturn(newEmail);
     when(updatedClient.getEmail()).thenReturn(newEmail);
-    when(newEmail.value()).thenReturn("same@example.com");
     when(clientRepository.save(existingClient)).thenReturn(existingClient);
 
     Client result = updateClientUseCase.execute(clientId, updatedClient);
@@ -95,23 +95,18 @@ class UpdateClientUseCaseTest {
   }
 
   @Test
-  void shouldThrowDuplicateEmailExceptionWhenNewEmailAlreadyExists() {
+  void shouldPropagateDuplicateEmailExceptionRaisedOnSave() {
     UUID clientId = UUID.randomUUID();
     Client existingClient = mock(Client.class);
     Client updatedClient = mock(Client.class);
 
     when(clientRepository.findById(clientId)).thenReturn(Optional.of(existingClient));
-    when(existingClient.getEmail()).thenReturn(oldEmail);
-    when(updatedClient.getEmail()).thenReturn(newEmail);
-    when(oldEmail.value()).thenReturn("old@example.com");
-    when(newEmail.value()).thenReturn("new@example.com");
-    when(clientRepository.existsByEmail("new@example.com")).thenReturn(true);
+    when(clientRepository.save(existingClient))
+        .thenThrow(new DuplicateEmailException("Email already exists: new@example.com"));
 
     assertThrows(
         DuplicateEmailException.class, () -> updateClientUseCase.execute(clientId, updatedClient));
     verify(clientRepository).findById(clientId);
-    verify(clientRepository).existsByEmail("new@example.com");
-    verify(existingClient, never()).updateInfo(any(), any(), any());
-    verify(clientRepository, never()).save(any(Client.class));
+    verify(clientRepository, never()).existsByEmail(anyString());
   }
 }
@@ -0,0 +1,121 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import com.vaudoise.api_factory.domain.model.CostAdjustmentPreview;
+import com.vaudoise.api_factory.domain.repository.ContractFilter;
+import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AdjustContractCostsUseCaseTest {
+
+  private static final BigDecimal MULTIPLIER = new BigDecimal("1.02");
+
+  @Mock private ContractRepository contractRepository;
+
+  @Mock private UpdateContractCostUseCase updateContractCostUseCase;
+
+  private AdjustContractCostsUseCase adjustContractCostsUseCase;
+
+  @BeforeEach
+  void setUp() {
+    adjustContractCostsUseCase =
+        new AdjustContractCostsUseCase(contractRepository, updateContractCostUseCase);
+  }
+
+  @Test
+  void shouldOnlyPreviewOnDryRun() {
+    CostAdjustmentPreview preview = preview("100.00", "102.00");
+    when(contractRepository.previewCostAdjustment(ContractFilter.ALL, MULTIPLIER))
+        .thenReturn(preview);
+
+    AdjustContractCostsUseCase.Result result =
+        adjustContractCostsUseCase.execute(ContractFilter.ALL, MULTIPLIER, true);
+
+    assertEquals(preview, result.preview());
+    assertEquals(0, result.updatedContracts());
+    verify(contractRepository, never()).findActiveContractIds(any(), any(), anyInt());
+    verifyNoInteractions(updateContractCostUseCase);
+  }
+
+  @Test
+  void shouldUpdateChunkByChunkUntilExhausted() {
+    int chunkSize = AdjustContractCostsUseCase.CHUNK_SIZE;
+    List<UUID> firstChunk = ids(chunkSize);
+    List<UUID> lastChunk = ids(3);
+    when(contractRepository.previewCostAdjustment(ContractFilter.ALL, MULTIPLIER))
+        .thenReturn(preview("100.00", "102.00"));
+    when(contractRepository.findActiveContractIds(ContractFilter.ALL, null, chunkSize))
+        .thenReturn(firstChunk);
+    when(contractRepository.findActiveContractIds(
+            ContractFilter.ALL, firstChunk.get(chunkSize - 1), chunkSize))
+        .thenReturn(lastChunk);
+    when(updateContractCostUseCase.execute(firstChunk, MULTIPLIER)).thenReturn(chunkSize);
+    when(updateContractCostUseCase.execute(lastChunk, MULTIPLIER)).thenReturn(2);
+
+    AdjustContractCostsUseCase.Result result =
+        adjustContractCostsUseCase.execute(ContractFilter.ALL, MULTIPLIER, false);
+
+    assertEquals(chunkSize + 2, result.updatedContracts());
+    verify(contractRepository, times(2)).findActiveContractIds(any(), any(), anyInt());
+  }
+
+  @Test
+  void shouldRejectAdjustmentProducingCostAboveMaximum() {
+    when(contractRepository.previewCostAdjustment(ContractFilter.ALL, MULTIPLIER))
+        .thenReturn(preview("100.00", "1000000000.00"));
+
+    assertThrows(
+        InvalidBusinessRuleException.class,
+        () -> adjustContractCostsUseCase.execute(ContractFilter.ALL, MULTIPLIER, false));
+    verifyNoInteractions(updateContractCostUseCase);
+  }
+
+  @Test
+  void shouldRejectAdjustmentRoundingCostToZero() {
+    BigDecimal tiny = new BigDecimal("0.001");
+    when(contractRepository.previewCostAdjustment(ContractFilter.ALL, tiny))
+        .thenReturn(preview("0.00", "0.10"));
+
+    assertThrows(
+        InvalidBusinessRuleException.class,
+        () -> adjustContractCostsUseCase.execute(ContractFilter.ALL, tiny, true));
+  }
+
+  @Test
+  void shouldRejectNonPositiveMultiplier() {
+    assertThrows(
+        InvalidBusinessRuleException.class,
+        () -> adjustContractCostsUseCase.execute(ContractFilter.ALL, BigDecimal.ZERO, true));
+    verifyNoInteractions(contractRepository);
+    verify(updateContractCostUseCase, never()).execute(anyCollection(), any());
+  }
+
+  private static CostAdjustmentPreview preview(String minAdjusted, String maxAdjusted) {
+    return new CostAdjustmentPreview(
+        2,
+        2,
+        new BigDecimal("200.00"),
+        new BigDecimal("204.00"),
+        new BigDecimal(minAdjusted),
+        new BigDecimal(maxAdjusted));
+  }
+
+  private static List<UUID> ids(int count) {
+    return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+  }
+}
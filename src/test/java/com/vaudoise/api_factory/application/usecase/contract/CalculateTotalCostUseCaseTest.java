@@ -4,19 +4,17 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
-import com.vaudoise.api_factory.domain.model.Client;
-import com.vaudoise.api_factory.domain.model.ClientType;
-import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.ClientCostTotal;
 import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
 import com.vaudoise.api_factory.domain.repository.ContractRepository;
-import com.vaudoise.api_factory.domain.service.ContractCostCalculator;
 import java.math.BigDecimal;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.Currency;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,109 +29,95 @@ class CalculateTotalCostUseCaseTest {
 
   @Mock private ClientRepository clientRepository;
 
-  @Mock private ContractCostCalculator contractCostCalculator;
+  @Mock private ClientCostTotalRepository clientCostTotalRepository;
 
   private CalculateTotalCostUseCase calculateTotalCostUseCase;
 
   @BeforeEach
   void setUp() {
     calculateTotalCostUseCase =
-        new CalculateTotalCostUseCase(contractRepository, clientRepository, contractCostCalculator);
+        new CalculateTotalCostUseCase(
+            contractRepository, clientRepository, clientCostTotalRepository);
   }
 
   @Test
-  void shouldCalculateTotalCostWhenClientExistsWithContracts() {
+  void shouldReadMaintainedTotalWithoutTouchingContracts() {
     UUID clientId = UUID.randomUUID();
-    List<Contract> contracts =
-        Arrays.asList(
-            createContractWithCost(BigDecimal.valueOf(1000)),
-            createContractWithCost(BigDecimal.valueOf(2000)));
-    Money expectedTotal = new Money(BigDecimal.valueOf(3000), Currency.getInstance("CHF"));
 
-    when(clientRepository.findById(clientId))
+    when(clientCostTotalRepository.findByClientId(clientId))
         .thenReturn(
             Optional.of(
-                new Client() {
-                  @Override
-                  public ClientType getType() {
-                    return null;
-                  }
-
-                  @Override
-                  public String getDisplayInfo() {
-                    return "";
-                  }
-                }));
-    when(contractRepository.findAllActiveContractsForClient(clientId)).thenReturn(contracts);
-    when(contractCostCalculator.calculateTotalCost(contracts)).thenReturn(expectedTotal);
-
-    Money result = calculateTotalCostUseCase.execute(clientId);
-
-    assertNotNull(result);
-    assertEquals(expectedTotal, result);
-    verify(clientRepository).findById(clientId);
-    verify(contractRepository).findAllActiveContractsForClient(clientId);
-    verify(contractCostCalculator).calculateTotalCost(contracts);
+                new ClientCostTotal(
+                    clientId, new BigDecimal("3000.00"), Currency.getInstance("CHF"))));
+
+    Optional<Money> result = calculateTotalCostUseCase.execute(clientId);
+
+    assertEquals(Optional.of(Money.chf(3000)), result);
+    verifyNoInteractions(clientRepository, contractRepository);
   }
 
   @Test
-  void shouldReturnZeroWhenClientExistsWithNoContracts() {
+  void shouldReturnEmptyTotalWhenMaintainedTotalIsZero() {
     UUID clientId = UUID.randomUUID();
-    List<Contract> contracts = Collections.emptyList();
-    Money expectedTotal = new Money(BigDecimal.valueOf(0.01), Currency.getInstance("CHF"));
 
-    when(clientRepository.findById(clientId))
+    when(clientCostTotalRepository.findByClientId(clientId))
         .thenReturn(
             Optional.of(
-                new Client() {
-                  @Override
-                  public ClientType getType() {
-                    return null;
-                  }
-
-                  @Override
-                  public String getDisplayInfo() {
-                    return "";
-                  }
-                }));
-    when(contractRepository.findAllActiveContractsForClient(clientId)).thenReturn(contracts);
-    when(contractCostCalculator.calculateTotalCost(contracts)).thenReturn(expectedTotal);
-
-    Money result = calculateTotalCostUseCase.execute(clientId);
-
-    assertNotNull(result);
-    assertEquals(expectedTotal, result);
-    verify(clientRepository).findById(clientId);
-    verify(contractRepository).findAllActiveContractsForClient(clientId);
-    verify(contractCostCalculator).calculateTotalCost(contracts);
+                new ClientCostTotal(clientId, BigDecimal.ZERO, Currency.getInstance("CHF"))));
+
+    assertTrue(calculateTotalCostUseCase.execute(clientId).isEmpty());
+  }
+
+  @Test
+  void shouldCalculateTotalCostWhenClientExistsWithContracts() {
+    UUID clientId = UUID.randomUUID();
+    Money expectedTotal = new Money(BigDecimal.valueOf(3000), Currency.getInstance("CHF"));
+
+    when(clientRepository.existsById(clientId)).thenReturn(true);
+    when(contractRepository.getActiveContractsCostSum(clientId))
+        .thenReturn(Optional.of(expectedTotal));
+
+    Optional<Money> result = calculateTotalCostUseCase.execute(clientId);
+
+    assertEquals(Optional.of(expectedTotal), result);
+    verify(clientRepository).existsById(clientId);
+    verify(contractRepository).getActiveContractsCostSum(clientId);
+  }
+
+  @Test
+  void shouldReturnEmptyTotalWhenClientExistsWithNoContracts() {
+    UUID clientId = UUID.randomUUID();
+
+    when(clientRepository.existsById(clientId)).thenReturn(true);
+    when(contractRepository.getActiveContractsCostSum(clientId)).thenReturn(Optional.empty());
+
+    Optional<Money> result = calculateTotalCostUseCase.execute(clientId);
+
+    assertTrue(result.isEmpty());
   }
 
   @Test
   void shouldThrowClientNotFoundExceptionWhenClientDoesNotExist() {
     UUID clientId = UUID.randomUUID();
 
-    when(clientRepository.findById(clientId)).thenReturn(Optional.empty());
+    when(clientRepository.existsById(clientId)).thenReturn(false);
 
     assertThrows(ClientNotFoundException.class, () -> calculateTotalCostUseCase.execute(clientId));
-    verify(clientRepository).findById(clientId);
-    verify(contractRepository, never()).findAllActiveContractsForClient(any());
-    verify(contractCostCalculator, never()).calculateTotalCost(any());
+    verify(clientRepository).existsById(clientId);
+    verify(contractRepository, never()).getActiveContractsCostSum(any());
   }
 
-  private Contract createContractWithCost(BigDecimal amount) {
-    Money cost = new Money(amount, Currency.getInstance("CHF"));
-    return new Contract(
-        new Client() {
-          @Override
-          public ClientType getType() {
-            return null;
-          }
-
-          @Override
-          public String getDisplayInfo() {
-            return "";
-          }
-        },
-        cost);
+  @Test
+  void shouldCalculateBatchTotalsWithDuplicateIdsRemoved() {
+    UUID clientId = UUID.randomUUID();
+    Map<UUID, Optional<Money>> expected = Map.of(clientId, Optional.of(Money.chf(100)));
+
+    when(contractRepository.getActiveContractsCostSums(Set.of(clientId))).thenReturn(expected);
+
+    Map<UUID, Optional<Money>> result =
+        calculateTotalCostUseCase.executeBatch(List.of(clientId, clientId));
+
+    assertEquals(expected, result);
+    verifyNoInteractions(clientRepository);
   }
 }
@@ -4,23 +4,33 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.vaudoise.api_factory.domain.event.ContractActivity.ContractsCreated;
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
 import com.vaudoise.api_factory.domain.model.Client;
 import com.vaudoise.api_factory.domain.model.ClientType;
 import com.vaudoise.api_factory.domain.model.Contract;
 import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.domain.model.NewContract;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import com.vaudoise.api_factory.domain.repository.ContractCostHistoryRepository;
 import com.vaudoise.api_factory.domain.repository.ContractRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Currency;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class CreateContractUseCaseTest {
@@ -29,81 +39,90 @@ class CreateContractUseCaseTest {
 
   @Mock private ClientRepository clientRepository;
 
+  @Mock private ClientCostTotalRepository clientCostTotalRepository;
+
+  @Mock private ContractCostHistoryRepository contractCostHistoryRepository;
+
+  @Mock private ChangeEventRepository changeEventRepository;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  private final Client client =
+      new Client() {
+        @Override
+        public ClientType getType() {
+          return null;
+        }
+
+        @Override
+        public String getDisplayInfo() {
+          return "";
+        }
+      };
+
   private CreateContractUseCase createContractUseCase;
 
   @BeforeEach
   void setUp() {
-    createContractUseCase = new CreateContractUseCase(contractRepository, clientRepository);
+    createContractUseCase =
+        new CreateContractUseCase(
+            contractRepository,
+            clientRepository,
+            clientCostTotalRepository,
+            contractCostHistoryRepository,
+            changeEventRepository,
+            eventPublisher);
   }
 
   @Test
   void shouldCreateContractWithDatesWhenClientExists() {
     UUID clientId = UUID.randomUUID();
-    Client client =
-        new Client() {
-          @Override
-          public ClientType getType() {
-            return null;
-          }
-
-          @Override
-          public String getDisplayInfo() {
-            return "";
-          }
-        };
     Money costAmount = new Money(BigDecimal.valueOf(1000), Currency.getInstance("CHF"));
     LocalDate startDate = LocalDate.now();
     LocalDate endDate = LocalDate.now().plusMonths(12);
 
-    when(clientRepository.findById(clientId)).thenReturn(Optional.of(client));
-    when(contractRepository.save(any(Contract.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(clientRepository.existsById(clientId)).thenReturn(true);
+    when(contractRepository.insert(any(NewContract.class))).thenAnswer(this::inserted);
 
     Contract result = createContractUseCase.execute(clientId, costAmount, startDate, endDate);
 
     assertNotNull(result);
-    assertEquals(client, result.getClient());
+    assertSame(client, result.getClient());
     assertEquals(costAmount, result.getCostAmount());
 
     assertEquals(startDate, result.getStartDate());
     assertEquals(Optional.of(endDate), result.getEndDate());
 
-    verify(clientRepository).findById(clientId);
-    verify(contractRepository).save(any(Contract.class));
+    verify(clientRepository).existsById(clientId);
+    verify(clientRepository, never()).findById(any());
+    verify(contractRepository).insert(any(NewContract.class));
+    verify(contractCostHistoryRepository).recordCurrentCosts(List.of(result.getId()));
+    verify(clientCostTotalRepository).add(clientId, costAmount.amount());
+    verify(changeEventRepository)
+        .append(List.of(NewChangeEvent.contract(Operation.CREATED, result.getId(), clientId)));
+    verify(eventPublisher).publishEvent(new ContractsCreated(clientId, List.of(result.getId())));
   }
 
   @Test
   void shouldCreateContractWithoutDatesWhenClientExists() {
     UUID clientId = UUID.randomUUID();
-    Client client =
-        new Client() {
-          @Override
-          public ClientType getType() {
-            return null;
-          }
-
-          @Override
-          public String getDisplayInfo() {
-            return "";
-          }
-        };
     Money costAmount = new Money(BigDecimal.valueOf(1000), Currency.getInstance("CHF"));
 
-    when(clientRepository.findById(clientId)).thenReturn(Optional.of(client));
-    when(contractRepository.save(any(Contract.class)))
-        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(clientRepository.existsById(clientId)).thenReturn(true);
+    when(contractRepository.insert(any(NewContract.class))).thenAnswer(this::inserted);
 
     Contract result = createContractUseCase.execute(clientId, costAmount, null, null);
 
     assertNotNull(result);
-    assertEquals(client, result.getClient());
+    assertSame(client, result.getClient());
     assertEquals(costAmount, result.getCostAmount());
 
     assertNotNull(result.getStartDate());
     assertEquals(Optional.empty(), result.getEndDate());
 
-    verify(clientRepository).findById(clientId);
-    verify(contractRepository).save(any(Contract.class));
+    verify(clientRepository).existsById(clientId);
+    verify(clientRepository, never()).findById(any());
+    verify(contractRepository).insert(any(NewContract.class));
   }
 
   @Test
@@ -113,12 +132,34 @@ class CreateContractUseCaseTest {
     LocalDate startDate = LocalDate.now();
     LocalDate endDate = LocalDate.now().plusMonths(12);
 
-    when(clientRepository.findById(clientId)).thenReturn(Optional.empty());
+    when(clientRepository.existsById(clientId)).thenReturn(false);
 
     assertThrows(
         ClientNotFoundException.class,
         () -> createContractUseCase.execute(clientId, costAmount, startDate, endDate));
-    verify(clientRepository).findById(clientId);
-    verify(contractRepository, never()).save(any(Contract.class));
+    verify(contractRepository, never()).insert(any(NewContract.class));
+    verifyNoInteractions(clientCostTotalRepository, changeEventRepository, eventPublisher);
+  }
+
+  @Test
+  void shouldNotAddExpiredContractToClientTotal() {
+    UUID clientId = UUID.randomUUID();
+    Money costAmount = new Money(BigDecimal.valueOf(1000), Currency.getInstance("CHF"));
+
+    when(clientRepository.existsById(clientId)).thenReturn(true);
+    when(contractRepository.insert(any(NewContract.class))).thenAnswer(this::inserted);
+
+    createContractUseCase.execute(
+        clientId, costAmount, LocalDate.now().minusYears(1), LocalDate.now().minusDays(1));
+
+    verifyNoInteractions(clientCostTotalRepository);
+  }
+
+  private Contract inserted(InvocationOnMock invocation) {
+    NewContract inserted = invocation.getArgument(0);
+    Contract contract =
+        new Contract(client, inserted.costAmount(), inserted.startDate(), inserted.endDate());
+    contract.setId(UUID.randomUUID());
+    return contract;
   }
 }
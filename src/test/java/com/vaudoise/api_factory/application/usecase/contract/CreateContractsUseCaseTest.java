@@ -0,0 +1,162 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.vaudoise.api_factory.domain.event.ContractActivity.ContractsCreated;
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.domain.model.NewContract;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
+import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import com.vaudoise.api_factory.domain.repository.ContractCostHistoryRepository;
+import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class CreateContractsUseCaseTest {
+
+  @Mock private ContractRepository contractRepository;
+
+  @Mock private ClientRepository clientRepository;
+
+  @Mock private ClientCostTotalRepository clientCostTotalRepository;
+
+  @Mock private ContractCostHistoryRepository contractCostHistoryRepository;
+
+  @Mock private ChangeEventRepository changeEventRepository;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  private CreateContractsUseCase createContractsUseCase;
+
+  @BeforeEach
+  void setUp() {
+    createContractsUseCase =
+        new CreateContractsUseCase(
+            contractRepository,
+            clientRepository,
+            clientCostTotalRepository,
+            contractCostHistoryRepository,
+            changeEventRepository,
+            eventPublisher);
+  }
+
+  @Test
+  void shouldInsertContractsAndAddActiveCostsPerClient() {
+    UUID john = UUID.randomUUID();
+    UUID jane = UUID.randomUUID();
+    List<NewContract> contracts =
+        List.of(
+            contract(john, "100.00", null),
+            contract(jane, "50.00", null),
+            contract(john, "25.50", null),
+            contract(jane, "75.00", LocalDate.now()));
+    List<UUID> ids = contracts.stream().map(c -> UUID.randomUUID()).toList();
+
+    when(clientRepository.findExistingIds(Set.of(john, jane))).thenReturn(Set.of(john, jane));
+    when(contractRepository.insertAll(contracts)).thenReturn(ids);
+
+    List<UUID> result = createContractsUseCase.execute(contracts);
+
+    assertEquals(ids, result);
+    verify(contractCostHistoryRepository).recordCurrentCosts(ids);
+    verify(clientCostTotalRepository).add(john, new BigDecimal("125.50"));
+    verify(clientCostTotalRepository).add(jane, new BigDecimal("50.00"));
+    verifyNoMoreInteractions(clientCostTotalRepository);
+    verify(changeEventRepository)
+        .append(
+            List.of(
+                NewChangeEvent.contract(Operation.CREATED, ids.get(0), john),
+                NewChangeEvent.contract(Operation.CREATED, ids.get(1), jane),
+                NewChangeEvent.contract(Operation.CREATED, ids.get(2), john),
+                NewChangeEvent.contract(Operation.CREATED, ids.get(3), jane)));
+    verify(eventPublisher)
+        .publishEvent(new ContractsCreated(john, List.of(ids.get(0), ids.get(2))));
+    verify(eventPublisher)
+        .publishEvent(new ContractsCreated(jane, List.of(ids.get(1), ids.get(3))));
+  }
+
+  @Test
+  void shouldCheckClientsAndInsertOncePerChunk() {
+    UUID clientId = UUID.randomUUID();
+    List<NewContract> contracts =
+        IntStream.range(0, CreateContractsUseCase.CHUNK_SIZE + 1)
+            .mapToObj(i -> contract(clientId, "10.00", null))
+            .toList();
+
+    when(clientRepository.findExistingIds(Set.of(clientId))).thenReturn(Set.of(clientId));
+    when(contractRepository.insertAll(anyList()))
+        .thenAnswer(
+            invocation ->
+                invocation.<List<NewContract>>getArgument(0).stream()
+                    .map(c -> UUID.randomUUID())
+                    .toList());
+
+    List<UUID> result = createContractsUseCase.execute(contracts);
+
+    assertEquals(contracts.size(), result.size());
+    verify(clientRepository, times(2)).findExistingIds(anyCollection());
+    verify(contractRepository, times(2)).insertAll(anyList());
+    verify(clientCostTotalRepository).add(eq(clientId), any(BigDecimal.class));
+  }
+
+  @Test
+  void shouldRejectChunkWithUnknownClientBeforeInserting() {
+    UUID known = UUID.randomUUID();
+    UUID unknown = UUID.randomUUID();
+    List<NewContract> contracts =
+        List.of(contract(known, "100.00", null), contract(unknown, "50.00", null));
+
+    when(clientRepository.findExistingIds(Set.of(known, unknown))).thenReturn(Set.of(known));
+
+    ClientNotFoundException exception =
+        assertThrows(
+            ClientNotFoundException.class, () -> createContractsUseCase.execute(contracts));
+
+    assertTrue(exception.getMessage().contains(unknown.toString()));
+    assertFalse(exception.getMessage().contains(known.toString()));
+    verify(contractRepository, never()).insertAll(anyList());
+    verifyNoInteractions(clientCostTotalRepository, changeEventRepository, eventPublisher);
+  }
+
+  @Test
+  void shouldApplyTotalsInClientIdOrder() {
+    UUID first = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    UUID second = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    List<NewContract> contracts =
+        List.of(contract(second, "20.00", null), contract(first, "10.00", null));
+
+    when(clientRepository.findExistingIds(anyCollection())).thenReturn(Set.of(first, second));
+    when(contractRepository.insertAll(contracts))
+        .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+    createContractsUseCase.execute(contracts);
+
+    InOrder inOrder = inOrder(clientCostTotalRepository);
+    inOrder.verify(clientCostTotalRepository).add(first, new BigDecimal("10.00"));
+    inOrder.verify(clientCostTotalRepository).add(second, new BigDecimal("20.00"));
+  }
+
+  private static NewContract contract(UUID clientId, String cost, LocalDate endDate) {
+    return new NewContract(
+        clientId, Money.chf(new BigDecimal(cost)), LocalDate.now().minusDays(1), endDate);
+  }
+}
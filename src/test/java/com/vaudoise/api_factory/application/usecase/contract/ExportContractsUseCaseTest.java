@@ -0,0 +1,74 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.vaudoise.api_factory.domain.model.ContractExportRow;
+import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExportContractsUseCaseTest {
+
+  @Mock private ContractRepository contractRepository;
+
+  private ExportContractsUseCase exportContractsUseCase;
+
+  @BeforeEach
+  void setUp() {
+    exportContractsUseCase = new ExportContractsUseCase(contractRepository);
+  }
+
+  @Test
+  void shouldPassEveryRowToSinkAndCloseStream() {
+    List<ContractExportRow> rows = List.of(row(), row());
+    AtomicBoolean closed = new AtomicBoolean();
+    when(contractRepository.streamAll()).thenReturn(rows.stream().onClose(() -> closed.set(true)));
+
+    List<ContractExportRow> exported = new ArrayList<>();
+    exportContractsUseCase.export(exported::add);
+
+    assertEquals(rows, exported);
+    assertTrue(closed.get());
+  }
+
+  @Test
+  void shouldCloseStreamWhenSinkFails() {
+    AtomicBoolean closed = new AtomicBoolean();
+    when(contractRepository.streamAll())
+        .thenReturn(Stream.of(row()).onClose(() -> closed.set(true)));
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            exportContractsUseCase.export(
+                row -> {
+                  throw new IllegalStateException("client went away");
+                }));
+    assertTrue(closed.get());
+  }
+
+  private static ContractExportRow row() {
+    return new ContractExportRow(
+        UUID.randomUUID(),
+        UUID.randomUUID(),
+        LocalDate.of(2025, 1, 1),
+        null,
+        new BigDecimal("100.00"),
+        "CHF",
+        Instant.now(),
+        Instant.now());
+  }
+}
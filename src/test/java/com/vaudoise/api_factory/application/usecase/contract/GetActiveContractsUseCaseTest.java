@@ -4,15 +4,14 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
-import com.vaudoise.api_factory.domain.model.Client;
-import com.vaudoise.api_factory.domain.model.ClientType;
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
 import com.vaudoise.api_factory.domain.model.Contract;
 import com.vaudoise.api_factory.domain.repository.ClientRepository;
 import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import com.vaudoise.api_factory.domain.repository.PageSize;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,20 +45,7 @@ class GetActiveContractsUseCaseTest {
     List<Contract> contracts = Arrays.asList(new Contract(), new Contract());
     Page<Contract> expectedPage = new PageImpl<>(contracts);
 
-    when(clientRepository.findById(clientId))
-        .thenReturn(
-            Optional.of(
-                new Client() {
-                  @Override
-                  public ClientType getType() {
-                    return null;
-                  }
-
-                  @Override
-                  public String getDisplayInfo() {
-                    return "";
-                  }
-                }));
+    when(clientRepository.existsById(clientId)).thenReturn(true);
     when(contractRepository.findActiveContractsForClient(clientId, updatedSince, pageable))
         .thenReturn(expectedPage);
 
@@ -67,7 +53,7 @@ class GetActiveContractsUseCaseTest {
 
     assertNotNull(result);
     assertEquals(expectedPage, result);
-    verify(clientRepository).findById(clientId);
+    verify(clientRepository).existsById(clientId);
     verify(contractRepository).findActiveContractsForClient(clientId, updatedSince, pageable);
   }
 
@@ -76,12 +62,22 @@ class GetActiveContractsUseCaseTest {
     UUID clientId = UUID.randomUUID();
     Instant updatedSince = Instant.now().minusSeconds(3600);
 
-    when(clientRepository.findById(clientId)).thenReturn(Optional.empty());
+    when(clientRepository.existsById(clientId)).thenReturn(false);
 
     assertThrows(
         ClientNotFoundException.class,
         () -> getActiveContractsUseCase.execute(clientId, updatedSince, pageable));
-    verify(clientRepository).findById(clientId);
+    verify(clientRepository).existsById(clientId);
     verify(contractRepository, never()).findActiveContractsForClient(any(), any(), any());
   }
+
+  @Test
+  void shouldRejectCursorPageAboveMaximumSize() {
+    UUID clientId = UUID.randomUUID();
+
+    assertThrows(
+        InvalidBusinessRuleException.class,
+        () -> getActiveContractsUseCase.execute(clientId, null, null, PageSize.MAX + 1));
+    verifyNoInteractions(clientRepository, contractRepository);
+  }
 }
@@ -0,0 +1,77 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import com.vaudoise.api_factory.domain.model.ClientCostsAsOf;
+import com.vaudoise.api_factory.domain.model.ContractCostAsOf;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import com.vaudoise.api_factory.domain.repository.ContractCostHistoryRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetContractsAsOfUseCaseTest {
+
+  @Mock private ClientRepository clientRepository;
+
+  @Mock private ContractCostHistoryRepository contractCostHistoryRepository;
+
+  private GetContractsAsOfUseCase getContractsAsOfUseCase;
+
+  @BeforeEach
+  void setUp() {
+    getContractsAsOfUseCase =
+        new GetContractsAsOfUseCase(clientRepository, contractCostHistoryRepository);
+  }
+
+  @Test
+  void shouldReturnContractsAndTotalAsOfDate() {
+    UUID clientId = UUID.randomUUID();
+    LocalDate date = LocalDate.of(2025, 3, 1);
+    List<ContractCostAsOf> contracts =
+        List.of(
+            new ContractCostAsOf(
+                UUID.randomUUID(), date.minusYears(1), null, Money.chf(new BigDecimal("100.00"))),
+            new ContractCostAsOf(
+                UUID.randomUUID(), date.minusYears(2), null, Money.chf(new BigDecimal("50.50"))));
+    when(clientRepository.existsById(clientId)).thenReturn(true);
+    when(contractCostHistoryRepository.findActiveContractCostsAsOf(clientId, date))
+        .thenReturn(contracts);
+
+    ClientCostsAsOf result = getContractsAsOfUseCase.execute(clientId, date);
+
+    assertEquals(contracts, result.contracts());
+    assertEquals(Optional.of(Money.chf(new BigDecimal("150.50"))), result.totalCost());
+  }
+
+  @Test
+  void shouldThrowClientNotFoundExceptionWhenClientDoesNotExist() {
+    UUID clientId = UUID.randomUUID();
+    when(clientRepository.existsById(clientId)).thenReturn(false);
+
+    assertThrows(
+        ClientNotFoundException.class,
+        () -> getContractsAsOfUseCase.execute(clientId, LocalDate.of(2025, 3, 1)));
+    verifyNoInteractions(contractCostHistoryRepository);
+  }
+
+  @Test
+  void shouldRejectFutureDate() {
+    assertThrows(
+        InvalidBusinessRuleException.class,
+        () -> getContractsAsOfUseCase.execute(UUID.randomUUID(), LocalDate.now().plusDays(1)));
+    verifyNoInteractions(clientRepository, contractCostHistoryRepository);
+  }
+}
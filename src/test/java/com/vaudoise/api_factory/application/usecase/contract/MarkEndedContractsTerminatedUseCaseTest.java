@@ -0,0 +1,34 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MarkEndedContractsTerminatedUseCaseTest {
+
+  @Mock private ContractRepository contractRepository;
+
+  private MarkEndedContractsTerminatedUseCase markEndedContractsTerminatedUseCase;
+
+  @BeforeEach
+  void setUp() {
+    markEndedContractsTerminatedUseCase =
+        new MarkEndedContractsTerminatedUseCase(contractRepository);
+  }
+
+  @Test
+  void shouldMarkContractsEndedByToday() {
+    LocalDate today = LocalDate.of(2025, 10, 17);
+    when(contractRepository.markEndedContractsTerminated(today)).thenReturn(4);
+
+    assertEquals(4, markEndedContractsTerminatedUseCase.execute(today));
+  }
+}
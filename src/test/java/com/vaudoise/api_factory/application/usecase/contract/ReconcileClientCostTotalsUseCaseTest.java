@@ -0,0 +1,55 @@
+package com.vaudoise.api_factory.application.usecase.contract;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.vaudoise.api_factory.domain.model.CostTotalDrift;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReconcileClientCostTotalsUseCaseTest {
+
+  @Mock private ClientCostTotalRepository clientCostTotalRepository;
+
+  private ReconcileClientCostTotalsUseCase reconcileClientCostTotalsUseCase;
+
+  @BeforeEach
+  void setUp() {
+    reconcileClientCostTotalsUseCase =
+        new ReconcileClientCostTotalsUseCase(clientCostTotalRepository);
+  }
+
+  @Test
+  void shouldRecomputeClientsWithContractsEndedWithinLookback() {
+    LocalDate today = LocalDate.of(2025, 10, 17);
+    when(clientCostTotalRepository.recomputeForContractsEndedBetween(
+            LocalDate.of(2025, 10, 10), today))
+        .thenReturn(3);
+
+    int recomputed = reconcileClientCostTotalsUseCase.expireEndedContracts(today, 7);
+
+    assertEquals(3, recomputed);
+  }
+
+  @Test
+  void shouldRecomputeEveryDriftingClientOnRepair() {
+    UUID clientId = UUID.randomUUID();
+    List<CostTotalDrift> drift =
+        List.of(new CostTotalDrift(clientId, new BigDecimal("10.00"), BigDecimal.ZERO));
+    when(clientCostTotalRepository.findDrift()).thenReturn(drift);
+
+    List<CostTotalDrift> repaired = reconcileClientCostTotalsUseCase.repairDrift();
+
+    assertEquals(drift, repaired);
+    verify(clientCostTotalRepository).recompute(clientId);
+  }
+}
@@ -4,14 +4,26 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.vaudoise.api_factory.domain.event.ContractActivity.ContractCostsUpdated;
+import com.vaudoise.api_factory.domain.exception.ContractModifiedException;
 import com.vaudoise.api_factory.domain.exception.ContractNotFoundException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
 import com.vaudoise.api_factory.domain.model.Client;
 import com.vaudoise.api_factory.domain.model.ClientType;
 import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.ContractCostChange;
 import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.domain.model.Person;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
+import com.vaudoise.api_factory.domain.repository.ContractCostHistoryRepository;
 import com.vaudoise.api_factory.domain.repository.ContractRepository;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Currency;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,17 +31,32 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class UpdateContractCostUseCaseTest {
 
   @Mock private ContractRepository contractRepository;
 
+  @Mock private ClientCostTotalRepository clientCostTotalRepository;
+
+  @Mock private ContractCostHistoryRepository contractCostHistoryRepository;
+
+  @Mock private ChangeEventRepository changeEventRepository;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   private UpdateContractCostUseCase updateContractCostUseCase;
 
   @BeforeEach
   void setUp() {
-    updateContractCostUseCase = new UpdateContractCostUseCase(contractRepository);
+    updateContractCostUseCase =
+        new UpdateContractCostUseCase(
+            contractRepository,
+            clientCostTotalRepository,
+            contractCostHistoryRepository,
+            changeEventRepository,
+            eventPublisher);
   }
 
   @Test
@@ -52,17 +79,43 @@ class UpdateContractCostUseCaseTest {
               }
             },
             oldCost);
+    UUID clientId = UUID.randomUUID();
+    contract.getClient().setId(clientId);
 
     when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
     when(contractRepository.save(any(Contract.class))).thenReturn(contract);
 
-    Contract result = updateContractCostUseCase.execute(contractId, newCost);
+    Instant previousUpdateDate = contract.getUpdateDate();
+
+    ContractCostChange result = updateContractCostUseCase.execute(contractId, newCost, null);
 
     assertNotNull(result);
     verify(contractRepository).findById(contractId);
     verify(contractRepository).save(contract);
 
-    assertEquals(newCost, result.getCostAmount());
+    assertEquals(newCost, result.contract().getCostAmount());
+    assertEquals(previousUpdateDate, result.previousUpdateDate());
+    verify(contractCostHistoryRepository).recordCurrentCosts(List.of(contractId));
+    verify(clientCostTotalRepository).add(clientId, new BigDecimal("1000.00"));
+    verify(changeEventRepository)
+        .append(List.of(NewChangeEvent.contract(Operation.UPDATED, contractId, clientId)));
+    verify(eventPublisher).publishEvent(new ContractCostsUpdated(clientId, List.of(contractId)));
+  }
+
+  @Test
+  void shouldRejectUpdateWhenExpectedVersionIsStale() {
+    UUID contractId = UUID.randomUUID();
+    Money oldCost = new Money(BigDecimal.valueOf(1000), Currency.getInstance("CHF"));
+    Contract contract = new Contract(new Person(), oldCost);
+    contract.setVersion(3L);
+
+    when(contractRepository.findById(contractId)).thenReturn(Optional.of(contract));
+
+    assertThrows(
+        ContractModifiedException.class,
+        () -> updateContractCostUseCase.execute(contractId, Money.chf(BigDecimal.TEN), 2L));
+    verify(contractRepository, never()).save(any(Contract.class));
+    verifyNoInteractions(clientCostTotalRepository, changeEventRepository);
   }
 
   @Test
@@ -74,8 +127,41 @@ class UpdateContractCostUseCaseTest {
 
     assertThrows(
         ContractNotFoundException.class,
-        () -> updateContractCostUseCase.execute(contractId, newCost));
+        () -> updateContractCostUseCase.execute(contractId, newCost, null));
     verify(contractRepository).findById(contractId);
     verify(contractRepository, never()).save(any(Contract.class));
+    verifyNoInteractions(clientCostTotalRepository);
+  }
+
+  @Test
+  void shouldRecomputeTotalsAfterMultiplyingCosts() {
+    UUID contractId = UUID.randomUUID();
+    UUID clientId = UUID.randomUUID();
+    List<UUID> contractIds = List.of(contractId);
+    BigDecimal multiplier = new BigDecimal("1.025");
+    when(contractRepository.multiplyCosts(contractIds, multiplier)).thenReturn(1);
+    when(contractRepository.findClientIds(contractIds)).thenReturn(Map.of(contractId, clientId));
+
+    int updated = updateContractCostUseCase.execute(contractIds, multiplier);
+
+    assertEquals(1, updated);
+    verify(contractCostHistoryRepository).recordCurrentCosts(contractIds);
+    verify(clientCostTotalRepository).recomputeForContracts(contractIds);
+    verify(changeEventRepository)
+        .append(List.of(NewChangeEvent.contract(Operation.UPDATED, contractId, clientId)));
+    verify(eventPublisher).publishEvent(new ContractCostsUpdated(clientId, contractIds));
+  }
+
+  @Test
+  void shouldSkipTotalsWhenNoCostChanged() {
+    List<UUID> contractIds = List.of(UUID.randomUUID());
+    when(contractRepository.multiplyCosts(contractIds, BigDecimal.ONE)).thenReturn(0);
+
+    assertEquals(0, updateContractCostUseCase.execute(contractIds, BigDecimal.ONE));
+    verifyNoInteractions(
+        clientCostTotalRepository,
+        contractCostHistoryRepository,
+        changeEventRepository,
+        eventPublisher);
   }
 }
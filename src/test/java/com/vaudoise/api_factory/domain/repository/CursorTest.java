@@ -0,0 +1,49 @@
+package com.vaudoise.api_factory.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class CursorTest {
+
+  @Test
+  void shouldRoundTripThroughOpaqueToken() {
+    Cursor cursor = new Cursor(Instant.parse("2025-10-17T08:15:30.123456Z"), UUID.randomUUID());
+
+    Cursor decoded = Cursor.decode(cursor.encode());
+
+    assertThat(decoded).isEqualTo(cursor);
+  }
+
+  @Test
+  void shouldProduceUrlSafeToken() {
+    Cursor cursor = new Cursor(Instant.now(), UUID.randomUUID());
+
+    assertThat(cursor.encode()).matches("^[A-Za-z0-9_-]+$");
+  }
+
+  @Test
+  void shouldTruncateTimestampToMicroseconds() {
+    Cursor cursor = new Cursor(Instant.parse("2025-10-17T08:15:30.123456789Z"), UUID.randomUUID());
+
+    assertThat(cursor.createdAt()).isEqualTo(Instant.parse("2025-10-17T08:15:30.123456Z"));
+  }
+
+  @Test
+  void shouldRejectMalformedToken() {
+    assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+        .isInstanceOf(InvalidBusinessRuleException.class)
+        .hasMessageContaining("Invalid pagination cursor");
+  }
+
+  @Test
+  void shouldRejectEmptyToken() {
+    assertThatThrownBy(() -> Cursor.decode(" "))
+        .isInstanceOf(InvalidBusinessRuleException.class)
+        .hasMessageContaining("cannot be empty");
+  }
+}
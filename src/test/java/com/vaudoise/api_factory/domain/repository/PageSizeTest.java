@@ -0,0 +1,30 @@
+package com.vaudoise.api_factory.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import org.junit.jupiter.api.Test;
+
+class PageSizeTest {
+
+  @Test
+  void shouldAcceptSizesWithinBounds() {
+    assertThat(PageSize.validate(1)).isEqualTo(1);
+    assertThat(PageSize.validate(PageSize.MAX)).isEqualTo(PageSize.MAX);
+  }
+
+  @Test
+  void shouldRejectEmptyPage() {
+    assertThatThrownBy(() -> PageSize.validate(0))
+        .isInstanceOf(InvalidBusinessRuleException.class)
+        .hasMessage("Page size must be at least 1");
+  }
+
+  @Test
+  void shouldRejectPageAboveMaximum() {
+    assertThatThrownBy(() -> PageSize.validate(PageSize.MAX + 1))
+        .isInstanceOf(InvalidBusinessRuleException.class)
+        .hasMessage("Page size must be at most 100");
+  }
+}
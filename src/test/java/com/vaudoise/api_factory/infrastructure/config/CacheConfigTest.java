@@ -0,0 +1,122 @@
+package com.vaudoise.api_factory.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.vaudoise.api_factory.application.usecase.client.ClientCaches;
+import com.vaudoise.api_factory.application.usecase.client.DeleteClientUseCase;
+import com.vaudoise.api_factory.application.usecase.client.GetClientUseCase;
+import com.vaudoise.api_factory.application.usecase.client.UpdateClientUseCase;
+import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.Email;
+import com.vaudoise.api_factory.domain.model.Person;
+import com.vaudoise.api_factory.domain.model.PhoneNumber;
+import com.vaudoise.api_factory.domain.repository.ChangeEventRepository;
+import com.vaudoise.api_factory.domain.repository.ClientCostTotalRepository;
+import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig({
+  CacheConfig.class,
+  GetClientUseCase.class,
+  UpdateClientUseCase.class,
+  DeleteClientUseCase.class
+})
+class CacheConfigTest {
+
+  @MockitoBean private ClientRepository clientRepository;
+
+  @MockitoBean private ClientCostTotalRepository clientCostTotalRepository;
+
+  @MockitoBean private ChangeEventRepository changeEventRepository;
+
+  @Autowired private GetClientUseCase getClientUseCase;
+
+  @Autowired private UpdateClientUseCase updateClientUseCase;
+
+  @Autowired private DeleteClientUseCase deleteClientUseCase;
+
+  @Autowired private CacheManager cacheManager;
+
+  private UUID clientId;
+  private Person person;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    clientId = UUID.randomUUID();
+    person =
+        new Person(
+            "John Doe",
+            new Email("john.doe@example.com"),
+            new PhoneNumber("+41791234567"),
+            LocalDate.of(1990, 1, 1));
+    person.setId(clientId);
+    when(clientRepository.findById(clientId)).thenReturn(Optional.of(person));
+  }
+
+  @Test
+  void shouldServeRepeatedLookupsFromCacheAndRecordStats() {
+    // The cache outlives each test, so only what these lookups add to its statistics counts
+    Cache<Object, Object> cache = nativeCache(ClientCaches.CLIENTS);
+    CacheStats before = cache.stats();
+
+    Client first = getClientUseCase.execute(clientId);
+    Client second = getClientUseCase.execute(clientId);
+
+    assertSame(first, second);
+    verify(clientRepository, times(1)).findById(clientId);
+    CacheStats stats = cache.stats().minus(before);
+    assertEquals(1, stats.hitCount());
+    assertEquals(1, stats.missCount());
+  }
+
+  @Test
+  void shouldEvictClientWhenUpdated() {
+    getClientUseCase.execute(clientId);
+    when(clientRepository.save(any(Client.class))).thenAnswer(call -> call.getArgument(0));
+
+    updateClientUseCase.execute(
+        clientId,
+        new Person(
+            "Jane Doe",
+            new Email("john.doe@example.com"),
+            new PhoneNumber("+41791234567"),
+            LocalDate.of(1990, 1, 1)));
+    getClientUseCase.execute(clientId);
+
+    // initial read, the update's own read, and the read after eviction
+    verify(clientRepository, times(3)).findById(clientId);
+  }
+
+  @Test
+  void shouldEvictClientAndExistenceWhenDeleted() {
+    getClientUseCase.execute(clientId);
+    cacheManager.getCache(ClientCaches.EXISTS).put(clientId, true);
+
+    deleteClientUseCase.execute(clientId);
+
+    assertNull(cacheManager.getCache(ClientCaches.CLIENTS).get(clientId));
+    assertNull(cacheManager.getCache(ClientCaches.EXISTS).get(clientId));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Cache<Object, Object> nativeCache(String name) {
+    TransactionAwareCacheDecorator decorator =
+        (TransactionAwareCacheDecorator) cacheManager.getCache(name);
+    return ((CaffeineCache) decorator.getTargetCache()).getNativeCache();
+  }
+}
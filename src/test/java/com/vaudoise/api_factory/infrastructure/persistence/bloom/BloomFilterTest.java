@@ -0,0 +1,54 @@
+package com.vaudoise.api_factory.infrastructure.persistence.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+  @Test
+  void shouldNeverReportAStoredKeyAsAbsent() {
+    BloomFilter filter = new BloomFilter(10_000, 0.01);
+    IntStream.range(0, 10_000).forEach(i -> filter.put("client" + i + "@example.com"));
+
+    assertThat(IntStream.range(0, 10_000))
+        .allMatch(i -> filter.mightContain("client" + i + "@example.com"));
+  }
+
+  @Test
+  void shouldKeepFalsePositivesNearTheConfiguredRate() {
+    BloomFilter filter = new BloomFilter(10_000, 0.01);
+    IntStream.range(0, 10_000).forEach(i -> filter.put("client" + i + "@example.com"));
+
+    long falsePositives =
+        IntStream.range(0, 100_000)
+            .filter(i -> filter.mightContain("other" + i + "@example.com"))
+            .count();
+
+    assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+  }
+
+  @Test
+  void shouldSizeBitsAndHashesFromTheTargetRate() {
+    BloomFilter filter = new BloomFilter(1_000_000, 0.01);
+
+    // about 9.6 bits and 7 hashes per key at 1%
+    assertThat(filter.bitSize()).isBetween(9_500_000L, 9_700_000L);
+    assertThat(filter.hashCount()).isEqualTo(7);
+    assertThat(filter.memoryBytes()).isEqualTo(filter.bitSize() / 8);
+    assertThat(filter.expectedFalsePositiveRate()).isZero();
+  }
+
+  @Test
+  void shouldRejectInvalidSizing() {
+    assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected insertions must be at least 1");
+    assertThatThrownBy(() -> new BloomFilter(100, 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("False-positive rate must be between 0 and 1");
+  }
+}
@@ -0,0 +1,136 @@
+package com.vaudoise.api_factory.infrastructure.persistence.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.vaudoise.api_factory.infrastructure.persistence.repository.JpaClientRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ClientKeyFilterTest {
+
+  @Mock private JpaClientRepository springRepo;
+
+  private ClientKeyFilter keyFilter;
+  private SimpleMeterRegistry registry;
+  private final List<String> probed = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    keyFilter = new ClientKeyFilter(springRepo, 1_000, 0.01);
+    registry = new SimpleMeterRegistry();
+    keyFilter.bindTo(registry);
+  }
+
+  @Test
+  void shouldProbeEveryKeyUntilLoaded() {
+    assertThat(keyFilter.emailExists("john.doe@example.com", probe(false))).isFalse();
+
+    assertThat(probed).containsExactly("john.doe@example.com");
+  }
+
+  @Test
+  void shouldSkipTheProbeForKeysNeverStored() {
+    load(List.of("john.doe@example.com"), List.of("CHE-123.456.789"));
+
+    assertThat(keyFilter.emailExists("jane.smith@example.com", probe(false))).isFalse();
+    assertThat(keyFilter.companyIdentifierExists("CHE-987.654.321", probe(false))).isFalse();
+
+    assertThat(probed).isEmpty();
+    assertThat(checks("email", "negative")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldConfirmPossibleMatchesWithTheProbe() {
+    load(List.of("john.doe@example.com"), List.of());
+
+    assertThat(keyFilter.emailExists("john.doe@example.com", probe(true))).isTrue();
+
+    assertThat(probed).containsExactly("john.doe@example.com");
+    assertThat(checks("email", "positive")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCountAPossibleMatchTheProbeDeniesAsFalsePositive() {
+    load(List.of("john.doe@example.com"), List.of());
+
+    // a deleted client stays in the filter
+    assertThat(keyFilter.emailExists("john.doe@example.com", probe(false))).isFalse();
+
+    assertThat(checks("email", "false_positive")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldOnlyLookUpPossibleMatchesOfABatch() {
+    load(List.of("john.doe@example.com"), List.of());
+    List<String> lookedUp = new ArrayList<>();
+
+    Set<String> existing =
+        keyFilter.existingEmails(
+            List.of("john.doe@example.com", "jane.smith@example.com"),
+            candidates -> {
+              lookedUp.addAll(candidates);
+              return List.of("john.doe@example.com");
+            });
+
+    assertThat(existing).containsExactly("john.doe@example.com");
+    assertThat(lookedUp).containsExactly("john.doe@example.com");
+    assertThat(checks("email", "negative")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldProbeKeysAddedAfterLoading() {
+    load(List.of(), List.of());
+
+    keyFilter.addEmail("jane.smith@example.com");
+
+    assertThat(keyFilter.emailExists("jane.smith@example.com", probe(true))).isTrue();
+    assertThat(probed).containsExactly("jane.smith@example.com");
+  }
+
+  @Test
+  void shouldExposeFootprintAndExpectedFalsePositiveRate() {
+    load(List.of("john.doe@example.com"), List.of());
+
+    assertThat(registry.get("clients.key.filter.memory").tag("key", "email").gauge().value())
+        .isPositive();
+    assertThat(
+            registry
+                .get("clients.key.filter.false.positive.rate")
+                .tag("key", "email")
+                .gauge()
+                .value())
+        .isBetween(0.0, 0.01);
+  }
+
+  private void load(List<String> emails, List<String> companyIdentifiers) {
+    given(springRepo.streamAllEmails()).willReturn(emails.stream());
+    given(springRepo.streamAllCompanyIdentifiers()).willReturn(companyIdentifiers.stream());
+    keyFilter.load();
+  }
+
+  private Predicate<String> probe(boolean answer) {
+    return key -> {
+      probed.add(key);
+      return answer;
+    };
+  }
+
+  private double checks(String key, String result) {
+    return registry
+        .get("clients.key.filter.checks")
+        .tag("key", key)
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+}
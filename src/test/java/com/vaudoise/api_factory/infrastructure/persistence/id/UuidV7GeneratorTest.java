@@ -0,0 +1,51 @@
+package com.vaudoise.api_factory.infrastructure.persistence.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+  @Test
+  void shouldSetVersionSevenAndTheRfcVariant() {
+    UUID id = UuidV7Generator.next();
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldStartWithTheCurrentUnixTimeInMillis() {
+    long before = System.currentTimeMillis();
+    UUID id = UuidV7Generator.next();
+
+    long timestamp = id.getMostSignificantBits() >>> 16;
+    // A burst in an earlier test may have pushed the counter a few milliseconds ahead
+    assertThat(timestamp).isBetween(before, System.currentTimeMillis() + 100);
+  }
+
+  @Test
+  void shouldSortInGenerationOrderAsTheDatabaseComparesThem() {
+    // PostgreSQL compares uuids byte by byte, which is the order of their hex strings
+    List<UUID> ids = new ArrayList<>();
+    IntStream.range(0, 100_000).forEach(i -> ids.add(UuidV7Generator.next()));
+
+    assertThat(ids).isSortedAccordingTo(Comparator.comparing(UUID::toString));
+    assertThat(new HashSet<>(ids)).hasSize(ids.size());
+  }
+
+  @Test
+  void shouldStayUniqueAcrossThreads() {
+    ConcurrentLinkedQueue<UUID> ids = new ConcurrentLinkedQueue<>();
+    IntStream.range(0, 200_000).parallel().forEach(i -> ids.add(UuidV7Generator.next()));
+
+    assertThat(new HashSet<>(ids)).hasSize(200_000);
+  }
+}
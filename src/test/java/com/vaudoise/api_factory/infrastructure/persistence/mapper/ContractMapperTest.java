@@ -2,6 +2,7 @@ package com.vaudoise.api_factory.infrastructure.persistence.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.vaudoise.api_factory.domain.model.*;
@@ -30,7 +31,7 @@ class ContractMapperTest {
   }
 
   @Test
-  void shouldMapContractDomainToJpaEntity() {
+  void shouldMapContractDomainToJpaEntityWithClientReference() {
     UUID contractId = UUID.randomUUID();
     Person client =
         new Person(
@@ -40,17 +41,33 @@ class ContractMapperTest {
     Contract contract = new Contract(client, cost, LocalDate.now(), null);
     contract.setId(contractId);
 
-    when(clientMapper.to(client)).thenReturn(clientJpa);
-
-    ContractEntity entity = contractMapper.to(contract);
+    ContractEntity entity = contractMapper.to(contract, clientJpa);
 
     assertThat(entity.getId()).isEqualTo(contractId);
-    assertThat(entity.getClient()).isEqualTo(clientJpa);
+    assertThat(entity.getClient()).isSameAs(clientJpa);
     assertThat(entity.getCostAmount()).isEqualTo(new BigDecimal("100.00"));
     assertThat(entity.getCostCurrency()).isEqualTo("CHF");
     assertThat(entity.getEndDate()).isNull();
 
-    verify(clientMapper).to(client);
+    verifyNoInteractions(clientMapper);
+  }
+
+  @Test
+  void shouldMapNewContractToJpaEntityWithClientReference() {
+    PersonEntity clientJpa = new PersonEntity();
+    LocalDate endDate = LocalDate.now().plusYears(1);
+    NewContract contract =
+        new NewContract(UUID.randomUUID(), Money.chf(new BigDecimal("250.00")), null, endDate);
+
+    ContractEntity entity = contractMapper.to(contract, clientJpa);
+
+    assertThat(entity.getId()).isNull();
+    assertThat(entity.getClient()).isSameAs(clientJpa);
+    assertThat(entity.getStartDate()).isEqualTo(LocalDate.now());
+    assertThat(entity.getEndDate()).isEqualTo(endDate);
+    assertThat(entity.getCostAmount()).isEqualTo(new BigDecimal("250.00"));
+    assertThat(entity.getCostCurrency()).isEqualTo("CHF");
+    verifyNoInteractions(clientMapper);
   }
 
   @Test
@@ -84,7 +101,7 @@ class ContractMapperTest {
 
   @Test
   void shouldReturnNullWhenMappingNullToJpa() {
-    ContractEntity entity = contractMapper.to(null);
+    ContractEntity entity = contractMapper.to((Contract) null, null);
 
     assertThat(entity).isNull();
   }
@@ -0,0 +1,73 @@
+package com.vaudoise.api_factory.infrastructure.persistence.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.vaudoise.api_factory.AbstractIntegrationTest;
+import com.vaudoise.api_factory.domain.model.ChangeEvent;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.EntityType;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
+import com.vaudoise.api_factory.domain.model.NewChangeEvent;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ChangeFeedHeadEntity;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ChangeEventRepositoryTest extends AbstractIntegrationTest {
+
+  @Test
+  void whenAppend_thenNumberEventsAfterTheHeadWithoutGaps() {
+    long head = lastSequence();
+    UUID clientId = UUID.randomUUID();
+    UUID contractId = UUID.randomUUID();
+
+    changeEventRepository.append(List.of(NewChangeEvent.client(Operation.CREATED, clientId)));
+    changeEventRepository.append(
+        List.of(
+            NewChangeEvent.contract(Operation.CREATED, contractId, clientId),
+            NewChangeEvent.client(Operation.DELETED, clientId)));
+    entityManager.flush();
+    entityManager.clear();
+
+    List<ChangeEvent> events = changeEventRepository.findAfter(head, 10);
+    assertEquals(
+        List.of(head + 1, head + 2, head + 3), events.stream().map(ChangeEvent::sequence).toList());
+    assertEquals(EntityType.CONTRACT, events.get(1).entityType());
+    assertEquals(contractId, events.get(1).entityId());
+    assertEquals(clientId, events.get(1).clientId());
+    assertEquals(Operation.DELETED, events.get(2).operation());
+    assertNotNull(events.get(2).occurredAt());
+    assertEquals(head + 3, lastSequence());
+  }
+
+  @Test
+  void whenFindAfter_thenStartAfterTheCursorAndStopAtTheLimit() {
+    long head = lastSequence();
+    for (int i = 0; i < 5; i++) {
+      changeEventRepository.append(
+          List.of(NewChangeEvent.client(Operation.UPDATED, UUID.randomUUID())));
+    }
+    entityManager.flush();
+
+    List<ChangeEvent> events = changeEventRepository.findAfter(head + 1, 2);
+
+    assertEquals(List.of(head + 2, head + 3), events.stream().map(ChangeEvent::sequence).toList());
+    assertTrue(changeEventRepository.findAfter(head + 5, 10).isEmpty());
+  }
+
+  @Test
+  void whenAppendNothing_thenLeaveTheHeadAlone() {
+    long head = lastSequence();
+
+    changeEventRepository.append(List.of());
+
+    assertEquals(head, lastSequence());
+  }
+
+  private long lastSequence() {
+    entityManager.flush();
+    entityManager.clear();
+    return entityManager
+        .find(ChangeFeedHeadEntity.class, ChangeFeedHeadEntity.ID)
+        .getLastSequence();
+  }
+}
@@ -0,0 +1,104 @@
+package com.vaudoise.api_factory.infrastructure.persistence.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.vaudoise.api_factory.AbstractIntegrationTest;
+import com.vaudoise.api_factory.domain.model.CostTotalDrift;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ClientCostTotalEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.PersonEntity;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ClientCostTotalRepositoryTest extends AbstractIntegrationTest {
+
+  private PersonEntity testPerson;
+  private ContractEntity endingContract;
+
+  @BeforeEach
+  void setUp() {
+    testPerson = new PersonEntity();
+    testPerson.setName("John Doe");
+    testPerson.setEmail("john.doe@example.com");
+    testPerson.setPhone("+41791234567");
+    testPerson.setBirthdate(LocalDate.of(1980, 1, 1));
+    entityManager.persistAndFlush(testPerson);
+
+    persistContract(new BigDecimal("100.00"), null);
+    endingContract = persistContract(new BigDecimal("250.00"), LocalDate.now().plusDays(1));
+  }
+
+  @Test
+  void whenAddWithoutRow_thenSeedTotalFromContracts() {
+    clientCostTotalRepository.add(testPerson.getId(), new BigDecimal("250.00"));
+
+    assertEquals(new BigDecimal("350.00"), storedTotal());
+  }
+
+  @Test
+  void whenAddWithRow_thenApplyDelta() {
+    clientCostTotalRepository.recompute(testPerson.getId());
+
+    clientCostTotalRepository.add(testPerson.getId(), new BigDecimal("-100.00"));
+
+    assertEquals(new BigDecimal("250.00"), storedTotal());
+  }
+
+  @Test
+  void whenContractEnds_thenRecomputeDropsItFromTotal() {
+    clientCostTotalRepository.recompute(testPerson.getId());
+    endingContract.setEndDate(LocalDate.now());
+    entityManager.persistAndFlush(endingContract);
+
+    int recomputed =
+        clientCostTotalRepository.recomputeForContractsEndedBetween(
+            LocalDate.now().minusDays(7), LocalDate.now());
+
+    assertEquals(1, recomputed);
+    assertEquals(new BigDecimal("100.00"), storedTotal());
+  }
+
+  @Test
+  void whenTotalDiffersFromContracts_thenReportDrift() {
+    clientCostTotalRepository.recompute(testPerson.getId());
+    assertTrue(clientCostTotalRepository.findDrift().isEmpty());
+
+    clientCostTotalRepository.add(testPerson.getId(), new BigDecimal("1.00"));
+    List<CostTotalDrift> drift = clientCostTotalRepository.findDrift();
+
+    assertEquals(1, drift.size());
+    assertEquals(testPerson.getId(), drift.get(0).clientId());
+    assertEquals(new BigDecimal("351.00"), drift.get(0).storedTotal());
+    assertEquals(new BigDecimal("350.00"), drift.get(0).actualTotal());
+  }
+
+  @Test
+  void whenRecomputeForContracts_thenReplaceTotalsOfTheirClients() {
+    clientCostTotalRepository.recompute(testPerson.getId());
+    endingContract.setCostAmount(new BigDecimal("300.00"));
+    entityManager.persistAndFlush(endingContract);
+
+    clientCostTotalRepository.recomputeForContracts(List.of(endingContract.getId()));
+
+    assertEquals(new BigDecimal("400.00"), storedTotal());
+  }
+
+  private BigDecimal storedTotal() {
+    entityManager.flush();
+    entityManager.clear();
+    return entityManager.find(ClientCostTotalEntity.class, testPerson.getId()).getTotalAmount();
+  }
+
+  private ContractEntity persistContract(BigDecimal cost, LocalDate endDate) {
+    ContractEntity contract = new ContractEntity();
+    contract.setClient(testPerson);
+    contract.setStartDate(LocalDate.now().minusMonths(1));
+    contract.setEndDate(endDate);
+    contract.setCostAmount(cost);
+    contract.setCostCurrency("CHF");
+    return entityManager.persistAndFlush(contract);
+  }
+}
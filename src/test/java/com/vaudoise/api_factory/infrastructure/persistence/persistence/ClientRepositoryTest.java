@@ -3,23 +3,52 @@ package com.vaudoise.api_factory.infrastructure.persistence.persistence;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.vaudoise.api_factory.AbstractIntegrationTest;
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.exception.DuplicateEmailException;
 import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ClientExportRow;
+import com.vaudoise.api_factory.domain.model.ClientType;
+import com.vaudoise.api_factory.domain.model.Company;
+import com.vaudoise.api_factory.domain.model.CompanyIdentifier;
+import com.vaudoise.api_factory.domain.model.ContentStamp;
 import com.vaudoise.api_factory.domain.model.Email;
 import com.vaudoise.api_factory.domain.model.Person;
 import com.vaudoise.api_factory.domain.model.PhoneNumber;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
+import com.vaudoise.api_factory.infrastructure.persistence.bloom.ClientKeyFilter;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ClientEntity;
 import com.vaudoise.api_factory.infrastructure.persistence.entity.CompanyEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractEntity;
 import com.vaudoise.api_factory.infrastructure.persistence.entity.PersonEntity;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
 
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class ClientRepositoryTest extends AbstractIntegrationTest {
 
+  // The database orders ids like their text; UUID.compareTo compares signed longs
+  private static final Comparator<UUID> BY_TEXT = Comparator.comparing(UUID::toString);
+
+  @Autowired private ClientKeyFilter clientKeyFilter;
+
   private PersonEntity testPerson;
   private CompanyEntity testCompany;
 
@@ -38,6 +67,11 @@ class ClientRepositoryTest extends AbstractIntegrationTest {
     testCompany.setPhone("+41441234567");
     testCompany.setCompanyIdentifier("CHE-123.456.789");
     entityManager.persistAndFlush(testCompany);
+
+    // Persisted around the repository, so the key filter has to be told as a save would
+    clientKeyFilter.addEmail(testPerson.getEmail());
+    clientKeyFilter.addEmail(testCompany.getEmail());
+    clientKeyFilter.addCompanyIdentifier(testCompany.getCompanyIdentifier());
   }
 
   @Test
@@ -78,12 +112,42 @@ class ClientRepositoryTest extends AbstractIntegrationTest {
   }
 
   @Test
-  void whenDeleteById_thenUpdateContractsAndDeleteClient() {
+  void whenDeleteById_thenDeleteClientAndItsContracts() {
     UUID clientId = testPerson.getId();
+    addContracts(testPerson, 3);
+    entityManager.clear();
+    Statistics statistics = statistics();
+    statistics.clear();
 
     clientRepository.deleteById(clientId);
 
+    // one DELETE for the client, whatever the contract count, and one UPDATE of the deletion
+    // counter; its contracts go by cascade
+    assertEquals(2, statistics.getPrepareStatementCount());
     assertFalse(jpaClientRepository.existsById(clientId));
+    assertEquals(
+        0, jpaContractRepository.findByClientId(clientId, Pageable.unpaged()).getTotalElements());
+  }
+
+  @Test
+  void whenDeleteByIdOfUnknownClient_thenThrowClientNotFoundException() {
+    UUID unknownId = UUID.randomUUID();
+
+    assertThrows(ClientNotFoundException.class, () -> clientRepository.deleteById(unknownId));
+  }
+
+  @Test
+  void whenDeleteAllById_thenDeleteKnownClientsOnly() {
+    addContracts(testCompany, 2);
+    entityManager.clear();
+
+    int deleted =
+        clientRepository.deleteAllById(
+            List.of(testPerson.getId(), testCompany.getId(), UUID.randomUUID()));
+
+    assertEquals(2, deleted);
+    assertEquals(0, jpaClientRepository.count());
+    assertEquals(0, jpaContractRepository.count());
   }
 
   @Test
@@ -137,4 +201,224 @@ class ClientRepositoryTest extends AbstractIntegrationTest {
 
     assertFalse(exists);
   }
+
+  @Test
+  void whenFindExistingIds_thenReturnOnlyKnownOnes() {
+    UUID unknownId = UUID.randomUUID();
+
+    Set<UUID> existing = clientRepository.findExistingIds(List.of(testPerson.getId(), unknownId));
+
+    assertEquals(Set.of(testPerson.getId()), existing);
+  }
+
+  @Test
+  void whenFindExistingEmails_thenReturnOnlyKnownOnes() {
+    Set<String> existing =
+        clientRepository.findExistingEmails(
+            List.of("john.doe@example.com", "info@testcompany.com", "nobody@example.com"));
+
+    assertEquals(Set.of("john.doe@example.com", "info@testcompany.com"), existing);
+    assertTrue(clientRepository.findExistingEmails(List.of()).isEmpty());
+  }
+
+  @Test
+  void whenFindExistingCompanyIdentifiers_thenReturnOnlyKnownOnes() {
+    Set<String> existing =
+        clientRepository.findExistingCompanyIdentifiers(
+            List.of("CHE-123.456.789", "CHE-999.999.999"));
+
+    assertEquals(Set.of("CHE-123.456.789"), existing);
+  }
+
+  @Test
+  void whenSaveAll_thenPersistEveryClientInOrder() {
+    List<Client> saved =
+        clientRepository.saveAll(
+            List.of(
+                new Person(
+                    "Jane Smith",
+                    new Email("jane.smith@example.com"),
+                    new PhoneNumber("+41791234568"),
+                    LocalDate.of(1992, 3, 4)),
+                new Person(
+                    "Max Muster",
+                    new Email("max.muster@example.com"),
+                    new PhoneNumber("+41791234569"),
+                    LocalDate.of(1985, 6, 15))));
+
+    assertEquals(2, saved.size());
+    assertEquals("Jane Smith", saved.get(0).getName());
+    assertEquals("Max Muster", saved.get(1).getName());
+    assertTrue(clientRepository.findById(saved.get(1).getId()).isPresent());
+  }
+
+  @Test
+  void whenSaveAllWithTakenEmail_thenThrowDuplicateEmailException() {
+    List<Client> clients =
+        List.of(
+            new Person(
+                "John Again",
+                new Email("john.doe@example.com"),
+                new PhoneNumber("+41791234568"),
+                LocalDate.of(1992, 3, 4)));
+
+    assertThrows(DuplicateEmailException.class, () -> clientRepository.saveAll(clients));
+  }
+
+  @Test
+  void whenSaveWithTakenEmail_thenThrowDuplicateEmailException() {
+    Person duplicate =
+        new Person(
+            "John Again",
+            new Email("john.doe@example.com"),
+            new PhoneNumber("+41791234568"),
+            LocalDate.of(1992, 3, 4));
+
+    DuplicateEmailException thrown =
+        assertThrows(DuplicateEmailException.class, () -> clientRepository.save(duplicate));
+    assertEquals("Email already exists: john.doe@example.com", thrown.getMessage());
+  }
+
+  @Test
+  void whenSaveWithTakenCompanyIdentifier_thenThrowDuplicateEmailException() {
+    Company duplicate =
+        new Company(
+            "Other Company",
+            new Email("other@testcompany.com"),
+            new PhoneNumber("+41441234568"),
+            new CompanyIdentifier("CHE-123.456.789"));
+
+    DuplicateEmailException thrown =
+        assertThrows(DuplicateEmailException.class, () -> clientRepository.save(duplicate));
+    assertEquals("Company identifier already exists: CHE-123.456.789", thrown.getMessage());
+  }
+
+  @Test
+  void whenFindAllWithContractsByCursor_thenWalkEveryClientOnce() {
+    CursorPage<Client> firstPage = clientRepository.findAllWithContracts(null, 1);
+
+    assertEquals(1, firstPage.content().size());
+    assertTrue(firstPage.hasNext());
+
+    CursorPage<Client> secondPage =
+        clientRepository.findAllWithContracts(firstPage.nextCursor(), 1);
+
+    assertEquals(1, secondPage.content().size());
+    assertFalse(secondPage.hasNext());
+    assertNotEquals(firstPage.content().get(0).getId(), secondPage.content().get(0).getId());
+  }
+
+  @Test
+  void whenFindAllWithContracts_thenPageIdsInSqlAndLoadOnlyThatPage() {
+    addContracts(testPerson, 2);
+    addContracts(testCompany, 2);
+    addContracts(persistPerson("Jane Smith", "jane.smith@example.com"), 2);
+    addContracts(persistPerson("Max Muster", "max.muster@example.com"), 2);
+    entityManager.clear();
+    Statistics statistics = statistics();
+    statistics.clear();
+
+    Page<Client> page = clientRepository.findAllWithContracts(PageRequest.of(0, 2));
+
+    assertEquals(2, page.getContent().size());
+    assertEquals(4, page.getTotalElements());
+    page.getContent().forEach(client -> assertEquals(2, client.getContracts().size()));
+    // id page + count + one batched fetch of the page's clients and contracts
+    assertEquals(3, statistics.getPrepareStatementCount());
+    // 2 clients and their 4 contracts, not the whole table
+    assertEquals(6, statistics.getEntityLoadCount());
+  }
+
+  @Test
+  void whenStreamAll_thenMapEveryClientInIdOrderWithoutKeepingItManaged() {
+    entityManager.clear();
+
+    List<ClientExportRow> rows;
+    try (Stream<ClientExportRow> stream = clientRepository.streamAll()) {
+      rows = stream.toList();
+    }
+
+    assertEquals(
+        rows.stream().map(ClientExportRow::id).sorted(BY_TEXT).toList(),
+        rows.stream().map(ClientExportRow::id).toList());
+    ClientExportRow person =
+        rows.stream().filter(row -> row.id().equals(testPerson.getId())).findFirst().orElseThrow();
+    assertEquals(ClientType.PERSON, person.type());
+    assertEquals(LocalDate.of(1980, 1, 1), person.birthDate());
+    assertNull(person.companyIdentifier());
+    ClientExportRow company =
+        rows.stream().filter(row -> row.id().equals(testCompany.getId())).findFirst().orElseThrow();
+    assertEquals(ClientType.COMPANY, company.type());
+    assertEquals("CHE-123.456.789", company.companyIdentifier());
+    assertEquals(
+        0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+  }
+
+  @Test
+  void whenFindContentStampById_thenCountContractsAndTakeNewestUpdate() {
+    ContentStamp before = clientRepository.findContentStampById(testPerson.getId()).orElseThrow();
+    addContracts(testPerson, 3);
+
+    ContentStamp after = clientRepository.findContentStampById(testPerson.getId()).orElseThrow();
+
+    assertEquals(0, before.deletionMark());
+    assertEquals(3, after.deletionMark());
+    assertFalse(after.lastModified().isBefore(before.lastModified()));
+  }
+
+  @Test
+  void whenFindContentStampByIdOfUnknownClient_thenReturnEmptyOptional() {
+    assertTrue(clientRepository.findContentStampById(UUID.randomUUID()).isEmpty());
+  }
+
+  @Test
+  void whenFindContentStampOfAll_thenTakeNewestUpdate() {
+    addContracts(testCompany, 2);
+
+    ContentStamp stamp = clientRepository.findContentStampOfAll();
+
+    // the column keeps microseconds at most
+    Instant companyUpdatedAt = testCompany.getUpdatedAt().truncatedTo(ChronoUnit.MICROS);
+    assertFalse(stamp.lastModified().isBefore(companyUpdatedAt));
+  }
+
+  @Test
+  void whenDeleteClients_thenContentStampOfAllMovesItsDeletionMark() {
+    ContentStamp before = clientRepository.findContentStampOfAll();
+
+    clientRepository.deleteAllById(List.of(testPerson.getId(), UUID.randomUUID()));
+
+    ContentStamp after = clientRepository.findContentStampOfAll();
+    // the remaining rows are untouched, so only the mark tells the lists apart
+    assertEquals(before.lastModified(), after.lastModified());
+    assertEquals(before.deletionMark() + 1, after.deletionMark());
+  }
+
+  private Statistics statistics() {
+    return entityManager
+        .getEntityManager()
+        .getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+  }
+
+  private PersonEntity persistPerson(String name, String email) {
+    PersonEntity person = new PersonEntity();
+    person.setName(name);
+    person.setEmail(email);
+    person.setPhone("+41791234569");
+    person.setBirthdate(LocalDate.of(1985, 6, 15));
+    return entityManager.persistAndFlush(person);
+  }
+
+  private void addContracts(ClientEntity client, int count) {
+    for (int i = 0; i < count; i++) {
+      ContractEntity contract = new ContractEntity();
+      contract.setClient(client);
+      contract.setStartDate(LocalDate.now().minusMonths(1));
+      contract.setCostAmount(new BigDecimal("100.00"));
+      contract.setCostCurrency("CHF");
+      entityManager.persistAndFlush(contract);
+    }
+  }
 }
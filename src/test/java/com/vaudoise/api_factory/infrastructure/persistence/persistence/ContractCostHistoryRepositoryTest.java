@@ -0,0 +1,135 @@
+package com.vaudoise.api_factory.infrastructure.persistence.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.vaudoise.api_factory.AbstractIntegrationTest;
+import com.vaudoise.api_factory.domain.model.ContractCostAsOf;
+import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractCostHistoryEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.PersonEntity;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ContractCostHistoryRepositoryTest extends AbstractIntegrationTest {
+
+  private static final LocalDate TODAY = LocalDate.now();
+
+  private PersonEntity testPerson;
+  private ContractEntity repricedContract;
+  private ContractEntity endedContract;
+
+  @BeforeEach
+  void setUp() {
+    testPerson = new PersonEntity();
+    testPerson.setName("John Doe");
+    testPerson.setEmail("john.doe@example.com");
+    testPerson.setPhone("+41791234567");
+    testPerson.setBirthdate(LocalDate.of(1980, 1, 1));
+    entityManager.persistAndFlush(testPerson);
+
+    // 100.00 from 20 days ago, 150.00 from 10 days ago
+    repricedContract = persistContract(new BigDecimal("150.00"), null);
+    persistCost(repricedContract, TODAY.minusDays(20), "100.00");
+    persistCost(repricedContract, TODAY.minusDays(10), "150.00");
+
+    // 80.00 from 30 days ago, ended 5 days ago
+    endedContract = persistContract(new BigDecimal("80.00"), TODAY.minusDays(5));
+    persistCost(endedContract, TODAY.minusDays(30), "80.00");
+  }
+
+  @Test
+  void whenAsOfBeforeRepricing_thenUseTheCostInForceThatDay() {
+    List<ContractCostAsOf> contracts =
+        contractCostHistoryRepository.findActiveContractCostsAsOf(
+            testPerson.getId(), TODAY.minusDays(15));
+
+    assertEquals(2, contracts.size());
+    assertEquals(Money.chf(new BigDecimal("100.00")), costOf(contracts, repricedContract));
+    assertEquals(Money.chf(new BigDecimal("80.00")), costOf(contracts, endedContract));
+  }
+
+  @Test
+  void whenAsOfRepricingDay_thenUseTheCostSetThatDay() {
+    List<ContractCostAsOf> contracts =
+        contractCostHistoryRepository.findActiveContractCostsAsOf(
+            testPerson.getId(), TODAY.minusDays(10));
+
+    assertEquals(Money.chf(new BigDecimal("150.00")), costOf(contracts, repricedContract));
+  }
+
+  @Test
+  void whenAsOfAfterEndDate_thenLeaveEndedContractOut() {
+    List<ContractCostAsOf> contracts =
+        contractCostHistoryRepository.findActiveContractCostsAsOf(
+            testPerson.getId(), TODAY.minusDays(2));
+
+    assertEquals(1, contracts.size());
+    assertEquals(repricedContract.getId(), contracts.get(0).contractId());
+  }
+
+  @Test
+  void whenAsOfBeforeFirstCost_thenLeaveContractOut() {
+    List<ContractCostAsOf> contracts =
+        contractCostHistoryRepository.findActiveContractCostsAsOf(
+            testPerson.getId(), TODAY.minusDays(25));
+
+    assertEquals(1, contracts.size());
+    assertEquals(endedContract.getId(), contracts.get(0).contractId());
+  }
+
+  @Test
+  void whenRecordCurrentCostsTwice_thenAppendOneRowValidFromLastUpdate() {
+    contractCostHistoryRepository.recordCurrentCosts(List.of(repricedContract.getId()));
+    contractCostHistoryRepository.recordCurrentCosts(List.of(repricedContract.getId()));
+    entityManager.clear();
+
+    ContractCostHistoryEntity latest =
+        entityManager.find(
+            ContractCostHistoryEntity.class,
+            new ContractCostHistoryEntity.Key(
+                repricedContract.getId(), repricedContract.getUpdatedAt()));
+    assertNotNull(latest);
+    assertEquals(new BigDecimal("150.00"), latest.getCostAmount());
+    assertEquals(
+        3L,
+        entityManager
+            .getEntityManager()
+            .createQuery(
+                "SELECT COUNT(h) FROM ContractCostHistoryEntity h WHERE h.contractId = :id",
+                Long.class)
+            .setParameter("id", repricedContract.getId())
+            .getSingleResult());
+  }
+
+  private static Money costOf(List<ContractCostAsOf> contracts, ContractEntity contract) {
+    return contracts.stream()
+        .filter(c -> c.contractId().equals(contract.getId()))
+        .findFirst()
+        .orElseThrow()
+        .cost();
+  }
+
+  private ContractEntity persistContract(BigDecimal cost, LocalDate endDate) {
+    ContractEntity contract = new ContractEntity();
+    contract.setClient(testPerson);
+    contract.setStartDate(TODAY.minusMonths(2));
+    contract.setEndDate(endDate);
+    contract.setCostAmount(cost);
+    contract.setCostCurrency("CHF");
+    return entityManager.persistAndFlush(contract);
+  }
+
+  private void persistCost(ContractEntity contract, LocalDate day, String amount) {
+    ContractCostHistoryEntity row = new ContractCostHistoryEntity();
+    row.setContractId(contract.getId());
+    row.setValidFrom(day.atStartOfDay(ZoneId.systemDefault()).plusHours(9).toInstant());
+    row.setCostAmount(new BigDecimal(amount));
+    row.setCostCurrency("CHF");
+    entityManager.persistAndFlush(row);
+  }
+}
@@ -3,9 +3,16 @@ package com.vaudoise.api_factory.infrastructure.persistence.persistence;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.vaudoise.api_factory.AbstractIntegrationTest;
+import com.vaudoise.api_factory.domain.exception.ContractModifiedException;
 import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ClientType;
 import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.ContractExportRow;
+import com.vaudoise.api_factory.domain.model.CostAdjustmentPreview;
 import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.NewContract;
+import com.vaudoise.api_factory.domain.repository.ContractFilter;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
 import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractEntity;
 import com.vaudoise.api_factory.infrastructure.persistence.entity.PersonEntity;
 import com.vaudoise.api_factory.infrastructure.persistence.mapper.ContractMapper;
@@ -14,10 +21,15 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.Comparator;
 import java.util.Currency;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +39,9 @@ import org.springframework.data.domain.Pageable;
 
 class ContractRepositoryTest extends AbstractIntegrationTest {
 
+  // The database orders ids like their text; UUID.compareTo compares signed longs
+  private static final Comparator<UUID> BY_TEXT = Comparator.comparing(UUID::toString);
+
   @Autowired private ContractMapper contractMapper;
 
   private static final ZoneId TEST_ZONE = ZoneOffset.UTC;
@@ -38,7 +53,7 @@ class ContractRepositoryTest extends AbstractIntegrationTest {
 
   @BeforeEach
   void setUp() {
-    LocalDate now = LocalDate.of(2025, 10, 17);
+    LocalDate now = LocalDate.now();
     Instant nowInstant = now.atStartOfDay(TEST_ZONE).toInstant();
 
     testPerson = new PersonEntity();
@@ -104,6 +119,7 @@ class ContractRepositoryTest extends AbstractIntegrationTest {
     Contract saved = contractRepository.save(newContract);
 
     assertNotNull(saved.getId());
+    assertEquals(7, saved.getId().version());
     assertEquals(newContract.getCostAmount().amount(), saved.getCostAmount().amount());
 
     Optional<Contract> found = contractRepository.findById(saved.getId());
@@ -111,6 +127,226 @@ class ContractRepositoryTest extends AbstractIntegrationTest {
     assertEquals(newContract.getCostAmount().amount(), found.get().getCostAmount().amount());
   }
 
+  @Test
+  void whenSaveChangedCost_thenBumpVersionAndReturnStoredUpdateDate() {
+    Contract contract = contractRepository.findById(activeContract.getId()).orElseThrow();
+    assertEquals(0L, contract.getVersion());
+
+    contract.updateCost(Money.chf(new BigDecimal("150.00")));
+    Contract saved = contractRepository.save(contract);
+    entityManager.clear();
+
+    ContractEntity stored = jpaContractRepository.findById(activeContract.getId()).orElseThrow();
+    assertEquals(1L, saved.getVersion());
+    assertEquals(1L, stored.getVersion());
+    assertEquals(stored.getUpdatedAt(), saved.getUpdateDate());
+  }
+
+  @Test
+  void whenSaveStaleVersion_thenRejectInsteadOfOverwriting() {
+    Contract first = contractRepository.findById(activeContract.getId()).orElseThrow();
+    Contract stale = contractRepository.findById(activeContract.getId()).orElseThrow();
+
+    first.updateCost(Money.chf(new BigDecimal("150.00")));
+    contractRepository.save(first);
+
+    stale.updateCost(Money.chf(new BigDecimal("175.00")));
+    assertThrows(ContractModifiedException.class, () -> contractRepository.save(stale));
+  }
+
+  @Test
+  void whenMultiplyCosts_thenBumpVersionOfChangedContracts() {
+    contractRepository.multiplyCosts(List.of(activeContract.getId()), new BigDecimal("1.1"));
+    entityManager.clear();
+
+    assertEquals(1L, jpaContractRepository.findById(activeContract.getId()).get().getVersion());
+  }
+
+  @Test
+  void whenSave_thenLinkClientByReferenceWithoutWritingIt() {
+    Client staleClient = clientRepository.findById(testPerson.getId()).orElseThrow();
+    staleClient.updateInfo("Stale Name", staleClient.getEmail(), staleClient.getPhone());
+    entityManager.clear();
+
+    Contract saved =
+        contractRepository.save(new Contract(staleClient, Money.chf(new BigDecimal("500.00"))));
+    entityManager.flush();
+    entityManager.clear();
+
+    assertEquals("John Doe", jpaClientRepository.findById(testPerson.getId()).get().getName());
+    ContractEntity found = jpaContractRepository.findById(saved.getId()).orElseThrow();
+    assertEquals(testPerson.getId(), found.getClient().getId());
+  }
+
+  @Test
+  void whenInsert_thenPersistContractLinkedToItsClient() {
+    entityManager.clear();
+
+    Contract inserted =
+        contractRepository.insert(
+            new NewContract(
+                testPerson.getId(),
+                Money.chf(new BigDecimal("75.00")),
+                null,
+                LocalDate.now().plusMonths(6)));
+    entityManager.clear();
+
+    assertNotNull(inserted.getId());
+    assertNotNull(inserted.getVersion());
+    assertEquals("John Doe", inserted.getClient().getName());
+    ContractEntity found = jpaContractRepository.findById(inserted.getId()).orElseThrow();
+    assertEquals(testPerson.getId(), found.getClient().getId());
+    assertEquals(new BigDecimal("75.00"), found.getCostAmount());
+    assertEquals(LocalDate.now(), found.getStartDate());
+  }
+
+  @Test
+  void whenInsertAll_thenPersistContractsInInputOrder() {
+    PersonEntity otherPerson = persistOtherClientWithContracts();
+    entityManager.clear();
+
+    List<UUID> ids =
+        contractRepository.insertAll(
+            List.of(
+                new NewContract(testPerson.getId(), Money.chf(new BigDecimal("10.00")), null, null),
+                new NewContract(
+                    otherPerson.getId(),
+                    Money.chf(new BigDecimal("20.00")),
+                    LocalDate.now().minusDays(3),
+                    LocalDate.now().plusYears(1))));
+    entityManager.clear();
+
+    assertEquals(2, ids.size());
+    ContractEntity first = jpaContractRepository.findById(ids.get(0)).orElseThrow();
+    ContractEntity second = jpaContractRepository.findById(ids.get(1)).orElseThrow();
+    assertEquals(testPerson.getId(), first.getClient().getId());
+    assertEquals(new BigDecimal("10.00"), first.getCostAmount());
+    assertEquals(LocalDate.now(), first.getStartDate());
+    assertEquals(otherPerson.getId(), second.getClient().getId());
+    assertEquals(LocalDate.now().plusYears(1), second.getEndDate());
+  }
+
+  @Test
+  void whenStreamAll_thenReturnEveryContractInIdOrderWithoutLoadingEntities() {
+    entityManager.clear();
+
+    List<ContractExportRow> rows;
+    try (Stream<ContractExportRow> stream = contractRepository.streamAll()) {
+      rows = stream.toList();
+    }
+
+    assertEquals(
+        Stream.of(activeContract.getId(), expiredContract.getId(), futureContract.getId())
+            .sorted(BY_TEXT)
+            .toList(),
+        rows.stream().map(ContractExportRow::id).toList());
+    ContractExportRow expired =
+        rows.stream()
+            .filter(row -> row.id().equals(expiredContract.getId()))
+            .findFirst()
+            .orElseThrow();
+    assertEquals(testPerson.getId(), expired.clientId());
+    assertEquals(0, new BigDecimal("200.00").compareTo(expired.costAmount()));
+    assertEquals(LocalDate.now().minusDays(1), expired.endDate());
+    assertEquals(
+        0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+  }
+
+  @Test
+  void whenPreviewCostAdjustment_thenAggregateActiveContractsOnly() {
+    persistOtherClientWithContracts();
+
+    CostAdjustmentPreview preview =
+        contractRepository.previewCostAdjustment(ContractFilter.ALL, new BigDecimal("1.025"));
+
+    // active: 100.00 and 300.00 (John), 50.00 (Jane); 51.25 keeps HALF_UP cents
+    assertEquals(3, preview.matchedContracts());
+    assertEquals(3, preview.changedContracts());
+    assertEquals(0, new BigDecimal("450.00").compareTo(preview.totalBefore()));
+    assertEquals(0, new BigDecimal("461.25").compareTo(preview.totalAfter()));
+    assertEquals(0, new BigDecimal("51.25").compareTo(preview.minAdjustedCost()));
+    assertEquals(0, new BigDecimal("307.50").compareTo(preview.maxAdjustedCost()));
+  }
+
+  @Test
+  void whenPreviewCostAdjustmentWithFilter_thenApplyEveryCriterion() {
+    persistOtherClientWithContracts();
+    ContractFilter filter =
+        new ContractFilter(
+            ClientType.PERSON,
+            new BigDecimal("60.00"),
+            new BigDecimal("150.00"),
+            LocalDate.now().minusMonths(2),
+            LocalDate.now());
+
+    CostAdjustmentPreview preview =
+        contractRepository.previewCostAdjustment(filter, new BigDecimal("1.10"));
+
+    assertEquals(1, preview.matchedContracts());
+    assertEquals(0, new BigDecimal("110.00").compareTo(preview.totalAfter()));
+  }
+
+  @Test
+  void whenFindActiveContractIds_thenPageMatchingIdsInOrder() {
+    List<UUID> first = contractRepository.findActiveContractIds(ContractFilter.ALL, null, 1);
+    List<UUID> second =
+        contractRepository.findActiveContractIds(ContractFilter.ALL, first.get(0), 5);
+
+    assertEquals(1, first.size());
+    assertEquals(1, second.size());
+    assertTrue(BY_TEXT.compare(first.get(0), second.get(0)) < 0);
+    assertEquals(
+        Set.of(activeContract.getId(), futureContract.getId()),
+        Set.of(first.get(0), second.get(0)));
+  }
+
+  @Test
+  void whenMultiplyCosts_thenRoundHalfUpAndSkipInactiveContracts() {
+    BigDecimal multiplier = new BigDecimal("1.00125");
+
+    int updated =
+        contractRepository.multiplyCosts(
+            List.of(activeContract.getId(), expiredContract.getId()), multiplier);
+    entityManager.clear();
+
+    // 100.00 * 1.00125 = 100.125 -> 100.13, matching Money's HALF_UP scale
+    assertEquals(1, updated);
+    assertEquals(
+        Money.chf(new BigDecimal("100.00")).multiply(1.00125).amount(),
+        jpaContractRepository.findById(activeContract.getId()).get().getCostAmount());
+    assertEquals(
+        new BigDecimal("200.00"),
+        jpaContractRepository.findById(expiredContract.getId()).get().getCostAmount());
+  }
+
+  @Test
+  void whenMultiplyCostsWithoutEffect_thenReportNoChange() {
+    int updated =
+        contractRepository.multiplyCosts(
+            List.of(activeContract.getId()), new BigDecimal("1.00001"));
+
+    assertEquals(0, updated);
+  }
+
+  @Test
+  void whenPersist_thenFlagContractsThatHaveEnded() {
+    assertFalse(activeContract.isTerminated());
+    assertTrue(expiredContract.isTerminated());
+    assertFalse(futureContract.isTerminated());
+  }
+
+  @Test
+  void whenMarkEndedContractsTerminated_thenFlagOnlyActiveContractsEndedByThatDay() {
+    LocalDate activeEnd = activeContract.getEndDate();
+
+    int marked = contractRepository.markEndedContractsTerminated(activeEnd);
+    entityManager.clear();
+
+    assertEquals(1, marked);
+    assertTrue(jpaContractRepository.findById(activeContract.getId()).get().isTerminated());
+    assertFalse(jpaContractRepository.findById(futureContract.getId()).get().isTerminated());
+  }
+
   @Test
   void whenFindActiveContractsForClient_thenReturnActiveContracts() {
     Pageable pageable = PageRequest.of(0, 10);
@@ -121,6 +357,44 @@ class ContractRepositoryTest extends AbstractIntegrationTest {
     assertEquals(2, contracts.getTotalElements());
   }
 
+  @Test
+  void whenFindActiveContractsForClient_thenIgnoreOtherClientsContracts() {
+    PersonEntity otherPerson = persistOtherClientWithContracts();
+    Pageable pageable = PageRequest.of(0, 10);
+
+    Page<Contract> contracts =
+        contractRepository.findActiveContractsForClient(testPerson.getId(), null, pageable);
+    Page<Contract> updatedContracts =
+        contractRepository.findActiveContractsForClient(
+            testPerson.getId(), Instant.now().minusSeconds(3600), pageable);
+
+    assertEquals(2, contracts.getTotalElements());
+    assertEquals(2, updatedContracts.getTotalElements());
+    contracts.forEach(c -> assertEquals(testPerson.getId(), c.getClient().getId()));
+    updatedContracts.forEach(c -> assertEquals(testPerson.getId(), c.getClient().getId()));
+    assertEquals(
+        1,
+        contractRepository
+            .findActiveContractsForClient(otherPerson.getId(), null, pageable)
+            .getTotalElements());
+  }
+
+  @Test
+  void whenExplainActiveContractsQuery_thenUseClientIndex() {
+    String plan =
+        (String)
+            entityManager
+                .getEntityManager()
+                .createNativeQuery(
+                    "EXPLAIN SELECT * FROM contracts WHERE client_id = '"
+                        + testPerson.getId()
+                        + "' AND (end_date IS NULL OR end_date > CURRENT_DATE)")
+                .getSingleResult();
+
+    assertFalse(plan.contains("tableScan"), plan);
+    assertTrue(plan.contains("CLIENT_ID ="), plan);
+  }
+
   @Test
   void whenFindAllActiveContractsForClient_thenReturnActiveContracts() {
     List<Contract> contracts =
@@ -141,8 +415,94 @@ class ContractRepositoryTest extends AbstractIntegrationTest {
 
   @Test
   void whenGetActiveContractsCostSum_thenReturnCorrectSum() {
-    Money sum = contractRepository.getActiveContractsCostSum(testPerson.getId());
+    Optional<Money> sum = contractRepository.getActiveContractsCostSum(testPerson.getId());
+
+    assertTrue(sum.isPresent());
+    assertEquals(new BigDecimal("400.00"), sum.get().amount());
+  }
+
+  @Test
+  void whenGetActiveContractsCostSums_thenReturnOneTotalPerKnownClient() {
+    PersonEntity otherPerson = persistOtherClientWithContracts();
+    PersonEntity clientWithoutContracts = new PersonEntity();
+    clientWithoutContracts.setName("Max Muster");
+    clientWithoutContracts.setEmail("max.muster@example.com");
+    clientWithoutContracts.setPhone("+41791234569");
+    clientWithoutContracts.setBirthdate(LocalDate.of(1975, 3, 3));
+    entityManager.persistAndFlush(clientWithoutContracts);
+    UUID unknownClientId = UUID.randomUUID();
+
+    Map<UUID, Optional<Money>> sums =
+        contractRepository.getActiveContractsCostSums(
+            List.of(
+                testPerson.getId(),
+                otherPerson.getId(),
+                clientWithoutContracts.getId(),
+                unknownClientId));
+
+    assertEquals(3, sums.size());
+    assertEquals(new BigDecimal("400.00"), sums.get(testPerson.getId()).orElseThrow().amount());
+    assertEquals(new BigDecimal("50.00"), sums.get(otherPerson.getId()).orElseThrow().amount());
+    assertTrue(sums.get(clientWithoutContracts.getId()).isEmpty());
+    assertFalse(sums.containsKey(unknownClientId));
+  }
+
+  @Test
+  void whenFindClientIds_thenMapKnownContractsToTheirClient() {
+    UUID unknownContractId = UUID.randomUUID();
+
+    Map<UUID, UUID> clientIds =
+        contractRepository.findClientIds(
+            List.of(activeContract.getId(), expiredContract.getId(), unknownContractId));
+
+    assertEquals(
+        Map.of(
+            activeContract.getId(), testPerson.getId(),
+            expiredContract.getId(), testPerson.getId()),
+        clientIds);
+    assertTrue(contractRepository.findClientIds(List.of()).isEmpty());
+  }
+
+  @Test
+  void whenFindActiveContractsForClientByCursor_thenWalkActiveContractsOnce() {
+    CursorPage<Contract> firstPage =
+        contractRepository.findActiveContractsForClient(testPerson.getId(), null, null, 1);
+
+    assertEquals(1, firstPage.content().size());
+    assertTrue(firstPage.hasNext());
+
+    CursorPage<Contract> secondPage =
+        contractRepository.findActiveContractsForClient(
+            testPerson.getId(), null, firstPage.nextCursor(), 1);
+
+    assertEquals(1, secondPage.content().size());
+    assertFalse(secondPage.hasNext());
+    assertNotEquals(firstPage.content().get(0).getId(), secondPage.content().get(0).getId());
+  }
+
+  private PersonEntity persistOtherClientWithContracts() {
+    PersonEntity otherPerson = new PersonEntity();
+    otherPerson.setName("Jane Smith");
+    otherPerson.setEmail("jane.smith@example.com");
+    otherPerson.setPhone("+41791234568");
+    otherPerson.setBirthdate(LocalDate.of(1990, 5, 15));
+    entityManager.persistAndFlush(otherPerson);
+
+    ContractEntity otherActive = new ContractEntity();
+    otherActive.setClient(otherPerson);
+    otherActive.setStartDate(LocalDate.now().minusMonths(1));
+    otherActive.setEndDate(LocalDate.now().plusMonths(6));
+    otherActive.setCostAmount(new BigDecimal("50.00"));
+    otherActive.setCostCurrency("CHF");
+    entityManager.persistAndFlush(otherActive);
 
-    assertEquals(new BigDecimal("400.00"), sum.amount());
+    ContractEntity otherExpired = new ContractEntity();
+    otherExpired.setClient(otherPerson);
+    otherExpired.setStartDate(LocalDate.now().minusMonths(6));
+    otherExpired.setEndDate(LocalDate.now().minusMonths(1));
+    otherExpired.setCostAmount(new BigDecimal("75.00"));
+    otherExpired.setCostCurrency("CHF");
+    entityManager.persistAndFlush(otherExpired);
+    return otherPerson;
   }
 }
@@ -0,0 +1,183 @@
+package com.vaudoise.api_factory.infrastructure.persistence.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs the Flyway migrations on PostgreSQL and checks what the H2 schema of the other tests cannot
+ * show: the partitioned contracts table, the migrated indexes and the plans they were added for.
+ * Plans are taken with sequential scans disabled, since on a near-empty table the planner would
+ * rightly prefer them; what matters is that an index can serve the query. Skipped without Docker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresMigrationTest {
+
+  @Container
+  private static final PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:16-alpine");
+
+  private static JdbcTemplate jdbc;
+
+  @BeforeAll
+  static void migrate() {
+    DataSource dataSource =
+        new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    Flyway.configure().dataSource(dataSource).load().migrate();
+    jdbc = new JdbcTemplate(dataSource);
+  }
+
+  @Test
+  void whenMigrated_thenContractsArePartitionedOnTheTerminatedFlag() {
+    List<String> partitions =
+        jdbc.queryForList(
+            "SELECT inhrelid::regclass::text FROM pg_inherits"
+                + " WHERE inhparent = 'contracts'::regclass ORDER BY 1",
+            String.class);
+    List<String> primaryKey =
+        jdbc.queryForList(
+            "SELECT a.attname FROM pg_index i"
+                + " JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY (i.indkey)"
+                + " WHERE i.indrelid = 'contracts'::regclass AND i.indisprimary ORDER BY 1",
+            String.class);
+
+    assertEquals(List.of("contracts_active", "contracts_terminated"), partitions);
+    assertEquals(List.of("id", "terminated"), primaryKey);
+    assertEquals(
+        0,
+        jdbc.queryForObject(
+            "SELECT count(*) FROM contracts_active WHERE end_date <= CURRENT_DATE", Integer.class));
+  }
+
+  @Test
+  void whenContractIsTerminated_thenMoveItToTheTerminatedPartition() {
+    UUID contractId = insertContract(anyClient());
+    assertEquals("contracts_active", partitionOf(contractId));
+
+    jdbc.update(
+        "UPDATE contracts SET end_date = CURRENT_DATE, terminated = true WHERE id = ?", contractId);
+
+    assertEquals("contracts_terminated", partitionOf(contractId));
+  }
+
+  @Test
+  void whenClientIsDeleted_thenTheForeignKeyDeletesItsContracts() {
+    UUID clientId =
+        jdbc.queryForObject(
+            "INSERT INTO clients (name, email, phone, client_type)"
+                + " VALUES ('Jane Doe', 'jane.doe@example.com', '+41790000000', 'PERSON')"
+                + " RETURNING id",
+            UUID.class);
+    UUID contractId = insertContract(clientId);
+
+    jdbc.update("DELETE FROM clients WHERE id = ?", clientId);
+
+    assertEquals(
+        0,
+        jdbc.queryForObject(
+            "SELECT count(*) FROM contracts WHERE id = ?", Integer.class, contractId));
+  }
+
+  @Test
+  void whenMigrated_thenTheKeysetActiveContractAndUpdatedAtIndexesExist() {
+    List<String> indexes =
+        jdbc.queryForList(
+            "SELECT indexname FROM pg_indexes WHERE tablename IN ('clients', 'contracts')",
+            String.class);
+
+    assertTrue(
+        indexes.containsAll(
+            List.of(
+                "idx_clients_created_at_id",
+                "idx_contracts_client_created_at_id",
+                "idx_contracts_client_end_date_updated_at",
+                "idx_clients_updated_at",
+                "idx_contracts_updated_at")),
+        indexes.toString());
+    assertFalse(indexes.contains("idx_contracts_client_id"), indexes.toString());
+  }
+
+  @Test
+  void whenExplainActiveContractsQuery_thenScanTheActivePartitionByClient() {
+    String plan =
+        explain(
+            "SELECT * FROM contracts WHERE client_id = '"
+                + anyClient()
+                + "' AND terminated = false AND (end_date IS NULL OR end_date > CURRENT_DATE)");
+
+    assertTrue(plan.contains("contracts_active_client_id_end_date_updated_at_idx"), plan);
+    assertFalse(plan.contains("contracts_terminated"), plan);
+    assertFalse(plan.contains("Seq Scan"), plan);
+  }
+
+  @Test
+  void whenExplainKeysetPage_thenSeekTheCreatedAtIdIndex() {
+    String plan =
+        explain(
+            "SELECT * FROM clients WHERE (created_at, id) > (CURRENT_TIMESTAMP, '"
+                + UUID.randomUUID()
+                + "') ORDER BY created_at, id LIMIT 20");
+
+    assertTrue(plan.contains("idx_clients_created_at_id"), plan);
+    assertFalse(plan.contains("Sort"), plan);
+  }
+
+  @Test
+  void whenExplainLatestUpdate_thenReadTheUpdatedAtIndexes() {
+    String clients = explain("SELECT max(updated_at) FROM clients");
+    String contracts = explain("SELECT max(updated_at) FROM contracts");
+
+    assertTrue(clients.contains("idx_clients_updated_at"), clients);
+    assertTrue(contracts.contains("contracts_active_updated_at_idx"), contracts);
+    assertTrue(contracts.contains("contracts_terminated_updated_at_idx"), contracts);
+    assertFalse(contracts.contains("Seq Scan"), contracts);
+  }
+
+  private static UUID anyClient() {
+    return jdbc.queryForObject("SELECT id FROM clients ORDER BY id LIMIT 1", UUID.class);
+  }
+
+  private static UUID insertContract(UUID clientId) {
+    return jdbc.queryForObject(
+        "INSERT INTO contracts (client_id, start_date, cost_amount)"
+            + " VALUES (?, CURRENT_DATE, 100.00) RETURNING id",
+        UUID.class,
+        clientId);
+  }
+
+  private static String partitionOf(UUID contractId) {
+    return jdbc.queryForObject(
+        "SELECT tableoid::regclass::text FROM contracts WHERE id = ?", String.class, contractId);
+  }
+
+  private static String explain(String sql) {
+    return jdbc.execute(
+        (ConnectionCallback<String>)
+            connection -> {
+              try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+                  while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                  }
+                }
+                return plan.toString();
+              }
+            });
+  }
+}
@@ -0,0 +1,163 @@
+package com.vaudoise.api_factory.infrastructure.persistence.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.vaudoise.api_factory.AbstractIntegrationTest;
+import com.vaudoise.api_factory.domain.repository.ClientRepository;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ClientEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.ContractEntity;
+import com.vaudoise.api_factory.infrastructure.persistence.entity.PersonEntity;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Counts database round trips for repeated loads with and without the second-level cache. Data is
+ * committed and each load runs in its own entity manager, as it would across requests.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest extends AbstractIntegrationTest {
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Autowired private ClientRepository clientRepository;
+
+  private UUID clientId;
+  private UUID contractId;
+
+  @BeforeEach
+  void createClientWithContracts() {
+    inTransaction(
+        em -> {
+          PersonEntity person = new PersonEntity();
+          person.setName("John Doe");
+          person.setEmail("john.doe@example.com");
+          person.setPhone("+41791234567");
+          person.setBirthdate(LocalDate.of(1980, 1, 1));
+          em.persist(person);
+          for (int i = 0; i < 3; i++) {
+            ContractEntity contract = new ContractEntity();
+            contract.setClient(person);
+            contract.setStartDate(LocalDate.now().minusMonths(1));
+            contract.setCostAmount(new BigDecimal("100.00"));
+            contract.setCostCurrency("CHF");
+            em.persist(contract);
+            contractId = contract.getId();
+          }
+          clientId = person.getId();
+        });
+    entityManagerFactory.getCache().evictAll();
+    statistics().clear();
+  }
+
+  @AfterEach
+  void deleteAll() {
+    inTransaction(
+        em -> {
+          em.createQuery("DELETE FROM ContractEntity").executeUpdate();
+          em.createQuery("DELETE FROM ClientEntity").executeUpdate();
+        });
+  }
+
+  @Test
+  void whenLoadingClientWithContractsAgain_thenServeItFromTheCache() {
+    // client + contracts collection, then nothing
+    assertEquals(2, roundTrips(CacheRetrieveMode.USE, this::loadClientWithContracts));
+    assertEquals(0, roundTrips(CacheRetrieveMode.USE, this::loadClientWithContracts));
+    assertEquals(1, statistics().getDomainDataRegionStatistics("clients").getHitCount());
+    assertEquals(1, statistics().getDomainDataRegionStatistics("client-contracts").getHitCount());
+    assertEquals(3, statistics().getDomainDataRegionStatistics("contracts").getHitCount());
+  }
+
+  @Test
+  void whenBypassingTheCache_thenEveryLoadGoesToTheDatabase() {
+    assertEquals(2, roundTrips(CacheRetrieveMode.BYPASS, this::loadClientWithContracts));
+    assertEquals(2, roundTrips(CacheRetrieveMode.BYPASS, this::loadClientWithContracts));
+    assertEquals(0, statistics().getSecondLevelCacheHitCount());
+  }
+
+  @Test
+  void whenUnproxyingTheClientOfAContract_thenServeBothFromTheCache() {
+    // contract + its client, as ContractMapper.toDomain does
+    assertEquals(2, roundTrips(CacheRetrieveMode.USE, this::loadContractAndClient));
+    assertEquals(0, roundTrips(CacheRetrieveMode.USE, this::loadContractAndClient));
+  }
+
+  @Test
+  void whenAddingAContract_thenEvictTheClientsCachedCollection() {
+    roundTrips(CacheRetrieveMode.USE, this::loadClientWithContracts);
+
+    inTransaction(
+        em -> {
+          ContractEntity contract = new ContractEntity();
+          contract.setClient(em.getReference(ClientEntity.class, clientId));
+          contract.setStartDate(LocalDate.now());
+          contract.setCostAmount(new BigDecimal("50.00"));
+          contract.setCostCurrency("CHF");
+          em.persist(contract);
+        });
+
+    try (EntityManager em = entityManagerFactory.createEntityManager()) {
+      assertEquals(4, em.find(ClientEntity.class, clientId).getContracts().size());
+    }
+  }
+
+  @Test
+  void whenDeletingAClient_thenEvictItsContractsFromTheCache() {
+    roundTrips(CacheRetrieveMode.USE, this::loadContractAndClient);
+
+    clientRepository.deleteById(clientId);
+
+    try (EntityManager em = entityManagerFactory.createEntityManager()) {
+      assertNull(em.find(ContractEntity.class, contractId));
+    }
+  }
+
+  private void loadClientWithContracts(EntityManager em) {
+    ClientEntity client = em.find(ClientEntity.class, clientId);
+    client.getContracts().forEach(ContractEntity::getCostAmount);
+  }
+
+  private void loadContractAndClient(EntityManager em) {
+    ContractEntity contract = em.find(ContractEntity.class, contractId);
+    Hibernate.unproxy(contract.getClient(), ClientEntity.class).getName();
+  }
+
+  private long roundTrips(CacheRetrieveMode mode, Consumer<EntityManager> work) {
+    Statistics statistics = statistics();
+    long before = statistics.getPrepareStatementCount();
+    try (EntityManager em = entityManagerFactory.createEntityManager()) {
+      em.setProperty(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, mode);
+      work.accept(em);
+    }
+    return statistics.getPrepareStatementCount() - before;
+  }
+
+  private void inTransaction(Consumer<EntityManager> work) {
+    try (EntityManager em = entityManagerFactory.createEntityManager()) {
+      em.getTransaction().begin();
+      work.accept(em);
+      em.getTransaction().commit();
+    }
+  }
+
+  private Statistics statistics() {
+    return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+}
@@ -0,0 +1,44 @@
+package com.vaudoise.api_factory.infrastructure.persistence.routing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PrimaryReadContextTest {
+
+  @AfterEach
+  void tearDown() {
+    PrimaryReadContext.unpin();
+  }
+
+  @Test
+  void shouldRunTaskPinnedOnAnotherThreadWhenSubmitterIsPinned() throws InterruptedException {
+    AtomicBoolean pinned = new AtomicBoolean();
+    PrimaryReadContext.pin();
+
+    Runnable task = PrimaryReadContext.propagate(() -> pinned.set(PrimaryReadContext.isPinned()));
+    Thread.ofVirtual().start(task).join();
+
+    assertTrue(pinned.get());
+  }
+
+  @Test
+  void shouldUnpinWorkerThreadOnceTaskCompletes() {
+    PrimaryReadContext.pin();
+    Runnable task = PrimaryReadContext.propagate(() -> {});
+    PrimaryReadContext.unpin();
+
+    task.run();
+
+    assertFalse(PrimaryReadContext.isPinned());
+  }
+
+  @Test
+  void shouldLeaveTaskUnchangedWhenSubmitterIsNotPinned() {
+    Runnable task = () -> {};
+
+    assertSame(task, PrimaryReadContext.propagate(task));
+  }
+}
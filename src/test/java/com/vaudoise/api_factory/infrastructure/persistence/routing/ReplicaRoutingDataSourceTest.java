@@ -0,0 +1,101 @@
+package com.vaudoise.api_factory.infrastructure.persistence.routing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Two in-memory H2 databases in PostgreSQL mode stand in for the primary and its replicas. */
+class ReplicaRoutingDataSourceTest {
+
+  private JdbcTemplate jdbc;
+  private TransactionTemplate readWrite;
+  private TransactionTemplate readOnly;
+
+  @BeforeEach
+  void setUp() {
+    route(
+        new ReplicaRoutingDataSource(
+            database("primary"), List.of(database("replica_a"), database("replica_b"))));
+  }
+
+  private void route(ReplicaRoutingDataSource routing) {
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+    jdbc = new JdbcTemplate(dataSource);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+    readWrite = new TransactionTemplate(transactionManager);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    PrimaryReadContext.unpin();
+  }
+
+  @Test
+  void shouldSendReadWriteTransactionsToPrimary() {
+    assertEquals("primary", readWrite.execute(status -> node()));
+  }
+
+  @Test
+  void shouldSendWorkOutsideTransactionsToPrimary() {
+    assertEquals("primary", node());
+  }
+
+  @Test
+  void shouldSpreadReadOnlyTransactionsOverReplicas() {
+    List<String> nodes =
+        List.of(
+            readOnly.execute(status -> node()),
+            readOnly.execute(status -> node()),
+            readOnly.execute(status -> node()));
+
+    assertTrue(nodes.containsAll(List.of("replica_a", "replica_b")));
+    assertFalse(nodes.contains("primary"));
+  }
+
+  @Test
+  void shouldKeepOneReplicaForWholeReadOnlyTransaction() {
+    List<String> nodes = readOnly.execute(status -> List.of(node(), node(), node()));
+
+    assertEquals(1, nodes.stream().distinct().count());
+  }
+
+  @Test
+  void shouldSendPinnedReadOnlyTransactionsToPrimary() {
+    PrimaryReadContext.pin();
+
+    assertEquals("primary", readOnly.execute(status -> node()));
+  }
+
+  @Test
+  void shouldUsePrimaryWhenNoReplicaIsConfigured() {
+    route(new ReplicaRoutingDataSource(database("primary"), List.of()));
+
+    assertEquals("primary", readOnly.execute(status -> node()));
+  }
+
+  private String node() {
+    return jdbc.queryForObject("SELECT name FROM node", String.class);
+  }
+
+  private static DataSource database(String name) {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:" + name + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    dataSource.setUser("sa");
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+    jdbc.update("DELETE FROM node");
+    jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+    return dataSource;
+  }
+}
@@ -0,0 +1,72 @@
+package com.vaudoise.api_factory.infrastructure.web.consistency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.vaudoise.api_factory.infrastructure.persistence.routing.PrimaryReadContext;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConsistencyTokenFilterTest {
+
+  private final ConsistencyTokenFilter filter = new ConsistencyTokenFilter(Duration.ofSeconds(5));
+
+  @Test
+  void shouldPinReadsToPrimaryForFreshToken() throws Exception {
+    assertTrue(pinnedDuringRequest(ConsistencyToken.issue()));
+    assertFalse(PrimaryReadContext.isPinned());
+  }
+
+  @Test
+  void shouldNotPinWithoutToken() throws Exception {
+    assertFalse(pinnedDuringRequest(null));
+  }
+
+  @Test
+  void shouldIgnoreExpiredToken() throws Exception {
+    String token = Long.toString(Instant.now().minusSeconds(6).toEpochMilli());
+
+    assertFalse(pinnedDuringRequest(token));
+  }
+
+  @Test
+  void shouldIgnoreTokenDatedBeyondWindow() throws Exception {
+    String token = Long.toString(Instant.now().plusSeconds(60).toEpochMilli());
+
+    assertFalse(pinnedDuringRequest(token));
+  }
+
+  @Test
+  void shouldIgnoreMalformedToken() throws Exception {
+    assertFalse(pinnedDuringRequest("not-a-token"));
+  }
+
+  @Test
+  void shouldReleasePinTakenWhileIssuingToken() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/clients/persons");
+
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> ConsistencyToken.issue());
+
+    assertFalse(PrimaryReadContext.isPinned());
+  }
+
+  private boolean pinnedDuringRequest(String token) throws Exception {
+    // Issuing a token pins the calling thread; start every request from a clean state
+    PrimaryReadContext.unpin();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/clients");
+    if (token != null) {
+      request.addHeader(ConsistencyToken.HEADER, token);
+    }
+    AtomicBoolean pinned = new AtomicBoolean();
+
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> pinned.set(PrimaryReadContext.isPinned()));
+
+    return pinned.get();
+  }
+}
@@ -0,0 +1,70 @@
+package com.vaudoise.api_factory.infrastructure.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Long-polls the change feed through the full request stack, open session in view included, and
+ * watches the pool meanwhile: a waiting consumer must not keep a connection checked out.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ChangeFeedConnectionTest {
+
+  private static final int CONSUMERS = 3;
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private HikariDataSource dataSource;
+
+  @Test
+  void shouldNotHoldConnectionsWhileWaitingForChanges() throws Exception {
+    HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+    List<Future<?>> polls = new ArrayList<>();
+    List<Integer> activeDuringWait = new ArrayList<>();
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(CONSUMERS)) {
+      for (int i = 0; i < CONSUMERS; i++) {
+        polls.add(
+            executor.submit(
+                () ->
+                    // No event will ever follow this cursor, so each request waits out its 2s
+                    mockMvc
+                        .perform(
+                            get("/api/v1/changes").param("cursor", "1000000").param("wait", "2"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.events").isEmpty())));
+      }
+      // Sampled between the 250ms polls as well as during them
+      for (int sample = 0; sample < 15; sample++) {
+        Thread.sleep(100);
+        activeDuringWait.add(pool.getActiveConnections());
+      }
+      for (Future<?> poll : polls) {
+        poll.get(10, TimeUnit.SECONDS);
+      }
+    }
+
+    // A poll may be mid-query when sampled, but never all of them all the time
+    assertThat(activeDuringWait).contains(0);
+    assertThat(activeDuringWait).allSatisfy(active -> assertThat(active).isLessThan(CONSUMERS));
+  }
+}
@@ -0,0 +1,87 @@
+package com.vaudoise.api_factory.infrastructure.web.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.vaudoise.api_factory.application.usecase.change.GetChangesUseCase;
+import com.vaudoise.api_factory.domain.exception.InvalidBusinessRuleException;
+import com.vaudoise.api_factory.domain.model.ChangeEvent;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.EntityType;
+import com.vaudoise.api_factory.domain.model.ChangeEvent.Operation;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(ChangeFeedController.class)
+@DisplayName("Change Feed Controller Tests")
+class ChangeFeedControllerTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private GetChangesUseCase getChangesUseCase;
+
+  @Test
+  @DisplayName("Get Changes - Should return the events and the cursor after the last one")
+  void getChanges_ShouldReturnEventsAndNextCursor() throws Exception {
+    UUID clientId = UUID.randomUUID();
+    UUID contractId = UUID.randomUUID();
+    given(getChangesUseCase.execute(41, 2, Duration.ofSeconds(10)))
+        .willReturn(
+            List.of(
+                new ChangeEvent(
+                    42, EntityType.CLIENT, Operation.DELETED, clientId, clientId, Instant.now()),
+                new ChangeEvent(
+                    43,
+                    EntityType.CONTRACT,
+                    Operation.CREATED,
+                    contractId,
+                    clientId,
+                    Instant.now())));
+
+    mockMvc
+        .perform(
+            get("/api/v1/changes").param("cursor", "41").param("size", "2").param("wait", "10"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.events.length()").value(2))
+        .andExpect(jsonPath("$.events[0].sequence").value(42))
+        .andExpect(jsonPath("$.events[0].entityType").value("CLIENT"))
+        .andExpect(jsonPath("$.events[0].operation").value("DELETED"))
+        .andExpect(jsonPath("$.events[1].entityId").value(contractId.toString()))
+        .andExpect(jsonPath("$.events[1].clientId").value(clientId.toString()))
+        .andExpect(jsonPath("$.nextCursor").value(43))
+        .andExpect(jsonPath("$.last").value(false));
+  }
+
+  @Test
+  @DisplayName("Get Changes - Should keep the cursor when no event arrived")
+  void getChanges_ShouldKeepCursor_WhenNoEvents() throws Exception {
+    given(getChangesUseCase.execute(7, 100, Duration.ZERO)).willReturn(List.of());
+
+    mockMvc
+        .perform(get("/api/v1/changes").param("cursor", "7"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.events").isEmpty())
+        .andExpect(jsonPath("$.nextCursor").value(7))
+        .andExpect(jsonPath("$.last").value(true));
+  }
+
+  @Test
+  @DisplayName("Get Changes - Should return 400 Bad Request when the wait is too long")
+  void getChanges_ShouldReturn400_WhenWaitTooLong() throws Exception {
+    given(getChangesUseCase.execute(0, 100, Duration.ofSeconds(60)))
+        .willThrow(new InvalidBusinessRuleException("Wait must be between 0 and 30 seconds"));
+
+    mockMvc
+        .perform(get("/api/v1/changes").param("wait", "60"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail").value("Wait must be between 0 and 30 seconds"));
+  }
+}
@@ -2,36 +2,53 @@ package com.vaudoise.api_factory.infrastructure.web.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.times;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaudoise.api_factory.application.dto.request.BatchDeleteClientsRequest;
+import com.vaudoise.api_factory.application.dto.request.ClientImportRow;
 import com.vaudoise.api_factory.application.dto.request.CreateCompanyRequest;
 import com.vaudoise.api_factory.application.dto.request.CreatePersonRequest;
 import com.vaudoise.api_factory.application.dto.request.UpdateClientRequest;
+import com.vaudoise.api_factory.application.dto.response.ClientImportReport;
+import com.vaudoise.api_factory.application.dto.response.ClientImportReport.RowResult;
 import com.vaudoise.api_factory.application.usecase.client.*;
 import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
 import com.vaudoise.api_factory.domain.exception.DuplicateEmailException;
 import com.vaudoise.api_factory.domain.model.*;
+import com.vaudoise.api_factory.domain.repository.Cursor;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
+import com.vaudoise.api_factory.infrastructure.web.consistency.ConsistencyToken;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(controllers = ClientController.class)
 @DisplayName("Client Controller Tests")
@@ -49,6 +66,14 @@ class ClientControllerTest {
 
   @MockitoBean private DeleteClientUseCase deleteClientUseCase;
 
+  @MockitoBean private DeleteClientsUseCase deleteClientsUseCase;
+
+  @MockitoBean private ImportClientsUseCase importClientsUseCase;
+
+  @MockitoBean private ExportClientsUseCase exportClientsUseCase;
+
+  @MockitoBean private GetClientOverviewUseCase getClientOverviewUseCase;
+
   private UUID personId;
   private UUID companyId;
   private Person person;
@@ -87,6 +112,11 @@ class ClientControllerTest {
             "Vaudoise Assurances", "info@vaudoise.ch", "+41211234567", "CHE-123.123.123");
     updateClientRequest =
         new UpdateClientRequest("Jane Doe", "jane.doe@example.com", "+41791234568");
+
+    given(getClientUseCase.contentStamp(any(UUID.class)))
+        .willReturn(new ContentStamp(Instant.parse("2024-01-01T10:00:00Z"), 0));
+    given(getClientUseCase.contentStampOfAll())
+        .willReturn(new ContentStamp(Instant.parse("2024-01-01T10:00:00Z"), 2));
   }
 
   @Test
@@ -106,6 +136,7 @@ class ClientControllerTest {
                     "Location",
                     org.hamcrest.Matchers.endsWith(
                         "/api/v1/clients/persons/" + personId.toString())))
+        .andExpect(header().exists(ConsistencyToken.HEADER))
         .andExpect(jsonPath("$.id").value(personId.toString()))
         .andExpect(jsonPath("$.name").value("John Doe"))
         .andExpect(jsonPath("$.email").value("john.doe@example.com"))
@@ -128,6 +159,23 @@ class ClientControllerTest {
         .andExpect(jsonPath("$.detail").value("Email already exists"));
   }
 
+  @Test
+  @DisplayName("Create Person - Should return 409 Conflict when a unique key fails at commit")
+  void createPerson_ShouldReturn409_WhenUniqueConstraintFails() throws Exception {
+    given(createClientUseCase.execute(any(Person.class)))
+        .willThrow(
+            new DataIntegrityViolationException(
+                "duplicate key value violates unique constraint \"uk_clients_email\""));
+
+    mockMvc
+        .perform(
+            post("/api/v1/clients/persons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createPersonRequest)))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.detail").value("Email already exists"));
+  }
+
   @Test
   @DisplayName("Create Person - Should return 400 Bad Request when input is invalid")
   void createPerson_ShouldReturn400_WhenInputIsInvalid() throws Exception {
@@ -181,7 +229,7 @@ class ClientControllerTest {
   @Test
   @DisplayName("Get Client by ID - Should return 404 Not Found when client does not exist")
   void getClient_ShouldReturn404_WhenClientDoesNotExist() throws Exception {
-    given(getClientUseCase.executeWithContracts(personId))
+    given(getClientUseCase.contentStamp(personId))
         .willThrow(new ClientNotFoundException("Client not found"));
 
     mockMvc
@@ -190,6 +238,82 @@ class ClientControllerTest {
         .andExpect(jsonPath("$.detail").value("Client not found"));
   }
 
+  @Test
+  @DisplayName("Get Client by ID - Should return 304 Not Modified when the ETag still matches")
+  void getClient_ShouldReturn304_WhenETagMatches() throws Exception {
+    given(getClientUseCase.executeWithContracts(personId)).willReturn(person);
+    String etag =
+        mockMvc
+            .perform(get("/api/v1/clients/{id}", personId))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(get("/api/v1/clients/{id}", personId).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    then(getClientUseCase).should(times(1)).executeWithContracts(personId);
+  }
+
+  @Test
+  @DisplayName("Get Client by ID - Should return 200 OK when the client changed since the ETag")
+  void getClient_ShouldReturn200_WhenContentStampChanged() throws Exception {
+    given(getClientUseCase.executeWithContracts(personId)).willReturn(person);
+    String etag =
+        mockMvc
+            .perform(get("/api/v1/clients/{id}", personId))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    given(getClientUseCase.contentStamp(personId))
+        .willReturn(new ContentStamp(Instant.parse("2024-01-01T10:00:00Z"), 1));
+
+    mockMvc
+        .perform(get("/api/v1/clients/{id}", personId).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(personId.toString()));
+  }
+
+  @Test
+  @DisplayName("Get Client Overview - Should return client, active contracts and total cost")
+  void getClientOverview_ShouldReturnOverview_WhenClientExists() throws Exception {
+    Contract contract =
+        new Contract(person, Money.chf(new BigDecimal("1000.00")), LocalDate.now(), null);
+    contract.setId(UUID.randomUUID());
+    contract.setVersion(0L);
+    Page<Contract> contracts = new PageImpl<>(List.of(contract), PageRequest.of(0, 5), 1);
+    given(getClientOverviewUseCase.execute(personId, PageRequest.of(0, 5)))
+        .willReturn(
+            new ClientOverview(
+                person, contracts, Optional.of(Money.chf(new BigDecimal("1000.00")))));
+
+    mockMvc
+        .perform(get("/api/v1/clients/{id}/overview", personId).param("size", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.client.id").value(personId.toString()))
+        .andExpect(jsonPath("$.client.type").value("PERSON"))
+        .andExpect(jsonPath("$.activeContracts.content[0].id").value(contract.getId().toString()))
+        .andExpect(jsonPath("$.activeContracts.pageSize").value(5))
+        .andExpect(jsonPath("$.totalCost.amount").value(1000.00))
+        .andExpect(jsonPath("$.totalCost.currency").value("CHF"));
+  }
+
+  @Test
+  @DisplayName("Get Client Overview - Should return 404 Not Found when client does not exist")
+  void getClientOverview_ShouldReturn404_WhenClientDoesNotExist() throws Exception {
+    given(getClientOverviewUseCase.execute(eq(personId), any(Pageable.class)))
+        .willThrow(new ClientNotFoundException("Client not found"));
+
+    mockMvc
+        .perform(get("/api/v1/clients/{id}/overview", personId))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.detail").value("Client not found"));
+  }
+
   @Test
   @DisplayName("Get All Clients - Should return paginated list of clients")
   void getAllClients_ShouldReturnPaginatedList() throws Exception {
@@ -209,6 +333,61 @@ class ClientControllerTest {
         .andExpect(jsonPath("$.totalElements").value(2));
   }
 
+  @Test
+  @DisplayName("Get All Clients - Should return 304 Not Modified when the ETag still matches")
+  void getAllClients_ShouldReturn304_WhenETagMatches() throws Exception {
+    Page<Client> clientPage = new PageImpl<>(List.of(person, company), PageRequest.of(0, 10), 2);
+    given(getClientUseCase.executeWithContracts(any(Pageable.class))).willReturn(clientPage);
+    String etag =
+        mockMvc
+            .perform(get("/api/v1/clients"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(get("/api/v1/clients").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+
+    then(getClientUseCase).should(times(1)).executeWithContracts(any(Pageable.class));
+  }
+
+  @Test
+  @DisplayName("Get All Clients - Should return 400 Bad Request when the page is too large")
+  void getAllClients_ShouldReturn400_WhenSizeExceedsMaximum() throws Exception {
+    mockMvc
+        .perform(get("/api/v1/clients").param("size", "101"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail").value("Page size must be at most 100"));
+
+    then(getClientUseCase).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("Scroll Clients - Should return a page with the next cursor")
+  void scrollClients_ShouldReturnPageWithNextCursor() throws Exception {
+    Cursor nextCursor = new Cursor(Instant.now(), companyId);
+    given(getClientUseCase.executeWithContracts(isNull(), eq(2)))
+        .willReturn(new CursorPage<>(List.of(person, company), nextCursor));
+
+    mockMvc
+        .perform(get("/api/v1/clients/scroll").param("size", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(2))
+        .andExpect(jsonPath("$.pageSize").value(2))
+        .andExpect(jsonPath("$.nextCursor").value(nextCursor.encode()))
+        .andExpect(jsonPath("$.last").value(false));
+  }
+
+  @Test
+  @DisplayName("Scroll Clients - Should return 400 Bad Request when the cursor is malformed")
+  void scrollClients_ShouldReturn400_WhenCursorIsMalformed() throws Exception {
+    mockMvc
+        .perform(get("/api/v1/clients/scroll").param("after", "not-a-cursor"))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   @DisplayName("Update Client - Should return 200 OK when updating a Person")
   void updateClient_ShouldReturn200_WhenUpdatingPerson() throws Exception {
@@ -262,4 +441,145 @@ class ClientControllerTest {
 
     then(deleteClientUseCase).should().execute(personId);
   }
+
+  @Test
+  @DisplayName("Delete Clients - Should return counts and unknown IDs")
+  void deleteClients_ShouldReturnDeletedCountAndUnknownIds() throws Exception {
+    UUID unknownId = UUID.randomUUID();
+    given(deleteClientsUseCase.execute(List.of(personId, companyId, unknownId, personId)))
+        .willReturn(List.of(unknownId));
+
+    mockMvc
+        .perform(
+            delete("/api/v1/clients")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new BatchDeleteClientsRequest(
+                            List.of(personId, companyId, unknownId, personId)))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.deleted").value(2))
+        .andExpect(jsonPath("$.notFoundClientIds[0]").value(unknownId.toString()));
+  }
+
+  @Test
+  @DisplayName("Delete Clients - Should return 400 Bad Request when no client ID is given")
+  void deleteClients_ShouldReturn400_WhenClientIdsAreEmpty() throws Exception {
+    mockMvc
+        .perform(
+            delete("/api/v1/clients")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BatchDeleteClientsRequest(List.of()))))
+        .andExpect(status().isBadRequest());
+
+    then(deleteClientsUseCase).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("Import Clients - Should stream NDJSON rows to the use case and return the report")
+  void importClients_ShouldReturnReport_WhenBodyIsNdjson() throws Exception {
+    given(importClientsUseCase.execute(any()))
+        .willAnswer(
+            invocation -> {
+              Stream<ClientImportRow> rows = invocation.getArgument(0);
+              List<ClientImportRow> parsed = rows.toList();
+              return ClientImportReport.of(
+                  List.of(
+                      RowResult.created(parsed.get(0).line(), personId),
+                      RowResult.rejected(parsed.get(1).line(), "Invalid JSON: boom")));
+            });
+
+    mockMvc
+        .perform(
+            post("/api/v1/clients/import")
+                .contentType("application/x-ndjson")
+                .content(
+                    """
+                    {"type":"PERSON","name":"John Doe","email":"john.doe@example.com"}
+                    {"type":
+                    """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalRows").value(2))
+        .andExpect(jsonPath("$.created").value(1))
+        .andExpect(jsonPath("$.rejected").value(1))
+        .andExpect(jsonPath("$.rows[0].clientId").value(personId.toString()))
+        .andExpect(jsonPath("$.rows[0].errors").doesNotExist())
+        .andExpect(jsonPath("$.rows[1].line").value(2))
+        .andExpect(jsonPath("$.rows[1].status").value("REJECTED"));
+  }
+
+  @Test
+  @DisplayName("Import Clients - Should return 415 for unsupported content types")
+  void importClients_ShouldReturn415_WhenContentTypeIsUnsupported() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/clients/import").contentType(MediaType.TEXT_PLAIN).content("John Doe"))
+        .andExpect(status().isUnsupportedMediaType());
+
+    then(importClientsUseCase).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("Export Clients - Should stream CSV when requested in the Accept header")
+  void exportClients_ShouldStreamCsv_WhenAcceptIsCsv() throws Exception {
+    Instant createdAt = Instant.parse("2025-10-18T08:00:00Z");
+    ClientExportRow row =
+        new ClientExportRow(
+            personId,
+            ClientType.PERSON,
+            "Doe, John",
+            "john.doe@example.com",
+            "+41791234567",
+            LocalDate.of(1990, 1, 1),
+            null,
+            createdAt);
+    willAnswer(
+            invocation -> {
+              Consumer<ClientExportRow> sink = invocation.getArgument(0);
+              sink.accept(row);
+              return null;
+            })
+        .given(exportClientsUseCase)
+        .export(any());
+
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/v1/clients/export").accept("text/csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("text/csv"))
+        .andExpect(
+            header()
+                .string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"clients.csv\""))
+        .andExpect(
+            content()
+                .string(
+                    "id,type,name,email,phone,birthDate,companyIdentifier,createdAt\n"
+                        + personId
+                        + ",PERSON,\"Doe, John\",john.doe@example.com,+41791234567,1990-01-01,,"
+                        + createdAt
+                        + "\n"));
+  }
+
+  @Test
+  @DisplayName("Export Clients - Should stream NDJSON by default")
+  void exportClients_ShouldStreamNdjson_ByDefault() throws Exception {
+    willAnswer(invocation -> null).given(exportClientsUseCase).export(any());
+
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/v1/clients/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/x-ndjson"))
+        .andExpect(content().string(""));
+  }
 }
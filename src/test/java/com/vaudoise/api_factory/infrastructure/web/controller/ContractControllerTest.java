@@ -2,27 +2,49 @@ package com.vaudoise.api_factory.infrastructure.web.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaudoise.api_factory.application.dto.request.BatchTotalCostRequest;
+import com.vaudoise.api_factory.application.dto.request.BulkCreateContractsRequest;
+import com.vaudoise.api_factory.application.dto.request.BulkCreateContractsRequest.ContractItem;
+import com.vaudoise.api_factory.application.dto.request.CostAdjustmentRequest;
 import com.vaudoise.api_factory.application.dto.request.CreateContractRequest;
 import com.vaudoise.api_factory.application.dto.request.UpdateContractCostRequest;
 import com.vaudoise.api_factory.application.usecase.contract.*;
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.exception.ContractModifiedException;
 import com.vaudoise.api_factory.domain.exception.ContractNotFoundException;
 import com.vaudoise.api_factory.domain.model.Client;
+import com.vaudoise.api_factory.domain.model.ClientCostsAsOf;
+import com.vaudoise.api_factory.domain.model.ClientType;
+import com.vaudoise.api_factory.domain.model.ContentStamp;
 import com.vaudoise.api_factory.domain.model.Contract;
+import com.vaudoise.api_factory.domain.model.ContractCostAsOf;
+import com.vaudoise.api_factory.domain.model.ContractCostChange;
+import com.vaudoise.api_factory.domain.model.ContractExportRow;
+import com.vaudoise.api_factory.domain.model.CostAdjustmentPreview;
 import com.vaudoise.api_factory.domain.model.Money;
+import com.vaudoise.api_factory.domain.model.NewContract;
 import com.vaudoise.api_factory.domain.model.Person;
-import com.vaudoise.api_factory.domain.repository.ContractRepository;
+import com.vaudoise.api_factory.domain.repository.ContractFilter;
+import com.vaudoise.api_factory.domain.repository.Cursor;
+import com.vaudoise.api_factory.domain.repository.CursorPage;
+import com.vaudoise.api_factory.infrastructure.web.consistency.ConsistencyToken;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,9 +54,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(ContractController.class)
 @DisplayName("Contract Controller Tests")
@@ -46,13 +70,19 @@ class ContractControllerTest {
 
   @MockitoBean private CreateContractUseCase createContractUseCase;
 
+  @MockitoBean private CreateContractsUseCase createContractsUseCase;
+
   @MockitoBean private GetActiveContractsUseCase getActiveContractsUseCase;
 
   @MockitoBean private UpdateContractCostUseCase updateContractCostUseCase;
 
   @MockitoBean private CalculateTotalCostUseCase calculateTotalCostUseCase;
 
-  @MockitoBean private ContractRepository contractRepository;
+  @MockitoBean private AdjustContractCostsUseCase adjustContractCostsUseCase;
+
+  @MockitoBean private ExportContractsUseCase exportContractsUseCase;
+
+  @MockitoBean private GetContractsAsOfUseCase getContractsAsOfUseCase;
 
   private UUID contractId;
   private UUID clientId;
@@ -78,9 +108,13 @@ class ContractControllerTest {
     contract = new Contract(client, costAmount, LocalDate.now(), null);
     contract.setId(contractId);
     contract.setCreatedAt(Instant.now());
+    contract.setVersion(0L);
 
     createContractRequest = new CreateContractRequest("1000.00", "2023-01-01", "2024-01-01");
     updateContractCostRequest = new UpdateContractCostRequest("1500.00");
+
+    given(getActiveContractsUseCase.contentStamp(any(UUID.class)))
+        .willReturn(new ContentStamp(Instant.parse("2024-01-01T10:00:00Z"), 1));
   }
 
   @Test
@@ -108,7 +142,8 @@ class ContractControllerTest {
         .andExpect(jsonPath("$.clientName").value("John Doe"))
         .andExpect(jsonPath("$.costAmount").value(1000.00))
         .andExpect(jsonPath("$.costCurrency").value("CHF"))
-        .andExpect(jsonPath("$.active").value(true));
+        .andExpect(jsonPath("$.active").value(true))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
   }
 
   @Test
@@ -173,7 +208,7 @@ class ContractControllerTest {
   @Test
   @DisplayName("Get Active Contracts - Should return 404 Not Found when client does not exist")
   void getActiveContracts_ShouldReturn404_WhenClientDoesNotExist() throws Exception {
-    given(getActiveContractsUseCase.execute(eq(clientId), eq(null), any(Pageable.class)))
+    given(getActiveContractsUseCase.contentStamp(clientId))
         .willThrow(
             new com.vaudoise.api_factory.domain.exception.ClientNotFoundException(
                 "Client not found"));
@@ -184,25 +219,69 @@ class ContractControllerTest {
         .andExpect(jsonPath("$.detail").value("Client not found"));
   }
 
+  @Test
+  @DisplayName("Get Active Contracts - Should return 304 Not Modified when not modified since")
+  void getActiveContracts_ShouldReturn304_WhenNotModifiedSince() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/v1/contracts/active")
+                .param("clientId", clientId.toString())
+                .header(HttpHeaders.IF_MODIFIED_SINCE, Instant.now().toEpochMilli()))
+        .andExpect(status().isNotModified())
+        .andExpect(header().exists(HttpHeaders.ETAG));
+
+    then(getActiveContractsUseCase).should().contentStamp(clientId);
+    then(getActiveContractsUseCase).shouldHaveNoMoreInteractions();
+  }
+
+  @Test
+  @DisplayName("Get Active Contracts - Should return 400 Bad Request when the page is too large")
+  void getActiveContracts_ShouldReturn400_WhenSizeExceedsMaximum() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/v1/contracts/active")
+                .param("clientId", clientId.toString())
+                .param("size", "1000"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail").value("Page size must be at most 100"));
+
+    then(getActiveContractsUseCase).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("Scroll Active Contracts - Should resume after the given cursor")
+  void scrollActiveContracts_ShouldResumeAfterCursor() throws Exception {
+    Cursor after = new Cursor(Instant.now(), UUID.randomUUID());
+    given(getActiveContractsUseCase.execute(eq(clientId), eq(null), eq(after), eq(10)))
+        .willReturn(new CursorPage<>(List.of(contract), null));
+
+    mockMvc
+        .perform(
+            get("/api/v1/contracts/active/scroll")
+                .param("clientId", clientId.toString())
+                .param("after", after.encode()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(1))
+        .andExpect(jsonPath("$.content[0].id").value(contractId.toString()))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist())
+        .andExpect(jsonPath("$.last").value(true));
+  }
+
   @Test
   @DisplayName("Update Contract Cost - Should return 200 OK when contract exists")
   void updateContractCost_ShouldReturn200_WhenContractExists() throws Exception {
-    // Create a contract with an earlier update date
     Instant earlierUpdateDate = Instant.now().minus(1, ChronoUnit.HOURS);
-    contract.setUpdateDate(earlierUpdateDate);
 
     Money newCost = Money.chf(new BigDecimal("1500.00"));
     Contract updatedContract =
         new Contract(client, newCost, contract.getStartDate(), contract.getEndDate().orElse(null));
     updatedContract.setId(contractId);
     updatedContract.setCreatedAt(contract.getCreatedAt());
-    updatedContract.setUpdateDate(Instant.now()); // New update date
+    updatedContract.setUpdateDate(Instant.now());
+    updatedContract.setVersion(4L);
 
-    // Mock the repository calls
-    given(contractRepository.findById(contractId)).willReturn(Optional.ofNullable(contract));
-    given(updateContractCostUseCase.execute(eq(contractId), any(Money.class)))
-        .willReturn(updatedContract);
-    given(contractRepository.findById(contractId)).willReturn(Optional.of(updatedContract));
+    given(updateContractCostUseCase.execute(eq(contractId), any(Money.class), isNull()))
+        .willReturn(new ContractCostChange(updatedContract, earlierUpdateDate));
 
     mockMvc
         .perform(
@@ -210,18 +289,55 @@ class ContractControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateContractCostRequest)))
         .andExpect(status().isOk())
-        .andExpect(header().exists("X-Update-Date-Before"))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+        .andExpect(header().string("X-Update-Date-Before", earlierUpdateDate.toString()))
         .andExpect(header().exists("X-Update-Date-After"))
-        .andExpect(header().exists("X-Update-Date-Changed"))
+        .andExpect(header().string("X-Update-Date-Changed", "true"))
         .andExpect(jsonPath("$.id").value(contractId.toString()))
         .andExpect(jsonPath("$.costAmount").value(1500.00))
-        .andExpect(jsonPath("$.costCurrency").value("CHF"));
+        .andExpect(jsonPath("$.costCurrency").value("CHF"))
+        .andExpect(jsonPath("$.version").value(4));
+  }
+
+  @Test
+  @DisplayName("Update Contract Cost - Should pass the If-Match version to the use case")
+  void updateContractCost_ShouldRequireIfMatchVersion() throws Exception {
+    contract.setVersion(3L);
+    given(updateContractCostUseCase.execute(eq(contractId), any(Money.class), eq(3L)))
+        .willReturn(new ContractCostChange(contract, contract.getUpdateDate()));
+
+    mockMvc
+        .perform(
+            put("/api/v1/contracts/{id}/cost", contractId)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateContractCostRequest)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+        .andExpect(header().string("X-Update-Date-Changed", "false"));
+  }
+
+  @Test
+  @DisplayName("Update Contract Cost - Should return 412 when the contract changed since If-Match")
+  void updateContractCost_ShouldReturn412_WhenVersionIsStale() throws Exception {
+    given(updateContractCostUseCase.execute(eq(contractId), any(Money.class), eq(2L)))
+        .willThrow(new ContractModifiedException("Contract is at version 3, not 2"));
+
+    mockMvc
+        .perform(
+            put("/api/v1/contracts/{id}/cost", contractId)
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateContractCostRequest)))
+        .andExpect(status().isPreconditionFailed())
+        .andExpect(jsonPath("$.status").value(412))
+        .andExpect(jsonPath("$.detail").value("Contract is at version 3, not 2"));
   }
 
   @Test
   @DisplayName("Update Contract Cost - Should return 404 Not Found when contract does not exist")
   void updateContractCost_ShouldReturn404_WhenContractDoesNotExist() throws Exception {
-    given(contractRepository.findById(contractId))
+    given(updateContractCostUseCase.execute(eq(contractId), any(Money.class), isNull()))
         .willThrow(new ContractNotFoundException("Contract not found"));
 
     mockMvc
@@ -237,7 +353,7 @@ class ContractControllerTest {
   @DisplayName("Calculate Total Cost - Should return 200 OK with total cost")
   void calculateTotalCost_ShouldReturn200_WhenClientExists() throws Exception {
     Money totalCost = Money.chf(new BigDecimal("3000.00"));
-    given(calculateTotalCostUseCase.execute(clientId)).willReturn(totalCost);
+    given(calculateTotalCostUseCase.execute(clientId)).willReturn(Optional.of(totalCost));
 
     mockMvc
         .perform(get("/api/v1/contracts/active/total-cost").param("clientId", clientId.toString()))
@@ -246,6 +362,40 @@ class ContractControllerTest {
         .andExpect(jsonPath("$.currency").value("CHF"));
   }
 
+  @Test
+  @DisplayName("Contracts As Of - Should return 200 OK with contracts priced on that date")
+  void getContractsAsOf_ShouldReturn200_WithHistoricalCosts() throws Exception {
+    LocalDate date = LocalDate.of(2025, 3, 1);
+    ContractCostAsOf asOf =
+        new ContractCostAsOf(
+            contractId, LocalDate.of(2024, 1, 1), null, Money.chf(new BigDecimal("120.00")));
+    given(getContractsAsOfUseCase.execute(clientId, date))
+        .willReturn(new ClientCostsAsOf(clientId, date, List.of(asOf)));
+
+    mockMvc
+        .perform(
+            get("/api/v1/contracts/active/as-of")
+                .param("clientId", clientId.toString())
+                .param("date", "2025-03-01"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.date").value("2025-03-01"))
+        .andExpect(jsonPath("$.contracts[0].id").value(contractId.toString()))
+        .andExpect(jsonPath("$.contracts[0].costAmount").value(120.00))
+        .andExpect(jsonPath("$.totalCost.amount").value(120.00))
+        .andExpect(jsonPath("$.totalCost.currency").value("CHF"));
+  }
+
+  @Test
+  @DisplayName("Contracts As Of - Should return 400 Bad Request for a malformed date")
+  void getContractsAsOf_ShouldReturn400_WhenDateIsMalformed() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/v1/contracts/active/as-of")
+                .param("clientId", clientId.toString())
+                .param("date", "01.03.2025"))
+        .andExpect(status().isBadRequest());
+  }
+
   @Test
   @DisplayName("Calculate Total Cost - Should return 404 Not Found when client does not exist")
   void calculateTotalCost_ShouldReturn404_WhenClientDoesNotExist() throws Exception {
@@ -259,4 +409,240 @@ class ContractControllerTest {
         .andExpect(status().isNotFound())
         .andExpect(jsonPath("$.detail").value("Client not found"));
   }
+
+  @Test
+  @DisplayName("Calculate Total Cost - Should return 200 OK with zero when no contract is active")
+  void calculateTotalCost_ShouldReturnZero_WhenNoActiveContracts() throws Exception {
+    given(calculateTotalCostUseCase.execute(clientId)).willReturn(Optional.empty());
+
+    mockMvc
+        .perform(get("/api/v1/contracts/active/total-cost").param("clientId", clientId.toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.amount").value(0))
+        .andExpect(jsonPath("$.currency").value("CHF"));
+  }
+
+  @Test
+  @DisplayName("Calculate Total Costs - Should return totals and unknown client IDs")
+  void calculateTotalCosts_ShouldReturnTotalsAndUnknownClients() throws Exception {
+    UUID clientWithoutContracts = UUID.randomUUID();
+    UUID unknownClientId = UUID.randomUUID();
+    given(calculateTotalCostUseCase.executeBatch(any()))
+        .willReturn(
+            Map.of(
+                clientId,
+                Optional.of(Money.chf(new BigDecimal("3000.00"))),
+                clientWithoutContracts,
+                Optional.empty()));
+
+    mockMvc
+        .perform(
+            post("/api/v1/contracts/active/total-cost/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new BatchTotalCostRequest(
+                            List.of(clientId, clientWithoutContracts, unknownClientId)))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totals.length()").value(2))
+        .andExpect(jsonPath("$.totals[0].clientId").value(clientId.toString()))
+        .andExpect(jsonPath("$.totals[0].totalCost.amount").value(3000.00))
+        .andExpect(jsonPath("$.totals[1].totalCost.amount").value(0))
+        .andExpect(jsonPath("$.unknownClientIds[0]").value(unknownClientId.toString()));
+  }
+
+  @Test
+  @DisplayName("Calculate Total Costs - Should return 400 Bad Request when no client ID is given")
+  void calculateTotalCosts_ShouldReturn400_WhenClientIdsAreEmpty() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/contracts/active/total-cost/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new BatchTotalCostRequest(List.of()))))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Create Contracts - Should return 201 Created with the ids in request order")
+  void createContracts_ShouldReturn201_WhenRequestIsValid() throws Exception {
+    UUID firstId = UUID.randomUUID();
+    UUID secondId = UUID.randomUUID();
+    given(createContractsUseCase.execute(any())).willReturn(List.of(firstId, secondId));
+
+    mockMvc
+        .perform(
+            post("/api/v1/contracts/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new BulkCreateContractsRequest(
+                            List.of(
+                                new ContractItem(clientId, "1000.00", null, null),
+                                new ContractItem(clientId, "250.50", "2025-01-01", null))))))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.created").value(2))
+        .andExpect(jsonPath("$.contractIds[0]").value(firstId.toString()))
+        .andExpect(jsonPath("$.contractIds[1]").value(secondId.toString()));
+
+    then(createContractsUseCase)
+        .should()
+        .execute(
+            List.of(
+                new NewContract(clientId, Money.chf(new BigDecimal("1000.00")), null, null),
+                new NewContract(
+                    clientId,
+                    Money.chf(new BigDecimal("250.50")),
+                    LocalDate.of(2025, 1, 1),
+                    null)));
+  }
+
+  @Test
+  @DisplayName("Create Contracts - Should return 400 Bad Request when an end date precedes start")
+  void createContracts_ShouldReturn400_WhenEndDateIsBeforeStartDate() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/contracts/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new BulkCreateContractsRequest(
+                            List.of(
+                                new ContractItem(clientId, "1000.00", null, null),
+                                new ContractItem(
+                                    clientId, "250.50", "2025-06-01", "2025-01-01"))))))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.detail").value(org.hamcrest.Matchers.startsWith("contracts[1]")));
+
+    then(createContractsUseCase).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("Create Contracts - Should return 404 Not Found when a client does not exist")
+  void createContracts_ShouldReturn404_WhenClientDoesNotExist() throws Exception {
+    given(createContractsUseCase.execute(any()))
+        .willThrow(new ClientNotFoundException("Clients not found with ids: [" + clientId + "]"));
+
+    mockMvc
+        .perform(
+            post("/api/v1/contracts/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new BulkCreateContractsRequest(
+                            List.of(new ContractItem(clientId, "1000.00", null, null))))))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("Create Contracts - Should return 400 Bad Request when a client ID is missing")
+  void createContracts_ShouldReturn400_WhenClientIdIsMissing() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/contracts/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new BulkCreateContractsRequest(
+                            List.of(new ContractItem(null, "1000.00", null, null))))))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Adjust Costs - Should return the aggregate effect without writing on dry run")
+  void adjustCosts_ShouldReturnPreview_WhenDryRun() throws Exception {
+    ContractFilter filter =
+        new ContractFilter(
+            ClientType.COMPANY, new BigDecimal("100"), null, LocalDate.of(2024, 1, 1), null);
+    given(adjustContractCostsUseCase.execute(filter, new BigDecimal("1.025"), true))
+        .willReturn(
+            new AdjustContractCostsUseCase.Result(
+                new CostAdjustmentPreview(
+                    4,
+                    3,
+                    new BigDecimal("1000.00"),
+                    new BigDecimal("1025.00"),
+                    new BigDecimal("102.50"),
+                    new BigDecimal("512.50")),
+                0));
+
+    mockMvc
+        .perform(
+            post("/api/v1/contracts/active/cost-adjustments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new CostAdjustmentRequest(
+                            "1.025", ClientType.COMPANY, "100", null, "2024-01-01", null, true))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.dryRun").value(true))
+        .andExpect(jsonPath("$.matchedContracts").value(4))
+        .andExpect(jsonPath("$.changedContracts").value(3))
+        .andExpect(jsonPath("$.updatedContracts").value(0))
+        .andExpect(header().doesNotExist(ConsistencyToken.HEADER))
+        .andExpect(jsonPath("$.totalBefore.amount").value(1000.00))
+        .andExpect(jsonPath("$.totalAfter.amount").value(1025.00));
+  }
+
+  @Test
+  @DisplayName("Adjust Costs - Should return 400 Bad Request when the multiplier is not positive")
+  void adjustCosts_ShouldReturn400_WhenMultiplierIsNotPositive() throws Exception {
+    mockMvc
+        .perform(
+            post("/api/v1/contracts/active/cost-adjustments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new CostAdjustmentRequest("-1", null, null, null, null, null, false))))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("Export Contracts - Should stream one NDJSON line per contract")
+  void exportContracts_ShouldStreamNdjson() throws Exception {
+    Instant createdAt = Instant.parse("2025-10-18T08:00:00Z");
+    ContractExportRow row =
+        new ContractExportRow(
+            contractId,
+            clientId,
+            LocalDate.of(2025, 1, 1),
+            null,
+            new BigDecimal("1250.50"),
+            "CHF",
+            createdAt,
+            createdAt);
+    willAnswer(
+            invocation -> {
+              Consumer<ContractExportRow> sink = invocation.getArgument(0);
+              sink.accept(row);
+              return null;
+            })
+        .given(exportContractsUseCase)
+        .export(any());
+
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/v1/contracts/export").accept("application/x-ndjson"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/x-ndjson"))
+        .andExpect(
+            header()
+                .string(
+                    HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"contracts.ndjson\""))
+        .andExpect(
+            content()
+                .string(
+                    "{\"id\":\""
+                        + contractId
+                        + "\",\"clientId\":\""
+                        + clientId
+                        + "\",\"startDate\":\"2025-01-01\",\"endDate\":null,"
+                        + "\"costAmount\":1250.50,\"costCurrency\":\"CHF\","
+                        + "\"createdAt\":\"2025-10-18T08:00:00Z\","
+                        + "\"updatedAt\":\"2025-10-18T08:00:00Z\"}\n"));
+  }
 }
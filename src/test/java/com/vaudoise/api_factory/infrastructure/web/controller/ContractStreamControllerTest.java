@@ -0,0 +1,61 @@
+package com.vaudoise.api_factory.infrastructure.web.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.infrastructure.web.stream.ContractActivityStreams;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@WebMvcTest(ContractStreamController.class)
+@DisplayName("Contract Stream Controller Tests")
+class ContractStreamControllerTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private ContractActivityStreams contractActivityStreams;
+
+  @Test
+  @DisplayName("Stream Client Contracts - Should open an event stream for the client")
+  void streamClientContracts_ShouldStartStream() throws Exception {
+    UUID clientId = UUID.randomUUID();
+    given(contractActivityStreams.subscribe(eq(clientId), any(SseEmitter.class)))
+        .willAnswer(invocation -> invocation.getArgument(1));
+
+    mockMvc
+        .perform(get("/api/v1/contracts/stream").param("clientId", clientId.toString()))
+        .andExpect(request().asyncStarted());
+  }
+
+  @Test
+  @DisplayName("Stream Client Contracts - Should return 404 when the client does not exist")
+  void streamClientContracts_ShouldReturnNotFound_WhenClientDoesNotExist() throws Exception {
+    UUID clientId = UUID.randomUUID();
+    given(contractActivityStreams.subscribe(eq(clientId), any(SseEmitter.class)))
+        .willThrow(new ClientNotFoundException("Client not found with id: " + clientId));
+
+    mockMvc
+        .perform(get("/api/v1/contracts/stream").param("clientId", clientId.toString()))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.detail").value("Client not found with id: " + clientId));
+  }
+
+  @Test
+  @DisplayName("Stream All Contracts - Should open the firehose")
+  void streamAllContracts_ShouldStartStream() throws Exception {
+    given(contractActivityStreams.subscribeAll(any(SseEmitter.class)))
+        .willAnswer(invocation -> invocation.getArgument(0));
+
+    mockMvc.perform(get("/api/v1/admin/contracts/stream")).andExpect(request().asyncStarted());
+  }
+}
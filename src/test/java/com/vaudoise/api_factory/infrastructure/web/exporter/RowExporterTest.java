@@ -0,0 +1,77 @@
+package com.vaudoise.api_factory.infrastructure.web.exporter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+class RowExporterTest {
+
+  private record Item(String name, BigDecimal amount, LocalDate date) {}
+
+  private static final RowExporter<Item> EXPORTER =
+      RowExporter.of(
+          RowExporter.column("name", Item::name),
+          RowExporter.column("amount", Item::amount),
+          RowExporter.column("date", Item::date));
+
+  private static final List<Item> ITEMS =
+      List.of(
+          new Item("Acme \"Swiss\", SA", new BigDecimal("1250.50"), LocalDate.of(2025, 1, 31)),
+          new Item("Doe", new BigDecimal("10.00"), null));
+
+  @Test
+  void shouldWriteCsvWithHeaderAndQuotedFields() throws IOException {
+    String csv = export(RowExporter.CSV);
+
+    assertEquals(
+        """
+        name,amount,date
+        "Acme ""Swiss"", SA",1250.50,2025-01-31
+        Doe,10.00,
+        """,
+        csv);
+  }
+
+  @Test
+  void shouldWriteOneJsonObjectPerLine() throws IOException {
+    String ndjson = export(RowExporter.NDJSON);
+
+    assertEquals(
+        """
+        {"name":"Acme \\"Swiss\\", SA","amount":1250.50,"date":"2025-01-31"}
+        {"name":"Doe","amount":10.00,"date":null}
+        """,
+        ndjson);
+  }
+
+  @Test
+  void shouldWriteOnlyHeaderWhenThereAreNoRows() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    EXPORTER.stream(RowExporter.CSV, sink -> {}).writeTo(out);
+
+    assertEquals("name,amount,date\n", out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void shouldNegotiatePreferredFormat() {
+    assertEquals(RowExporter.NDJSON, RowExporter.negotiate(null));
+    assertEquals(RowExporter.NDJSON, RowExporter.negotiate("*/*"));
+    assertEquals(RowExporter.CSV, RowExporter.negotiate("text/csv"));
+    assertEquals(RowExporter.CSV, RowExporter.negotiate("application/x-ndjson;q=0.5, text/csv"));
+    assertEquals(RowExporter.NDJSON, RowExporter.negotiate("text/csv;q=0.1, application/x-ndjson"));
+  }
+
+  private static String export(MediaType format) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    EXPORTER.stream(format, sink -> ITEMS.forEach(sink)).writeTo(out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,80 @@
+package com.vaudoise.api_factory.infrastructure.web.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.vaudoise.api_factory.application.dto.request.ClientImportRow;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+class ClientImportParserTest {
+
+  private static final MediaType NDJSON = MediaType.parseMediaType(ClientImportParser.NDJSON_VALUE);
+  private static final MediaType CSV = MediaType.parseMediaType(ClientImportParser.CSV_VALUE);
+
+  @Test
+  void shouldParseNdjsonLinesAndSkipBlankOnes() {
+    String body =
+        """
+        {"type":"PERSON","name":"John Doe","email":"john@example.com",\
+        "phone":"+41791234567","birthDate":"1990-01-01"}
+
+        {"type":"COMPANY","name":"Acme","email":"info@acme.ch",\
+        "phone":"+41211234567","companyIdentifier":"CHE-123.456.789"}
+        """;
+
+    List<ClientImportRow> rows = parse(body, NDJSON);
+
+    assertEquals(2, rows.size());
+    assertEquals(1, rows.get(0).line());
+    assertEquals("John Doe", rows.get(0).name());
+    assertEquals("1990-01-01", rows.get(0).birthDate());
+    assertEquals(3, rows.get(1).line());
+    assertEquals("CHE-123.456.789", rows.get(1).companyIdentifier());
+    assertNull(rows.get(1).birthDate());
+  }
+
+  @Test
+  void shouldReportInvalidJsonAsRowError() {
+    List<ClientImportRow> rows = parse("{\"type\":\"PERSON\",\n[1,2]\n", NDJSON);
+
+    assertEquals(2, rows.size());
+    assertTrue(rows.get(0).parseError().startsWith("Invalid JSON"));
+    assertEquals("Line is not a JSON object", rows.get(1).parseError());
+  }
+
+  @Test
+  void shouldParseCsvByHeaderNameWithQuotedFields() {
+    String body =
+        """
+        email,type,name,phone,birthDate,companyIdentifier
+        john@example.com,PERSON,"Doe, John",+41791234567,1990-01-01,
+        info@acme.ch,COMPANY,"Acme ""Swiss"" SA",+41211234567,,CHE-123.456.789
+        """;
+
+    List<ClientImportRow> rows = parse(body, CSV);
+
+    assertEquals(2, rows.size());
+    assertEquals(2, rows.get(0).line());
+    assertEquals("Doe, John", rows.get(0).name());
+    assertEquals("PERSON", rows.get(0).type());
+    assertNull(rows.get(0).companyIdentifier());
+    assertEquals("Acme \"Swiss\" SA", rows.get(1).name());
+    assertNull(rows.get(1).birthDate());
+  }
+
+  @Test
+  void shouldReportUnterminatedQuoteAsRowError() {
+    List<ClientImportRow> rows = parse("type,name\nPERSON,\"Doe\n", CSV);
+
+    assertEquals("Unterminated quoted field", rows.get(0).parseError());
+  }
+
+  private static List<ClientImportRow> parse(String body, MediaType contentType) {
+    return ClientImportParser.parse(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), contentType)
+        .toList();
+  }
+}
@@ -0,0 +1,281 @@
+package com.vaudoise.api_factory.infrastructure.web.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.vaudoise.api_factory.application.dto.response.BatchTotalCostResponse.ClientTotalCost;
+import com.vaudoise.api_factory.application.dto.response.ContractActivityResponse;
+import com.vaudoise.api_factory.application.dto.response.MoneyResponse;
+import com.vaudoise.api_factory.application.usecase.contract.CalculateTotalCostUseCase;
+import com.vaudoise.api_factory.domain.event.ContractActivity.ClientDeleted;
+import com.vaudoise.api_factory.domain.event.ContractActivity.ContractCostsUpdated;
+import com.vaudoise.api_factory.domain.event.ContractActivity.ContractsCreated;
+import com.vaudoise.api_factory.domain.exception.ClientNotFoundException;
+import com.vaudoise.api_factory.domain.model.Money;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class ContractActivityStreamsTest {
+
+  @Mock private CalculateTotalCostUseCase calculateTotalCostUseCase;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  @Test
+  void shouldOpenWithTheTotalThenPushActivityFollowedByTheNewTotal() throws Exception {
+    UUID clientId = UUID.randomUUID();
+    UUID contractId = UUID.randomUUID();
+    // The check on subscribing, the stream's opening read, then the read after the change
+    given(calculateTotalCostUseCase.execute(clientId))
+        .willReturn(
+            Optional.of(Money.chf(100)), Optional.of(Money.chf(100)), Optional.of(Money.chf(250)));
+    ContractActivityStreams streams = streams(16);
+    RecordingEmitter emitter = new RecordingEmitter();
+
+    streams.subscribe(clientId, emitter);
+    assertThat(emitter.next()).isEqualTo(total(clientId, "100.00"));
+    streams.on(new ContractsCreated(clientId, List.of(contractId)));
+
+    assertThat(emitter.next())
+        .isEqualTo(
+            new Sent(
+                ContractActivityStreams.CONTRACTS_CREATED,
+                new ContractActivityResponse(clientId, List.of(contractId))));
+    assertThat(emitter.next()).isEqualTo(total(clientId, "250.00"));
+  }
+
+  @Test
+  void shouldPushOtherClientsActivityToTheFirehoseOnly() throws Exception {
+    UUID followed = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    UUID contractId = UUID.randomUUID();
+    given(calculateTotalCostUseCase.execute(followed)).willReturn(Optional.empty());
+    given(calculateTotalCostUseCase.execute(other)).willReturn(Optional.of(Money.chf(40)));
+    ContractActivityStreams streams = streams(16);
+    RecordingEmitter clientStream = new RecordingEmitter();
+    RecordingEmitter firehose = new RecordingEmitter();
+    streams.subscribe(followed, clientStream);
+    streams.subscribeAll(firehose);
+
+    streams.on(new ContractCostsUpdated(other, List.of(contractId)));
+
+    assertThat(firehose.next())
+        .isEqualTo(
+            new Sent(
+                ContractActivityStreams.CONTRACT_COSTS_UPDATED,
+                new ContractActivityResponse(other, List.of(contractId))));
+    assertThat(firehose.next()).isEqualTo(total(other, "40.00"));
+    assertThat(clientStream.next()).isEqualTo(total(followed, "0.00"));
+    assertThat(clientStream.poll(100)).isNull();
+  }
+
+  @Test
+  void shouldNotReadTotalsOfClientsNobodyFollows() {
+    ContractActivityStreams streams = streams(16);
+
+    streams.on(new ContractsCreated(UUID.randomUUID(), List.of(UUID.randomUUID())));
+
+    verifyNoInteractions(calculateTotalCostUseCase, transactionManager);
+  }
+
+  @Test
+  void shouldRejectUnknownClientWithoutOpeningAStream() {
+    UUID clientId = UUID.randomUUID();
+    given(calculateTotalCostUseCase.execute(clientId))
+        .willThrow(new ClientNotFoundException("Client not found with id: " + clientId));
+    ContractActivityStreams streams = streams(16);
+
+    assertThatThrownBy(() -> streams.subscribe(clientId, new RecordingEmitter()))
+        .isInstanceOf(ClientNotFoundException.class);
+    assertThat(streams.subscriberCount()).isZero();
+  }
+
+  @Test
+  void shouldEndTheClientsStreamsWhenItIsDeleted() throws Exception {
+    UUID clientId = UUID.randomUUID();
+    given(calculateTotalCostUseCase.execute(clientId)).willReturn(Optional.empty());
+    ContractActivityStreams streams = streams(16);
+    RecordingEmitter emitter = new RecordingEmitter();
+    streams.subscribe(clientId, emitter);
+
+    streams.on(new ClientDeleted(clientId));
+
+    assertThat(streams.subscriberCount()).isZero();
+    assertThat(emitter.next()).isEqualTo(total(clientId, "0.00"));
+    assertThat(emitter.next())
+        .isEqualTo(
+            new Sent(
+                ContractActivityStreams.CLIENT_DELETED,
+                new ContractActivityResponse(clientId, List.of())));
+    assertThat(emitter.next()).isEqualTo(RecordingEmitter.COMPLETED);
+    // The check on subscribing and the stream's opening read; none for the deletion
+    verify(calculateTotalCostUseCase, times(2)).execute(clientId);
+  }
+
+  @Test
+  void shouldPublishWithoutWaitingForTheTotalRead() throws Exception {
+    UUID clientId = UUID.randomUUID();
+    UUID contractId = UUID.randomUUID();
+    CountDownLatch released = new CountDownLatch(1);
+    given(calculateTotalCostUseCase.execute(clientId))
+        .willReturn(Optional.empty())
+        .willAnswer(
+            invocation -> {
+              released.await();
+              return Optional.of(Money.chf(100));
+            });
+    ContractActivityStreams streams = streams(16);
+    RecordingEmitter emitter = new RecordingEmitter();
+    streams.subscribe(clientId, emitter);
+
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(5),
+        () -> streams.on(new ContractsCreated(clientId, List.of(contractId))));
+
+    released.countDown();
+    assertThat(emitter.next()).isEqualTo(total(clientId, "100.00"));
+    assertThat(emitter.next().name()).isEqualTo(ContractActivityStreams.CONTRACTS_CREATED);
+    assertThat(emitter.next()).isEqualTo(total(clientId, "100.00"));
+  }
+
+  @Test
+  void shouldReadOneTotalForChangesQueuedBehindEachOther() throws Exception {
+    UUID clientId = UUID.randomUUID();
+    CountDownLatch reading = new CountDownLatch(1);
+    CountDownLatch released = new CountDownLatch(1);
+    given(calculateTotalCostUseCase.execute(clientId))
+        .willReturn(Optional.empty())
+        .willAnswer(
+            invocation -> {
+              reading.countDown();
+              released.await();
+              return Optional.of(Money.chf(100));
+            })
+        .willReturn(Optional.of(Money.chf(400)));
+    ContractActivityStreams streams = streams(16);
+    RecordingEmitter emitter = new RecordingEmitter();
+    streams.subscribe(clientId, emitter);
+    assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+    for (int i = 0; i < 3; i++) {
+      streams.on(new ContractsCreated(clientId, List.of(UUID.randomUUID())));
+    }
+    released.countDown();
+
+    assertThat(emitter.next()).isEqualTo(total(clientId, "100.00"));
+    for (int i = 0; i < 3; i++) {
+      assertThat(emitter.next().name()).isEqualTo(ContractActivityStreams.CONTRACTS_CREATED);
+    }
+    assertThat(emitter.next()).isEqualTo(total(clientId, "400.00"));
+    assertThat(emitter.poll(100)).isNull();
+    verify(calculateTotalCostUseCase, times(3)).execute(clientId);
+  }
+
+  @Test
+  void shouldEvictAReaderThatFallsAFullBufferBehind() throws Exception {
+    UUID clientId = UUID.randomUUID();
+    given(calculateTotalCostUseCase.execute(clientId)).willReturn(Optional.empty());
+    ContractActivityStreams streams = streams(2);
+    CountDownLatch stalled = new CountDownLatch(1);
+    RecordingEmitter emitter = new RecordingEmitter(stalled);
+    streams.subscribe(clientId, emitter);
+
+    // Each change queues two events; the stalled reader holds at most one more in flight
+    for (int i = 0; i < 3; i++) {
+      streams.on(new ContractsCreated(clientId, List.of(UUID.randomUUID())));
+    }
+
+    assertThat(streams.subscriberCount()).isZero();
+    stalled.countDown();
+    Sent last = null;
+    for (Sent sent = emitter.next(); sent != RecordingEmitter.COMPLETED; sent = emitter.next()) {
+      assertThat(sent).isNotNull();
+      last = sent;
+    }
+    assertThat(last.name()).isEqualTo(ContractActivityStreams.EVICTED);
+  }
+
+  private ContractActivityStreams streams(int bufferSize) {
+    return new ContractActivityStreams(calculateTotalCostUseCase, transactionManager, bufferSize);
+  }
+
+  private static Sent total(UUID clientId, String amount) {
+    return new Sent(
+        ContractActivityStreams.TOTAL_COST,
+        new ClientTotalCost(clientId, new MoneyResponse(new BigDecimal(amount), "CHF")));
+  }
+
+  private record Sent(String name, Object data) {}
+
+  /** Records what the stream sends, optionally stalling every send until released. */
+  private static final class RecordingEmitter extends SseEmitter {
+    static final Sent COMPLETED = new Sent("(completed)", null);
+
+    private final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+    private final CountDownLatch released;
+
+    RecordingEmitter() {
+      this(new CountDownLatch(0));
+    }
+
+    RecordingEmitter(CountDownLatch released) {
+      this.released = released;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      try {
+        released.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException(e);
+      }
+      String name = null;
+      Object data = null;
+      for (DataWithMediaType part : builder.build()) {
+        if (part.getData() instanceof String text) {
+          if (text.startsWith("event:")) {
+            name = text.substring("event:".length(), text.indexOf('\n'));
+          }
+        } else {
+          data = part.getData();
+        }
+      }
+      sent.add(new Sent(name, data));
+    }
+
+    @Override
+    public void complete() {
+      sent.add(COMPLETED);
+    }
+
+    Sent next() throws InterruptedException {
+      return poll(5_000);
+    }
+
+    Sent poll(long millis) throws InterruptedException {
+      return sent.poll(millis, TimeUnit.MILLISECONDS);
+    }
+  }
+}